@@ -0,0 +1,138 @@
+package pwe.planner;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.Config;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.logic.CommandPipeline;
+import pwe.planner.logic.LogicManager;
+import pwe.planner.model.Model;
+import pwe.planner.model.StudentRegistry;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.model.suggestion.ParallelModuleSuggester;
+import pwe.planner.server.PlannerServer;
+import pwe.planner.storage.ApplicationStorage;
+import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.Storage;
+import pwe.planner.storage.StorageManager;
+import pwe.planner.storage.UserPrefsStorage;
+
+/**
+ * The entry point to the application as an HTTP server, which serves the commands and the data of the application
+ * with a {@link PlannerServer} instead of the GUI. Unlike {@link MainApp}, it never initializes the JavaFX toolkit.
+ */
+public class ServerApp {
+
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+    public static final String MESSAGE_USAGE = "Usage: ServerApp [--config=CONFIG_FILE] [--port=PORT] "
+            + "[--threads=THREADS] [--queue=QUEUE_CAPACITY] [--suggest-parallel-size=MIN_CATALOG_SIZE]";
+
+    private static final Logger logger = LogsCenter.getLogger(ServerApp.class);
+
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            String[] nameAndValue = arg.split("=", 2);
+            if (!nameAndValue[0].startsWith("--") || nameAndValue.length != 2) {
+                exitWithUsage();
+            }
+            namedParameters.put(nameAndValue[0].substring(2), nameAndValue[1]);
+        }
+
+        String configPathParameter = namedParameters.get("config");
+        if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
+            exitWithUsage();
+        }
+        Path configPath = configPathParameter == null ? null : Paths.get(configPathParameter);
+        int port = parsePositiveInt(namedParameters.getOrDefault("port", String.valueOf(DEFAULT_PORT)));
+        int threads = parsePositiveInt(namedParameters.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int queueCapacity = parsePositiveInt(namedParameters.getOrDefault("queue",
+                String.valueOf(DEFAULT_QUEUE_CAPACITY)));
+        int suggestParallelSize = parsePositiveInt(namedParameters.getOrDefault("suggest-parallel-size",
+                String.valueOf(ParallelModuleSuggester.DEFAULT_MIN_CATALOG_SIZE)));
+
+        logger.info("=============================[ Initializing PlanWithEase server ]=====================");
+        Config config = AppInitializer.initConfig(configPath);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        ApplicationStorage applicationStorage =
+                new JsonApplicationStorage(userPrefs.getModuleListFilePath(), userPrefs.getDegreePlannerListFilePath(),
+                        userPrefs.getRequirementCategoryListFilePath());
+        Storage storage = new StorageManager(applicationStorage, userPrefsStorage);
+        LogsCenter.init(config);
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+
+        // suggestions for large catalogs are scored on every processor, instead of only the thread of the request,
+        // unless there is a single processor, on which visiting the word index is faster
+        ParallelModuleSuggester suggester = new ParallelModuleSuggester(Runtime.getRuntime().availableProcessors(),
+                ParallelModuleSuggester.DEFAULT_SEQUENTIAL_CUTOFF, suggestParallelSize);
+        if (suggester.getParallelism() > 1) {
+            model.setParallelSuggester(suggester);
+        }
+
+        LogicManager logic = new LogicManager(model, storage);
+        CommandPipeline pipeline = new CommandPipeline(logic);
+        // students start from the degree plan of the application as it was loaded, and share its module catalog
+        StudentRegistry students = new StudentRegistry(logic.getSnapshot().getState());
+        PlannerServer server;
+        try {
+            server = new PlannerServer(logic, pipeline, students, new InetSocketAddress(port), threads,
+                    queueCapacity);
+        } catch (IOException ioe) {
+            logger.severe("Failed to start the server " + StringUtil.getDetails(ioe));
+            pipeline.close();
+            suggester.close();
+            System.exit(1);
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("============================ [ Stopping PlanWithEase server ] ======================");
+            server.close();
+            // the commands already queued are executed and saved before the server exits
+            pipeline.close();
+            model.setParallelSuggester(null);
+            suggester.close();
+            try {
+                storage.saveUserPrefs(model.getUserPrefs());
+            } catch (IOException e) {
+                logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            }
+            model.close();
+        }));
+        logger.info("Starting PlanWithEase server");
+        server.start();
+    }
+
+    /**
+     * Returns {@code value} as a positive integer, or prints the usage and exits if it is not one.
+     */
+    private static int parsePositiveInt(String value) {
+        try {
+            int parsedValue = Integer.parseInt(value);
+            if (parsedValue > 0) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException nfe) {
+            // falls through to print the usage
+        }
+        exitWithUsage();
+        return 0;
+    }
+
+    private static void exitWithUsage() {
+        System.err.println(MESSAGE_USAGE);
+        System.exit(1);
+    }
+}
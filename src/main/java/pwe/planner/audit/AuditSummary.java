@@ -0,0 +1,54 @@
+package pwe.planner.audit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the students audited by {@link DegreeAuditor#auditAll}, and how fast they were audited.
+ */
+public class AuditSummary {
+
+    public static final String MESSAGE_SUMMARY = "Audited %1$d student(s) in %2$.3f s (%3$.1f students/s): "
+            + "%4$d with invalid plans, %5$d with unfulfilled requirements.";
+
+    private final int numberOfStudents;
+    private final int numberOfInvalidPlans;
+    private final int numberOfUnfulfilledPlans;
+    private final long elapsedNanos;
+
+    public AuditSummary(int numberOfStudents, int numberOfInvalidPlans, int numberOfUnfulfilledPlans,
+            long elapsedNanos) {
+        this.numberOfStudents = numberOfStudents;
+        this.numberOfInvalidPlans = numberOfInvalidPlans;
+        this.numberOfUnfulfilledPlans = numberOfUnfulfilledPlans;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+
+    public int getNumberOfInvalidPlans() {
+        return numberOfInvalidPlans;
+    }
+
+    public int getNumberOfUnfulfilledPlans() {
+        return numberOfUnfulfilledPlans;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of students audited per second, or 0 if no time has passed.
+     */
+    public double getStudentsPerSecond() {
+        return elapsedNanos == 0 ? 0 : numberOfStudents * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(MESSAGE_SUMMARY, numberOfStudents, elapsedNanos / 1e9, getStudentsPerSecond(),
+                numberOfInvalidPlans, numberOfUnfulfilledPlans);
+    }
+}
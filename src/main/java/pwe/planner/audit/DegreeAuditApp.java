@@ -0,0 +1,41 @@
+package pwe.planner.audit;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+
+/**
+ * Audits the degree plans of every student in a directory from the command line, without starting the GUI.
+ * The summary, including the number of students audited per second, is printed when every student is audited.
+ *
+ * Run with {@code gradlew audit -Paudit="CATALOG_DIRECTORY STUDENTS_DIRECTORY RESULT_FILE [THREADS]"}.
+ */
+public class DegreeAuditApp {
+
+    public static final String MESSAGE_USAGE = "Parameters: CATALOG_DIRECTORY STUDENTS_DIRECTORY RESULT_FILE "
+            + "[THREADS]\nCATALOG_DIRECTORY has the file " + DegreeAuditor.MODULE_LIST_FILE_NAME + ", and every "
+            + "subdirectory of STUDENTS_DIRECTORY is the data set of a student, with the files "
+            + DegreeAuditor.DEGREE_PLANNER_LIST_FILE_NAME + " and " + DegreeAuditor.REQUIREMENT_CATEGORY_LIST_FILE_NAME
+            + ".";
+    public static final String MESSAGE_AUDIT_FAILED = "The students could not be audited: %1$s";
+
+    public static void main(String[] args) {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            int parallelism = args.length == 4 ? Integer.parseInt(args[3])
+                    : Runtime.getRuntime().availableProcessors();
+            try (DegreeAuditor auditor = new DegreeAuditor(DegreeAuditor.readCatalog(Paths.get(args[0])),
+                    parallelism)) {
+                System.out.println(auditor.auditAll(Paths.get(args[1]), Paths.get(args[2])));
+            }
+        } catch (DataConversionException | IOException | IllegalArgumentException e) {
+            System.err.println(String.format(MESSAGE_AUDIT_FAILED, e.getMessage()));
+            System.exit(1);
+        }
+    }
+}
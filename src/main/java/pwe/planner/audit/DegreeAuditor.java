@@ -0,0 +1,314 @@
+package pwe.planner.audit;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+import static pwe.planner.storage.JsonSerializableApplication.MESSAGE_INVALID_COREQUISITES_IN_DEGREE_PLANNER;
+import static pwe.planner.storage.JsonSerializableApplication.MESSAGE_INVALID_DEGREE_PLANNER_EMPTY_MODULE_SEMESTERS;
+import static pwe.planner.storage.JsonSerializableApplication.MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER;
+import static pwe.planner.storage.JsonSerializableApplication.MESSAGE_MISSING_COREQUISITES_IN_DEGREE_PLANNER;
+import static pwe.planner.storage.JsonSerializableApplication.MESSAGE_NON_EXISTENT_DEGREE_PLANNER_CODE;
+import static pwe.planner.storage.JsonSerializableApplication.MESSAGE_NON_EXISTENT_REQUIREMENT_CATEGORY_CODE;
+
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javafx.collections.ObservableList;
+import pwe.planner.audit.StudentAudit.CategoryProgress;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.storage.ApplicationStorage;
+import pwe.planner.storage.JsonApplicationStorage;
+
+/**
+ * Audits the degree plans of many students against one module catalog, without the GUI.
+ *
+ * Every student has a data set directory with a degree planner list and a requirement category list, stored in the
+ * same files as the application stores them. The catalog is parsed once and shared by every student as an
+ * unmodifiable map, which is only ever read, so the students are audited in parallel on a fixed number of threads.
+ * The threads only wait on each other to write a result line, as interning values and looking up codes take no lock.
+ * The directories are handed to the threads through a bounded queue, and once it is full, the
+ * thread that lists the directories audits the next student itself, so no more than a few data sets are held in
+ * memory at once however many students there are. The result of every student is written to the result file as one
+ * line of JSON as soon as it is audited, in the order that the students finish.
+ *
+ * A plan is checked against the same constraints as {@link pwe.planner.storage.JsonSerializableApplication}, except
+ * that every violation is reported instead of only the first.
+ */
+public class DegreeAuditor implements AutoCloseable {
+
+    public static final String MODULE_LIST_FILE_NAME = "moduleList.json";
+    public static final String DEGREE_PLANNER_LIST_FILE_NAME = "degreePlannerList.json";
+    public static final String REQUIREMENT_CATEGORY_LIST_FILE_NAME = "requirementCategoryList.json";
+    public static final String MESSAGE_CONSTRAINTS = "Number of threads should be positive.";
+    public static final String MESSAGE_MISSING_FILE = "The data set does not have the file %1$s!";
+    public static final String MESSAGE_UNREADABLE_DATA_SET = "The data set cannot be read: %1$s";
+
+    private static final int QUEUED_STUDENTS_PER_THREAD = 4;
+    private static final Logger logger = LogsCenter.getLogger(DegreeAuditor.class);
+
+    private final Map<Code, Module> catalog;
+    private final ThreadPoolExecutor pool;
+
+    /**
+     * Creates a DegreeAuditor that audits students against {@code catalog} on {@code parallelism} threads.
+     */
+    public DegreeAuditor(List<Module> catalog, int parallelism) {
+        requireNonNull(catalog);
+        checkArgument(parallelism > 0, MESSAGE_CONSTRAINTS);
+
+        Map<Code, Module> codeToModule = new HashMap<>();
+        catalog.forEach(module -> codeToModule.put(module.getCode(), module));
+        this.catalog = Collections.unmodifiableMap(codeToModule);
+        pool = new ThreadPoolExecutor(parallelism, parallelism, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * QUEUED_STUDENTS_PER_THREAD),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Audits the data set of every student in a subdirectory of {@code studentsDirectory}, which is named after the
+     * student, and writes their results to {@code resultFile}, replacing it if it exists.
+     *
+     * @throws IOException if the directory cannot be listed or the result file cannot be written.
+     */
+    public AuditSummary auditAll(Path studentsDirectory, Path resultFile) throws IOException {
+        requireAllNonNull(studentsDirectory, resultFile);
+
+        long start = System.nanoTime();
+        List<Future<StudentAudit>> audits = new ArrayList<>();
+        AtomicBoolean isAborted = new AtomicBoolean();
+        try (Stream<Path> dataSets = Files.list(studentsDirectory);
+                BufferedWriter writer = Files.newBufferedWriter(resultFile, StandardCharsets.UTF_8)) {
+            try {
+                // once a student fails, the students that are still queued are skipped
+                dataSets.filter(Files::isDirectory).sorted().forEach(dataSet -> audits.add(pool.submit(() ->
+                        isAborted.get() ? null : write(audit(dataSet), writer))));
+
+                int numberOfInvalidPlans = 0;
+                int numberOfUnfulfilledPlans = 0;
+                for (Future<StudentAudit> future : audits) {
+                    StudentAudit audit = getResult(future);
+                    numberOfInvalidPlans += audit.isValid() ? 0 : 1;
+                    numberOfUnfulfilledPlans += audit.isFulfilled() ? 0 : 1;
+                }
+
+                AuditSummary summary = new AuditSummary(audits.size(), numberOfInvalidPlans,
+                        numberOfUnfulfilledPlans, System.nanoTime() - start);
+                logger.info(summary.toString());
+                return summary;
+            } finally {
+                // the writer is closed on return, so no audit may still be writing to it by then
+                isAborted.set(true);
+                awaitAll(audits);
+            }
+        }
+    }
+
+    /**
+     * Audits the data set in the directory {@code dataSet}, which is named after the student.
+     * A data set that cannot be read is reported as a violation.
+     */
+    public StudentAudit audit(Path dataSet) {
+        requireNonNull(dataSet);
+
+        String studentId = dataSet.getFileName().toString();
+        ApplicationStorage storage = getStorage(dataSet);
+        try {
+            Optional<ObservableList<DegreePlanner>> degreePlanners = storage.readDegreePlannerList();
+            Optional<ObservableList<RequirementCategory>> requirementCategories =
+                    storage.readRequirementCategoryList();
+            if (!degreePlanners.isPresent()) {
+                return new StudentAudit(studentId, List.of(), List.of(String.format(MESSAGE_MISSING_FILE,
+                        DEGREE_PLANNER_LIST_FILE_NAME)));
+            } else if (!requirementCategories.isPresent()) {
+                return new StudentAudit(studentId, List.of(), List.of(String.format(MESSAGE_MISSING_FILE,
+                        REQUIREMENT_CATEGORY_LIST_FILE_NAME)));
+            }
+            return audit(studentId, degreePlanners.get(), requirementCategories.get());
+        } catch (DataConversionException | IOException e) {
+            return new StudentAudit(studentId, List.of(), List.of(String.format(MESSAGE_UNREADABLE_DATA_SET,
+                    e.getCause() == null ? e.getMessage() : e.getCause().getMessage())));
+        }
+    }
+
+    /**
+     * Audits the {@code degreePlanners} and {@code requirementCategories} of the student {@code studentId}.
+     */
+    public StudentAudit audit(String studentId, List<DegreePlanner> degreePlanners,
+            List<RequirementCategory> requirementCategories) {
+        requireAllNonNull(studentId, degreePlanners, requirementCategories);
+
+        List<String> violations = new ArrayList<>();
+        List<CategoryProgress> progress = new ArrayList<>();
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            int fulfilledCredits = 0;
+            for (Code code : requirementCategory.getCodeSet()) {
+                Module module = catalog.get(code);
+                if (module == null) {
+                    violations.add(String.format(MESSAGE_NON_EXISTENT_REQUIREMENT_CATEGORY_CODE, code,
+                            requirementCategory.getName()));
+                } else {
+                    fulfilledCredits += module.getCredits().intValue();
+                }
+            }
+            progress.add(new CategoryProgress(requirementCategory.getName().toString(), fulfilledCredits,
+                    requirementCategory.getCredits().intValue()));
+        }
+
+        Map<Code, DegreePlanner> codeToDegreePlanner = new HashMap<>();
+        degreePlanners.forEach(degreePlanner -> degreePlanner.getCodes()
+                .forEach(code -> codeToDegreePlanner.put(code, degreePlanner)));
+        for (DegreePlanner degreePlanner : degreePlanners) {
+            degreePlanner.getCodes().stream().sorted()
+                    .forEach(code -> checkPlannedModule(code, degreePlanner, codeToDegreePlanner, violations));
+        }
+        return new StudentAudit(studentId, progress, violations);
+    }
+
+    /**
+     * Adds every constraint that the module with {@code code}, planned in {@code degreePlanner}, violates to
+     * {@code violations}.
+     */
+    private void checkPlannedModule(Code code, DegreePlanner degreePlanner,
+            Map<Code, DegreePlanner> codeToDegreePlanner, List<String> violations) {
+        Module module = catalog.get(code);
+        if (module == null) {
+            violations.add(String.format(MESSAGE_NON_EXISTENT_DEGREE_PLANNER_CODE, code, degreePlanner.getYear(),
+                    degreePlanner.getSemester()));
+            return;
+        }
+
+        if (module.getSemesters().isEmpty()) {
+            violations.add(String.format(MESSAGE_INVALID_DEGREE_PLANNER_EMPTY_MODULE_SEMESTERS, code,
+                    degreePlanner.getYear(), degreePlanner.getSemester()));
+        } else if (!module.getSemesters().contains(degreePlanner.getSemester())) {
+            String semestersOfferingModule = StringUtil.joinStreamAsString(module.getSemesters().stream().sorted());
+            violations.add(String.format(MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER, code,
+                    degreePlanner.getYear(), degreePlanner.getSemester(), semestersOfferingModule).trim());
+        }
+
+        for (Code corequisite : module.getCorequisites().stream().sorted().collect(Collectors.toList())) {
+            DegreePlanner corequisiteDegreePlanner = codeToDegreePlanner.get(corequisite);
+            if (corequisiteDegreePlanner == null) {
+                violations.add(String.format(MESSAGE_MISSING_COREQUISITES_IN_DEGREE_PLANNER, code, corequisite));
+            } else if (!degreePlanner.isSameDegreePlanner(corequisiteDegreePlanner)
+                    && code.compareTo(corequisite) < 0) {
+                // both co-requisites are planned, so the pair is only reported from the smaller code
+                violations.add(String.format(MESSAGE_INVALID_COREQUISITES_IN_DEGREE_PLANNER, code, corequisite,
+                        degreePlanner.getYear(), degreePlanner.getSemester(), corequisiteDegreePlanner.getYear(),
+                        corequisiteDegreePlanner.getSemester()));
+            }
+        }
+    }
+
+    /**
+     * Shuts down the threads that audit the students.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Returns the modules of the module list in the data set {@code dataSet}, which is parsed only once to be shared
+     * by every student.
+     *
+     * @throws DataConversionException if the module list cannot be read.
+     * @throws IOException if the module list is missing.
+     */
+    public static List<Module> readCatalog(Path dataSet) throws DataConversionException, IOException {
+        requireNonNull(dataSet);
+
+        Optional<ObservableList<Module>> modules = getStorage(dataSet).readModuleList();
+        if (!modules.isPresent()) {
+            throw new FileNotFoundException(String.format(MESSAGE_MISSING_FILE, MODULE_LIST_FILE_NAME));
+        }
+        return modules.get();
+    }
+
+    /**
+     * Returns the storage of the files of the data set {@code dataSet}.
+     */
+    private static ApplicationStorage getStorage(Path dataSet) {
+        return new JsonApplicationStorage(dataSet.resolve(MODULE_LIST_FILE_NAME),
+                dataSet.resolve(DEGREE_PLANNER_LIST_FILE_NAME), dataSet.resolve(REQUIREMENT_CATEGORY_LIST_FILE_NAME));
+    }
+
+    /**
+     * Writes {@code audit} to {@code writer} as a line of JSON, and returns it.
+     */
+    private static StudentAudit write(StudentAudit audit, BufferedWriter writer) throws IOException {
+        String line = JsonUtil.toCompactJsonString(audit);
+        synchronized (writer) {
+            writer.write(line);
+            writer.newLine();
+        }
+        return audit;
+    }
+
+    /**
+     * Waits until every one of {@code audits} has finished, whether or not it succeeded.
+     * An interrupt does not stop the wait, but is restored once every audit has finished.
+     */
+    private static void awaitAll(List<Future<StudentAudit>> audits) {
+        boolean isInterrupted = false;
+        for (Future<StudentAudit> future : audits) {
+            while (!future.isDone()) {
+                try {
+                    future.get();
+                } catch (InterruptedException ie) {
+                    isInterrupted = true;
+                } catch (ExecutionException ee) {
+                    // already reported by getResult, or not waited for because an earlier audit failed
+                }
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for {@code future} and returns its audit.
+     *
+     * @throws IOException if the audit could not be written, or the wait was interrupted.
+     */
+    private static StudentAudit getResult(Future<StudentAudit> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IllegalStateException(ee.getCause());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package pwe.planner.audit;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The result of auditing the degree plan of a student: how many credits every requirement category is fulfilled by,
+ * and every constraint that the plan violates.
+ * Its fields are written to the result file as they are.
+ */
+public class StudentAudit {
+
+    private final String studentId;
+    private final List<CategoryProgress> requirementCategories;
+    private final List<String> violations;
+
+    public StudentAudit(String studentId, List<CategoryProgress> requirementCategories, List<String> violations) {
+        requireAllNonNull(studentId, requirementCategories, violations);
+
+        this.studentId = studentId;
+        this.requirementCategories = Collections.unmodifiableList(new ArrayList<>(requirementCategories));
+        this.violations = Collections.unmodifiableList(new ArrayList<>(violations));
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public List<CategoryProgress> getRequirementCategories() {
+        return requirementCategories;
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Returns true if the plan violates no constraint.
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Returns true if every requirement category is fulfilled by at least the credits it requires.
+     */
+    public boolean isFulfilled() {
+        return requirementCategories.stream().allMatch(CategoryProgress::isFulfilled);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudentAudit // instanceof handles nulls
+                && studentId.equals(((StudentAudit) other).studentId)
+                && requirementCategories.equals(((StudentAudit) other).requirementCategories)
+                && violations.equals(((StudentAudit) other).violations));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, requirementCategories, violations);
+    }
+
+    @Override
+    public String toString() {
+        return studentId + " " + requirementCategories + " " + violations;
+    }
+
+    /**
+     * The credits that a requirement category requires, and the credits of the planned modules in it.
+     */
+    public static class CategoryProgress {
+        private final String name;
+        private final int fulfilledCredits;
+        private final int requiredCredits;
+
+        public CategoryProgress(String name, int fulfilledCredits, int requiredCredits) {
+            requireNonNull(name);
+
+            this.name = name;
+            this.fulfilledCredits = fulfilledCredits;
+            this.requiredCredits = requiredCredits;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getFulfilledCredits() {
+            return fulfilledCredits;
+        }
+
+        public int getRequiredCredits() {
+            return requiredCredits;
+        }
+
+        public boolean isFulfilled() {
+            return fulfilledCredits >= requiredCredits;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof CategoryProgress // instanceof handles nulls
+                    && name.equals(((CategoryProgress) other).name)
+                    && fulfilledCredits == ((CategoryProgress) other).fulfilledCredits
+                    && requiredCredits == ((CategoryProgress) other).requiredCredits);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, fulfilledCredits, requiredCredits);
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + fulfilledCredits + "/" + requiredCredits + ")";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package pwe.planner.commons.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list backed by an {@code ArrayList}, whose changes can be batched.
+ * All changes made between {@link #beginBatch()} and the matching {@link #endBatch()} are reported to listeners as a
+ * single {@code ListChangeListener.Change}, together with a single invalidation, when the outermost batch ends.
+ * Batches may be nested.
+ *
+ * @param <E> the type of elements in this list.
+ */
+public class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Starts a batch of changes. Listeners are not notified of any change until the batch ends.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     * If it is the outermost batch, listeners are notified of all changes made within it.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
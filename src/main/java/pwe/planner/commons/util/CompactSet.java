@@ -0,0 +1,131 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set that stores its elements in a single array.
+ * Membership is checked by a linear scan, which is faster than hashing for a handful of elements, and avoids the
+ * per-element entry objects and the bucket table of a {@code HashSet}.
+ *
+ * @param <E> the type of elements in this set, which should be immutable.
+ */
+public final class CompactSet<E> extends AbstractSet<E> {
+
+    /**
+     * Sets with more elements than this are backed by a {@code HashSet} instead, as a linear scan stops being cheap.
+     */
+    static final int MAX_ARRAY_SIZE = 8;
+
+    private static final CompactSet<?> EMPTY = new CompactSet<>(new Object[0]);
+
+    private final Object[] elements;
+
+    private CompactSet(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns an immutable set of {@code elements}, which throws {@code UnsupportedOperationException} if modification
+     * is attempted. The elements are iterated in the same order as a {@code HashSet} of {@code elements} would.
+     */
+    public static <E> Set<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+
+        Set<E> uniqueElements = new HashSet<>();
+        for (E element : elements) {
+            uniqueElements.add(requireNonNull(element));
+        }
+
+        if (uniqueElements.isEmpty()) {
+            @SuppressWarnings("unchecked")
+            Set<E> empty = (Set<E>) EMPTY;
+            return empty;
+        }
+        if (uniqueElements.size() > MAX_ARRAY_SIZE) {
+            return Collections.unmodifiableSet(uniqueElements);
+        }
+        return new CompactSet<>(uniqueElements.toArray());
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        for (Object element : elements) {
+            if (element.equals(object)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    //// modification is never allowed, even if it would not change this set
+
+    @Override
+    public boolean add(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
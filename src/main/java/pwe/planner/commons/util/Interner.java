@@ -0,0 +1,94 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical instances of an immutable value class, in the manner of {@link String#intern()}.
+ * Equal values that are interned share a single instance, so that many objects holding equal values (for example the
+ * modules of many degree plans) do not each keep their own copy.
+ *
+ * The pool only holds weak references, so instances that are no longer used elsewhere can still be garbage collected.
+ * It can be used by many threads at once without locking, as values are interned on every parse of the data files.
+ *
+ * @param <T> the type of the pooled values, which must be immutable, and implement {@code equals} and
+ *     {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final ConcurrentMap<WeakEntry<T>, WeakEntry<T>> pool = new ConcurrentHashMap<>();
+    /** The entries whose values have been garbage collected, which are removed from the pool on the next intern. */
+    private final ReferenceQueue<T> collectedEntries = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical instance that is equal to {@code value}.
+     * If there is none yet, {@code value} becomes the canonical instance.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+
+        removeCollectedEntries();
+        WeakEntry<T> entry = new WeakEntry<>(value, collectedEntries);
+        while (true) {
+            WeakEntry<T> canonicalEntry = pool.putIfAbsent(entry, entry);
+            if (canonicalEntry == null) {
+                return value;
+            }
+            T canonicalValue = canonicalEntry.get();
+            if (canonicalValue != null) {
+                return canonicalValue;
+            }
+            // the canonical value has just been collected, but its entry has not been removed yet
+            pool.remove(canonicalEntry, canonicalEntry);
+        }
+    }
+
+    /**
+     * Returns the number of entries in the pool, including those whose values have been collected but not removed.
+     */
+    int size() {
+        return pool.size();
+    }
+
+    private void removeCollectedEntries() {
+        Reference<? extends T> collectedEntry;
+        while ((collectedEntry = collectedEntries.poll()) != null) {
+            pool.remove(collectedEntry, collectedEntry);
+        }
+    }
+
+    /**
+     * A weak reference to a pooled value, which is equal to the entries of equal values as long as its value has not
+     * been collected, and only to itself afterwards.
+     */
+    private static class WeakEntry<T> extends WeakReference<T> {
+        private final int hashCode;
+
+        private WeakEntry(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            hashCode = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof WeakEntry)) {
+                return false;
+            }
+            Object value = get();
+            return value != null && value.equals(((WeakEntry<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
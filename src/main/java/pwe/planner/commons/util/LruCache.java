@@ -0,0 +1,89 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map that holds at most a fixed number of entries, and evicts the least recently used entry to make space for a new
+ * one. The number of lookups that found an entry (hits) and that did not (misses) are counted.
+ *
+ * All operations are synchronized, so a cache can be shared between threads.
+ *
+ * @param <K> the type of keys, which must implement {@code equals} and {@code hashCode}.
+ * @param <V> the type of cached values.
+ */
+public class LruCache<K, V> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Capacity of a cache should be positive.";
+
+    private final Map<K, V> entries;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty cache that holds at most {@code capacity} entries.
+     */
+    public LruCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+
+        // access order, so that the eldest entry is the least recently used one
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for {@code key}, or null if there is none.
+     */
+    public synchronized V get(K key) {
+        requireNonNull(key);
+
+        V value = entries.get(key);
+        if (value == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return value;
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, evicting the least recently used entry if the cache is full.
+     */
+    public synchronized void put(K key, V value) {
+        requireAllNonNull(key, value);
+
+        entries.put(key, value);
+    }
+
+    /**
+     * Removes all entries from the cache. The hit and miss counts are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d entries, %d hits, %d misses", entries.size(), hitCount, missCount);
+    }
+}
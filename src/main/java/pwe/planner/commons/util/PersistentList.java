@@ -0,0 +1,288 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * An immutable list that shares structure with the lists it was derived from.
+ * <p>
+ * The elements are stored in a randomized balanced binary tree that is indexed by position. Every operation copies only
+ * the path(s) from the root to the affected position(s), and leaves the rest of the tree shared with the original list.
+ * As such, {@link #get(int)}, {@link #set(int, Object)}, {@link #insertAll(int, List)} and
+ * {@link #removeRange(int, int)} take expected logarithmic time (in addition to the number of elements inserted), and
+ * keeping many versions of a large list only costs memory proportional to the differences between them.
+ *
+ * @param <T> the type of elements in this list, which should be immutable.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+    private static final Random RANDOM = new Random();
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in the same order.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        requireNonNull(elements);
+
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size())}.
+     */
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size())}.
+     */
+    public PersistentList<T> set(int index, T element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size());
+
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code elements} inserted before the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size()]}.
+     */
+    public PersistentList<T> insertAll(int index, List<? extends T> elements) {
+        requireNonNull(elements);
+        Objects.checkIndex(index, size() + 1);
+
+        if (elements.isEmpty()) {
+            return this;
+        }
+
+        List<Node<T>> parts = split(root, index);
+        return new PersistentList<>(merge(merge(parts.get(0), build(elements, 0, elements.size())), parts.get(1)));
+    }
+
+    /**
+     * Returns a list without the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+     *
+     * @throws IndexOutOfBoundsException if the range is not within {@code [0, size()]}.
+     */
+    public PersistentList<T> removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+
+        if (fromIndex == toIndex) {
+            return this;
+        }
+
+        List<Node<T>> head = split(root, fromIndex);
+        List<Node<T>> tail = split(head.get(1), toIndex - fromIndex);
+        return new PersistentList<>(merge(head.get(0), tail.get(1)));
+    }
+
+    /**
+     * Returns a new mutable {@code List} of the elements in this list, in the same order.
+     */
+    public List<T> toList() {
+        List<T> elements = new ArrayList<>(size());
+        forEach(elements::add);
+        return elements;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final List<Node<T>> path = new ArrayList<>();
+            private Node<T> next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                while (next != null) {
+                    path.add(next);
+                    next = next.left;
+                }
+                Node<T> node = path.remove(path.size() - 1);
+                next = node.right;
+                return node.value;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (root == otherList.root) {
+            return true;
+        }
+        if (size() != otherList.size()) {
+            return false;
+        }
+
+        Iterator<?> otherIterator = otherList.iterator();
+        for (T element : this) {
+            if (!element.equals(otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (T element : this) {
+            hashCode = 31 * hashCode + element.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns a perfectly balanced tree of {@code elements[fromIndex, toIndex)}.
+     */
+    private static <T> Node<T> build(List<? extends T> elements, int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return null;
+        }
+
+        int middle = (fromIndex + toIndex) >>> 1;
+        T element = requireNonNull(elements.get(middle));
+        return new Node<>(element, build(elements, fromIndex, middle), build(elements, middle + 1, toIndex));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, element), node.right);
+        } else if (index == leftSize) {
+            return new Node<>(element, node.left, node.right);
+        } else {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    /**
+     * Splits {@code node} into a tree of its first {@code count} elements, and a tree of the remaining elements.
+     */
+    private static <T> List<Node<T>> split(Node<T> node, int count) {
+        if (node == null) {
+            return nodePair(null, null);
+        }
+
+        int leftSize = size(node.left);
+        if (count <= leftSize) {
+            List<Node<T>> parts = split(node.left, count);
+            return nodePair(parts.get(0), new Node<>(node.value, parts.get(1), node.right));
+        } else {
+            List<Node<T>> parts = split(node.right, count - leftSize - 1);
+            return nodePair(new Node<>(node.value, node.left, parts.get(0)), parts.get(1));
+        }
+    }
+
+    /**
+     * Joins {@code left} and {@code right}, with all elements of {@code left} preceding all elements of {@code right}.
+     * The root is picked from either side with probability proportional to its size, which keeps the tree balanced in
+     * expectation regardless of the order of operations.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (RANDOM.nextInt(left.size + right.size) < left.size) {
+            return new Node<>(left.value, left.left, merge(left.right, right));
+        } else {
+            return new Node<>(right.value, merge(left, right.left), right.right);
+        }
+    }
+
+    private static <T> List<Node<T>> nodePair(Node<T> first, Node<T> second) {
+        List<Node<T>> pair = new ArrayList<>(2);
+        pair.add(first);
+        pair.add(second);
+        return pair;
+    }
+
+    /**
+     * An immutable tree node, which is shared between every list that contains it.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+}
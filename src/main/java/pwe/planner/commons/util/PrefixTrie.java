@@ -0,0 +1,236 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A map from strings to values, which finds all values whose keys start with a given prefix by walking down the
+ * characters of the prefix, instead of comparing the prefix against every key. Values with a common prefix are
+ * visited in the lexicographic order of their keys.
+ *
+ * Every node keeps the number of keys below it, so that the number of keys with a given prefix is known without
+ * visiting them.
+ *
+ * @param <V> the type of values.
+ */
+public class PrefixTrie<V> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Limit of the number of values should not be negative.";
+
+    private final Node<V> root = new Node<>();
+
+    /**
+     * Associates {@code value} with {@code key}, replacing the value previously associated with {@code key}.
+     *
+     * @return the value previously associated with {@code key}, or null if there was none.
+     */
+    public V put(String key, V value) {
+        requireAllNonNull(key, value);
+
+        V previousValue = get(key);
+        Node<V> node = root;
+        if (previousValue == null) {
+            node.size++;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+            if (previousValue == null) {
+                node.size++;
+            }
+        }
+        node.value = value;
+        return previousValue;
+    }
+
+    /**
+     * Removes the value associated with {@code key}, together with the nodes that no longer lead to any key.
+     *
+     * @return the removed value, or null if there was no value associated with {@code key}.
+     */
+    public V remove(String key) {
+        requireNonNull(key);
+
+        V previousValue = get(key);
+        if (previousValue == null) {
+            return null;
+        }
+
+        Node<V> node = root;
+        node.size--;
+        for (int i = 0; i < key.length(); i++) {
+            Node<V> child = node.getChild(key.charAt(i));
+            child.size--;
+            if (child.size == 0) {
+                node.removeChild(key.charAt(i));
+                return previousValue;
+            }
+            node = child;
+        }
+        node.value = null;
+        return previousValue;
+    }
+
+    /**
+     * Returns the value associated with {@code key}, or null if there is none.
+     */
+    public V get(String key) {
+        requireNonNull(key);
+
+        Node<V> node = find(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Removes all keys.
+     */
+    public void clear() {
+        root.clear();
+    }
+
+    /**
+     * Returns the number of keys.
+     */
+    public int size() {
+        return root.size;
+    }
+
+    /**
+     * Returns the number of keys that start with {@code prefix}.
+     */
+    public int countWithPrefix(String prefix) {
+        requireNonNull(prefix);
+
+        Node<V> node = find(prefix);
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Visits the values of the keys that start with {@code prefix} in the lexicographic order of their keys, until
+     * {@code visitor} returns false.
+     *
+     * @return false if the visit was stopped by {@code visitor}.
+     */
+    public boolean forEachWithPrefix(String prefix, Predicate<? super V> visitor) {
+        requireAllNonNull(prefix, visitor);
+
+        Node<V> node = find(prefix);
+        return node == null || node.forEach(visitor);
+    }
+
+    /**
+     * Returns the values of at most {@code limit} keys that start with {@code prefix}, in the lexicographic order of
+     * their keys.
+     */
+    public List<V> getValuesWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, MESSAGE_CONSTRAINTS);
+
+        List<V> values = new ArrayList<>();
+        if (limit > 0) {
+            forEachWithPrefix(prefix, value -> {
+                values.add(value);
+                return values.size() < limit;
+            });
+        }
+        return values;
+    }
+
+    /**
+     * Returns the node reached by walking down the characters of {@code key}, or null if there is none.
+     */
+    private Node<V> find(String key) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.getChild(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * A node of the trie. The children are kept in arrays sorted by their characters, which take less space than a
+     * map for the few children that most nodes have.
+     */
+    private static class Node<V> {
+        private static final char[] NO_CHARACTERS = new char[0];
+
+        private char[] childCharacters = NO_CHARACTERS;
+        private Node<V>[] children = newNodeArray(0);
+        private V value;
+        /** The number of keys that end at or below this node. */
+        private int size;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <V> Node<V>[] newNodeArray(int length) {
+            return (Node<V>[]) new Node[length];
+        }
+
+        private Node<V> getChild(char c) {
+            int index = Arrays.binarySearch(childCharacters, c);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node<V> getOrAddChild(char c) {
+            int index = Arrays.binarySearch(childCharacters, c);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertionIndex = -index - 1;
+            char[] newChildCharacters = new char[childCharacters.length + 1];
+            Node<V>[] newChildren = newNodeArray(children.length + 1);
+            System.arraycopy(childCharacters, 0, newChildCharacters, 0, insertionIndex);
+            System.arraycopy(children, 0, newChildren, 0, insertionIndex);
+            System.arraycopy(childCharacters, insertionIndex, newChildCharacters, insertionIndex + 1,
+                    childCharacters.length - insertionIndex);
+            System.arraycopy(children, insertionIndex, newChildren, insertionIndex + 1,
+                    children.length - insertionIndex);
+
+            Node<V> child = new Node<>();
+            newChildCharacters[insertionIndex] = c;
+            newChildren[insertionIndex] = child;
+            childCharacters = newChildCharacters;
+            children = newChildren;
+            return child;
+        }
+
+        private void removeChild(char c) {
+            int index = Arrays.binarySearch(childCharacters, c);
+            assert index >= 0;
+
+            char[] newChildCharacters = new char[childCharacters.length - 1];
+            Node<V>[] newChildren = newNodeArray(children.length - 1);
+            System.arraycopy(childCharacters, 0, newChildCharacters, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(childCharacters, index + 1, newChildCharacters, index,
+                    childCharacters.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            childCharacters = newChildCharacters;
+            children = newChildren;
+        }
+
+        private boolean forEach(Predicate<? super V> visitor) {
+            if (value != null && !visitor.test(value)) {
+                return false;
+            }
+            for (Node<V> child : children) {
+                if (!child.forEach(visitor)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void clear() {
+            childCharacters = NO_CHARACTERS;
+            children = newNodeArray(0);
+            value = null;
+            size = 0;
+        }
+    }
+}
@@ -6,7 +6,9 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -15,6 +17,16 @@ import java.util.stream.Stream;
  */
 public class StringUtil {
 
+    /**
+     * The character that matches any sequence of characters in {@link #matchesWildcardIgnoreCase(String, String)}.
+     */
+    public static final char WILDCARD = '*';
+
+    /**
+     * The characters matched by {@code \s} in a regular expression.
+     */
+    private static final String WHITESPACE_CHARACTERS = " \t\n\u000B\f\r";
+
     /**
      * Returns a string of all elements of the stream separated by commas.
      * If there are no elements in the stream, returns "None".
@@ -80,6 +92,99 @@ public class StringUtil {
         return preppedStringA.equalsIgnoreCase(preppedStringB);
     }
 
+    /**
+     * Returns true if {@code s} matches {@code pattern} while ignoring cases, where every {@code *} in the pattern
+     * matches any sequence of characters, including an empty one.
+     *   <br>examples:<pre>
+     *       matchesWildcardIgnoreCase("CS2040C", "cs2*") == true
+     *       matchesWildcardIgnoreCase("CS2040C", "*40*") == true
+     *       matchesWildcardIgnoreCase("CS2040C", "CS2*0") == false //the pattern must match the whole string
+     *       </pre>
+     */
+    public static boolean matchesWildcardIgnoreCase(String s, String pattern) {
+        requireAllNonNull(s, pattern);
+
+        // greedy matching, which backtracks only to the most recent wildcard
+        int sIndex = 0;
+        int patternIndex = 0;
+        int lastWildcardIndex = -1;
+        int sIndexAtLastWildcard = 0;
+        while (sIndex < s.length()) {
+            if (patternIndex < pattern.length() && pattern.charAt(patternIndex) == WILDCARD) {
+                lastWildcardIndex = patternIndex++;
+                sIndexAtLastWildcard = sIndex;
+            } else if (patternIndex < pattern.length()
+                    && equalsIgnoreCase(s.charAt(sIndex), pattern.charAt(patternIndex))) {
+                sIndex++;
+                patternIndex++;
+            } else if (lastWildcardIndex != -1) {
+                patternIndex = lastWildcardIndex + 1;
+                sIndex = ++sIndexAtLastWildcard;
+            } else {
+                return false;
+            }
+        }
+        while (patternIndex < pattern.length() && pattern.charAt(patternIndex) == WILDCARD) {
+            patternIndex++;
+        }
+        return patternIndex == pattern.length();
+    }
+
+    /**
+     * Returns the edit distance between {@code s} and {@code t} while ignoring cases, which is the least number of
+     * characters that have to be inserted, deleted or substituted to turn one into the other. Returns -1 instead if
+     * the edit distance is greater than {@code maxDistance}.
+     *
+     * Only the part of the distance table within {@code maxDistance} of its diagonal is computed, and the
+     * computation stops as soon as a row of the table exceeds {@code maxDistance}.
+     */
+    public static int getEditDistanceIgnoreCase(String s, String t, int maxDistance) {
+        requireAllNonNull(s, t);
+        checkArgument(maxDistance >= 0, "maxDistance parameter cannot be negative");
+
+        if (Math.abs(s.length() - t.length()) > maxDistance) {
+            return -1;
+        }
+
+        // distances above maxDistance are all capped at the same value, as they are rejected anyway
+        int tooFar = maxDistance + 1;
+        int[] previousRow = new int[t.length() + 1];
+        int[] currentRow = new int[t.length() + 1];
+        for (int j = 0; j <= t.length(); j++) {
+            previousRow[j] = Math.min(j, tooFar);
+        }
+        for (int i = 1; i <= s.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(t.length(), i + maxDistance);
+            currentRow[0] = Math.min(i, tooFar);
+            currentRow[from - 1] = from == 1 ? currentRow[0] : tooFar;
+
+            int rowMinimum = currentRow[from - 1];
+            for (int j = from; j <= to; j++) {
+                int substitution = previousRow[j - 1] + (equalsIgnoreCase(s.charAt(i - 1), t.charAt(j - 1)) ? 0 : 1);
+                int deletion = previousRow[j] + 1;
+                int insertion = currentRow[j - 1] + 1;
+                currentRow[j] = Math.min(tooFar, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (to < t.length()) {
+                currentRow[to + 1] = tooFar;
+            }
+            if (rowMinimum > maxDistance) {
+                return -1;
+            }
+
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[t.length()] > maxDistance ? -1 : previousRow[t.length()];
+    }
+
+    private static boolean equalsIgnoreCase(char a, char b) {
+        return Character.toLowerCase(Character.toUpperCase(a)) == Character.toLowerCase(Character.toUpperCase(b));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -91,6 +196,46 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns the words of {@code sentence}, which are separated by whitespace.
+     * Unlike {@code sentence.split("\\s+")}, no regular expression is involved, and leading whitespace does not
+     * produce an empty first word.
+     */
+    public static List<String> splitWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i < sentence.length(); i++) {
+            boolean isWhitespace = WHITESPACE_CHARACTERS.indexOf(sentence.charAt(i)) != -1;
+            if (isWhitespace && wordStart != -1) {
+                words.add(sentence.substring(wordStart, i));
+                wordStart = -1;
+            } else if (!isWhitespace && wordStart == -1) {
+                wordStart = i;
+            }
+        }
+        if (wordStart != -1) {
+            words.add(sentence.substring(wordStart));
+        }
+        return words;
+    }
+
+    /**
+     * Returns the case-folded form of {@code s}.
+     * Two strings are equal ignoring case (see {@link String#equalsIgnoreCase(String)}) if and only if their
+     * case-folded forms are equal.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+
+        char[] foldedCharacters = new char[s.length()];
+        for (int i = 0; i < s.length(); i++) {
+            foldedCharacters[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return new String(foldedCharacters);
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
@@ -0,0 +1,85 @@
+package pwe.planner.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the {@code k} smallest of the elements offered to it, in their natural order.
+ *
+ * The kept elements are stored in a heap with the largest of them on top, so that an offered element is compared
+ * against the top only, and the {@code k} smallest of {@code n} elements are found in {@code O(n log k)} time instead
+ * of sorting all of them.
+ *
+ * @param <T> the type of elements.
+ */
+public class TopK<T extends Comparable<? super T>> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Number of elements to keep should be positive.";
+
+    private final int k;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * Creates a TopK that keeps the {@code k} smallest elements offered to it.
+     */
+    public TopK(int k) {
+        checkArgument(k > 0, MESSAGE_CONSTRAINTS);
+
+        this.k = k;
+        heap = new PriorityQueue<>(Collections.reverseOrder());
+    }
+
+    /**
+     * Offers {@code element}, which is kept if it is smaller than the largest of the {@code k} kept elements.
+     *
+     * @return true if {@code element} is kept.
+     */
+    public boolean offer(T element) {
+        requireNonNull(element);
+
+        if (heap.size() < k) {
+            heap.add(element);
+            return true;
+        }
+        if (element.compareTo(heap.peek()) >= 0) {
+            return false;
+        }
+        heap.poll();
+        heap.add(element);
+        return true;
+    }
+
+    /**
+     * Offers all elements kept by {@code other}, so that this keeps the {@code k} smallest elements offered to either.
+     */
+    public void merge(TopK<T> other) {
+        requireNonNull(other);
+
+        other.heap.forEach(this::offer);
+    }
+
+    /**
+     * Returns true if {@code k} elements are kept, so that only elements smaller than the largest of them are kept.
+     */
+    public boolean isFull() {
+        return heap.size() == k;
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns a new list of the kept elements, from the smallest to the largest.
+     */
+    public List<T> toSortedList() {
+        List<T> elements = new ArrayList<>(heap);
+        Collections.sort(elements);
+        return elements;
+    }
+}
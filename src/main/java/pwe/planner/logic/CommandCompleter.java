@@ -0,0 +1,97 @@
+package pwe.planner.logic;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.logic.parser.CliSyntax.OPERATOR_LEFT_BRACKET;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_COREQUISITE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import pwe.planner.commons.util.PrefixTrie;
+import pwe.planner.logic.parser.CommandParser;
+import pwe.planner.logic.parser.Prefix;
+import pwe.planner.model.Model;
+
+/**
+ * Completes the word that is being typed at the end of a command: either the command word, or a module code after
+ * a {@code code/} or {@code coreq/} prefix. Candidates are found by walking down a {@link PrefixTrie} to the typed
+ * prefix, so the time taken does not grow with the number of modules.
+ *
+ * As completions are computed on every keystroke, at most {@link #MAX_COMPLETIONS} completions are returned, and
+ * the search stops once the time budget (by default {@link #TIME_BUDGET_NANOS}) has passed.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 8;
+    public static final long TIME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    public static final String MESSAGE_CONSTRAINTS = "Time budget of completions should not be negative.";
+
+    private static final List<Prefix> CODE_PREFIXES = List.of(PREFIX_CODE, PREFIX_COREQUISITE);
+
+    private final Model model;
+    private final long timeBudgetNanos;
+    private final PrefixTrie<String> commandWordTrie = new PrefixTrie<>();
+
+    public CommandCompleter(Model model) {
+        this(model, TIME_BUDGET_NANOS);
+    }
+
+    /**
+     * Creates a CommandCompleter that stops searching for completions once {@code timeBudgetNanos} has passed.
+     */
+    public CommandCompleter(Model model, long timeBudgetNanos) {
+        requireNonNull(model);
+        checkArgument(timeBudgetNanos >= 0, MESSAGE_CONSTRAINTS);
+
+        this.model = model;
+        this.timeBudgetNanos = timeBudgetNanos;
+        CommandParser.COMMAND_WORDS.forEach(commandWord -> commandWordTrie.put(commandWord, commandWord));
+    }
+
+    /**
+     * Returns the completions of {@code commandText}, each of which is {@code commandText} with its last word
+     * completed. Returns an empty list if the last word cannot be completed.
+     */
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        List<String> completions = new ArrayList<>();
+        int lastWordStart = Math.max(commandText.lastIndexOf(' '), commandText.lastIndexOf('\t')) + 1;
+        String lastWord = commandText.substring(lastWordStart);
+        if (lastWord.isEmpty()) {
+            return completions;
+        }
+
+        if (commandText.trim().equals(lastWord)) {
+            String textBeforeCommandWord = commandText.substring(0, lastWordStart);
+            commandWordTrie.forEachWithPrefix(lastWord, commandWord -> {
+                completions.add(textBeforeCommandWord + commandWord);
+                return completions.size() < MAX_COMPLETIONS && System.nanoTime() - deadline < 0;
+            });
+            return completions;
+        }
+
+        // a code may be the first term of a bracketed find expression
+        int prefixStart = lastWordStart;
+        while (commandText.startsWith(OPERATOR_LEFT_BRACKET, prefixStart)) {
+            prefixStart += OPERATOR_LEFT_BRACKET.length();
+        }
+        for (Prefix prefix : CODE_PREFIXES) {
+            if (!commandText.startsWith(prefix.getPrefix(), prefixStart)) {
+                continue;
+            }
+
+            int codeStart = prefixStart + prefix.getPrefix().length();
+            String textBeforeCode = commandText.substring(0, codeStart);
+            model.getModuleWordIndex().forEachCodeWithPrefix(commandText.substring(codeStart), code -> {
+                completions.add(textBeforeCode + code.value);
+                return completions.size() < MAX_COMPLETIONS && System.nanoTime() - deadline < 0;
+            });
+        }
+        return completions;
+    }
+}
@@ -0,0 +1,265 @@
+package pwe.planner.logic;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.logic.commands.Command;
+import pwe.planner.logic.commands.CommandResult;
+import pwe.planner.logic.commands.exceptions.CommandException;
+import pwe.planner.logic.parser.CommandParser;
+import pwe.planner.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes commands submitted by many threads at once, in the order they are submitted, on a single writer thread.
+ *
+ * Commands are parsed by the submitting thread. Read-only commands are executed right away on the latest snapshot of
+ * the model, while the other commands are queued for the writer. The writer takes every command waiting in the queue
+ * (up to {@code maxBatchSize} of them) as a batch, executes them one after another, and then saves the application
+ * once for the whole batch (a group commit), instead of rewriting the data files after every command. The future of
+ * a queued command is only completed once the application has been saved with the changes of its batch, so a caller
+ * never sees the result of a command that could still be lost. Likewise, read-only commands only see the changes of a
+ * batch once it has been saved. If the application cannot be saved, every change of the batch is rolled back, and its
+ * commands fail. The pipeline must be closed to stop the writer.
+ */
+public class CommandPipeline implements AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+    public static final String MESSAGE_CONSTRAINTS = "Queue capacity and maximum batch size should be positive.";
+    public static final String MESSAGE_QUEUE_FULL = "Too many commands are waiting to be executed.";
+    public static final String MESSAGE_CLOSED = "No more commands are accepted, as the pipeline is closed.";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandPipeline.class);
+
+    /** Queued by {@link #close()} after every other command, to stop the writer. */
+    private static final PendingCommand STOP = new PendingCommand(null, null);
+
+    private final LogicManager logic;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingCommand> queue;
+    private final Thread writer;
+    /** The parsers of the submitting threads, as a parser caches what it parses. */
+    private final ThreadLocal<CommandParser> commandParsers = ThreadLocal.withInitial(CommandParser::new);
+
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder batchedCommandCount = new LongAdder();
+    private final AtomicInteger largestBatchSize = new AtomicInteger();
+
+    private boolean isClosed;
+
+    public CommandPipeline(LogicManager logic) {
+        this(logic, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a pipeline that executes commands on {@code logic}, with at most {@code queueCapacity} commands waiting
+     * for the writer, which saves the application at least once every {@code maxBatchSize} commands.
+     * The writer thread is started right away.
+     */
+    public CommandPipeline(LogicManager logic, int queueCapacity, int maxBatchSize) {
+        requireNonNull(logic);
+        checkArgument(queueCapacity > 0 && maxBatchSize > 0, MESSAGE_CONSTRAINTS);
+
+        this.logic = logic;
+        this.maxBatchSize = maxBatchSize;
+        // read-only commands are executed on snapshots, which are only published once there are such readers
+        logic.enableSnapshots();
+        // one more slot for STOP, so that closing never waits for a full queue to be drained
+        queue = new LinkedBlockingQueue<>(queueCapacity + 1);
+        writer = new Thread(this::write, "command-pipeline-writer");
+        writer.start();
+    }
+
+    /**
+     * Submits the command entered as {@code commandText}, and returns the future of its result.
+     * The future completes exceptionally with a {@code ParseException} or a {@code CommandException} if the command
+     * cannot be parsed or executed, with a {@code CommandException} if the application cannot be saved afterwards, and
+     * with a {@code RejectedExecutionException} if the queue is full or the pipeline is closed.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        Command command;
+        try {
+            command = commandParsers.get().parseCommand(commandText);
+        } catch (ParseException pe) {
+            future.completeExceptionally(pe);
+            return future;
+        }
+
+        if (command.isReadOnly()) {
+            logger.info("----------------[SNAPSHOT COMMAND][" + commandText + "]");
+            try {
+                future.complete(command.execute(logic.getSnapshotModel(), new CommandHistory()));
+            } catch (CommandException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        PendingCommand pendingCommand = new PendingCommand(command, commandText);
+        synchronized (this) {
+            if (isClosed) {
+                future.completeExceptionally(new RejectedExecutionException(MESSAGE_CLOSED));
+                return future;
+            }
+            // the last slot of the queue is kept for STOP
+            if (queue.remainingCapacity() <= 1 || !queue.offer(pendingCommand)) {
+                future.completeExceptionally(new RejectedExecutionException(MESSAGE_QUEUE_FULL));
+                return future;
+            }
+        }
+        return pendingCommand.future;
+    }
+
+    /**
+     * Returns the number of commands waiting for the writer.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of batches that the writer has executed and saved (or failed to save).
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    /**
+     * Returns the number of commands in the batches that the writer has executed.
+     */
+    public long getBatchedCommandCount() {
+        return batchedCommandCount.sum();
+    }
+
+    /**
+     * Returns the mean number of commands in a batch, or 0 if no batch has been executed.
+     */
+    public double getMeanBatchSize() {
+        long batches = getBatchCount();
+        return batches == 0 ? 0 : (double) getBatchedCommandCount() / batches;
+    }
+
+    /**
+     * Returns the number of commands in the largest batch so far.
+     */
+    public int getLargestBatchSize() {
+        return largestBatchSize.get();
+    }
+
+    /**
+     * Stops accepting commands, and waits until the writer has executed and saved every command already queued.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            // nothing is queued after STOP, and its slot is always free
+            queue.add(STOP);
+        }
+
+        try {
+            writer.join();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Executes the queued commands batch by batch, until {@link #STOP} is taken.
+     */
+    private void write() {
+        List<PendingCommand> batch = new ArrayList<>();
+        boolean isStopping = false;
+        while (!isStopping) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ie) {
+                // only STOP stops the writer, so that no queued command is left without a result
+                continue;
+            }
+            queue.drainTo(batch, maxBatchSize - 1);
+            isStopping = batch.remove(STOP);
+            if (!batch.isEmpty()) {
+                executeBatch(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Executes the commands of {@code batch} in order, saves the application once, and then completes their futures.
+     * If the application cannot be saved, the changes of the batch are rolled back.
+     */
+    private void executeBatch(List<PendingCommand> batch) {
+        CommandException saveException = null;
+        // the lock of the logic is held until the batch is saved, so that no other command saves it in between
+        synchronized (logic) {
+            logic.setSavepoint();
+            for (PendingCommand pendingCommand : batch) {
+                try {
+                    pendingCommand.result = logic.executeWithoutSaving(pendingCommand.command,
+                            pendingCommand.commandText);
+                } catch (CommandException | RuntimeException e) {
+                    pendingCommand.exception = e;
+                }
+            }
+            try {
+                logic.saveIfModified();
+                logic.releaseSavepoint();
+            } catch (CommandException ce) {
+                logger.warning("Unable to save a batch of " + batch.size() + " command(s), rolling it back: "
+                        + ce.getMessage());
+                logic.rollbackToSavepoint();
+                saveException = ce;
+            }
+        }
+
+        batchCount.increment();
+        batchedCommandCount.add(batch.size());
+        largestBatchSize.accumulateAndGet(batch.size(), Math::max);
+
+        for (PendingCommand pendingCommand : batch) {
+            if (pendingCommand.exception != null) {
+                pendingCommand.future.completeExceptionally(pendingCommand.exception);
+            } else if (saveException != null) {
+                pendingCommand.future.completeExceptionally(saveException);
+            } else {
+                pendingCommand.future.complete(pendingCommand.result);
+            }
+        }
+    }
+
+    /**
+     * A command waiting for the writer, and the future of its result.
+     * The result or the exception is only set and read by the writer.
+     */
+    private static class PendingCommand {
+        private final Command command;
+        private final String commandText;
+        private final CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        private CommandResult result;
+        private Exception exception;
+
+        private PendingCommand(Command command, String commandText) {
+            this.command = command;
+            this.commandText = commandText;
+        }
+    }
+}
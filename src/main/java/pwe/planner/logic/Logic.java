@@ -1,6 +1,7 @@
 package pwe.planner.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
@@ -9,6 +10,7 @@ import pwe.planner.logic.commands.CommandResult;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.Model;
+import pwe.planner.model.ModelSnapshot;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
@@ -28,6 +30,24 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command like {@link #execute(String)}, but may be called by many threads at once.
+     * Read-only commands are executed on the latest snapshot of the model without waiting for any other command, and
+     * leave the filtered lists of the model as they are. The other commands take turns to execute on the model itself.
+     *
+     * @see pwe.planner.logic.commands.Command#isReadOnly()
+     */
+    CommandResult executeConcurrently(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Returns the completions of the last word of a partially entered command, each of which is the whole command
+     * with its last word completed.
+     *
+     * @param commandText The command as entered by the user so far.
+     * @see CommandCompleter#getCompletions(String)
+     */
+    List<String> getCompletions(String commandText);
+
     /**
      * Returns the Application.
      *
@@ -35,6 +55,21 @@ public interface Logic {
      */
     ReadOnlyApplication getApplication();
 
+    /**
+     * Returns the snapshot of the application as of the last committed command, which may be read from any thread.
+     *
+     * @see Model#getSnapshot()
+     */
+    ModelSnapshot getSnapshot();
+
+    /**
+     * Starts publishing snapshots of the application, which {@link #executeConcurrently(String)} and
+     * {@link #getSnapshot()} need, before commands are executed from other threads.
+     *
+     * @see Model#enableSnapshots()
+     */
+    void enableSnapshots();
+
     /** Returns an unmodifiable view of the filtered list of modules */
     ObservableList<Module> getFilteredModuleList();
 
@@ -44,6 +79,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of modules */
     ObservableList<RequirementCategory> getFilteredRequirementCategoryList();
 
+    /**
+     * Returns the total credits of the modules in {@code requirementCategory}.
+     *
+     * @see Model#getFulfilledCredits(RequirementCategory)
+     */
+    int getFulfilledCredits(RequirementCategory requirementCategory);
+
     /**
      * Returns an unmodifiable view of the list of commands entered by the user.
      * The list is ordered from the least recent command to the most recent command.
@@ -5,6 +5,7 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -17,7 +18,9 @@ import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.logic.parser.CommandParser;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.Model;
+import pwe.planner.model.ModelSnapshot;
 import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.SnapshotModel;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
@@ -34,7 +37,11 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final CommandHistory history;
     private final CommandParser commandParser;
+    /** The parsers of the threads executing commands concurrently, as a parser caches what it parses. */
+    private final ThreadLocal<CommandParser> concurrentCommandParsers = ThreadLocal.withInitial(CommandParser::new);
+    private final CommandCompleter commandCompleter;
     private boolean applicationModified;
+    private boolean applicationModifiedAtSavepoint;
 
     public LogicManager(Model model, Storage storage) {
         requireAllNonNull(model, storage);
@@ -43,17 +50,17 @@ public class LogicManager implements Logic {
         this.storage = storage;
         history = new CommandHistory();
         commandParser = new CommandParser();
+        commandCompleter = new CommandCompleter(model);
 
         // Set applicationModified to true whenever the models' application is modified.
         model.getApplication().addListener(observable -> applicationModified = true);
     }
 
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
         requireNonNull(commandText);
 
         logger.info("----------------[USER COMMAND][" + commandText + "]");
-        applicationModified = false;
 
         CommandResult commandResult;
         try {
@@ -63,16 +70,96 @@ public class LogicManager implements Logic {
             history.add(commandText);
         }
 
-        if (applicationModified) {
-            logger.info("Application modified, saving to file.");
-            try {
-                storage.saveApplication(model.getApplication());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+        saveIfModified();
+        return commandResult;
+    }
+
+    /**
+     * Executes {@code command}, which was parsed from {@code commandText}, like {@link #execute(String)}, but leaves
+     * the application to be saved by {@link #saveIfModified()}, so that many commands can be saved at once.
+     */
+    synchronized CommandResult executeWithoutSaving(Command command, String commandText) throws CommandException {
+        requireAllNonNull(command, commandText);
+
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        try {
+            return command.execute(model, history);
+        } finally {
+            history.add(commandText);
         }
+    }
 
-        return commandResult;
+    /**
+     * Saves the application if it has been modified since it was last saved.
+     * If the application cannot be saved, it is saved again by the next call.
+     *
+     * @throws CommandException If the application cannot be saved, with the {@code IOException} as its cause.
+     */
+    synchronized void saveIfModified() throws CommandException {
+        if (!applicationModified) {
+            return;
+        }
+
+        logger.info("Application modified, saving to file.");
+        try {
+            storage.saveApplication(model.getApplication());
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+        applicationModified = false;
+    }
+
+    /**
+     * Sets a savepoint in the model, which the changes of the commands executed afterwards can be rolled back to by
+     * {@link #rollbackToSavepoint()}. Read-only commands do not see these changes until the savepoint is released.
+     */
+    synchronized void setSavepoint() {
+        model.setSavepoint();
+        applicationModifiedAtSavepoint = applicationModified;
+    }
+
+    /**
+     * Keeps the changes made since the savepoint, and makes them visible to read-only commands.
+     */
+    synchronized void releaseSavepoint() {
+        model.releaseSavepoint();
+    }
+
+    /**
+     * Discards every change made since the savepoint.
+     */
+    synchronized void rollbackToSavepoint() {
+        model.rollbackToSavepoint();
+        // the application is as it was at the savepoint, so it only needs saving if it did then
+        applicationModified = applicationModifiedAtSavepoint;
+    }
+
+    @Override
+    public CommandResult executeConcurrently(String commandText) throws CommandException, ParseException {
+        requireNonNull(commandText);
+
+        Command command = concurrentCommandParsers.get().parseCommand(commandText);
+        if (!command.isReadOnly()) {
+            // the command is parsed again by execute, which also records it in the history while holding the lock
+            return execute(commandText);
+        }
+
+        logger.info("----------------[SNAPSHOT COMMAND][" + commandText + "]");
+        return command.execute(getSnapshotModel(), new CommandHistory());
+    }
+
+    /**
+     * Returns a read-only model over the latest snapshot, on which read-only commands can be executed from any thread.
+     */
+    SnapshotModel getSnapshotModel() {
+        return new SnapshotModel(model.getSnapshot(), model.getParallelSuggester());
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+
+        return commandCompleter.getCompletions(commandText);
     }
 
     @Override
@@ -80,6 +167,16 @@ public class LogicManager implements Logic {
         return model.getApplication();
     }
 
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return model.getSnapshot();
+    }
+
+    @Override
+    public synchronized void enableSnapshots() {
+        model.enableSnapshots();
+    }
+
     @Override
     public ObservableList<Module> getFilteredModuleList() {
         return model.getFilteredModuleList();
@@ -95,6 +192,11 @@ public class LogicManager implements Logic {
         return model.getFilteredRequirementCategoryList();
     }
 
+    @Override
+    public int getFulfilledCredits(RequirementCategory requirementCategory) {
+        return model.getFulfilledCredits(requirementCategory);
+    }
+
     @Override
     public ObservableList<String> getHistory() {
         return history.getHistory();
@@ -8,6 +8,7 @@ import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Application;
 import pwe.planner.model.Model;
+import pwe.planner.model.MutationBatch;
 
 /**
  * Clears all existing data in {@link Application}, and populates the initial (empty)
@@ -46,16 +47,18 @@ public class ClearCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        // initialize with default constructor
-        if (panelToClear.isEmpty()) {
-            model.setApplication(getInitialApplication());
-        } else {
-            if (panelToClear.equals(PLANNER)) {
-                model.resetPlanner();
-            } else if (panelToClear.equals(REQUIREMENT)) {
-                model.resetRequirement();
+        try (MutationBatch batch = model.batch()) {
+            // initialize with default constructor
+            if (panelToClear.isEmpty()) {
+                model.setApplication(getInitialApplication());
             } else {
-                throw new CommandException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+                if (panelToClear.equals(PLANNER)) {
+                    model.resetPlanner();
+                } else if (panelToClear.equals(REQUIREMENT)) {
+                    model.resetRequirement();
+                } else {
+                    throw new CommandException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+                }
             }
         }
 
@@ -19,4 +19,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException;
 
+    /**
+     * Returns true if the command never modifies the application, so that it can be executed on a
+     * {@link pwe.planner.model.SnapshotModel} instead of the model itself.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
@@ -25,6 +25,7 @@ import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Application;
 import pwe.planner.model.Model;
+import pwe.planner.model.MutationBatch;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Credits;
 import pwe.planner.model.module.Module;
@@ -133,18 +134,19 @@ public class EditCommand extends Command {
         }
 
         // Edit and cascade the changes of the module to the rest of the entire application
-        model.editModule(moduleToEdit, editedModule);
-        model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        try (MutationBatch batch = model.batch()) {
+            model.editModule(moduleToEdit, editedModule);
+            model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        }
         model.commitApplication();
 
         // Get latest copy of edited module after cascading changes
-        Optional<Module> editedModuleInModuleList = model.getFilteredModuleList().stream()
-                .filter(module -> editedModule.getCode().equals(module.getCode())).findFirst();
+        Module editedModuleInModuleList = model.getModuleByCode(editedModule.getCode());
 
-        assert editedModuleInModuleList.isPresent();
+        assert editedModuleInModuleList != null;
 
         String successMessage = String.format(MESSAGE_EDIT_MODULE_SUCCESS, moduleToEdit.getCode(),
-                editedModuleInModuleList.get());
+                editedModuleInModuleList);
         return new CommandResult(successMessage);
     }
 
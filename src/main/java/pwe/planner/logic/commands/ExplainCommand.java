@@ -0,0 +1,94 @@
+package pwe.planner.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.model.Model;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.ModuleWordIndex;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.query.QueryPlan;
+import pwe.planner.model.query.QueryPlanner;
+import pwe.planner.model.query.ScanPlan;
+
+/**
+ * Runs a {@code find} or {@code planner_show} command, and shows how its search expression was evaluated, together
+ * with the time taken by each stage.
+ */
+public class ExplainCommand extends Command {
+
+    public static final String COMMAND_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs a " + FindCommand.COMMAND_WORD + " or " + PlannerShowCommand.COMMAND_WORD
+            + " command, and shows how its search conditions were evaluated.\n"
+            + "Parameters: " + FindCommand.COMMAND_WORD + "|" + PlannerShowCommand.COMMAND_WORD + " EXPRESSION\n"
+            + "Example: " + COMMAND_WORD + " " + FindCommand.COMMAND_WORD + " name/Programming && tag/core";
+
+    public static final String MESSAGE_SUCCESS = "%1$s\nQuery plan (planned in %2$s):\n%3$s";
+
+    private final FindCommand findCommand;
+    private final PlannerShowCommand plannerShowCommand;
+
+    /**
+     * Creates an ExplainCommand that runs and explains {@code findCommand}.
+     */
+    public ExplainCommand(FindCommand findCommand) {
+        requireNonNull(findCommand);
+
+        this.findCommand = findCommand;
+        this.plannerShowCommand = null;
+    }
+
+    /**
+     * Creates an ExplainCommand that runs and explains {@code plannerShowCommand}.
+     */
+    public ExplainCommand(PlannerShowCommand plannerShowCommand) {
+        requireNonNull(plannerShowCommand);
+
+        this.findCommand = null;
+        this.plannerShowCommand = plannerShowCommand;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+
+        String explanation;
+        long planningNanos;
+        CommandResult result;
+        if (findCommand != null) {
+            ModuleWordIndex index = model.getModuleWordIndex();
+            long startTime = System.nanoTime();
+            QueryPlan plan = QueryPlanner.plan(findCommand.getPredicate(), index);
+            planningNanos = System.nanoTime() - startTime;
+            CodeSet matchingCodes = plan.execute(index);
+            explanation = plan.explain();
+            // the modules are filtered by the result of the explained plan, instead of planning the search again
+            result = new FindCommand(QueryPlanner.bind(findCommand.getPredicate(), index, matchingCodes))
+                    .execute(model, history);
+        } else {
+            List<DegreePlanner> degreePlanners = model.getApplication().getDegreePlannerList();
+            long startTime = System.nanoTime();
+            ScanPlan<DegreePlanner> plan = ScanPlan.of(plannerShowCommand.getPredicate(), degreePlanners);
+            planningNanos = System.nanoTime() - startTime;
+            plan.execute(degreePlanners);
+            explanation = plan.explain();
+            result = plannerShowCommand.execute(model, history);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, result.getFeedbackToUser(),
+                String.format("%.3f ms", planningNanos / 1e6), explanation));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExplainCommand // instanceof handles nulls
+                && Objects.equals(findCommand, ((ExplainCommand) other).findCommand)
+                && Objects.equals(plannerShowCommand, ((ExplainCommand) other).plannerShowCommand));
+    }
+}
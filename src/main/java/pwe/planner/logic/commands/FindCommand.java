@@ -54,6 +54,15 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    public Predicate<Module> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
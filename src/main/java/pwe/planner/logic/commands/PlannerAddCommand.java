@@ -6,8 +6,6 @@ import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -16,7 +14,7 @@ import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Model;
 import pwe.planner.model.module.Code;
-import pwe.planner.model.module.Module;
+import pwe.planner.model.module.CodeSet;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.planner.Semester;
 import pwe.planner.model.planner.Year;
@@ -78,16 +76,13 @@ public class PlannerAddCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        DegreePlanner selectedDegreePlanner = model.getApplication().getDegreePlannerList().stream()
-                .filter(degreePlanner -> (degreePlanner.getYear().equals(yearToAddTo)
-                        && degreePlanner.getSemester().equals(semesterToAddTo))).findFirst().orElse(null);
+        DegreePlanner selectedDegreePlanner = model.getDegreePlanner(yearToAddTo, semesterToAddTo);
         if (selectedDegreePlanner == null) {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_DEGREE_PLANNER, yearToAddTo, semesterToAddTo));
         }
 
-        Set<Code> duplicatePlannerCodes = codesToAdd.stream().filter(codesToCheck -> model.getApplication()
-                .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                .anyMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(codesToCheck)))
+        Set<Code> duplicatePlannerCodes = codesToAdd.stream()
+                .filter(codeToCheck -> model.getDegreePlannerByCode(codeToCheck) != null)
                 .collect(Collectors.toSet());
         if (!duplicatePlannerCodes.isEmpty()) {
             // Converts a set to a string to remove the brackets of set.
@@ -111,18 +106,18 @@ public class PlannerAddCommand extends Command {
         }
 
         // Returns the co-requisite(s) of codes to add.
-        Set<Code> coreqsOfCodesToAdd = new HashSet<>();
-        codesToAdd.stream().map(model::getModuleByCode).map(Module::getCorequisites)
-                .forEach(coreqsOfCodesToAdd::addAll);
+        CodeSet coreqsOfCodesToAdd = new CodeSet();
+        codesToAdd.stream().map(model::getCorequisiteCluster).forEach(coreqsOfCodesToAdd::addAll);
+        coreqsOfCodesToAdd.removeAll(codesToAdd);
         // Returns the invalid co-requisite(s) of codes to add.
-        Set<Code> invalidSemesterCoreqs = coreqsOfCodesToAdd.stream()
+        CodeSet invalidSemesterCoreqs = coreqsOfCodesToAdd.stream()
                 .filter(codeToCheck -> !model.getModuleByCode(codeToCheck).getSemesters().contains(semesterToAddTo))
-                    .collect(Collectors.toSet());
+                    .collect(Collectors.toCollection(CodeSet::new));
         if (!invalidSemesterCoreqs.isEmpty()) {
             // Returns the codes to add that has invalid co-requisite(s).
             Set<Code> invalidCodesToAdd = codesToAdd.stream()
-                    .filter(codeToCheck -> !Collections.disjoint(model.getModuleByCode(codeToCheck)
-                            .getCorequisites(), invalidSemesterCoreqs)).collect(Collectors.toSet());
+                    .filter(codeToCheck -> invalidSemesterCoreqs.intersects(model.getCorequisiteCluster(codeToCheck)))
+                    .collect(Collectors.toSet());
 
             String invalidCodeString = StringUtil.joinStreamAsString(invalidCodesToAdd.stream().sorted());
             String invalidSemCoreqsString = StringUtil.joinStreamAsString(invalidSemesterCoreqs.stream().sorted());
@@ -131,32 +126,32 @@ public class PlannerAddCommand extends Command {
                     invalidCodeString, semesterToAddTo));
         }
 
-        Set<Code> selectedCodeSet = new HashSet<>(selectedDegreePlanner.getCodes());
-        Set<Code> coreqsAdded = new HashSet<>();
+        CodeSet plannerCodeSet = new CodeSet(selectedDegreePlanner.getCodes());
+        CodeSet selectedCodeSet = new CodeSet(plannerCodeSet);
+        CodeSet coreqsAdded = new CodeSet();
 
         for (Code codeToAdd : codesToAdd) {
             selectedCodeSet.add(codeToAdd);
-            // Gets the module for the current code to add.
-            Module module = model.getModuleByCode(codeToAdd);
+            // Gets the co-requisite cluster of the current code to add, which includes the code itself.
+            Set<Code> corequisiteCluster = model.getCorequisiteCluster(codeToAdd);
 
             // Returns the relevant duplicate co-requisite(s) of the code to add in the entire degree plan.
-            Set<Code> duplicateCoreqs = module.getCorequisites().stream().filter(coreqToCheck -> model.getApplication()
-                    .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                    .anyMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(coreqToCheck)))
-                    .collect(Collectors.toSet());
-            Set<Code> invalidCoreqs = new HashSet<>(duplicateCoreqs);
+            CodeSet duplicateCoreqs = corequisiteCluster.stream()
+                    .filter(coreqToCheck -> model.getDegreePlannerByCode(coreqToCheck) != null)
+                    .collect(Collectors.toCollection(CodeSet::new));
+            CodeSet invalidCoreqs = new CodeSet(duplicateCoreqs);
             // Returns the invalid duplicate co-requisite(s) that exists in a different section of the degree plan.
-            invalidCoreqs.removeAll(selectedDegreePlanner.getCodes());
+            invalidCoreqs.removeAll(plannerCodeSet);
             if (!invalidCoreqs.isEmpty()) {
                 String invalidCoreqsString = StringUtil.joinStreamAsString(invalidCoreqs.stream().sorted());
                 String codesToAddString = StringUtil.joinStreamAsString(codesToAdd.stream().sorted());
                 throw new CommandException(String.format(MESSAGE_INVALID_COREQ, invalidCoreqsString, codesToAddString));
             }
 
-            coreqsAdded.addAll(module.getCorequisites());
+            coreqsAdded.addAll(corequisiteCluster);
 
             // Returns the valid duplicate co-requisite(s) that exists in the selected section of the degree plan.
-            duplicateCoreqs.retainAll(selectedDegreePlanner.getCodes());
+            duplicateCoreqs.retainAll(plannerCodeSet);
             // Records the co-requisites added for feedback to users.
             coreqsAdded.removeAll(duplicateCoreqs);
             selectedCodeSet.addAll(coreqsAdded);
@@ -19,6 +19,11 @@ public class PlannerListCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Listed all degree planners:\n%1$s";
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
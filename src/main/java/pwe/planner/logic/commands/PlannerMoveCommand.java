@@ -6,13 +6,13 @@ import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
 
-import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Model;
+import pwe.planner.model.ModelTransaction;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
@@ -84,12 +84,8 @@ public class PlannerMoveCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        DegreePlanner toFind = new DegreePlanner(destinationYear, destinationSemester, Collections.emptySet());
         DegreePlanner sourcePlanner = model.getDegreePlannerByCode(toMove);
-        DegreePlanner destinationPlanner = model.getApplication().getDegreePlannerList().stream()
-                .filter(toFind::isSameDegreePlanner)
-                .findFirst()
-                .orElse(null);
+        DegreePlanner destinationPlanner = model.getDegreePlanner(destinationYear, destinationSemester);
 
         if (sourcePlanner == null) {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_CODE, toMove));
@@ -117,14 +113,16 @@ public class PlannerMoveCommand extends Command {
                     String.format(MESSAGE_UNAVAILABLE_COREQUISITES, codesNotOfferedContent, destinationSemester));
         }
 
-        model.moveModuleBetweenPlanner(sourcePlanner, destinationPlanner, toMove);
+        try (ModelTransaction transaction = model.beginTransaction()) {
+            transaction.moveModuleBetweenPlanner(sourcePlanner, destinationPlanner, toMove);
+            transaction.commit();
+        }
 
         Set<Code> corequisites = moduleToMove.getCorequisites();
         String corequisitesMoved = corequisites.isEmpty()
                 ? "None"
                 : corequisites.stream().sorted().map(Code::toString).collect(Collectors.joining(", "));
 
-        model.commitApplication();
         return new CommandResult(
                 String.format(MESSAGE_SUCCESS, toMove, destinationYear, destinationSemester, corequisitesMoved));
     }
@@ -3,7 +3,6 @@ package pwe.planner.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
 
-import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -13,6 +12,7 @@ import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Model;
 import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 
@@ -52,9 +52,8 @@ public class PlannerRemoveCommand extends Command {
         requireNonNull(model);
 
         // Returns codes that the user wants to remove but are non-existent in the degree plan.
-        Set<Code> nonExistentPlannerCodes = codesToRemove.stream().filter(codeToCheck -> model.getApplication()
-                .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                .noneMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(codeToCheck)))
+        Set<Code> nonExistentPlannerCodes = codesToRemove.stream()
+                .filter(codeToCheck -> model.getDegreePlannerByCode(codeToCheck) == null)
                 .collect(Collectors.toSet());
         if (!nonExistentPlannerCodes.isEmpty()) {
             // Converts the set to a string to remove the square brackets.
@@ -62,15 +61,15 @@ public class PlannerRemoveCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_CODES, nonExistentCodesString));
         }
 
-        Set<Code> coreqsRemoved = new HashSet<>();
-        Set<Code> coreqsOfCodesToRemove = new HashSet<>();
+        CodeSet coreqsRemoved = new CodeSet();
+        CodeSet coreqsOfCodesToRemove = new CodeSet();
         // Adds co-requisites of codes to remove to a set.
         codesToRemove.stream().map(model::getModuleByCode).map(Module::getCorequisites)
                 .forEach(coreqsOfCodesToRemove::addAll);
 
         ObservableList<DegreePlanner> degreePlannerList = model.getApplication().getDegreePlannerList();
         for (DegreePlanner degreePlanner : degreePlannerList) {
-            Set<Code> selectedCodeSet = new HashSet<>(degreePlanner.getCodes());
+            CodeSet selectedCodeSet = new CodeSet(degreePlanner.getCodes());
             // Returns relevant codes that are not just co-requisites to the code to remove, but are also existing
             // in the selected section of the degree plan.
             coreqsOfCodesToRemove.retainAll(selectedCodeSet);
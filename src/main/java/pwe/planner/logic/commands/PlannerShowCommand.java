@@ -48,6 +48,10 @@ public class PlannerShowCommand extends Command {
         this.predicate = predicate;
     }
 
+    public Predicate<DegreePlanner> getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
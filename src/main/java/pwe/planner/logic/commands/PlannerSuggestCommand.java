@@ -1,119 +1,172 @@
 package pwe.planner.logic.commands;
 
-import static java.lang.Math.abs;
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Model;
-import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
 import pwe.planner.model.module.Credits;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.suggestion.CreditBudgetSuggester;
+import pwe.planner.model.suggestion.CreditBudgetSuggester.Suggestion;
+import pwe.planner.model.suggestion.ModuleSuggester;
+import pwe.planner.model.suggestion.ModuleToSuggest;
+import pwe.planner.model.suggestion.ParallelModuleSuggester;
 import pwe.planner.model.tag.Tag;
 
 /**
  * Suggests module(s) to take.
+ *
+ * Suggestions are found through the word index, unless the model has a {@link ParallelModuleSuggester} and the
+ * catalog is large enough for it, in which case every module is scored on the threads of the suggester instead.
  */
 public class PlannerSuggestCommand extends Command {
 
     public static final String COMMAND_WORD = "planner_suggest";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Suggests module(s) to take. "
+            + "With a year and a semester, suggests the module(s) that best fill CREDITS in that semester. "
             + "Parameters: "
             + PREFIX_CREDITS + "CREDITS "
+            + "[" + PREFIX_YEAR + "YEAR " + PREFIX_SEMESTER + "SEMESTER] "
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_CREDITS + "2 "
             + PREFIX_TAG + "algorithms "
-            + PREFIX_TAG + "c";
+            + PREFIX_TAG + "c\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CREDITS + "20 "
+            + PREFIX_YEAR + "1 "
+            + PREFIX_SEMESTER + "2 "
+            + PREFIX_TAG + "algorithms";
 
     public static final String MESSAGE_SUCCESS = "The lists are sorted with the more recommended module(s)"
             + " in front.\nModule(s) recommended: %1$s\nModule(s) with relevant"
             + " tags: %2$s\nModule(s) with matching credits: %3$s";
-    private static final int MAX_NUMBER_OF_ELEMENETS = 10;
-    private static final int VALUE_OF_NO_DIFFERENCE = 0;
+    public static final String MESSAGE_SORTED = "The lists are sorted with the more recommended module(s) in front.";
+    public static final String MESSAGE_CATEGORY = "\n%1$s: %2$s";
+    public static final String MESSAGE_CONSTRAINTS = "Number of modules recommended should be positive, and at least "
+            + "one list of modules should be shown.";
+    public static final String MESSAGE_BUDGET_SUCCESS = "Module(s) that fill %1$s of %2$s credits in year %3$s "
+            + "semester %4$s: %5$s";
+    public static final String MESSAGE_BUDGET_NOT_OPTIMAL = "\n[Tip] The search stopped early, so there may be "
+            + "module(s) that fill more credits.";
+    public static final String MESSAGE_NONEXISTENT_DEGREE_PLANNER = "You cannot fill year %1$s semester %2$s which "
+            + "does not exist in the degree plan.";
+    public static final int DEFAULT_MAX_SUGGESTIONS = 10;
 
     private Credits creditsToFind;
     private Set<Tag> tagsToFind;
+    private int maxSuggestions;
+    private Set<Category> categories;
+    private Year yearToFill;
+    private Semester semesterToFill;
 
     /**
-     * Creates a PlannerSuggestCommand to suggest {@code codes} to take.
+     * Creates a PlannerSuggestCommand to suggest the {@link #DEFAULT_MAX_SUGGESTIONS} modules that best match
+     * {@code bestCredits} and {@code tags}, and show all {@link Category categories} of them.
      */
     public PlannerSuggestCommand(Credits bestCredits, Set<Tag> tags) {
-        requireAllNonNull(bestCredits, tags);
+        this(bestCredits, tags, DEFAULT_MAX_SUGGESTIONS, EnumSet.allOf(Category.class));
+    }
+
+    /**
+     * Creates a PlannerSuggestCommand to suggest the {@code maxSuggestions} modules that best match
+     * {@code bestCredits} and {@code tags}, and show the given {@code categories} of them.
+     */
+    public PlannerSuggestCommand(Credits bestCredits, Set<Tag> tags, int maxSuggestions, Set<Category> categories) {
+        requireAllNonNull(bestCredits, tags, categories);
+        checkArgument(maxSuggestions > 0 && !categories.isEmpty(), MESSAGE_CONSTRAINTS);
 
         creditsToFind = bestCredits;
         tagsToFind = tags;
+        this.maxSuggestions = maxSuggestions;
+        this.categories = EnumSet.copyOf(categories);
+    }
+
+    /**
+     * Creates a PlannerSuggestCommand to suggest the modules that best fill {@code budget} credits in {@code year}
+     * {@code semester}, with the most {@code tags}.
+     */
+    public PlannerSuggestCommand(Credits budget, Set<Tag> tags, Year year, Semester semester) {
+        this(budget, tags);
+        requireAllNonNull(year, semester);
+
+        yearToFill = year;
+        semesterToFill = semester;
     }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) {
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        Set<Code> plannerCodes = new HashSet<>();
+        CodeSet plannerCodes = new CodeSet();
         // Adds all the codes in the degree plan to a set.
         model.getApplication().getDegreePlannerList()
                 .stream().map(DegreePlanner::getCodes).forEach(plannerCodes::addAll);
 
-        ObservableList<Module> moduleList = model.getApplication().getModuleList();
-        List<ModuleToSuggest> modulesToSuggest = new ArrayList<>();
-        List<ModuleToSuggest> modulesWithMatchingTags = new ArrayList<>();
-        List<ModuleToSuggest> modulesWithMatchingCredits = new ArrayList<>();
-        for (Module module : moduleList) {
-            // Finds the matching tags for each module.
-            Set<Tag> matchingTags = new HashSet<>(tagsToFind);
-            matchingTags.retainAll(module.getTags());
-
-            // Finds the credits difference.
-            int credit = Integer.valueOf((module.getCredits().toString()));
-            int bestCredits = Integer.valueOf(creditsToFind.toString());
-            int creditDifference = abs(credit - bestCredits);
-
-            ModuleToSuggest moduleToSuggest =
-                    new ModuleToSuggest(creditDifference, matchingTags.size(), module.getCode());
-            modulesToSuggest.add(moduleToSuggest);
-
-            if (!matchingTags.isEmpty()) {
-                modulesWithMatchingTags.add(moduleToSuggest);
-            }
-
-            if (creditDifference == VALUE_OF_NO_DIFFERENCE) {
-                modulesWithMatchingCredits.add(moduleToSuggest);
-            }
+        if (yearToFill != null) {
+            return fillBudget(model, plannerCodes);
+        }
+
+        // The recommended modules are sorted with the more recommended modules in front, and the modules in every
+        // other category are the recommended modules that satisfy its condition, in the same order.
+        List<ModuleToSuggest> modulesToSuggest;
+        List<Module> modules = model.getApplication().getModuleList();
+        ParallelModuleSuggester suggester = model.getParallelSuggester();
+        if (suggester != null && suggester.shouldScore(modules.size())) {
+            modulesToSuggest = suggester.suggest(modules, creditsToFind, tagsToFind, plannerCodes, maxSuggestions);
+        } else {
+            modulesToSuggest = new ModuleSuggester(model.getModuleWordIndex())
+                    .suggest(creditsToFind, tagsToFind, plannerCodes, maxSuggestions);
+        }
+
+        StringBuilder message = new StringBuilder(MESSAGE_SORTED);
+        for (Category category : categories) {
+            // Converts the list to a string to remove the brackets of list.
+            String codesString = StringUtil.joinStreamAsString(modulesToSuggest.stream()
+                    .filter(category.condition).map(ModuleToSuggest::getModuleCode));
+            message.append(String.format(MESSAGE_CATEGORY, category.title, codesString));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    /**
+     * Suggests the modules that best fill the credits to find in the semester to fill, leaving out
+     * {@code plannerCodes}.
+     */
+    private CommandResult fillBudget(Model model, CodeSet plannerCodes) throws CommandException {
+        if (model.getDegreePlanner(yearToFill, semesterToFill) == null) {
+            throw new CommandException(String.format(MESSAGE_NONEXISTENT_DEGREE_PLANNER, yearToFill, semesterToFill));
         }
 
-        // Returns a sorted list of codes to suggest based on both credits and tags.
-        List<Code> codesToSuggest = modulesToSuggest.stream().sorted().map(ModuleToSuggest::getModuleCode)
-                .filter(code -> !plannerCodes.contains(code)).limit(MAX_NUMBER_OF_ELEMENETS)
-                    .collect(Collectors.toList());
-        // Converts the list to a string to remove the brackets of list.
-        String suggestionString = StringUtil.joinStreamAsString(codesToSuggest.stream());
-
-        // Returns a sorted list of codes with matching tags in the recommendation list.
-        List<Code> codesWithMatchingTags = modulesWithMatchingTags.stream().sorted().map(ModuleToSuggest::getModuleCode)
-                .filter(code -> !plannerCodes.contains(code) && codesToSuggest.contains(code))
-                    .collect(Collectors.toList());
-        String matchingTagCodeString = StringUtil.joinStreamAsString(codesWithMatchingTags.stream());
-
-        // Returns a sorted list of codes with matching credits in the recommendation list.
-        List<Code> codesWithMatchingCredits = modulesWithMatchingCredits.stream().sorted()
-                .map(ModuleToSuggest::getModuleCode).filter(code -> !plannerCodes.contains(code) && codesToSuggest
-                        .contains(code)).collect(Collectors.toList());
-        String matchingCreditCodeString = StringUtil.joinStreamAsString(codesWithMatchingCredits.stream());
-
-        return new CommandResult(String.format(MESSAGE_SUCCESS, suggestionString, matchingTagCodeString,
-                matchingCreditCodeString));
+        Suggestion suggestion = new CreditBudgetSuggester(model.getModuleWordIndex(), model::getCorequisiteCluster)
+                .suggest(creditsToFind, tagsToFind, semesterToFill, plannerCodes);
+        String message = String.format(MESSAGE_BUDGET_SUCCESS, suggestion.getCredits(), creditsToFind, yearToFill,
+                semesterToFill, StringUtil.joinStreamAsString(suggestion.getCodes().stream()));
+        return new CommandResult(suggestion.isOptimal() ? message : message + MESSAGE_BUDGET_NOT_OPTIMAL);
     }
 
     @Override
@@ -121,50 +174,27 @@ public class PlannerSuggestCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof PlannerSuggestCommand // instanceof handles nulls
                 && tagsToFind.equals(((PlannerSuggestCommand) other).tagsToFind)
-                && creditsToFind.equals(((PlannerSuggestCommand) other).creditsToFind));
+                && creditsToFind.equals(((PlannerSuggestCommand) other).creditsToFind)
+                && maxSuggestions == ((PlannerSuggestCommand) other).maxSuggestions
+                && categories.equals(((PlannerSuggestCommand) other).categories)
+                && Objects.equals(yearToFill, ((PlannerSuggestCommand) other).yearToFill)
+                && Objects.equals(semesterToFill, ((PlannerSuggestCommand) other).semesterToFill));
     }
 
     /**
-     * Creates a ModuleToSuggest object for sorting.
+     * The lists of modules that are shown, each of which contains the recommended modules that satisfy its condition.
      */
-    public class ModuleToSuggest implements Comparable<ModuleToSuggest> {
-        private int creditDifference;
-        private int numberOfMatchingTags;
-        private Code moduleCode;
-
-        public ModuleToSuggest(int creditDifference, int numberOfMatchingTags, Code moduleCode) {
-            this.creditDifference = creditDifference;
-            this.numberOfMatchingTags = numberOfMatchingTags;
-            this.moduleCode = moduleCode;
-        }
-
-        public int getCreditDifference() {
-            return creditDifference;
-        }
+    public enum Category {
+        RECOMMENDED("Module(s) recommended", suggestion -> true),
+        MATCHING_TAGS("Module(s) with relevant tags", suggestion -> suggestion.getNumberOfMatchingTags() > 0),
+        MATCHING_CREDITS("Module(s) with matching credits", suggestion -> suggestion.getCreditDifference() == 0);
 
-        public int getNumberOfMatchingTags() {
-            return numberOfMatchingTags;
-        }
-
-        public Code getModuleCode() {
-            return moduleCode;
-        }
+        private final String title;
+        private final Predicate<ModuleToSuggest> condition;
 
-        /**
-         * @param moduleToCompare A valid module to suggest
-         * @return number of matching tags difference between two modules to suggest, or
-         * credit difference between two modules if tie. If both tie, sort according to
-         * alphabetical order.
-         */
-        @Override
-        public int compareTo(ModuleToSuggest moduleToCompare) {
-            if (this.getNumberOfMatchingTags() == moduleToCompare.getNumberOfMatchingTags()
-                && this.getCreditDifference() == moduleToCompare.getCreditDifference()) {
-                return this.getModuleCode().compareTo(moduleToCompare.getModuleCode());
-            } else if (this.getNumberOfMatchingTags() == moduleToCompare.getNumberOfMatchingTags()) {
-                return this.getCreditDifference() - moduleToCompare.getCreditDifference();
-            }
-            return moduleToCompare.getNumberOfMatchingTags() - this.getNumberOfMatchingTags();
+        Category(String title, Predicate<ModuleToSuggest> condition) {
+            this.title = title;
+            this.condition = condition;
         }
     }
 }
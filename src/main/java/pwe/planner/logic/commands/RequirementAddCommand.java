@@ -9,7 +9,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
@@ -101,11 +100,8 @@ public class RequirementAddCommand extends Command {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_CODE, currentRequirementCategory.getName()));
         }
 
-        Stream<RequirementCategory> requirementCategories = model.getApplication()
-                .getRequirementCategoryList().stream();
-
-        boolean isAnyCodeInRequirementCategories = requirementCategories.anyMatch(reqCat -> toAdd.stream()
-                .anyMatch(code -> reqCat.getCodeSet().contains(code)));
+        boolean isAnyCodeInRequirementCategories = toAdd.stream()
+                .anyMatch(code -> model.getRequirementCategoryByCode(code) != null);
 
         if (isAnyCodeInRequirementCategories) {
             throw new CommandException(MESSAGE_EXISTING_CODE);
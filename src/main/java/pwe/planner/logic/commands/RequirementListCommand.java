@@ -18,6 +18,11 @@ public class RequirementListCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Successfully listed all requirement categories: \n%1$s";
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
 
@@ -29,9 +34,7 @@ public class RequirementListCommand extends Command {
         for (RequirementCategory requirementCategory : requirementCategories) {
             requirementListContent.append(requirementCategory.getName()).append(" ");
 
-            int currentCredits = requirementCategory.getCodeSet().stream()
-                    .map(code -> model.getModuleByCode(code).getCredits().toString())
-                    .map(Integer::parseInt).reduce(0, (totalCredits, credit) -> totalCredits + credit);
+            int currentCredits = model.getFulfilledCredits(requirementCategory);
 
             requirementListContent.append("(").append(currentCredits).append("/")
                     .append(requirementCategory.getCredits()).append(" Modular Credits Fulfilled) \n");
@@ -19,6 +19,7 @@ import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Model;
+import pwe.planner.model.ModelTransaction;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.requirement.RequirementCategory;
@@ -113,42 +114,48 @@ public class RequirementMoveCommand extends Command {
                 .filter(requirementCategory -> requirementCategory.getCodeSet()
                 .containsAll(toMove)).findFirst().orElse(null);
 
-        //If all codes to be moved is from a requirement category only, all the codes can be moved together
-        if (singleSourceRequirementCategory != null) {
-            //Check if destination code contains codes to move for edge cases
-            if (!destinationRequirementCategory.getCodeSet().containsAll(toMove)) {
-                RequirementCategory editedSourceRequirementCategory =
-                        getRequirementCategoryWithCodesRemoved(singleSourceRequirementCategory, toMove);
-                RequirementCategory editedDestinationRequirementCategory =
-                        getRequirementCategoryWithCodesAdded(destinationRequirementCategory, toMove);
-
-                model.setRequirementCategory(singleSourceRequirementCategory, editedSourceRequirementCategory);
-                model.setRequirementCategory(destinationRequirementCategory, editedDestinationRequirementCategory);
-            }
-        } else {
-            for (Code code : toMove) {
+        try (ModelTransaction transaction = model.beginTransaction()) {
+            //If all codes to be moved is from a requirement category only, all the codes can be moved together
+            if (singleSourceRequirementCategory != null) {
                 //Check if destination code contains codes to move for edge cases
-                if (!destinationRequirementCategory.getCodeSet().contains(code)) {
-                    RequirementCategory sourceRequirementCategory = requirementCategories.stream()
-                            .filter(reqCat -> reqCat.getCodeSet().contains(code)).findFirst().orElse(null);
-
+                if (!destinationRequirementCategory.getCodeSet().containsAll(toMove)) {
                     RequirementCategory editedSourceRequirementCategory =
-                            getRequirementCategoryWithCodeRemoved(sourceRequirementCategory, code);
+                            getRequirementCategoryWithCodesRemoved(singleSourceRequirementCategory, toMove);
                     RequirementCategory editedDestinationRequirementCategory =
-                            getRequirementCategoryWithCodeAdded(destinationRequirementCategory, code);
-
-                    model.setRequirementCategory(sourceRequirementCategory, editedSourceRequirementCategory);
-                    model.setRequirementCategory(destinationRequirementCategory, editedDestinationRequirementCategory);
+                            getRequirementCategoryWithCodesAdded(destinationRequirementCategory, toMove);
 
-                    //reinitialize the updated destination requirement category
-                    destinationRequirementCategory = model.getRequirementCategory(toFind);
+                    transaction.setRequirementCategory(singleSourceRequirementCategory,
+                            editedSourceRequirementCategory);
+                    transaction.setRequirementCategory(destinationRequirementCategory,
+                            editedDestinationRequirementCategory);
+                }
+            } else {
+                for (Code code : toMove) {
+                    //Check if destination code contains codes to move for edge cases
+                    if (!destinationRequirementCategory.getCodeSet().contains(code)) {
+                        RequirementCategory sourceRequirementCategory = requirementCategories.stream()
+                                .filter(reqCat -> reqCat.getCodeSet().contains(code)).findFirst().orElse(null);
+
+                        RequirementCategory editedSourceRequirementCategory =
+                                getRequirementCategoryWithCodeRemoved(sourceRequirementCategory, code);
+                        RequirementCategory editedDestinationRequirementCategory =
+                                getRequirementCategoryWithCodeAdded(destinationRequirementCategory, code);
+
+                        transaction.setRequirementCategory(sourceRequirementCategory, editedSourceRequirementCategory);
+                        transaction.setRequirementCategory(destinationRequirementCategory,
+                                editedDestinationRequirementCategory);
+
+                        //reinitialize the updated destination requirement category
+                        destinationRequirementCategory = model.getRequirementCategory(toFind);
+                    }
                 }
             }
+
+            transaction.commit();
         }
 
         String codesMoved = StringUtil.joinStreamAsString(toMove.stream().sorted());
 
-        model.commitApplication();
         return new CommandResult(String.format(MESSAGE_SUCCESS, codesMoved, destinationRequirementCategory.getName()));
     }
 
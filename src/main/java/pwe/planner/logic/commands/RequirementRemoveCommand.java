@@ -13,6 +13,7 @@ import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Model;
+import pwe.planner.model.ModelTransaction;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.requirement.RequirementCategory;
 
@@ -89,36 +90,40 @@ public class RequirementRemoveCommand extends Command {
                 .filter(requirementCategory -> requirementCategory.getCodeSet()
                         .containsAll(toRemove)).findFirst().orElse(null);
 
-        //If all codes to be removed is from a requirement category only, all the codes can be removed together
-        if (singleSourceRequirementCategory != null) {
-            Set<Code> newCodeSet = new HashSet<>(singleSourceRequirementCategory.getCodeSet());
-            newCodeSet.removeAll(toRemove);
+        try (ModelTransaction transaction = model.beginTransaction()) {
+            //If all codes to be removed is from a requirement category only, all the codes can be removed together
+            if (singleSourceRequirementCategory != null) {
+                Set<Code> newCodeSet = new HashSet<>(singleSourceRequirementCategory.getCodeSet());
+                newCodeSet.removeAll(toRemove);
 
-            RequirementCategory editedRequirementCategory = new RequirementCategory(
-                    singleSourceRequirementCategory.getName(), singleSourceRequirementCategory.getCredits(),
-                    newCodeSet);
+                RequirementCategory editedRequirementCategory = new RequirementCategory(
+                        singleSourceRequirementCategory.getName(), singleSourceRequirementCategory.getCredits(),
+                        newCodeSet);
 
-            model.setRequirementCategory(singleSourceRequirementCategory, editedRequirementCategory);
-        } else {
-            //If all codes to be removed are from multiple requirement category, have to remove the codes individually
-            for (Code code : toRemove) {
-                RequirementCategory sourceRequirementCategory = requirementCategories.stream()
-                        .filter(reqCat -> reqCat.getCodeSet().contains(code)).findFirst().orElse(null);
+                transaction.setRequirementCategory(singleSourceRequirementCategory, editedRequirementCategory);
+            } else {
+                //If all codes to be removed are from multiple requirement category,
+                //have to remove the codes individually
+                for (Code code : toRemove) {
+                    RequirementCategory sourceRequirementCategory = requirementCategories.stream()
+                            .filter(reqCat -> reqCat.getCodeSet().contains(code)).findFirst().orElse(null);
 
-                Set<Code> newCodeSet = new HashSet<>(sourceRequirementCategory.getCodeSet());
-                newCodeSet.remove(code);
+                    Set<Code> newCodeSet = new HashSet<>(sourceRequirementCategory.getCodeSet());
+                    newCodeSet.remove(code);
 
-                RequirementCategory editedRequirementCategory = new RequirementCategory(
-                        sourceRequirementCategory.getName(), sourceRequirementCategory.getCredits(), newCodeSet);
+                    RequirementCategory editedRequirementCategory = new RequirementCategory(
+                            sourceRequirementCategory.getName(), sourceRequirementCategory.getCredits(), newCodeSet);
 
-                model.setRequirementCategory(sourceRequirementCategory, editedRequirementCategory);
+                    transaction.setRequirementCategory(sourceRequirementCategory, editedRequirementCategory);
 
+                }
             }
+
+            transaction.commit();
         }
 
         String codesMoved = StringUtil.joinStreamAsString(toRemove.stream().sorted());
 
-        model.commitApplication();
         return new CommandResult(String.format(MESSAGE_SUCCESS, codesMoved));
     }
 
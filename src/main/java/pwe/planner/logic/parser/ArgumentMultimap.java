@@ -31,9 +31,7 @@ public class ArgumentMultimap {
     public void put(Prefix prefix, String argValue) {
         requireAllNonNull(prefix, argValue);
 
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>()).add(argValue);
     }
 
     /**
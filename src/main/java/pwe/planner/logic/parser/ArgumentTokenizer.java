@@ -2,12 +2,6 @@ package pwe.planner.logic.parser;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
  *     e.g. {@code some preamble text t/ 11.00 t/12.00 k/ m/ July}  where prefixes are {@code t/ k/ m/}.<br>
@@ -18,10 +12,14 @@ import java.util.stream.Collectors;
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
      *
+     * The arguments string is scanned once from left to right, and each argument value is copied out of it once.
+     *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
@@ -29,142 +27,62 @@ public class ArgumentTokenizer {
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
         requireAllNonNull(argsString, prefixes);
 
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        assert argsString != null;
-        assert prefixes != null;
-
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        assert argsString != null;
-        assert prefix != null;
-
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartPos = 0;
+        // a valid prefix always follows a whitespace, so only the positions after a whitespace are checked
+        for (int whitespacePos = argsString.indexOf(' '); whitespacePos != -1;
+                whitespacePos = argsString.indexOf(' ', whitespacePos + 1)) {
+            int prefixPos = whitespacePos + 1;
+            Prefix prefix = findPrefixAt(argsString, prefixPos, prefixes);
+            if (prefix == null) {
+                continue;
+            }
+
+            argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, prefixPos));
+            currentPrefix = prefix;
+            valueStartPos = prefixPos + prefix.getPrefix().length();
         }
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, argsString.length()));
 
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        assert argsString != null;
-        assert prefix != null;
-
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+        return argMultimap;
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
+     * Returns the first of {@code prefixes} that occurs in {@code argsString} at index {@code position}, or null if
+     * there is none.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * E.g if {@code argsString} = "e/hi p/900" and {@code prefixes} = "p/", this method returns "p/" for
+     * {@code position} = 5, and null for every other position. Note that an occurrence is only valid if there is a
+     * whitespace before it, which is checked by the caller.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
+    private static Prefix findPrefixAt(String argsString, int position, Prefix... prefixes) {
         assert argsString != null;
-        assert prefixPositions != null;
-
-        // Sort by start position
-        prefixPositions.sort(Comparator.comparingInt(PrefixPosition::getStartPosition));
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
+        assert prefixes != null;
 
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        for (Prefix prefix : prefixes) {
+            if (argsString.startsWith(prefix.getPrefix(), position)) {
+                return prefix;
+            }
         }
-
-        return argMultimap;
+        return null;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the trimmed value of the argument in the arguments string that starts at {@code valueStartPos} and ends
+     * before {@code valueEndPos}.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
+    private static String extractArgumentValue(String argsString, int valueStartPos, int valueEndPos) {
         assert argsString != null;
-        assert currentPrefixPosition != null;
-        assert nextPrefixPosition != null;
 
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            requireAllNonNull(prefix, startPosition);
-
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        // trims before copying, so that the value is only copied once
+        while (valueStartPos < valueEndPos && argsString.charAt(valueStartPos) <= ' ') {
+            valueStartPos++;
         }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
+        while (valueEndPos > valueStartPos && argsString.charAt(valueEndPos - 1) <= ' ') {
+            valueEndPos--;
         }
+        return argsString.substring(valueStartPos, valueEndPos);
     }
 
 }
@@ -8,11 +8,11 @@ import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
 import static pwe.planner.logic.parser.Operator.getOperatorFromString;
-import static pwe.planner.logic.parser.ParserUtil.parseCode;
+import static pwe.planner.logic.parser.ParserUtil.parseCodeKeyword;
 import static pwe.planner.logic.parser.ParserUtil.parseCredits;
-import static pwe.planner.logic.parser.ParserUtil.parseName;
+import static pwe.planner.logic.parser.ParserUtil.parseNameKeyword;
 import static pwe.planner.logic.parser.ParserUtil.parseSemester;
-import static pwe.planner.logic.parser.ParserUtil.parseTag;
+import static pwe.planner.logic.parser.ParserUtil.parseTagKeyword;
 import static pwe.planner.logic.parser.ParserUtil.parseYear;
 
 import java.util.ArrayDeque;
@@ -31,6 +31,8 @@ import pwe.planner.model.module.NameContainsKeywordsPredicate;
 import pwe.planner.model.module.TagContainsKeywordsPredicate;
 import pwe.planner.model.planner.SemesterContainsKeywordPredicate;
 import pwe.planner.model.planner.YearContainsKeywordPredicate;
+import pwe.planner.model.query.Conjunction;
+import pwe.planner.model.query.Disjunction;
 
 /**
  * Parse input string into a composite predicate.
@@ -68,10 +70,10 @@ public class BooleanExpressionParser<T> {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, prefixes.toArray(new Prefix[0]));
         KeywordsPredicate<T> predicate = null;
         if (prefixes.contains(PREFIX_NAME) && argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            String nameKeyword = parseName(argMultimap.getValue(PREFIX_NAME).get()).toString();
+            String nameKeyword = parseNameKeyword(argMultimap.getValue(PREFIX_NAME).get());
             predicate = new NameContainsKeywordsPredicate<>(nameKeyword);
         } else if (prefixes.contains(PREFIX_CODE) && argMultimap.getValue(PREFIX_CODE).isPresent()) {
-            String codeKeyword = parseCode(argMultimap.getValue(PREFIX_CODE).get()).toString();
+            String codeKeyword = parseCodeKeyword(argMultimap.getValue(PREFIX_CODE).get());
             predicate = new CodeContainsKeywordsPredicate<>(codeKeyword);
         } else if (prefixes.contains(PREFIX_CREDITS) && argMultimap.getValue(PREFIX_CREDITS).isPresent()) {
             String creditKeyword = parseCredits(argMultimap.getValue(PREFIX_CREDITS).get()).toString();
@@ -83,7 +85,7 @@ public class BooleanExpressionParser<T> {
             String semesterKeyword = parseSemester(argMultimap.getValue(PREFIX_SEMESTER).get()).toString();
             predicate = new SemesterContainsKeywordPredicate<>(semesterKeyword);
         } else if (prefixes.contains(PREFIX_TAG) && argMultimap.getValue(PREFIX_TAG).isPresent()) {
-            String tagKeyword = parseTag(argMultimap.getValue(PREFIX_TAG).get()).tagName;
+            String tagKeyword = parseTagKeyword(argMultimap.getValue(PREFIX_TAG).get());
             predicate = new TagContainsKeywordsPredicate<>(tagKeyword);
         } else {
             throw new BooleanParserPredicateException(String.format(MESSAGE_UNABLE_TO_CREATE_PREDICATE, args));
@@ -103,11 +105,12 @@ public class BooleanExpressionParser<T> {
                                        Predicate<T> predicate2) throws BooleanParserException {
         requireAllNonNull(operator, predicate1, predicate2);
 
+        // builds the expression tree instead of composing opaque lambdas, so that it can be planned
         switch (operator) {
         case OR:
-            return predicate1.or(predicate2);
+            return Disjunction.of(predicate1, predicate2);
         case AND:
-            return predicate1.and(predicate2);
+            return Conjunction.of(predicate1, predicate2);
         default:
             throw new BooleanParserException(String.format(MESSAGE_INVALID_EXPRESSION, MESSAGE_INVALID_OPERATOR));
         }
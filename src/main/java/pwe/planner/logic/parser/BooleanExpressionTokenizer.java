@@ -3,12 +3,9 @@ package pwe.planner.logic.parser;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 import static pwe.planner.logic.parser.CliSyntax.OPERATORS;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -29,13 +26,23 @@ import java.util.stream.Stream;
  * 7. )   <br>
  */
 public class BooleanExpressionTokenizer {
-    private String stringToTokenize;
-    private final List<String> prefixes;
-    private final List<String> delimiters;
+    /** The number of offsets that are stored for each token, see {@link #tokenOffsets}. */
+    private static final int OFFSETS_PER_TOKEN = 4;
 
-    private Deque<String> tokens = new ArrayDeque<>();
-    private int nextTokenStartIndex = 0;
-    private int nextTokenEndIndex = 0;
+    private final String stringToTokenize;
+    private final String[] prefixes;
+    private final String[] delimiters;
+    /** Whether each ASCII character is the first character of any delimiter, to skip other characters quickly. */
+    private final boolean[] isDelimiterStart = new boolean[128];
+
+    /**
+     * The offsets of each extracted token in {@link #stringToTokenize}, stored as {@code OFFSETS_PER_TOKEN} consecutive
+     * elements: the start and end index of the token, followed by the start and end index of the argument value that
+     * was concatenated to it (both -1 if none). Tokens are only copied out of the string when they are returned.
+     */
+    private int[] tokenOffsets = new int[OFFSETS_PER_TOKEN * 8];
+    private int tokenCount = 0;
+    private int nextTokenIndex = 0;
 
     /**
      * Initializes a {@link BooleanExpressionTokenizer} that tokenizes {@code stringToTokenize} by extracting all
@@ -47,83 +54,112 @@ public class BooleanExpressionTokenizer {
         requireAllNonNull(stringToTokenize, prefixes);
 
         this.stringToTokenize = stringToTokenize;
-        this.prefixes = prefixes.stream().map(Prefix::getPrefix).collect(Collectors.toList());
-        this.delimiters = Stream.concat(this.prefixes.stream(), OPERATORS.stream()).collect(Collectors.toList());
+        this.prefixes = prefixes.stream().map(Prefix::getPrefix).toArray(String[]::new);
+        this.delimiters = Stream.concat(Arrays.stream(this.prefixes), OPERATORS.stream()).toArray(String[]::new);
+        for (String delimiter : delimiters) {
+            if (!delimiter.isEmpty() && delimiter.charAt(0) < isDelimiterStart.length) {
+                isDelimiterStart[delimiter.charAt(0)] = true;
+            }
+        }
 
         tokenizeString();
     }
 
     /**
      * Tokenizes {@link #stringToTokenize} based on the {@link CliSyntax#OPERATORS boolean operators} and the specified
-     * {@link #prefixes} until there are no more tokens to be extracted.
+     * {@link #prefixes} in a single pass over the string.
      * <br><br>
      * Note: This method does not parse or validate the contents of the tokens.
      */
     private void tokenizeString() {
-        while (hasNextToken()) {
-            extractNextToken();
+        int tokenStartIndex = 0;
+        while (tokenStartIndex < stringToTokenize.length()) {
+            int tokenEndIndex = findTokenEndIndex(tokenStartIndex);
+            addToken(tokenStartIndex, tokenEndIndex);
+            tokenStartIndex = tokenEndIndex;
         }
     }
 
     /**
-     * Tests if there are still more tokens available for extraction.<br>
-     * If this method returns {@code true}, then a subsequent call to {@link #extractNextToken()} will successfully
-     * extract the next token available.
-     * @return {@code true} if and only if there is at least one token remaining; {@code false} otherwise.
+     * Returns the end index of the token that starts at {@code tokenStartIndex}, which is the earliest of the end of
+     * each delimiter that starts at {@code tokenStartIndex}, and the start of the next occurrence of each other
+     * delimiter. If there is none, the token extends to the end of the string.
      */
-    private boolean hasNextToken() {
-        // ensure token start/end indexes are within valid range
-        if (nextTokenStartIndex >= stringToTokenize.length() || nextTokenEndIndex >= stringToTokenize.length()) {
-            return false;
+    private int findTokenEndIndex(int tokenStartIndex) {
+        int tokenEndIndex = stringToTokenize.length();
+        // the delimiters that start at tokenStartIndex, whose later occurrences do not end the token
+        boolean[] isAtTokenStart = new boolean[delimiters.length];
+        for (int i = 0; i < delimiters.length; i++) {
+            if (stringToTokenize.startsWith(delimiters[i], tokenStartIndex)) {
+                isAtTokenStart[i] = true;
+                tokenEndIndex = Math.min(tokenEndIndex, tokenStartIndex + delimiters[i].length());
+            }
         }
 
-        Optional<Integer> optionalNextTokenEndIndex = delimiters.stream()
-                .map(delimiter -> {
-                    int index = stringToTokenize.indexOf(delimiter, nextTokenStartIndex);
-                    if (index == nextTokenStartIndex) {
-                        index += delimiter.length();
-                    }
+        for (int index = tokenStartIndex + 1; index < tokenEndIndex; index++) {
+            char character = stringToTokenize.charAt(index);
+            if (character < isDelimiterStart.length && !isDelimiterStart[character]) {
+                continue;
+            }
+            for (int i = 0; i < delimiters.length; i++) {
+                if (!isAtTokenStart[i] && stringToTokenize.startsWith(delimiters[i], index)) {
                     return index;
-                })
-                .filter(index -> index != -1) // exclude -1 (indicates delimiter does not exists)
-                .min(Integer::compare); // get the smallest end index for next token
-
-        if (!optionalNextTokenEndIndex.isPresent()) {
-            nextTokenEndIndex = stringToTokenize.length();
-            return nextTokenStartIndex != nextTokenEndIndex;
-        } else {
-            nextTokenEndIndex = optionalNextTokenEndIndex.get();
-            return true;
+                }
+            }
         }
+        return tokenEndIndex;
     }
 
     /**
-     * Extracts the next available trimmed token, and adds it to the {@link #tokens} if it is not empty.
+     * Adds the trimmed token between {@code startIndex} and {@code endIndex} to the extracted tokens if it is not
+     * empty.
      * <br><br>
-     * However, if the last token extracted is prefixed but the next token extracted is not a delimiter, the next token
-     * extracted will be concatenated to the last token extracted.
+     * However, if the last token extracted is a prefix but the token is not a delimiter, the token will be
+     * concatenated to the last token extracted.
      */
-    private void extractNextToken() {
-        if (nextTokenStartIndex >= stringToTokenize.length() || nextTokenEndIndex > stringToTokenize.length()) {
+    private void addToken(int startIndex, int endIndex) {
+        while (startIndex < endIndex && stringToTokenize.charAt(startIndex) <= ' ') {
+            startIndex++;
+        }
+        while (endIndex > startIndex && stringToTokenize.charAt(endIndex - 1) <= ' ') {
+            endIndex--;
+        }
+        if (startIndex == endIndex) {
             return;
         }
 
-        String nextToken = stringToTokenize.substring(nextTokenStartIndex, nextTokenEndIndex).trim();
-        if (!nextToken.isEmpty()) {
-            String lastToken = tokens.peekLast();
-
-            // Checks if last token extracted is prefixed, but nextToken is not delimiter
-            if (!delimiters.contains(nextToken) && lastToken != null && prefixes.contains(lastToken)) {
-                // concatenate both tokens together if so, and update tokens accordingly
-                String joinnedToken = lastToken + nextToken;
-                tokens.removeLast();
-                tokens.addLast(joinnedToken);
-            } else {
-                tokens.addLast(nextToken);
-            }
+        int lastTokenOffset = (tokenCount - 1) * OFFSETS_PER_TOKEN;
+        // Checks if last token extracted is a prefix (and not yet concatenated), but the token is not a delimiter
+        if (tokenCount > 0 && tokenOffsets[lastTokenOffset + 2] == -1
+                && isAnyOf(prefixes, tokenOffsets[lastTokenOffset], tokenOffsets[lastTokenOffset + 1])
+                && !isAnyOf(delimiters, startIndex, endIndex)) {
+            tokenOffsets[lastTokenOffset + 2] = startIndex;
+            tokenOffsets[lastTokenOffset + 3] = endIndex;
+            return;
         }
 
-        nextTokenStartIndex = nextTokenEndIndex;
+        if (tokenOffsets.length == tokenCount * OFFSETS_PER_TOKEN) {
+            tokenOffsets = Arrays.copyOf(tokenOffsets, tokenOffsets.length * 2);
+        }
+        int tokenOffset = tokenCount * OFFSETS_PER_TOKEN;
+        tokenOffsets[tokenOffset] = startIndex;
+        tokenOffsets[tokenOffset + 1] = endIndex;
+        tokenOffsets[tokenOffset + 2] = -1;
+        tokenOffsets[tokenOffset + 3] = -1;
+        tokenCount++;
+    }
+
+    /**
+     * Returns true if the part of {@link #stringToTokenize} between {@code startIndex} and {@code endIndex} is equal to
+     * any of {@code candidates}.
+     */
+    private boolean isAnyOf(String[] candidates, int startIndex, int endIndex) {
+        for (String candidate : candidates) {
+            if (candidate.length() == endIndex - startIndex && stringToTokenize.startsWith(candidate, startIndex)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -132,7 +168,23 @@ public class BooleanExpressionTokenizer {
      * @throws NoSuchElementException if there is no more tokens remaining
      */
     public String nextToken() throws NoSuchElementException {
-        return tokens.removeFirst();
+        if (!hasMoreTokens()) {
+            throw new NoSuchElementException();
+        }
+
+        int tokenOffset = nextTokenIndex * OFFSETS_PER_TOKEN;
+        nextTokenIndex++;
+        int startIndex = tokenOffsets[tokenOffset];
+        int endIndex = tokenOffsets[tokenOffset + 1];
+        int valueStartIndex = tokenOffsets[tokenOffset + 2];
+        int valueEndIndex = tokenOffsets[tokenOffset + 3];
+        if (valueStartIndex == -1) {
+            return stringToTokenize.substring(startIndex, endIndex);
+        }
+        return new StringBuilder(endIndex - startIndex + valueEndIndex - valueStartIndex)
+                .append(stringToTokenize, startIndex, endIndex)
+                .append(stringToTokenize, valueStartIndex, valueEndIndex)
+                .toString();
     }
 
     /**
@@ -142,6 +194,6 @@ public class BooleanExpressionTokenizer {
      * @return {@code true} if and only if there is at least one token remaining; {@code false} otherwise.
      */
     public boolean hasMoreTokens() {
-        return tokens.size() > 0;
+        return nextTokenIndex < tokenCount;
     }
 }
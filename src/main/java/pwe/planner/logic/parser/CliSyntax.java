@@ -16,6 +16,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_YEAR = new Prefix("year/");
     public static final Prefix PREFIX_SEMESTER = new Prefix("sem/");
 
+    /* Suffix of keywords that also match words with typos */
+    public static final String FUZZY_SUFFIX = "~";
+
     public static final String OPERATOR_OR = "||";
     public static final String OPERATOR_AND = "&&";
     public static final String OPERATOR_LEFT_BRACKET = "(";
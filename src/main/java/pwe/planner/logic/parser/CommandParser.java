@@ -4,15 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static pwe.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import pwe.planner.commons.util.LruCache;
 import pwe.planner.logic.commands.AddCommand;
 import pwe.planner.logic.commands.ClearCommand;
 import pwe.planner.logic.commands.Command;
 import pwe.planner.logic.commands.DeleteCommand;
 import pwe.planner.logic.commands.EditCommand;
 import pwe.planner.logic.commands.ExitCommand;
+import pwe.planner.logic.commands.ExplainCommand;
 import pwe.planner.logic.commands.FindCommand;
 import pwe.planner.logic.commands.HelpCommand;
 import pwe.planner.logic.commands.HistoryCommand;
@@ -32,17 +36,58 @@ import pwe.planner.logic.commands.ResetCommand;
 import pwe.planner.logic.commands.SelectCommand;
 import pwe.planner.logic.commands.UndoCommand;
 import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
 
 /**
  * Parses user input.
  */
 public class CommandParser {
 
+    /**
+     * The words of all commands that are parsed, in the order in which they are matched.
+     */
+    public static final List<String> COMMAND_WORDS = List.of(
+            AddCommand.COMMAND_WORD,
+            EditCommand.COMMAND_WORD,
+            SelectCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD,
+            ClearCommand.COMMAND_WORD,
+            ResetCommand.COMMAND_WORD,
+            FindCommand.COMMAND_WORD,
+            ExplainCommand.COMMAND_WORD,
+            ListCommand.COMMAND_WORD,
+            RequirementAddCommand.COMMAND_WORD,
+            RequirementListCommand.COMMAND_WORD,
+            RequirementMoveCommand.COMMAND_WORD,
+            RequirementRemoveCommand.COMMAND_WORD,
+            HistoryCommand.COMMAND_WORD,
+            PlannerListCommand.COMMAND_WORD,
+            PlannerShowCommand.COMMAND_WORD,
+            PlannerMoveCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD,
+            UndoCommand.COMMAND_WORD,
+            RedoCommand.COMMAND_WORD,
+            PlannerAddCommand.COMMAND_WORD,
+            PlannerSuggestCommand.COMMAND_WORD,
+            PlannerRemoveCommand.COMMAND_WORD
+    );
+
     /**
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    /**
+     * The maximum number of compiled expressions that are kept for each of {@code find} and {@code planner_show}.
+     */
+    private static final int PREDICATE_CACHE_CAPACITY = 64;
+
+    private final LruCache<String, Predicate<Module>> findPredicateCache = new LruCache<>(PREDICATE_CACHE_CAPACITY);
+    private final LruCache<String, Predicate<DegreePlanner>> plannerShowPredicateCache =
+            new LruCache<>(PREDICATE_CACHE_CAPACITY);
+
     /**
      * Parses user input into command for execution.
      *
@@ -81,7 +126,10 @@ public class CommandParser {
             return new ResetCommand();
 
         case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
+            return new FindCommandParser(findPredicateCache).parse(arguments);
+
+        case ExplainCommand.COMMAND_WORD:
+            return new ExplainCommandParser().parse(arguments);
 
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
@@ -105,7 +153,7 @@ public class CommandParser {
             return new PlannerListCommand();
 
         case PlannerShowCommand.COMMAND_WORD:
-            return new PlannerShowCommandParser().parse(arguments);
+            return new PlannerShowCommandParser(plannerShowPredicateCache).parse(arguments);
 
         case PlannerMoveCommand.COMMAND_WORD:
             return new PlannerMoveCommandParser().parse(arguments);
@@ -0,0 +1,52 @@
+package pwe.planner.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import pwe.planner.logic.commands.ExplainCommand;
+import pwe.planner.logic.commands.FindCommand;
+import pwe.planner.logic.commands.PlannerShowCommand;
+import pwe.planner.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExplainCommand object
+ */
+public class ExplainCommandParser implements Parser<ExplainCommand> {
+
+    /**
+     * Used for separation of the explained command word and its args.
+     */
+    private static final Pattern EXPLAINED_COMMAND_FORMAT =
+            Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExplainCommand
+     * and returns an ExplainCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExplainCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        Matcher matcher = EXPLAINED_COMMAND_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+        }
+
+        String commandWord = matcher.group("commandWord");
+        String arguments = matcher.group("arguments");
+        switch (commandWord) {
+        case FindCommand.COMMAND_WORD:
+            return new ExplainCommand(new FindCommandParser().parse(arguments));
+
+        case PlannerShowCommand.COMMAND_WORD:
+            return new ExplainCommand(new PlannerShowCommandParser().parse(arguments));
+
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+        }
+    }
+}
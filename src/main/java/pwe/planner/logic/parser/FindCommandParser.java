@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import pwe.planner.commons.util.LruCache;
 import pwe.planner.logic.commands.FindCommand;
 import pwe.planner.logic.parser.exceptions.BooleanParserException;
 import pwe.planner.logic.parser.exceptions.BooleanParserPredicateException;
@@ -33,6 +34,25 @@ public class FindCommandParser implements Parser<FindCommand> {
             PREFIX_SEMESTER
     );
 
+    private final LruCache<String, Predicate<Module>> predicateCache;
+
+    /**
+     * Creates a FindCommandParser that parses every expression afresh.
+     */
+    public FindCommandParser() {
+        predicateCache = null;
+    }
+
+    /**
+     * Creates a FindCommandParser that reuses the predicates compiled for previously parsed expressions from
+     * {@code predicateCache}, and adds newly compiled predicates to it. The cache is keyed by the trimmed expression.
+     */
+    public FindCommandParser(LruCache<String, Predicate<Module>> predicateCache) {
+        requireNonNull(predicateCache);
+
+        this.predicateCache = predicateCache;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns an FindCommand object for execution.
@@ -46,9 +66,17 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
         }
+        Predicate<Module> cachedPredicate = predicateCache == null ? null : predicateCache.get(trimmedArgs);
+        if (cachedPredicate != null) {
+            logger.fine("Reusing the compiled expression: " + trimmedArgs + " (" + predicateCache + ")");
+            return new FindCommand(cachedPredicate);
+        }
         try {
             BooleanExpressionParser<Module> expressionParser = new BooleanExpressionParser<>(args, PREFIXES);
             Predicate<Module> predicate = expressionParser.parse();
+            if (predicateCache != null) {
+                predicateCache.put(trimmedArgs, predicate);
+            }
             return new FindCommand(predicate);
         } catch (BooleanParserPredicateException predicateException) {
             logger.warning(predicateException.getMessage());
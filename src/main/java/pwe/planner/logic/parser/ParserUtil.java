@@ -1,10 +1,13 @@
 package pwe.planner.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+import static pwe.planner.logic.parser.CliSyntax.FUZZY_SUFFIX;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -67,6 +70,23 @@ public class ParserUtil {
         return new Name(trimmedName);
     }
 
+    /**
+     * Parses a {@code String name} that is either a name, or a fuzzy name ending with {@link CliSyntax#FUZZY_SUFFIX},
+     * into the keyword that names are searched for with.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code name}, without its fuzzy suffix, is invalid.
+     */
+    public static String parseNameKeyword(String name) throws ParseException {
+        requireNonNull(name);
+
+        String trimmedName = name.trim();
+        if (isFuzzyKeyword(trimmedName)) {
+            return parseName(removeFuzzySuffix(trimmedName)).toString() + FUZZY_SUFFIX;
+        }
+        return parseName(trimmedName).toString();
+    }
+
     /**
      * Parses a {@code String credits} into a {@code Credits}.
      * Leading and trailing whitespaces will be trimmed.
@@ -99,6 +119,26 @@ public class ParserUtil {
         return new Code(trimmedCode);
     }
 
+    /**
+     * Parses a {@code String code} that is either a code, or a code pattern containing {@code *} wildcards, into the
+     * upper case keyword that codes are searched for with.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code code} is neither a valid code nor a valid code pattern.
+     */
+    public static String parseCodeKeyword(String code) throws ParseException {
+        requireNonNull(code);
+
+        String trimmedCode = code.trim();
+        if (trimmedCode.indexOf(StringUtil.WILDCARD) == -1) {
+            return parseCode(trimmedCode).value;
+        }
+        if (!Code.isValidCodePattern(trimmedCode)) {
+            throw new ParseException(Code.MESSAGE_PATTERN_CONSTRAINTS);
+        }
+        return trimmedCode.toUpperCase();
+    }
+
     /**
      * Parses a {@code String year} into an {@code Year}.
      * Leading and trailing whitespaces will be trimmed.
@@ -160,6 +200,23 @@ public class ParserUtil {
         return new Tag(trimmedTag);
     }
 
+    /**
+     * Parses a {@code String tag} that is either a tag, or a fuzzy tag ending with {@link CliSyntax#FUZZY_SUFFIX},
+     * into the keyword that tags are searched for with.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code tag}, without its fuzzy suffix, is invalid.
+     */
+    public static String parseTagKeyword(String tag) throws ParseException {
+        requireNonNull(tag);
+
+        String trimmedTag = tag.trim();
+        if (isFuzzyKeyword(trimmedTag)) {
+            return parseTag(removeFuzzySuffix(trimmedTag)).tagName + FUZZY_SUFFIX;
+        }
+        return parseTag(trimmedTag).tagName;
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>}.
      */
@@ -210,10 +267,81 @@ public class ParserUtil {
     public static boolean parseKeyword(String keyword, String compareTo) {
         requireAllNonNull(keyword, compareTo);
 
+        if (isFuzzyKeyword(keyword)) {
+            return getFuzzyDistance(keyword, compareTo) != -1;
+        }
         if (keyword.split("\\s+").length == 1) {
             return StringUtil.containsWordIgnoreCase(compareTo, keyword);
         } else {
             return StringUtil.compareEqualsIgnoreCase(compareTo, keyword);
         }
     }
+
+    /**
+     * Returns true if {@code keyword} is a fuzzy keyword, that is a keyword ending with
+     * {@link CliSyntax#FUZZY_SUFFIX}, which also matches words that are a few typos away from its words.
+     */
+    public static boolean isFuzzyKeyword(String keyword) {
+        requireNonNull(keyword);
+
+        return keyword.endsWith(FUZZY_SUFFIX) && !removeFuzzySuffix(keyword).trim().isEmpty();
+    }
+
+    /**
+     * Returns the most typos that a word of a fuzzy keyword with {@code wordLength} characters tolerates.
+     * Short words have to be matched exactly, as a single typo already turns them into many other words.
+     */
+    public static int getMaxEditDistance(int wordLength) {
+        if (wordLength < 3) {
+            return 0;
+        } else if (wordLength < 6) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    /**
+     * Returns how many typos away the fuzzy {@code keyword} is from {@code compareTo}, ignoring cases, or -1 if they
+     * do not match. They match if every word of {@code keyword} is within {@link #getMaxEditDistance(int)} of some
+     * word of {@code compareTo}, and the number of typos is then the sum of the edit distances to the closest words.
+     * <br>examples: <pre>
+     *     getFuzzyDistance("algoritm~", "Data Structures and Algorithms") == 2
+     *     getFuzzyDistance("dta~", "Data Structures and Algorithms") == 1
+     *     getFuzzyDistance("data xyz~", "Data Structures and Algorithms") == -1
+     * </pre>
+     */
+    public static int getFuzzyDistance(String keyword, String compareTo) {
+        requireAllNonNull(keyword, compareTo);
+        checkArgument(isFuzzyKeyword(keyword), "keyword parameter should be a fuzzy keyword");
+
+        List<String> wordsToCompare = StringUtil.splitWords(compareTo);
+        int totalDistance = 0;
+        for (String word : StringUtil.splitWords(removeFuzzySuffix(keyword))) {
+            int maxDistance = getMaxEditDistance(word.length());
+            int closestDistance = -1;
+            for (String wordToCompare : wordsToCompare) {
+                int distance = StringUtil.getEditDistanceIgnoreCase(word, wordToCompare, maxDistance);
+                if (distance != -1 && (closestDistance == -1 || distance < closestDistance)) {
+                    closestDistance = distance;
+                }
+            }
+            if (closestDistance == -1) {
+                return -1;
+            }
+            totalDistance += closestDistance;
+        }
+        return totalDistance;
+    }
+
+    /**
+     * Returns {@code keyword} without its {@link CliSyntax#FUZZY_SUFFIX}.
+     */
+    public static String removeFuzzySuffix(String keyword) {
+        requireNonNull(keyword);
+
+        return keyword.endsWith(FUZZY_SUFFIX)
+                ? keyword.substring(0, keyword.length() - FUZZY_SUFFIX.length())
+                : keyword;
+    }
 }
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import pwe.planner.commons.util.LruCache;
 import pwe.planner.logic.commands.PlannerShowCommand;
 import pwe.planner.logic.parser.exceptions.BooleanParserException;
 import pwe.planner.logic.parser.exceptions.BooleanParserPredicateException;
@@ -26,6 +27,25 @@ public class PlannerShowCommandParser implements Parser<PlannerShowCommand> {
             PREFIX_SEMESTER
     );
 
+    private final LruCache<String, Predicate<DegreePlanner>> predicateCache;
+
+    /**
+     * Creates a PlannerShowCommandParser that parses every expression afresh.
+     */
+    public PlannerShowCommandParser() {
+        predicateCache = null;
+    }
+
+    /**
+     * Creates a PlannerShowCommandParser that reuses the predicates compiled for previously parsed expressions from
+     * {@code predicateCache}, and adds newly compiled predicates to it. The cache is keyed by the trimmed expression.
+     */
+    public PlannerShowCommandParser(LruCache<String, Predicate<DegreePlanner>> predicateCache) {
+        requireNonNull(predicateCache);
+
+        this.predicateCache = predicateCache;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the PlannerShowCommand
      * and returns an PlannerShowCommand object for execution.
@@ -43,9 +63,17 @@ public class PlannerShowCommandParser implements Parser<PlannerShowCommand> {
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlannerShowCommand.MESSAGE_USAGE));
         }
+        Predicate<DegreePlanner> cachedPredicate = predicateCache == null ? null : predicateCache.get(trimmedArgs);
+        if (cachedPredicate != null) {
+            logger.fine("Reusing the compiled expression: " + trimmedArgs + " (" + predicateCache + ")");
+            return new PlannerShowCommand(cachedPredicate);
+        }
         try {
             BooleanExpressionParser<DegreePlanner> expressionParser = new BooleanExpressionParser<>(args, PREFIXES);
             Predicate<DegreePlanner> predicate = expressionParser.parse();
+            if (predicateCache != null) {
+                predicateCache.put(trimmedArgs, predicate);
+            }
             return new PlannerShowCommand(predicate);
         } catch (BooleanParserPredicateException predicateException) {
             logger.warning(predicateException.getMessage());
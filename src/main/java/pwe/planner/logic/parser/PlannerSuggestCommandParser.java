@@ -3,16 +3,22 @@ package pwe.planner.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
 import static pwe.planner.logic.parser.ParserUtil.arePrefixesPresent;
 import static pwe.planner.logic.parser.ParserUtil.parseCredits;
+import static pwe.planner.logic.parser.ParserUtil.parseSemester;
 import static pwe.planner.logic.parser.ParserUtil.parseTags;
+import static pwe.planner.logic.parser.ParserUtil.parseYear;
 
 import java.util.Set;
 
 import pwe.planner.logic.commands.PlannerSuggestCommand;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.module.Credits;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
 import pwe.planner.model.tag.Tag;
 
 /**
@@ -32,9 +38,15 @@ public class PlannerSuggestCommandParser implements Parser<PlannerSuggestCommand
             throw new ParseException(PlannerSuggestCommand.MESSAGE_USAGE);
         }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CREDITS, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CREDITS, PREFIX_YEAR, PREFIX_SEMESTER,
+                PREFIX_TAG);
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_CREDITS) || !argMultimap.getPreamble().isEmpty()) {
+        // a year is only given together with a semester
+        boolean isBudget = arePrefixesPresent(argMultimap, PREFIX_YEAR, PREFIX_SEMESTER);
+        boolean isYearOrSemesterPresent = argMultimap.getValue(PREFIX_YEAR).isPresent()
+                || argMultimap.getValue(PREFIX_SEMESTER).isPresent();
+        if (!arePrefixesPresent(argMultimap, PREFIX_CREDITS) || isYearOrSemesterPresent != isBudget
+                || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(
                     MESSAGE_INVALID_COMMAND_FORMAT, PlannerSuggestCommand.MESSAGE_USAGE));
         }
@@ -42,6 +54,11 @@ public class PlannerSuggestCommandParser implements Parser<PlannerSuggestCommand
         Credits credits = parseCredits(argMultimap.getValue(PREFIX_CREDITS).get());
         Set<Tag> tags = parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
+        if (isBudget) {
+            Year year = parseYear(argMultimap.getValue(PREFIX_YEAR).get());
+            Semester semester = parseSemester(argMultimap.getValue(PREFIX_SEMESTER).get());
+            return new PlannerSuggestCommand(credits, tags, year, semester);
+        }
         return new PlannerSuggestCommand(credits, tags);
     }
 }
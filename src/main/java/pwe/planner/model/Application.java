@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -13,11 +12,15 @@ import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.util.InvalidationListenerManager;
 import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleWordIndex;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.module.UniqueModuleList;
 import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
 import pwe.planner.model.planner.UniqueDegreePlannerList;
+import pwe.planner.model.planner.Year;
 import pwe.planner.model.requirement.RequirementCategory;
 import pwe.planner.model.requirement.UniqueRequirementCategoryList;
 
@@ -31,6 +34,8 @@ public class Application implements ReadOnlyApplication {
     private final UniqueDegreePlannerList degreePlanners;
     private final UniqueRequirementCategoryList requirementCategories;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private int batchDepth;
+    private boolean isModifiedInBatch;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -42,7 +47,7 @@ public class Application implements ReadOnlyApplication {
     {
         modules = new UniqueModuleList();
         degreePlanners = new UniqueDegreePlannerList();
-        requirementCategories = new UniqueRequirementCategoryList();
+        requirementCategories = new UniqueRequirementCategoryList(this::getCreditsOfCode);
     }
 
     public Application() {}
@@ -63,9 +68,11 @@ public class Application implements ReadOnlyApplication {
     public void resetData(ReadOnlyApplication newData) {
         requireNonNull(newData);
 
-        setModules(newData.getModuleList());
-        setDegreePlanners(newData.getDegreePlannerList());
-        setRequirementCategories(newData.getRequirementCategoryList());
+        try (MutationBatch batch = batch()) {
+            setModules(newData.getModuleList());
+            setDegreePlanners(newData.getDegreePlannerList());
+            setRequirementCategories(newData.getRequirementCategoryList());
+        }
     }
 
     /**
@@ -101,6 +108,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(modules);
 
         this.modules.setModules(modules);
+        requirementCategories.refreshFulfilledCredits();
         indicateModified();
     }
 
@@ -152,7 +160,23 @@ public class Application implements ReadOnlyApplication {
     public boolean hasModuleCode(Code code) {
         requireNonNull(code);
 
-        return modules.asUnmodifiableObservableList().stream().anyMatch((module) -> module.getCode().equals(code));
+        return modules.containsCode(code);
+    }
+
+    /**
+     * Returns the co-requisite cluster of {@code code}, that is {@code code} together with all of its co-requisites.
+     */
+    public Set<Code> getCorequisiteCluster(Code code) {
+        requireNonNull(code);
+
+        return modules.getCorequisiteCluster(code);
+    }
+
+    /**
+     * Returns the word index of the names, codes and tags of the modules in the application.
+     */
+    public ModuleWordIndex getModuleWordIndex() {
+        return modules.getWordIndex();
     }
 
     /**
@@ -163,6 +187,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(moduleToAdd);
 
         modules.add(moduleToAdd);
+        requirementCategories.refreshFulfilledCredits(moduleToAdd.getCode());
         indicateModified();
     }
 
@@ -175,6 +200,7 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedModule);
 
         modules.setModule(target, editedModule);
+        requirementCategories.refreshFulfilledCredits(editedModule.getCode());
     }
 
     /**
@@ -185,66 +211,18 @@ public class Application implements ReadOnlyApplication {
     public void editModule(Module target, Module editedModule) {
         requireAllNonNull(target, editedModule);
 
-        modules.setModule(target, editedModule);
-        if (!target.getCode().equals(editedModule.getCode())) {
-            cascadeEditedCodeInDegreePlanners(target.getCode(), editedModule.getCode());
-            cascadeEditedCodeInRequirementCategories(target.getCode(), editedModule.getCode());
-        }
-
-        indicateModified();
-    }
-
-    /**
-     * Cascades the edited module code by updating {@code UniqueDegreePlannerList} accordingly
-     * @param codeToEdit module code to edit/find
-     * @param editedCode module code to replace with
-     */
-    private void cascadeEditedCodeInDegreePlanners(Code codeToEdit, Code editedCode) {
-        requireAllNonNull(codeToEdit, editedCode);
-
-        ObservableList<DegreePlanner> degreePlanners = getDegreePlannerList();
-
-        for (DegreePlanner degreePlanner : degreePlanners) {
-            if (degreePlanner.getCodes().contains(codeToEdit)) {
-                Set<Code> editedDegreePlannerCodes = new HashSet<>(degreePlanner.getCodes());
-                editedDegreePlannerCodes.remove(codeToEdit);
-                editedDegreePlannerCodes.add(editedCode);
-
-                DegreePlanner editedDegreePlanner = new DegreePlanner(
-                        degreePlanner.getYear(),
-                        degreePlanner.getSemester(),
-                        editedDegreePlannerCodes
-                );
-
-                setDegreePlanner(degreePlanner, editedDegreePlanner);
+        try (MutationBatch batch = batch()) {
+            modules.setModule(target, editedModule);
+            if (!target.getCode().equals(editedModule.getCode())) {
+                degreePlanners.replaceCode(target.getCode(), editedModule.getCode());
+                // the referrer is recounted with the edited module as it is replaced
+                requirementCategories.replaceCode(target.getCode(), editedModule.getCode());
+            } else {
+                requirementCategories.updateFulfilledCredits(editedModule.getCode(),
+                        editedModule.getCredits().intValue() - target.getCredits().intValue());
             }
-        }
-    }
-
-    /**
-     * Cascades the edited module code by updating {@code UniqueRequirementCategoryList} accordingly
-     * @param codeToEdit module code to edit/find
-     * @param editedCode module code to replace with
-     */
-    private void cascadeEditedCodeInRequirementCategories(Code codeToEdit, Code editedCode) {
-        requireAllNonNull(codeToEdit, editedCode);
-
-        ObservableList<RequirementCategory> requirementCategories = getRequirementCategoryList();
 
-        for (RequirementCategory requirementCategory : requirementCategories) {
-            if (requirementCategory.getCodeSet().contains(codeToEdit)) {
-                Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
-                editedCodes.remove(codeToEdit);
-                editedCodes.add(editedCode);
-
-                RequirementCategory editedRequirementCategory = new RequirementCategory(
-                        requirementCategory.getName(),
-                        requirementCategory.getCredits(),
-                        editedCodes
-                );
-
-                setRequirementCategory(requirementCategory, editedRequirementCategory);
-            }
+            indicateModified();
         }
     }
 
@@ -255,57 +233,11 @@ public class Application implements ReadOnlyApplication {
     public void removeModule(Module moduleToDelete) {
         requireNonNull(moduleToDelete);
 
-        modules.remove(moduleToDelete);
-        cascadeDeleteCodeToDegreePlanners(moduleToDelete.getCode());
-        cascadeDeleteCodeToRequirementCategories(moduleToDelete.getCode());
-        indicateModified();
-    }
-
-    /**
-     * Cascades the deleted module code by removing it from {@code UniqueDegreePlannerList} accordingly
-     * @param codeToDelete module code to delete
-     */
-    private void cascadeDeleteCodeToDegreePlanners(Code codeToDelete) {
-        assert codeToDelete != null;
-
-        ObservableList<DegreePlanner> degreePlanners = getDegreePlannerList();
-        for (DegreePlanner degreePlanner : degreePlanners) {
-            if (degreePlanner.getCodes().contains(codeToDelete)) {
-                Set<Code> editedCodes = new HashSet<>(degreePlanner.getCodes());
-                editedCodes.remove(codeToDelete);
-
-                DegreePlanner editedDegreePlanner = new DegreePlanner(
-                        degreePlanner.getYear(),
-                        degreePlanner.getSemester(),
-                        editedCodes
-                );
-
-                setDegreePlanner(degreePlanner, editedDegreePlanner);
-            }
-        }
-    }
-
-    /**
-     * Cascades the deleted module code by removing it from {@code UniqueRequirementCategoryList} accordingly
-     * @param codeToDelete module code to delete
-     */
-    private void cascadeDeleteCodeToRequirementCategories(Code codeToDelete) {
-        assert codeToDelete != null;
-
-        ObservableList<RequirementCategory> requirementCategories = getRequirementCategoryList();
-        for (RequirementCategory requirementCategory : requirementCategories) {
-            if (requirementCategory.getCodeSet().contains(codeToDelete)) {
-                Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
-                editedCodes.remove(codeToDelete);
-
-                RequirementCategory editedRequirementCategory = new RequirementCategory(
-                        requirementCategory.getName(),
-                        requirementCategory.getCredits(),
-                        editedCodes
-                );
-
-                setRequirementCategory(requirementCategory, editedRequirementCategory);
-            }
+        try (MutationBatch batch = batch()) {
+            modules.remove(moduleToDelete);
+            degreePlanners.removeCode(moduleToDelete.getCode());
+            requirementCategories.removeCode(moduleToDelete.getCode());
+            indicateModified();
         }
     }
 
@@ -321,6 +253,15 @@ public class Application implements ReadOnlyApplication {
         return degreePlanners.contains(degreePlanner);
     }
 
+    /**
+     * Returns the degree planner of the given {@code year} and {@code semester}, otherwise returns null.
+     */
+    public DegreePlanner getDegreePlanner(Year year, Semester semester) {
+        requireAllNonNull(year, semester);
+
+        return degreePlanners.getDegreePlanner(year, semester);
+    }
+
     /**
      * Return the degree planner which contains the given {@code code}, otherwise returns null.
      */
@@ -360,31 +301,30 @@ public class Application implements ReadOnlyApplication {
     public void moveModuleBetweenPlanner(DegreePlanner sourcePlanner, DegreePlanner destinationPlanner, Code code) {
         requireAllNonNull(sourcePlanner, destinationPlanner, code);
 
-        Set<Code> codesToMove = new HashSet<>(modules.getModuleByCode(code).getCorequisites());
-        codesToMove.add(code);
-        Set<Code> editedDestinationPlannerCodes = new HashSet<>(destinationPlanner.getCodes());
+        try (MutationBatch batch = batch()) {
+            Set<Code> codesToMove = new CodeSet(modules.getCorequisiteCluster(code));
+            Set<Code> editedDestinationPlannerCodes = new CodeSet(destinationPlanner.getCodes());
 
-        for (Code codeToMove : codesToMove) {
-            DegreePlanner sourceDegreePlanner = degreePlanners.getDegreePlannerByCode(codeToMove);
-            Set<Code> editedSourceDegreePlanner = new HashSet<>(sourceDegreePlanner.getCodes());
-            editedSourceDegreePlanner.remove(codeToMove);
-            DegreePlanner editedSourcePlanner =
-                    new DegreePlanner(sourceDegreePlanner.getYear(), sourceDegreePlanner.getSemester(),
-                            editedSourceDegreePlanner);
+            for (Code codeToMove : codesToMove) {
+                DegreePlanner sourceDegreePlanner = degreePlanners.getDegreePlannerByCode(codeToMove);
+                Set<Code> editedSourceDegreePlanner = new CodeSet(sourceDegreePlanner.getCodes());
+                editedSourceDegreePlanner.remove(codeToMove);
+                DegreePlanner editedSourcePlanner =
+                        new DegreePlanner(sourceDegreePlanner.getYear(), sourceDegreePlanner.getSemester(),
+                                editedSourceDegreePlanner);
 
-            setDegreePlanner(sourceDegreePlanner, editedSourcePlanner);
-        }
+                setDegreePlanner(sourceDegreePlanner, editedSourcePlanner);
+            }
 
-        editedDestinationPlannerCodes.addAll(codesToMove);
-        DegreePlanner editedDestinationPlanner = new DegreePlanner(destinationPlanner.getYear(),
-                destinationPlanner.getSemester(), editedDestinationPlannerCodes);
+            editedDestinationPlannerCodes.addAll(codesToMove);
+            DegreePlanner editedDestinationPlanner = new DegreePlanner(destinationPlanner.getYear(),
+                    destinationPlanner.getSemester(), editedDestinationPlannerCodes);
 
-        // Search for the destinationPlanner is necessary as code could have been removed from destinationPlanner
-        DegreePlanner targetDestinationPlanner = getDegreePlannerList().stream()
-                .filter(destinationPlanner::isSameDegreePlanner)
-                .findFirst()
-                .orElse(null);
-        setDegreePlanner(targetDestinationPlanner, editedDestinationPlanner);
+            // Search for the destinationPlanner is necessary as code could have been removed from destinationPlanner
+            DegreePlanner targetDestinationPlanner =
+                    degreePlanners.getDegreePlanner(destinationPlanner.getYear(), destinationPlanner.getSemester());
+            setDegreePlanner(targetDestinationPlanner, editedDestinationPlanner);
+        }
     }
 
     /**
@@ -429,6 +369,26 @@ public class Application implements ReadOnlyApplication {
         return requirementCategories.getRequirementCategory(requirementCategoryName);
     }
 
+    /**
+     * Returns the requirement category which contains the given {@code code}, otherwise returns null.
+     */
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return requirementCategories.getRequirementCategoryByCode(code);
+    }
+
+    /**
+     * Returns the total credits of the modules in {@code requirementCategory}, which is kept up to date as the
+     * application is modified.
+     * {@code requirementCategory} must exist in the requirement list.
+     */
+    public int getFulfilledCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return requirementCategories.getFulfilledCredits(requirementCategory);
+    }
+
     /**
      * Adds a requirement to the requirementCategoryList.
      * The requirement must not already exist in the requirementCategoryList.
@@ -462,6 +422,14 @@ public class Application implements ReadOnlyApplication {
         requirementCategories.remove(key);
     }
 
+    /**
+     * Returns the credits of the module with {@code code}, or 0 if there is no such module.
+     */
+    private int getCreditsOfCode(Code code) {
+        Module module = modules.getModuleByCode(code);
+        return module == null ? 0 : module.getCredits().intValue();
+    }
+
     //// listener methods
 
     @Override
@@ -478,10 +446,52 @@ public class Application implements ReadOnlyApplication {
         invalidationListenerManager.removeListener(listener);
     }
 
+    /**
+     * Starts a batch of mutations to this {@code Application}.
+     * Listeners of this {@code Application} and of its lists are not notified of any mutation made within the batch
+     * until the batch is closed, and are then notified once of all of them. Mutations take effect immediately, so
+     * lookups made within the batch see them.
+     */
+    public MutationBatch batch() {
+        if (batchDepth++ == 0) {
+            modules.beginBatch();
+            degreePlanners.beginBatch();
+            requirementCategories.beginBatch();
+        }
+        return new MutationBatch(this::endBatch);
+    }
+
+    /**
+     * Returns true if a batch of mutations is in progress.
+     */
+    protected boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    private void endBatch() {
+        if (--batchDepth > 0) {
+            return;
+        }
+
+        modules.endBatch();
+        degreePlanners.endBatch();
+        requirementCategories.endBatch();
+        if (isModifiedInBatch) {
+            isModifiedInBatch = false;
+            indicateModified();
+        }
+    }
+
     /**
      * Notifies listeners that the application has been modified.
+     * Within a batch, listeners are only notified when the batch is closed.
      */
     protected void indicateModified() {
+        if (isInBatch()) {
+            isModifiedInBatch = true;
+            return;
+        }
+
         invalidationListenerManager.callListeners(this);
     }
 
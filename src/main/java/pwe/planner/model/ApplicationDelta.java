@@ -0,0 +1,103 @@
+package pwe.planner.model;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import pwe.planner.commons.util.PersistentList;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * An immutable difference between two consecutive states of an {@code Application}, made up of the
+ * {@link ListEdit}s of its module, degree planner and requirement category lists, in the order they happened.
+ */
+public final class ApplicationDelta {
+
+    private final List<ListEdit<Module>> moduleEdits;
+    private final List<ListEdit<DegreePlanner>> degreePlannerEdits;
+    private final List<ListEdit<RequirementCategory>> requirementCategoryEdits;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ApplicationDelta(List<ListEdit<Module>> moduleEdits, List<ListEdit<DegreePlanner>> degreePlannerEdits,
+            List<ListEdit<RequirementCategory>> requirementCategoryEdits) {
+        requireAllNonNull(moduleEdits, degreePlannerEdits, requirementCategoryEdits);
+
+        this.moduleEdits = Collections.unmodifiableList(new ArrayList<>(moduleEdits));
+        this.degreePlannerEdits = Collections.unmodifiableList(new ArrayList<>(degreePlannerEdits));
+        this.requirementCategoryEdits = Collections.unmodifiableList(new ArrayList<>(requirementCategoryEdits));
+    }
+
+    public List<ListEdit<Module>> getModuleEdits() {
+        return moduleEdits;
+    }
+
+    public List<ListEdit<DegreePlanner>> getDegreePlannerEdits() {
+        return degreePlannerEdits;
+    }
+
+    public List<ListEdit<RequirementCategory>> getRequirementCategoryEdits() {
+        return requirementCategoryEdits;
+    }
+
+    /**
+     * Returns true if this delta does not change anything.
+     */
+    public boolean isEmpty() {
+        return moduleEdits.isEmpty() && degreePlannerEdits.isEmpty() && requirementCategoryEdits.isEmpty();
+    }
+
+    /**
+     * Returns {@code state} with this delta applied.
+     */
+    ApplicationSnapshot applyTo(ApplicationSnapshot state) {
+        return new ApplicationSnapshot(applyAll(moduleEdits, state.getModules()),
+                applyAll(degreePlannerEdits, state.getDegreePlanners()),
+                applyAll(requirementCategoryEdits, state.getRequirementCategories()));
+    }
+
+    /**
+     * Returns {@code state} with this delta undone. {@code state} must be a state that this delta was applied to.
+     */
+    ApplicationSnapshot revertFrom(ApplicationSnapshot state) {
+        return new ApplicationSnapshot(revertAll(moduleEdits, state.getModules()),
+                revertAll(degreePlannerEdits, state.getDegreePlanners()),
+                revertAll(requirementCategoryEdits, state.getRequirementCategories()));
+    }
+
+    private static <T> PersistentList<T> applyAll(List<ListEdit<T>> edits, PersistentList<T> list) {
+        PersistentList<T> editedList = list;
+        for (ListEdit<T> edit : edits) {
+            editedList = edit.applyTo(editedList);
+        }
+        return editedList;
+    }
+
+    private static <T> PersistentList<T> revertAll(List<ListEdit<T>> edits, PersistentList<T> list) {
+        PersistentList<T> editedList = list;
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            editedList = edits.get(i).revertFrom(editedList);
+        }
+        return editedList;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ApplicationDelta // instanceof handles nulls
+                && moduleEdits.equals(((ApplicationDelta) other).moduleEdits)
+                && degreePlannerEdits.equals(((ApplicationDelta) other).degreePlannerEdits)
+                && requirementCategoryEdits.equals(((ApplicationDelta) other).requirementCategoryEdits));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moduleEdits, degreePlannerEdits, requirementCategoryEdits);
+    }
+}
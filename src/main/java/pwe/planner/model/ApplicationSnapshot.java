@@ -0,0 +1,118 @@
+package pwe.planner.model;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import pwe.planner.commons.util.PersistentList;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * An immutable state of an {@code Application}, used by {@link VersionedApplication} to keep its history.
+ * Snapshots are backed by {@link PersistentList}s, so consecutive snapshots share every element that did not change
+ * between them.
+ */
+class ApplicationSnapshot implements ReadOnlyApplication {
+
+    private final PersistentList<Module> modules;
+    private final PersistentList<DegreePlanner> degreePlanners;
+    private final PersistentList<RequirementCategory> requirementCategories;
+
+    ApplicationSnapshot(PersistentList<Module> modules, PersistentList<DegreePlanner> degreePlanners,
+            PersistentList<RequirementCategory> requirementCategories) {
+        requireAllNonNull(modules, degreePlanners, requirementCategories);
+
+        this.modules = modules;
+        this.degreePlanners = degreePlanners;
+        this.requirementCategories = requirementCategories;
+    }
+
+    /**
+     * Creates a snapshot of the current state of {@code application}.
+     */
+    static ApplicationSnapshot of(ReadOnlyApplication application) {
+        return new ApplicationSnapshot(PersistentList.of(application.getModuleList()),
+                PersistentList.of(application.getDegreePlannerList()),
+                PersistentList.of(application.getRequirementCategoryList()));
+    }
+
+    PersistentList<Module> getModules() {
+        return modules;
+    }
+
+    PersistentList<DegreePlanner> getDegreePlanners() {
+        return degreePlanners;
+    }
+
+    PersistentList<RequirementCategory> getRequirementCategories() {
+        return requirementCategories;
+    }
+
+    /**
+     * Returns a snapshot with the modules replaced by {@code modules}, sharing the other lists with this snapshot.
+     */
+    ApplicationSnapshot withModules(PersistentList<Module> modules) {
+        return new ApplicationSnapshot(modules, degreePlanners, requirementCategories);
+    }
+
+    /**
+     * Returns a snapshot with the degree planners replaced by {@code degreePlanners}, sharing the other lists with
+     * this snapshot.
+     */
+    ApplicationSnapshot withDegreePlanners(PersistentList<DegreePlanner> degreePlanners) {
+        return new ApplicationSnapshot(modules, degreePlanners, requirementCategories);
+    }
+
+    /**
+     * Returns a snapshot with the requirement categories replaced by {@code requirementCategories}, sharing the other
+     * lists with this snapshot.
+     */
+    ApplicationSnapshot withRequirementCategories(PersistentList<RequirementCategory> requirementCategories) {
+        return new ApplicationSnapshot(modules, degreePlanners, requirementCategories);
+    }
+
+    @Override
+    public ObservableList<Module> getModuleList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(modules.toList()));
+    }
+
+    @Override
+    public ObservableList<DegreePlanner> getDegreePlannerList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(degreePlanners.toList()));
+    }
+
+    @Override
+    public ObservableList<RequirementCategory> getRequirementCategoryList() {
+        return FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(requirementCategories.toList()));
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // a snapshot is never modified, so there is nothing to listen to
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // a snapshot is never modified, so there is nothing to listen to
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ApplicationSnapshot // instanceof handles nulls
+                && modules.equals(((ApplicationSnapshot) other).modules)
+                && degreePlanners.equals(((ApplicationSnapshot) other).degreePlanners)
+                && requirementCategories.equals(((ApplicationSnapshot) other).requirementCategories));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(modules, degreePlanners, requirementCategories);
+    }
+}
@@ -0,0 +1,95 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import pwe.planner.commons.util.PersistentList;
+
+/**
+ * An immutable, reversible edit of a list: the elements {@code removed} starting at position {@code from} are
+ * replaced by the elements {@code added}.
+ *
+ * @param <T> the type of elements in the edited list.
+ */
+public final class ListEdit<T> {
+
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    /**
+     * Every field must be present and not null, and {@code from} must not be negative.
+     */
+    public ListEdit(int from, List<? extends T> removed, List<? extends T> added) {
+        requireAllNonNull(removed, added);
+        if (from < 0) {
+            throw new IllegalArgumentException("An edit cannot start at a negative position.");
+        }
+
+        this.from = from;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns an immutable list of the removed elements, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns an immutable list of the added elements, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns {@code list} with this edit applied.
+     */
+    public PersistentList<T> applyTo(PersistentList<T> list) {
+        requireNonNull(list);
+
+        return list.removeRange(from, from + removed.size()).insertAll(from, added);
+    }
+
+    /**
+     * Returns {@code list} with this edit undone. {@code list} must be a list that this edit was applied to.
+     */
+    public PersistentList<T> revertFrom(PersistentList<T> list) {
+        requireNonNull(list);
+
+        return list.removeRange(from, from + added.size()).insertAll(from, removed);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListEdit // instanceof handles nulls
+                && from == ((ListEdit<?>) other).from
+                && removed.equals(((ListEdit<?>) other).removed)
+                && added.equals(((ListEdit<?>) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "at " + from + " removed " + removed + " added " + added;
+    }
+}
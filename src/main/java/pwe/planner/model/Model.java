@@ -1,6 +1,7 @@
 package pwe.planner.model;
 
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -8,9 +9,13 @@ import javafx.collections.ObservableList;
 import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleWordIndex;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.suggestion.ParallelModuleSuggester;
 
 /**
  * The API of the Model component.
@@ -68,6 +73,35 @@ public interface Model {
     /** Returns the Application */
     ReadOnlyApplication getApplication();
 
+    /**
+     * Returns the snapshot of the application as of the last committed, undone or redone command, or null if
+     * snapshots have not been enabled (see {@link #enableSnapshots()}).
+     * While a savepoint is set, the snapshot is not replaced (see {@link #setSavepoint()}).
+     * Unlike the other methods of the model, this may be called from any thread.
+     */
+    ModelSnapshot getSnapshot();
+
+    /**
+     * Publishes the current state of the application as a snapshot, and a new snapshot after every committed, undone
+     * or redone command from then on. Snapshots are only needed by readers on other threads, so this must be called
+     * before the model is shared between threads, and is not called at all when there are no such readers.
+     */
+    void enableSnapshots();
+
+    /**
+     * Starts a batch of mutations to the application, to be closed once all of them are made.
+     * Listeners are notified once of all mutations made within the batch, and the filtered lists are only updated
+     * (including any filter set by {@code updateFilteredXYZList}) when the batch is closed.
+     * The application must not be committed, undone or redone while a batch is in progress.
+     */
+    MutationBatch batch();
+
+    /**
+     * Starts a transaction, through which several mutations to the application can be made as a whole.
+     * The application is only committed if the transaction is committed, otherwise all of its mutations are reverted.
+     */
+    ModelTransaction beginTransaction();
+
     /**
      * Returns the user prefs' requirement list file path.
      */
@@ -108,6 +142,28 @@ public interface Model {
      */
     boolean hasModuleCode(Code code);
 
+    /**
+     * Returns the co-requisite cluster of {@code code}, that is {@code code} together with all of its co-requisites.
+     */
+    Set<Code> getCorequisiteCluster(Code code);
+
+    /**
+     * Returns the word index of the modules in the application, which is kept in sync with the module list.
+     */
+    ModuleWordIndex getModuleWordIndex();
+
+    /**
+     * Returns the suggester that scores large catalogs in parallel, or null if suggestions are always found through
+     * the word index.
+     */
+    ParallelModuleSuggester getParallelSuggester();
+
+    /**
+     * Sets the suggester that scores large catalogs in parallel, or stops scoring them in parallel if
+     * {@code suggester} is null. The caller remains responsible for closing the suggester.
+     */
+    void setParallelSuggester(ParallelModuleSuggester suggester);
+
     /**
      * Deletes the given module.
      * The module must exist in the application.
@@ -135,7 +191,10 @@ public interface Model {
      */
     void setModule(Module target, Module editedModule);
 
-    /** Returns an unmodifiable view of the filtered module list */
+    /**
+     * Returns an unmodifiable view of the filtered module list.
+     * Modules filtered by fuzzy keywords are ordered from the closest match, and otherwise keep their order.
+     */
     ObservableList<Module> getFilteredModuleList();
 
     /**
@@ -170,6 +229,47 @@ public interface Model {
      */
     void commitApplication();
 
+    /**
+     * Marks the current state of the application and its undo/redo history, so that every change made after it can
+     * be discarded by {@link #rollbackToSavepoint()}. Until the savepoint is released or rolled back to, the snapshot
+     * is not replaced, so other threads never see changes that may still be discarded.
+     *
+     * @throws IllegalStateException if a savepoint is already set.
+     */
+    void setSavepoint();
+
+    /**
+     * Keeps every change made since the savepoint, and publishes the current state as the snapshot if the application
+     * has been committed, undone or redone since the savepoint was set.
+     *
+     * @throws IllegalStateException if no savepoint is set.
+     */
+    void releaseSavepoint();
+
+    /**
+     * Restores the application and its undo/redo history to the savepoint, discarding every change made after it.
+     * The snapshot is still the one from when the savepoint was set.
+     *
+     * @throws IllegalStateException if no savepoint is set.
+     */
+    void rollbackToSavepoint();
+
+    /**
+     * Returns the number of entries in the undo/redo history, including the entries spilled out of memory.
+     */
+    int getUndoHistorySize();
+
+    /**
+     * Returns the number of entries in the undo/redo history that are kept in memory.
+     */
+    int getUndoHistoryInMemorySize();
+
+    /**
+     * Discards the entries of the undo/redo history that were spilled out of memory, and releases the storage that
+     * holds them. To be called when the model is disposed of.
+     */
+    void close();
+
     /**
      * Selected module in the filtered module list.
      * null if no module is selected.
@@ -194,6 +294,11 @@ public interface Model {
      */
     boolean hasDegreePlanner(DegreePlanner degreePlanner);
 
+    /**
+     * Returns the degree planner of the given {@code year} and {@code semester}, otherwise returns null.
+     */
+    DegreePlanner getDegreePlanner(Year year, Semester semester);
+
     /**
      * Return the degree planner which contains the given {@code code}, otherwise returns null.
      */
@@ -257,6 +362,17 @@ public interface Model {
      */
     RequirementCategory getRequirementCategory(Name requirementCategoryName);
 
+    /**
+     * Returns the requirement category which contains the given {@code code}, otherwise returns null.
+     */
+    RequirementCategory getRequirementCategoryByCode(Code code);
+
+    /**
+     * Returns the total credits of the modules in {@code requirementCategory}.
+     * {@code requirementCategory} must exist in the requirement list.
+     */
+    int getFulfilledCredits(RequirementCategory requirementCategory);
+
     /**
      * Adds the given requirement.
      * {@code requirement} must not already exist in the requirementCategoryList.
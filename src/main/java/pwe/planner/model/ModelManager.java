@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,44 +17,95 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.util.LruCache;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleCatalog;
+import pwe.planner.model.module.ModuleWordIndex;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
 import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.query.QueryPlanner;
+import pwe.planner.model.query.SimilarityRanking;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.suggestion.ParallelModuleSuggester;
 
 /**
  * Represents the in-memory model of the application data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int BOUND_PREDICATE_CACHE_CAPACITY = 16;
 
     private final VersionedApplication versionedApplication;
     private final UserPrefs userPrefs;
 
     private final FilteredList<Module> filteredModules;
+    /** The filtered modules, ranked by similarity when they are filtered by fuzzy keywords. */
+    private final SortedList<Module> rankedModules;
     private final FilteredList<DegreePlanner> filteredDegreePlanners;
     private final FilteredList<RequirementCategory> filteredRequirementCategory;
 
     private final SimpleObjectProperty<Module> selectedModule = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<RequirementCategory> selectedRequirementCategory = new SimpleObjectProperty<>();
 
+    /** Keyword searches bound to the word index, which keep their matching modules until the index is modified. */
+    private final LruCache<Predicate<Module>, Predicate<Module>> boundModulePredicates =
+            new LruCache<>(BOUND_PREDICATE_CACHE_CAPACITY);
+
+    /** The latest snapshot, which is only replaced by the thread that modifies the model. */
+    private final AtomicReference<ModelSnapshot> snapshot = new AtomicReference<>();
+    /**
+     * The module of every code whose module has been added, replaced or removed since the latest snapshot, or null if
+     * the module was removed.
+     */
+    private final Map<Code, Module> pendingModuleChanges = new LinkedHashMap<>();
+    /** Set before the model is shared between threads, as snapshots are only read by other threads. */
+    private boolean isPublishingSnapshots;
+    /** The savepoint that the model can be rolled back to, or null if there is none. */
+    private VersionedApplication.Savepoint savepoint;
+    /** True if the state has been committed, undone or redone since the savepoint, but not published yet. */
+    private boolean hasUnpublishedSnapshot;
+    /** Set before the model is shared between threads, and only read afterwards. */
+    private volatile ParallelModuleSuggester parallelSuggester;
+
+    private Predicate<Module> filteredModulesPredicate;
+    private int batchDepth;
+    private Predicate<Module> pendingModulePredicate;
+    private Predicate<DegreePlanner> pendingDegreePlannerPredicate;
+    private Predicate<RequirementCategory> pendingRequirementCategoryPredicate;
+
     /**
      * Initializes a ModelManager with the given application and userPrefs.
      */
     public ModelManager(ReadOnlyApplication application, ReadOnlyUserPrefs userPrefs) {
+        this(application, userPrefs, null);
+    }
+
+    /**
+     * Initializes a ModelManager with the given application and userPrefs, which spills undo history entries beyond
+     * {@link ReadOnlyUserPrefs#getUndoHistoryInMemoryLimit()} to {@code undoHistorySpill}, and keeps at most
+     * {@link ReadOnlyUserPrefs#getUndoHistoryLimit()} entries in all.
+     * If {@code undoHistorySpill} is null, such entries are discarded instead.
+     */
+    public ModelManager(ReadOnlyApplication application, ReadOnlyUserPrefs userPrefs,
+            UndoHistorySpill undoHistorySpill) {
         super();
         requireAllNonNull(application, userPrefs);
 
         logger.fine("Initializing with application: " + application + " and user prefs " + userPrefs);
 
-        versionedApplication = new VersionedApplication(application);
+        versionedApplication = new VersionedApplication(application, userPrefs.getUndoHistoryInMemoryLimit(),
+                undoHistorySpill, userPrefs.getUndoHistoryLimit());
         this.userPrefs = new UserPrefs(userPrefs);
 
         filteredModules = new FilteredList<>(versionedApplication.getModuleList());
+        rankedModules = new SortedList<>(filteredModules);
         filteredDegreePlanners = new FilteredList<>((versionedApplication.getDegreePlannerList()));
         filteredRequirementCategory = new FilteredList<>(versionedApplication.getRequirementCategoryList());
 
@@ -152,6 +207,100 @@ public class ModelManager implements Model {
         return versionedApplication;
     }
 
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    @Override
+    public void enableSnapshots() {
+        if (isPublishingSnapshots) {
+            return;
+        }
+
+        isPublishingSnapshots = true;
+        versionedApplication.getModuleList().addListener(this::recordModuleChanges);
+        publishSnapshot();
+    }
+
+    /**
+     * Records the modules that were added, replaced or removed by {@code change} in {@code pendingModuleChanges}.
+     */
+    private void recordModuleChanges(ListChangeListener.Change<? extends Module> change) {
+        while (change.next()) {
+            for (Module removedModule : change.getRemoved()) {
+                pendingModuleChanges.put(removedModule.getCode(), null);
+            }
+            for (Module addedModule : change.getAddedSubList()) {
+                pendingModuleChanges.put(addedModule.getCode(), addedModule);
+            }
+        }
+    }
+
+    /**
+     * Publishes the current state of the application as the latest snapshot, if snapshots are enabled.
+     * The degree planners and requirement categories are copied, as they are only a few, but the module catalog is
+     * derived from that of the previous snapshot with only the modules that have changed since, as indexing every
+     * module again would cost far more than the command itself. While a savepoint is set, the snapshot is only
+     * published once it is released.
+     */
+    private void publishSnapshot() {
+        if (!isPublishingSnapshots) {
+            return;
+        }
+        if (savepoint != null) {
+            hasUnpublishedSnapshot = true;
+            return;
+        }
+
+        ModelSnapshot previousSnapshot = snapshot.get();
+        ModuleCatalog catalog = previousSnapshot == null
+                ? new ModuleCatalog(versionedApplication.getModuleList())
+                : previousSnapshot.getState().getCatalog().withChanges(pendingModuleChanges);
+        pendingModuleChanges.clear();
+
+        long version = previousSnapshot == null ? 0 : previousSnapshot.getVersion() + 1;
+        snapshot.set(new ModelSnapshot(version, new PlanTemplate(catalog, versionedApplication.getDegreePlannerList(),
+                versionedApplication.getRequirementCategoryList())));
+    }
+
+    @Override
+    public MutationBatch batch() {
+        MutationBatch applicationBatch = versionedApplication.batch();
+        batchDepth++;
+        return new MutationBatch(() -> {
+            batchDepth--;
+            // the filtered lists are updated by the list changes of the batch first, then by the pending filters
+            applicationBatch.close();
+            if (batchDepth == 0) {
+                applyPendingPredicates();
+            }
+        });
+    }
+
+    @Override
+    public ModelTransaction beginTransaction() {
+        return new ModelTransaction(this);
+    }
+
+    /**
+     * Applies the filters that were set while a batch was in progress.
+     */
+    private void applyPendingPredicates() {
+        if (pendingModulePredicate != null) {
+            updateFilteredModuleList(pendingModulePredicate);
+            pendingModulePredicate = null;
+        }
+        if (pendingDegreePlannerPredicate != null) {
+            updateFilteredDegreePlannerList(pendingDegreePlannerPredicate);
+            pendingDegreePlannerPredicate = null;
+        }
+        if (pendingRequirementCategoryPredicate != null) {
+            updateFilteredRequirementCategoryList(pendingRequirementCategoryPredicate);
+            pendingRequirementCategoryPredicate = null;
+        }
+    }
+
     @Override
     public boolean hasModule(Module module) {
         requireNonNull(module);
@@ -173,6 +322,28 @@ public class ModelManager implements Model {
         return versionedApplication.hasModuleCode(code);
     }
 
+    @Override
+    public Set<Code> getCorequisiteCluster(Code code) {
+        requireNonNull(code);
+
+        return versionedApplication.getCorequisiteCluster(code);
+    }
+
+    @Override
+    public ModuleWordIndex getModuleWordIndex() {
+        return versionedApplication.getModuleWordIndex();
+    }
+
+    @Override
+    public ParallelModuleSuggester getParallelSuggester() {
+        return parallelSuggester;
+    }
+
+    @Override
+    public void setParallelSuggester(ParallelModuleSuggester suggester) {
+        parallelSuggester = suggester;
+    }
+
     @Override
     public void deleteModule(Module target) {
         requireNonNull(target);
@@ -206,18 +377,45 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Module} backed by the internal list of
-     * {@code versionedApplication}
+     * {@code versionedApplication}, ordered by similarity if the list is filtered by fuzzy keywords
      */
     @Override
     public ObservableList<Module> getFilteredModuleList() {
-        return filteredModules;
+        return rankedModules;
     }
 
     @Override
     public void updateFilteredModuleList(Predicate<Module> predicate) {
         requireNonNull(predicate);
 
-        filteredModules.setPredicate(predicate);
+        if (batchDepth > 0) {
+            pendingModulePredicate = predicate;
+            return;
+        }
+        // re-applying the same filter would refilter the whole list without changing it
+        if (filteredModulesPredicate == predicate) {
+            return;
+        }
+        filteredModulesPredicate = predicate;
+        // the previous ranking is dropped first, so that it is not applied to every module matching the new filter
+        rankedModules.setComparator(null);
+        if (QueryPlanner.isIndexable(predicate)) {
+            // keyword searches are planned against the word index once, instead of testing every module, and
+            // repeating a search reuses its matching modules unless the index has been modified since
+            Predicate<Module> boundPredicate = boundModulePredicates.get(predicate);
+            if (boundPredicate == null) {
+                boundPredicate = QueryPlanner.bind(predicate, versionedApplication.getModuleWordIndex());
+                boundModulePredicates.put(predicate, boundPredicate);
+            }
+            filteredModules.setPredicate(boundPredicate);
+        } else {
+            filteredModules.setPredicate(predicate);
+        }
+        // without fuzzy keywords, there is no ranking and the modules keep their order in the module list
+        SimilarityRanking ranking = SimilarityRanking.of(predicate);
+        if (ranking != null) {
+            rankedModules.setComparator(ranking);
+        }
     }
 
     //=========== Undo/Redo =================================================================================
@@ -235,16 +433,73 @@ public class ModelManager implements Model {
     @Override
     public void undoApplication() {
         versionedApplication.undo();
+        publishSnapshot();
     }
 
     @Override
     public void redoApplication() {
         versionedApplication.redo();
+        publishSnapshot();
     }
 
     @Override
     public void commitApplication() {
         versionedApplication.commit();
+        publishSnapshot();
+    }
+
+    @Override
+    public void setSavepoint() {
+        if (savepoint != null) {
+            throw new IllegalStateException("A savepoint has already been set.");
+        }
+
+        savepoint = versionedApplication.savepoint();
+    }
+
+    @Override
+    public void releaseSavepoint() {
+        requireSavepoint();
+
+        savepoint = null;
+        if (hasUnpublishedSnapshot) {
+            hasUnpublishedSnapshot = false;
+            publishSnapshot();
+        }
+    }
+
+    @Override
+    public void rollbackToSavepoint() {
+        requireSavepoint();
+
+        versionedApplication.rollback(savepoint);
+        savepoint = null;
+        // nothing was published since the savepoint, so the snapshot is already that of the restored state
+        hasUnpublishedSnapshot = false;
+    }
+
+    @Override
+    public void close() {
+        versionedApplication.close();
+    }
+
+    /**
+     * Throws an {@code IllegalStateException} if no savepoint is set.
+     */
+    private void requireSavepoint() {
+        if (savepoint == null) {
+            throw new IllegalStateException("No savepoint has been set.");
+        }
+    }
+
+    @Override
+    public int getUndoHistorySize() {
+        return versionedApplication.getHistorySize();
+    }
+
+    @Override
+    public int getUndoHistoryInMemorySize() {
+        return versionedApplication.getInMemoryHistorySize();
     }
 
     //=========== Selected module ===========================================================================
@@ -337,6 +592,12 @@ public class ModelManager implements Model {
         versionedApplication.addDegreePlanner(degreePlanner);
     }
 
+    @Override
+    public DegreePlanner getDegreePlanner(Year year, Semester semester) {
+        requireAllNonNull(year, semester);
+        return versionedApplication.getDegreePlanner(year, semester);
+    }
+
     @Override
     public DegreePlanner getDegreePlannerByCode(Code code) {
         requireNonNull(code);
@@ -366,7 +627,13 @@ public class ModelManager implements Model {
     public void updateFilteredDegreePlannerList(Predicate<DegreePlanner> predicate) {
         requireNonNull(predicate);
 
-        filteredDegreePlanners.setPredicate(predicate);
+        if (batchDepth > 0) {
+            pendingDegreePlannerPredicate = predicate;
+            return;
+        }
+        if (filteredDegreePlanners.getPredicate() != predicate) {
+            filteredDegreePlanners.setPredicate(predicate);
+        }
     }
 
     //=========== RequirementCategoryList Methods =================================================================
@@ -392,6 +659,20 @@ public class ModelManager implements Model {
         return versionedApplication.getRequirementCategory(requirementCategoryName);
     }
 
+    @Override
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return versionedApplication.getRequirementCategoryByCode(code);
+    }
+
+    @Override
+    public int getFulfilledCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return versionedApplication.getFulfilledCredits(requirementCategory);
+    }
+
     @Override
     public void addRequirementCategory(RequirementCategory requirementCategory) {
         requireNonNull(requirementCategory);
@@ -416,7 +697,13 @@ public class ModelManager implements Model {
     public void updateFilteredRequirementCategoryList(Predicate<RequirementCategory> predicate) {
         requireNonNull(predicate);
 
-        filteredRequirementCategory.setPredicate(predicate);
+        if (batchDepth > 0) {
+            pendingRequirementCategoryPredicate = predicate;
+            return;
+        }
+        if (filteredRequirementCategory.getPredicate() != predicate) {
+            filteredRequirementCategory.setPredicate(predicate);
+        }
     }
 
     @Override
@@ -0,0 +1,35 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable state of the application as of a committed command, which is published by {@link ModelManager}.
+ * As a snapshot is never modified, it can be read by many threads at once without locking, while the model moves on.
+ */
+public class ModelSnapshot {
+
+    private final long version;
+    private final PlanTemplate state;
+
+    ModelSnapshot(long version, PlanTemplate state) {
+        requireNonNull(state);
+
+        this.version = version;
+        this.state = state;
+    }
+
+    /**
+     * Returns the number of snapshots that were published before this one, which increases with every committed,
+     * undone or redone command.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the modules, degree planners and requirement categories of the application as of this snapshot.
+     */
+    public PlanTemplate getState() {
+        return state;
+    }
+}
@@ -0,0 +1,146 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import pwe.planner.model.module.Code;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * A sequence of mutations to a {@code Model} that takes effect as a whole, or not at all.
+ * <p>
+ * The inverse of every mutation made through the transaction is recorded as it is made. If the transaction is closed
+ * without being committed (for example, because one of its steps threw an exception), the recorded inverses are
+ * applied in reverse order, which restores the model in time proportional to the number of steps taken rather than to
+ * the size of the model. Only a committed transaction saves the resulting state for undo/redo.
+ * <p>
+ * The mutations are made within a {@link MutationBatch}, so listeners are only notified once the transaction ends.
+ * Transactions are meant to be used in a try-with-resources statement:
+ * <pre>
+ * try (ModelTransaction transaction = model.beginTransaction()) {
+ *     transaction.setDegreePlanner(target, editedDegreePlanner);
+ *     ...
+ *     transaction.commit();
+ * }
+ * </pre>
+ */
+public class ModelTransaction implements AutoCloseable {
+
+    private final Model model;
+    private final MutationBatch batch;
+    private final Deque<Runnable> inverseOperations = new ArrayDeque<>();
+    private boolean isEnded;
+
+    ModelTransaction(Model model) {
+        requireNonNull(model);
+
+        this.model = model;
+        batch = model.batch();
+    }
+
+    /**
+     * Replaces the degree planner {@code target} with {@code editedDegreePlanner}.
+     *
+     * @see Model#setDegreePlanner(DegreePlanner, DegreePlanner)
+     */
+    public void setDegreePlanner(DegreePlanner target, DegreePlanner editedDegreePlanner) {
+        requireAllNonNull(target, editedDegreePlanner);
+        requireNotEnded();
+
+        model.setDegreePlanner(target, editedDegreePlanner);
+        inverseOperations.push(() -> model.setDegreePlanner(editedDegreePlanner, target));
+    }
+
+    /**
+     * Moves {@code code}, along with its co-requisites, from {@code sourcePlanner} to {@code destinationPlanner}.
+     *
+     * @see Model#moveModuleBetweenPlanner(DegreePlanner, DegreePlanner, Code)
+     */
+    public void moveModuleBetweenPlanner(DegreePlanner sourcePlanner, DegreePlanner destinationPlanner, Code code) {
+        requireAllNonNull(sourcePlanner, destinationPlanner, code);
+        requireNotEnded();
+
+        // only the degree planners holding the moved codes, and the destination planner, can be changed by the move
+        Set<DegreePlanner> affectedDegreePlanners = new LinkedHashSet<>();
+        for (Code codeToMove : model.getCorequisiteCluster(code)) {
+            DegreePlanner degreePlanner = model.getDegreePlannerByCode(codeToMove);
+            if (degreePlanner != null) {
+                affectedDegreePlanners.add(degreePlanner);
+            }
+        }
+        affectedDegreePlanners.add(model.getDegreePlanner(destinationPlanner.getYear(),
+                destinationPlanner.getSemester()));
+
+        model.moveModuleBetweenPlanner(sourcePlanner, destinationPlanner, code);
+        inverseOperations.push(() -> {
+            for (DegreePlanner originalDegreePlanner : affectedDegreePlanners) {
+                DegreePlanner movedDegreePlanner = model.getDegreePlanner(originalDegreePlanner.getYear(),
+                        originalDegreePlanner.getSemester());
+                model.setDegreePlanner(movedDegreePlanner, originalDegreePlanner);
+            }
+        });
+    }
+
+    /**
+     * Replaces the requirement category {@code target} with {@code editedRequirementCategory}.
+     *
+     * @see Model#setRequirementCategory(RequirementCategory, RequirementCategory)
+     */
+    public void setRequirementCategory(RequirementCategory target, RequirementCategory editedRequirementCategory) {
+        requireAllNonNull(target, editedRequirementCategory);
+        requireNotEnded();
+
+        model.setRequirementCategory(target, editedRequirementCategory);
+        inverseOperations.push(() -> model.setRequirementCategory(editedRequirementCategory, target));
+    }
+
+    /**
+     * Ends the transaction, keeping all of its mutations, and saves the resulting state for undo/redo.
+     */
+    public void commit() {
+        requireNotEnded();
+
+        isEnded = true;
+        inverseOperations.clear();
+        batch.close();
+        model.commitApplication();
+    }
+
+    /**
+     * Ends the transaction, reverting all of its mutations.
+     */
+    public void rollback() {
+        requireNotEnded();
+
+        isEnded = true;
+        try {
+            while (!inverseOperations.isEmpty()) {
+                inverseOperations.pop().run();
+            }
+        } finally {
+            batch.close();
+        }
+    }
+
+    /**
+     * Rolls back the transaction if it has not been committed or rolled back yet.
+     */
+    @Override
+    public void close() {
+        if (!isEnded) {
+            rollback();
+        }
+    }
+
+    private void requireNotEnded() {
+        if (isEnded) {
+            throw new IllegalStateException("The transaction has already ended.");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A scope in which mutations to the application are batched.
+ * Listeners are notified of all mutations made within the scope at once, when the scope is closed.
+ * Batches are meant to be used in a try-with-resources statement, and may be nested.
+ */
+public final class MutationBatch implements AutoCloseable {
+
+    private final Runnable onClose;
+    private boolean isClosed;
+
+    MutationBatch(Runnable onClose) {
+        requireNonNull(onClose);
+
+        this.onClose = onClose;
+    }
+
+    /**
+     * Ends this batch. Closing a batch more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+
+        isClosed = true;
+        onClose.run();
+    }
+}
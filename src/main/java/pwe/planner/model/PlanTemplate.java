@@ -0,0 +1,118 @@
+package pwe.planner.model;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleCatalog;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.UniqueDegreePlannerList;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.requirement.UniqueRequirementCategoryList;
+
+/**
+ * An immutable degree plan over a {@link ModuleCatalog}, from which {@link StudentState}s are created.
+ * The lists of a template are shared by every student created from it until the student modifies them, and are never
+ * modified themselves. A {@code StudentState} also keeps each state of its undo history as a template.
+ */
+public class PlanTemplate implements ReadOnlyApplication {
+
+    private final ModuleCatalog catalog;
+    private final UniqueDegreePlannerList degreePlanners;
+    private final UniqueRequirementCategoryList requirementCategories;
+
+    /**
+     * Creates a template of {@code degreePlanners} and {@code requirementCategories} over {@code catalog}.
+     */
+    public PlanTemplate(ModuleCatalog catalog, List<DegreePlanner> degreePlanners,
+            List<RequirementCategory> requirementCategories) {
+        requireAllNonNull(catalog, degreePlanners, requirementCategories);
+
+        this.catalog = catalog;
+        this.degreePlanners = new UniqueDegreePlannerList();
+        this.degreePlanners.setDegreePlanners(degreePlanners);
+        this.requirementCategories = new UniqueRequirementCategoryList(catalog::getCreditsOfCode);
+        this.requirementCategories.setRequirementCategories(requirementCategories);
+    }
+
+    /**
+     * Creates a template that takes over {@code degreePlanners} and {@code requirementCategories} without copying
+     * them. The lists must not be modified afterwards.
+     */
+    PlanTemplate(ModuleCatalog catalog, UniqueDegreePlannerList degreePlanners,
+            UniqueRequirementCategoryList requirementCategories) {
+        this.catalog = catalog;
+        this.degreePlanners = degreePlanners;
+        this.requirementCategories = requirementCategories;
+    }
+
+    /**
+     * Returns a new student with the degree plan of this template, in constant time.
+     */
+    public StudentState createStudent() {
+        return new StudentState(this);
+    }
+
+    /**
+     * Returns a new student with the degree plan of this template, which keeps at most {@code historyLimit} undo
+     * history entries, in constant time.
+     */
+    public StudentState createStudent(int historyLimit) {
+        return new StudentState(this, historyLimit);
+    }
+
+    public ModuleCatalog getCatalog() {
+        return catalog;
+    }
+
+    UniqueDegreePlannerList getDegreePlanners() {
+        return degreePlanners;
+    }
+
+    UniqueRequirementCategoryList getRequirementCategories() {
+        return requirementCategories;
+    }
+
+    @Override
+    public ObservableList<Module> getModuleList() {
+        return catalog.getModuleList();
+    }
+
+    @Override
+    public ObservableList<DegreePlanner> getDegreePlannerList() {
+        return degreePlanners.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public ObservableList<RequirementCategory> getRequirementCategoryList() {
+        return requirementCategories.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // a template is never modified, so there is nothing to listen to
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // a template is never modified, so there is nothing to listen to
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PlanTemplate // instanceof handles nulls
+                && catalog.equals(((PlanTemplate) other).catalog)
+                && degreePlanners.equals(((PlanTemplate) other).degreePlanners)
+                && requirementCategories.equals(((PlanTemplate) other).requirementCategories));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(catalog, degreePlanners, requirementCategories);
+    }
+}
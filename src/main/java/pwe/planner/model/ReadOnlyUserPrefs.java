@@ -16,4 +16,10 @@ public interface ReadOnlyUserPrefs {
     Path getDegreePlannerListFilePath();
 
     Path getRequirementCategoryListFilePath();
+
+    int getUndoHistoryInMemoryLimit();
+
+    int getUndoHistoryLimit();
+
+    Path getUndoHistorySpillDirectory();
 }
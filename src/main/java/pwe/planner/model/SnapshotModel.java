@@ -0,0 +1,479 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleCatalog;
+import pwe.planner.model.module.ModuleWordIndex;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.module.exceptions.ModuleNotFoundException;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.query.QueryPlanner;
+import pwe.planner.model.query.SimilarityRanking;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.suggestion.ParallelModuleSuggester;
+
+/**
+ * A read-only model over a {@link ModelSnapshot}, on which read-only commands can be executed without locking while
+ * the model that published the snapshot is modified.
+ *
+ * The filtered lists and selections are kept by each {@code SnapshotModel} itself, and should only be used by the
+ * thread that created it. Filtering copies the matching elements into a new list, instead of wrapping the lists of
+ * the snapshot in a {@code FilteredList}, as the listener that it would add to them is not thread-safe.
+ * Every method that would modify the application or the user prefs throws an {@code UnsupportedOperationException}.
+ */
+public class SnapshotModel implements Model {
+
+    public static final String MESSAGE_READ_ONLY = "Only read-only commands can be executed on a snapshot.";
+
+    private final ModelSnapshot snapshot;
+    private final PlanTemplate state;
+    private final ModuleCatalog catalog;
+    private final ParallelModuleSuggester parallelSuggester;
+
+    private final SimpleObjectProperty<Module> selectedModule = new SimpleObjectProperty<>();
+    private final SimpleObjectProperty<RequirementCategory> selectedRequirementCategory = new SimpleObjectProperty<>();
+
+    private ObservableList<Module> filteredModules;
+    private ObservableList<DegreePlanner> filteredDegreePlanners;
+    private ObservableList<RequirementCategory> filteredRequirementCategories;
+
+    public SnapshotModel(ModelSnapshot snapshot) {
+        this(snapshot, null);
+    }
+
+    /**
+     * Creates a {@code SnapshotModel} over {@code snapshot}, which scores large catalogs with {@code parallelSuggester}
+     * if it is not null.
+     */
+    public SnapshotModel(ModelSnapshot snapshot, ParallelModuleSuggester parallelSuggester) {
+        requireNonNull(snapshot);
+
+        this.snapshot = snapshot;
+        this.parallelSuggester = parallelSuggester;
+        state = snapshot.getState();
+        catalog = state.getCatalog();
+        filteredModules = state.getModuleList();
+        filteredDegreePlanners = state.getDegreePlannerList();
+        filteredRequirementCategories = state.getRequirementCategoryList();
+    }
+
+    /**
+     * Returns an unmodifiable list of the elements of {@code list} that satisfy {@code predicate}.
+     */
+    private static <T> ObservableList<T> filter(List<T> list, Predicate<? super T> predicate) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(
+                list.stream().filter(predicate).collect(Collectors.toList())));
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public Path getModuleListFilePath() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setModuleListFilePath(Path moduleListFilePath) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public Path getDegreePlannerListFilePath() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setDegreePlannerListFilePath(Path degreePlannerListFilePath) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public Path getRequirementCategoryListFilePath() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setRequirementCategoryListFilePath(Path requirementCategoryListFilePath) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    //=========== Application ================================================================================
+
+    @Override
+    public ReadOnlyApplication getApplication() {
+        return state;
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public void enableSnapshots() {
+        // the model is a snapshot already
+    }
+
+    @Override
+    public MutationBatch batch() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ModelTransaction beginTransaction() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setApplication(ReadOnlyApplication application) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void resetRequirement() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void resetPlanner() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public boolean hasModule(Module module) {
+        requireNonNull(module);
+
+        return catalog.hasModuleCode(module.getCode());
+    }
+
+    @Override
+    public Module getModuleByCode(Code code) {
+        requireNonNull(code);
+
+        return catalog.getModuleByCode(code);
+    }
+
+    @Override
+    public boolean hasModuleCode(Code code) {
+        requireNonNull(code);
+
+        return catalog.hasModuleCode(code);
+    }
+
+    @Override
+    public Set<Code> getCorequisiteCluster(Code code) {
+        requireNonNull(code);
+
+        return catalog.getCorequisiteCluster(code);
+    }
+
+    @Override
+    public ModuleWordIndex getModuleWordIndex() {
+        return catalog.getWordIndex();
+    }
+
+    @Override
+    public ParallelModuleSuggester getParallelSuggester() {
+        return parallelSuggester;
+    }
+
+    @Override
+    public void setParallelSuggester(ParallelModuleSuggester suggester) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void deleteModule(Module target) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addModule(Module module) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void editModule(Module target, Module editedModule) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setModule(Module target, Module editedModule) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    //=========== Filtered Module List Accessors =============================================================
+
+    @Override
+    public ObservableList<Module> getFilteredModuleList() {
+        return filteredModules;
+    }
+
+    @Override
+    public void updateFilteredModuleList(Predicate<Module> predicate) {
+        requireNonNull(predicate);
+
+        // keyword searches are planned against the word index of the catalog, as in ModelManager
+        Predicate<Module> boundPredicate = QueryPlanner.isIndexable(predicate)
+                ? QueryPlanner.bind(predicate, catalog.getWordIndex())
+                : predicate;
+        List<Module> modules = state.getModuleList().stream().filter(boundPredicate).collect(Collectors.toList());
+        SimilarityRanking ranking = SimilarityRanking.of(predicate);
+        if (ranking != null) {
+            modules.sort(ranking);
+        }
+        filteredModules = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(modules));
+        if (selectedModule.getValue() != null && !filteredModules.contains(selectedModule.getValue())) {
+            selectedModule.setValue(null);
+        }
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public boolean canUndoApplication() {
+        return false;
+    }
+
+    @Override
+    public boolean canRedoApplication() {
+        return false;
+    }
+
+    @Override
+    public void undoApplication() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void redoApplication() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void commitApplication() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setSavepoint() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void releaseSavepoint() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void rollbackToSavepoint() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public int getUndoHistorySize() {
+        return 0;
+    }
+
+    @Override
+    public int getUndoHistoryInMemorySize() {
+        return 0;
+    }
+
+    @Override
+    public void close() {
+        // a snapshot has no undo/redo history
+    }
+
+    //=========== Selected module ===========================================================================
+
+    @Override
+    public ReadOnlyProperty<Module> selectedModuleProperty() {
+        return selectedModule;
+    }
+
+    @Override
+    public Module getSelectedModule() {
+        return selectedModule.getValue();
+    }
+
+    @Override
+    public void setSelectedModule(Module module) {
+        if (module != null && !filteredModules.contains(module)) {
+            throw new ModuleNotFoundException();
+        }
+        selectedModule.setValue(module);
+    }
+
+    //=========== DegreePlannerList Methods =================================================================
+
+    @Override
+    public boolean hasDegreePlanner(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        return state.getDegreePlanners().contains(degreePlanner);
+    }
+
+    @Override
+    public DegreePlanner getDegreePlanner(Year year, Semester semester) {
+        requireAllNonNull(year, semester);
+
+        return state.getDegreePlanners().getDegreePlanner(year, semester);
+    }
+
+    @Override
+    public DegreePlanner getDegreePlannerByCode(Code code) {
+        requireNonNull(code);
+
+        return state.getDegreePlanners().getDegreePlannerByCode(code);
+    }
+
+    @Override
+    public void deleteDegreePlanner(DegreePlanner degreePlanner) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addDegreePlanner(DegreePlanner degreePlanner) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setDegreePlanner(DegreePlanner target, DegreePlanner editedDegreePlanner) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void moveModuleBetweenPlanner(DegreePlanner sourcePlanner, DegreePlanner destinationPlanner, Code code) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ObservableList<DegreePlanner> getFilteredDegreePlannerList() {
+        return filteredDegreePlanners;
+    }
+
+    @Override
+    public void updateFilteredDegreePlannerList(Predicate<DegreePlanner> predicate) {
+        requireNonNull(predicate);
+
+        filteredDegreePlanners = filter(state.getDegreePlannerList(), predicate);
+    }
+
+    //=========== RequirementCategoryList Methods ===========================================================
+
+    @Override
+    public boolean hasRequirementCategory(Name requirementCategoryName) {
+        requireNonNull(requirementCategoryName);
+
+        return state.getRequirementCategories().contains(requirementCategoryName);
+    }
+
+    @Override
+    public boolean hasRequirementCategory(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return state.getRequirementCategories().contains(requirementCategory);
+    }
+
+    @Override
+    public RequirementCategory getRequirementCategory(Name requirementCategoryName) {
+        requireNonNull(requirementCategoryName);
+
+        return state.getRequirementCategories().getRequirementCategory(requirementCategoryName);
+    }
+
+    @Override
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return state.getRequirementCategories().getRequirementCategoryByCode(code);
+    }
+
+    @Override
+    public int getFulfilledCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return state.getRequirementCategories().getFulfilledCredits(requirementCategory);
+    }
+
+    @Override
+    public void addRequirementCategory(RequirementCategory requirementCategory) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setRequirementCategory(RequirementCategory target, RequirementCategory editedRequirementCategory) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ObservableList<RequirementCategory> getFilteredRequirementCategoryList() {
+        return filteredRequirementCategories;
+    }
+
+    @Override
+    public void updateFilteredRequirementCategoryList(Predicate<RequirementCategory> predicate) {
+        requireNonNull(predicate);
+
+        filteredRequirementCategories = filter(state.getRequirementCategoryList(), predicate);
+        if (selectedRequirementCategory.getValue() != null
+                && !filteredRequirementCategories.contains(selectedRequirementCategory.getValue())) {
+            selectedRequirementCategory.setValue(null);
+        }
+    }
+
+    @Override
+    public ReadOnlyProperty<RequirementCategory> selectedRequirementCategoryProperty() {
+        return selectedRequirementCategory;
+    }
+
+    @Override
+    public RequirementCategory getSelectedRequirementCategory() {
+        return selectedRequirementCategory.getValue();
+    }
+
+    @Override
+    public void setSelectedRequirementCategory(RequirementCategory requirementCategory) {
+        if (requirementCategory != null && !filteredRequirementCategories.contains(requirementCategory)) {
+            throw new ModuleNotFoundException();
+        }
+        selectedRequirementCategory.setValue(requirementCategory);
+    }
+}
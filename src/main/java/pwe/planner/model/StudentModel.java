@@ -0,0 +1,491 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleCatalog;
+import pwe.planner.model.module.ModuleWordIndex;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.module.exceptions.ModuleNotFoundException;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.query.QueryPlanner;
+import pwe.planner.model.query.SimilarityRanking;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.suggestion.ParallelModuleSuggester;
+
+/**
+ * A model over one {@link StudentState}, on which the commands of a student are executed.
+ *
+ * A student only owns its degree planners, its requirement categories and their undo history, so every method that
+ * would modify the module catalog, which is shared by every student, throws an {@code UnsupportedOperationException},
+ * as do the methods of the user prefs, savepoints and snapshots, which a student does not have.
+ * The filtered lists and selections are kept by each {@code StudentModel} itself. Like {@link SnapshotModel}, filtering
+ * copies the matching elements into a new list instead of wrapping the lists of the student in a {@code FilteredList},
+ * as the student replaces its lists when it copies them on write. Like the student, a {@code StudentModel} should
+ * only be used by one thread at a time.
+ */
+public class StudentModel implements Model {
+
+    public static final String MESSAGE_CATALOG_READ_ONLY =
+            "The module catalog is shared by every student, and cannot be modified by one of them.";
+    public static final String MESSAGE_UNSUPPORTED = "A student has no preferences, savepoints or snapshots.";
+
+    private final StudentState student;
+    private final ModuleCatalog catalog;
+
+    private final SimpleObjectProperty<Module> selectedModule = new SimpleObjectProperty<>();
+    private final SimpleObjectProperty<RequirementCategory> selectedRequirementCategory = new SimpleObjectProperty<>();
+
+    private ObservableList<Module> filteredModules;
+    private Predicate<? super DegreePlanner> degreePlannerPredicate = PREDICATE_SHOW_ALL_DEGREE_PLANNERS;
+    private Predicate<? super RequirementCategory> requirementCategoryPredicate =
+            PREDICATE_SHOW_ALL_REQUIREMENT_CATEGORIES;
+
+    /**
+     * Creates a {@code StudentModel} over {@code student}.
+     */
+    public StudentModel(StudentState student) {
+        requireNonNull(student);
+
+        this.student = student;
+        catalog = student.getCatalog();
+        filteredModules = catalog.getModuleList();
+    }
+
+    /**
+     * Returns an unmodifiable list of the elements of {@code list} that satisfy {@code predicate}.
+     */
+    private static <T> ObservableList<T> filter(List<T> list, Predicate<? super T> predicate) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(
+                list.stream().filter(predicate).collect(Collectors.toList())));
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public Path getModuleListFilePath() {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public void setModuleListFilePath(Path moduleListFilePath) {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public Path getDegreePlannerListFilePath() {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public void setDegreePlannerListFilePath(Path degreePlannerListFilePath) {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public Path getRequirementCategoryListFilePath() {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public void setRequirementCategoryListFilePath(Path requirementCategoryListFilePath) {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    //=========== Application ================================================================================
+
+    @Override
+    public ReadOnlyApplication getApplication() {
+        return student;
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return null;
+    }
+
+    @Override
+    public void enableSnapshots() {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public MutationBatch batch() {
+        // the student has no filtered lists to update, and notifies its listeners of every mutation on its own
+        return new MutationBatch(() -> { });
+    }
+
+    @Override
+    public ModelTransaction beginTransaction() {
+        return new ModelTransaction(this);
+    }
+
+    @Override
+    public void setApplication(ReadOnlyApplication application) {
+        throw new UnsupportedOperationException(MESSAGE_CATALOG_READ_ONLY);
+    }
+
+    @Override
+    public void resetRequirement() {
+        student.resetRequirement();
+    }
+
+    @Override
+    public void resetPlanner() {
+        student.resetPlanner();
+    }
+
+    @Override
+    public boolean hasModule(Module module) {
+        requireNonNull(module);
+
+        return catalog.hasModuleCode(module.getCode());
+    }
+
+    @Override
+    public Module getModuleByCode(Code code) {
+        requireNonNull(code);
+
+        return catalog.getModuleByCode(code);
+    }
+
+    @Override
+    public boolean hasModuleCode(Code code) {
+        requireNonNull(code);
+
+        return catalog.hasModuleCode(code);
+    }
+
+    @Override
+    public Set<Code> getCorequisiteCluster(Code code) {
+        requireNonNull(code);
+
+        return catalog.getCorequisiteCluster(code);
+    }
+
+    @Override
+    public ModuleWordIndex getModuleWordIndex() {
+        return catalog.getWordIndex();
+    }
+
+    @Override
+    public ParallelModuleSuggester getParallelSuggester() {
+        // suggestions for a student are scored on the thread that executes its command
+        return null;
+    }
+
+    @Override
+    public void setParallelSuggester(ParallelModuleSuggester suggester) {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public void deleteModule(Module target) {
+        throw new UnsupportedOperationException(MESSAGE_CATALOG_READ_ONLY);
+    }
+
+    @Override
+    public void addModule(Module module) {
+        throw new UnsupportedOperationException(MESSAGE_CATALOG_READ_ONLY);
+    }
+
+    @Override
+    public void editModule(Module target, Module editedModule) {
+        throw new UnsupportedOperationException(MESSAGE_CATALOG_READ_ONLY);
+    }
+
+    @Override
+    public void setModule(Module target, Module editedModule) {
+        throw new UnsupportedOperationException(MESSAGE_CATALOG_READ_ONLY);
+    }
+
+    //=========== Filtered Module List Accessors =============================================================
+
+    @Override
+    public ObservableList<Module> getFilteredModuleList() {
+        return filteredModules;
+    }
+
+    @Override
+    public void updateFilteredModuleList(Predicate<Module> predicate) {
+        requireNonNull(predicate);
+
+        // keyword searches are planned against the word index of the catalog, as in ModelManager
+        Predicate<Module> boundPredicate = QueryPlanner.isIndexable(predicate)
+                ? QueryPlanner.bind(predicate, catalog.getWordIndex())
+                : predicate;
+        List<Module> modules = catalog.getModuleList().stream().filter(boundPredicate).collect(Collectors.toList());
+        SimilarityRanking ranking = SimilarityRanking.of(predicate);
+        if (ranking != null) {
+            modules.sort(ranking);
+        }
+        filteredModules = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(modules));
+        if (selectedModule.getValue() != null && !filteredModules.contains(selectedModule.getValue())) {
+            selectedModule.setValue(null);
+        }
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public boolean canUndoApplication() {
+        return student.canUndo();
+    }
+
+    @Override
+    public boolean canRedoApplication() {
+        return student.canRedo();
+    }
+
+    @Override
+    public void undoApplication() {
+        student.undo();
+    }
+
+    @Override
+    public void redoApplication() {
+        student.redo();
+    }
+
+    @Override
+    public void commitApplication() {
+        student.commit();
+    }
+
+    @Override
+    public void setSavepoint() {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public void releaseSavepoint() {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public void rollbackToSavepoint() {
+        throw new UnsupportedOperationException(MESSAGE_UNSUPPORTED);
+    }
+
+    @Override
+    public int getUndoHistorySize() {
+        return student.getHistorySize();
+    }
+
+    @Override
+    public int getUndoHistoryInMemorySize() {
+        // the history of a student is never spilled
+        return student.getHistorySize();
+    }
+
+    @Override
+    public void close() {
+        // the history of a student is held in memory only
+    }
+
+    //=========== Selected module ===========================================================================
+
+    @Override
+    public ReadOnlyProperty<Module> selectedModuleProperty() {
+        return selectedModule;
+    }
+
+    @Override
+    public Module getSelectedModule() {
+        return selectedModule.getValue();
+    }
+
+    @Override
+    public void setSelectedModule(Module module) {
+        if (module != null && !filteredModules.contains(module)) {
+            throw new ModuleNotFoundException();
+        }
+        selectedModule.setValue(module);
+    }
+
+    //=========== DegreePlannerList Methods =================================================================
+
+    @Override
+    public boolean hasDegreePlanner(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        return student.hasDegreePlanner(degreePlanner);
+    }
+
+    @Override
+    public DegreePlanner getDegreePlanner(Year year, Semester semester) {
+        requireAllNonNull(year, semester);
+
+        return student.getDegreePlanner(year, semester);
+    }
+
+    @Override
+    public DegreePlanner getDegreePlannerByCode(Code code) {
+        requireNonNull(code);
+
+        return student.getDegreePlannerByCode(code);
+    }
+
+    @Override
+    public void deleteDegreePlanner(DegreePlanner degreePlanner) {
+        student.removeDegreePlanner(degreePlanner);
+    }
+
+    @Override
+    public void addDegreePlanner(DegreePlanner degreePlanner) {
+        student.addDegreePlanner(degreePlanner);
+    }
+
+    @Override
+    public void setDegreePlanner(DegreePlanner target, DegreePlanner editedDegreePlanner) {
+        requireAllNonNull(target, editedDegreePlanner);
+
+        student.setDegreePlanner(target, editedDegreePlanner);
+    }
+
+    @Override
+    public void moveModuleBetweenPlanner(DegreePlanner sourcePlanner, DegreePlanner destinationPlanner, Code code) {
+        requireAllNonNull(sourcePlanner, destinationPlanner, code);
+
+        student.moveModuleBetweenPlanner(sourcePlanner, destinationPlanner, code);
+    }
+
+    /**
+     * Returns the degree planners of the student that satisfy the current filter, as of this call.
+     */
+    @Override
+    public ObservableList<DegreePlanner> getFilteredDegreePlannerList() {
+        return filter(student.getDegreePlannerList(), degreePlannerPredicate);
+    }
+
+    @Override
+    public void updateFilteredDegreePlannerList(Predicate<DegreePlanner> predicate) {
+        requireNonNull(predicate);
+
+        degreePlannerPredicate = predicate;
+    }
+
+    //=========== RequirementCategoryList Methods ===========================================================
+
+    @Override
+    public boolean hasRequirementCategory(Name requirementCategoryName) {
+        requireNonNull(requirementCategoryName);
+
+        return student.hasRequirementCategory(requirementCategoryName);
+    }
+
+    @Override
+    public boolean hasRequirementCategory(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return student.hasRequirementCategory(requirementCategory);
+    }
+
+    @Override
+    public RequirementCategory getRequirementCategory(Name requirementCategoryName) {
+        requireNonNull(requirementCategoryName);
+
+        return student.getRequirementCategory(requirementCategoryName);
+    }
+
+    @Override
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return student.getRequirementCategoryByCode(code);
+    }
+
+    @Override
+    public int getFulfilledCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return student.getFulfilledCredits(requirementCategory);
+    }
+
+    @Override
+    public void addRequirementCategory(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        student.addRequirementCategory(requirementCategory);
+        updateFilteredRequirementCategoryList(PREDICATE_SHOW_ALL_REQUIREMENT_CATEGORIES);
+    }
+
+    @Override
+    public void setRequirementCategory(RequirementCategory target, RequirementCategory editedRequirementCategory) {
+        requireAllNonNull(target, editedRequirementCategory);
+
+        student.setRequirementCategory(target, editedRequirementCategory);
+    }
+
+    /**
+     * Returns the requirement categories of the student that satisfy the current filter, as of this call.
+     */
+    @Override
+    public ObservableList<RequirementCategory> getFilteredRequirementCategoryList() {
+        return filter(student.getRequirementCategoryList(), requirementCategoryPredicate);
+    }
+
+    @Override
+    public void updateFilteredRequirementCategoryList(Predicate<RequirementCategory> predicate) {
+        requireNonNull(predicate);
+
+        requirementCategoryPredicate = predicate;
+        if (selectedRequirementCategory.getValue() != null
+                && !getFilteredRequirementCategoryList().contains(selectedRequirementCategory.getValue())) {
+            selectedRequirementCategory.setValue(null);
+        }
+    }
+
+    @Override
+    public ReadOnlyProperty<RequirementCategory> selectedRequirementCategoryProperty() {
+        return selectedRequirementCategory;
+    }
+
+    @Override
+    public RequirementCategory getSelectedRequirementCategory() {
+        return selectedRequirementCategory.getValue();
+    }
+
+    @Override
+    public void setSelectedRequirementCategory(RequirementCategory requirementCategory) {
+        if (requirementCategory != null && !getFilteredRequirementCategoryList().contains(requirementCategory)) {
+            throw new ModuleNotFoundException();
+        }
+        selectedRequirementCategory.setValue(requirementCategory);
+    }
+}
@@ -0,0 +1,78 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.model.VersionedApplication.MESSAGE_HISTORY_LIMIT_CONSTRAINTS;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import pwe.planner.model.module.ModuleCatalog;
+
+/**
+ * The students hosted in one JVM, which are all backed by the {@link ModuleCatalog} of one {@link PlanTemplate}.
+ * A student is created from the template the first time it is looked up.
+ * Students can be looked up by many threads at once, but each {@link StudentState} should only be used by one thread
+ * at a time.
+ */
+public class StudentRegistry {
+
+    private final PlanTemplate template;
+    private final int historyLimit;
+    private final ConcurrentMap<String, StudentState> idToStudent = new ConcurrentHashMap<>();
+
+    public StudentRegistry(PlanTemplate template) {
+        this(template, UserPrefs.DEFAULT_UNDO_HISTORY_IN_MEMORY_LIMIT);
+    }
+
+    /**
+     * Creates a registry of students created from {@code template}, which keep at most {@code historyLimit} undo
+     * history entries each.
+     */
+    public StudentRegistry(PlanTemplate template, int historyLimit) {
+        requireNonNull(template);
+        checkArgument(historyLimit > 0, MESSAGE_HISTORY_LIMIT_CONSTRAINTS);
+
+        this.template = template;
+        this.historyLimit = historyLimit;
+    }
+
+    public ModuleCatalog getCatalog() {
+        return template.getCatalog();
+    }
+
+    /**
+     * Returns the student with {@code studentId}, creating it from the template if there is no such student.
+     */
+    public StudentState getOrCreateStudent(String studentId) {
+        requireNonNull(studentId);
+
+        return idToStudent.computeIfAbsent(studentId, id -> template.createStudent(historyLimit));
+    }
+
+    /**
+     * Returns the student with {@code studentId}, if there is one.
+     */
+    public Optional<StudentState> getStudent(String studentId) {
+        requireNonNull(studentId);
+
+        return Optional.ofNullable(idToStudent.get(studentId));
+    }
+
+    /**
+     * Removes the student with {@code studentId}, if there is one.
+     */
+    public void removeStudent(String studentId) {
+        requireNonNull(studentId);
+
+        idToStudent.remove(studentId);
+    }
+
+    /**
+     * Returns the number of students.
+     */
+    public int size() {
+        return idToStudent.size();
+    }
+}
@@ -0,0 +1,456 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+import static pwe.planner.model.VersionedApplication.MESSAGE_HISTORY_LIMIT_CONSTRAINTS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
+import pwe.planner.commons.util.InvalidationListenerManager;
+import pwe.planner.model.VersionedApplication.NoRedoableStateException;
+import pwe.planner.model.VersionedApplication.NoUndoableStateException;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleCatalog;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.UniqueDegreePlannerList;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.requirement.UniqueRequirementCategoryList;
+
+/**
+ * The data of one student, backed by a {@link ModuleCatalog} that is shared with other students.
+ * <p>
+ * A student only owns a degree planner list, a requirement category list and their undo history, which are small
+ * compared to the catalog, so many students can be held in one JVM. Like the history of {@link VersionedApplication},
+ * the undo history holds a limited number of entries, beyond which the oldest entries are discarded. The catalog
+ * cannot be modified through a student.
+ * <p>
+ * The lists are copied on write: a student created from a {@link PlanTemplate} shares the lists of the template, and
+ * only copies a list the first time it is modified. A commit freezes the current lists as a template at the end of the
+ * history without copying them, and undo and redo share the lists of the template they restore, so that every state
+ * in the history costs at most one copy of each list that was modified after it. As the lists may be replaced, the
+ * lists returned by {@link #getDegreePlannerList()} and {@link #getRequirementCategoryList()} should be obtained again
+ * whenever the listeners of the student are notified.
+ * <p>
+ * Like {@link Application}, a student should only be used by one thread at a time, but different students can be used
+ * by different threads at once, as the catalog and the templates they share are only ever read.
+ */
+public class StudentState implements ReadOnlyApplication {
+
+    private final ModuleCatalog catalog;
+    private final List<PlanTemplate> history = new ArrayList<>();
+    private final int historyLimit;
+    private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private int currentStatePointer;
+
+    private UniqueDegreePlannerList degreePlanners;
+    private UniqueRequirementCategoryList requirementCategories;
+    private boolean ownsDegreePlanners;
+    private boolean ownsRequirementCategories;
+
+    /**
+     * Creates a student with the degree plan of {@code template}, which is the first state of its history, and
+     * keeps the default number of undo history entries of {@link UserPrefs}.
+     */
+    public StudentState(PlanTemplate template) {
+        this(template, UserPrefs.DEFAULT_UNDO_HISTORY_IN_MEMORY_LIMIT);
+    }
+
+    /**
+     * Creates a student with the degree plan of {@code template}, which is the first state of its history, and
+     * keeps at most {@code historyLimit} undo history entries.
+     */
+    public StudentState(PlanTemplate template, int historyLimit) {
+        requireNonNull(template);
+        checkArgument(historyLimit > 0, MESSAGE_HISTORY_LIMIT_CONSTRAINTS);
+
+        this.historyLimit = historyLimit;
+        catalog = template.getCatalog();
+        history.add(template);
+        currentStatePointer = 0;
+        degreePlanners = template.getDegreePlanners();
+        requirementCategories = template.getRequirementCategories();
+    }
+
+    public ModuleCatalog getCatalog() {
+        return catalog;
+    }
+
+    //// planner-level operations
+
+    /**
+     * Returns true if a degree planner with the same identity as {@code degreePlanner} exists in the degree planner
+     * list.
+     */
+    public boolean hasDegreePlanner(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        return degreePlanners.contains(degreePlanner);
+    }
+
+    /**
+     * Returns the degree planner of the given {@code year} and {@code semester}, otherwise returns null.
+     */
+    public DegreePlanner getDegreePlanner(Year year, Semester semester) {
+        requireAllNonNull(year, semester);
+
+        return degreePlanners.getDegreePlanner(year, semester);
+    }
+
+    /**
+     * Returns the degree planner which contains the given {@code code}, otherwise returns null.
+     */
+    public DegreePlanner getDegreePlannerByCode(Code code) {
+        requireNonNull(code);
+
+        return degreePlanners.getDegreePlannerByCode(code);
+    }
+
+    /**
+     * Adds a degree planner to the degree planner list.
+     * The degree planner must not already exist in the degree planner list.
+     */
+    public void addDegreePlanner(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        getOwnDegreePlanners().add(degreePlanner);
+        indicateModified();
+    }
+
+    /**
+     * Replaces the given degree planner {@code target} in the list with {@code editedDegreePlanner}.
+     * {@code target} must exist in the degree planner list.
+     */
+    public void setDegreePlanner(DegreePlanner target, DegreePlanner editedDegreePlanner) {
+        requireAllNonNull(target, editedDegreePlanner);
+
+        getOwnDegreePlanners().setDegreePlanner(target, editedDegreePlanner);
+        indicateModified();
+    }
+
+    /**
+     * Removes {@code key} from the degree planner list.
+     * {@code key} must exist in the degree planner list.
+     */
+    public void removeDegreePlanner(DegreePlanner key) {
+        requireNonNull(key);
+
+        getOwnDegreePlanners().remove(key);
+        indicateModified();
+    }
+
+    /**
+     * Moves {@code code}, along with its co-requisites, from {@code sourcePlanner} to {@code destinationPlanner}.
+     */
+    public void moveModuleBetweenPlanner(DegreePlanner sourcePlanner, DegreePlanner destinationPlanner, Code code) {
+        requireAllNonNull(sourcePlanner, destinationPlanner, code);
+
+        UniqueDegreePlannerList ownDegreePlanners = getOwnDegreePlanners();
+        Set<Code> codesToMove = new CodeSet(catalog.getCorequisiteCluster(code));
+        for (Code codeToMove : codesToMove) {
+            DegreePlanner sourceDegreePlanner = ownDegreePlanners.getDegreePlannerByCode(codeToMove);
+            Set<Code> editedSourceDegreePlannerCodes = new CodeSet(sourceDegreePlanner.getCodes());
+            editedSourceDegreePlannerCodes.remove(codeToMove);
+            ownDegreePlanners.setDegreePlanner(sourceDegreePlanner, new DegreePlanner(sourceDegreePlanner.getYear(),
+                    sourceDegreePlanner.getSemester(), editedSourceDegreePlannerCodes));
+        }
+
+        Set<Code> editedDestinationPlannerCodes = new CodeSet(destinationPlanner.getCodes());
+        editedDestinationPlannerCodes.addAll(codesToMove);
+        // the destination planner is looked up again, as the codes could have been removed from it
+        DegreePlanner targetDestinationPlanner =
+                ownDegreePlanners.getDegreePlanner(destinationPlanner.getYear(), destinationPlanner.getSemester());
+        ownDegreePlanners.setDegreePlanner(targetDestinationPlanner, new DegreePlanner(destinationPlanner.getYear(),
+                destinationPlanner.getSemester(), editedDestinationPlannerCodes));
+        indicateModified();
+    }
+
+    /**
+     * Removes every module from the degree planners, keeping the degree planners themselves.
+     */
+    public void resetPlanner() {
+        List<DegreePlanner> editedDegreePlanners = new ArrayList<>();
+        for (DegreePlanner degreePlanner : degreePlanners) {
+            editedDegreePlanners.add(new DegreePlanner(degreePlanner.getYear(), degreePlanner.getSemester(), Set.of()));
+        }
+        // the list is replaced as a whole, so the shared list is not copied first
+        degreePlanners = new UniqueDegreePlannerList();
+        degreePlanners.setDegreePlanners(editedDegreePlanners);
+        ownsDegreePlanners = true;
+        indicateModified();
+    }
+
+    //// requirement-level operations
+
+    /**
+     * Returns true if a requirement category with {@code requirementCategoryName} exists in the requirement list.
+     */
+    public boolean hasRequirementCategory(Name requirementCategoryName) {
+        requireNonNull(requirementCategoryName);
+
+        return requirementCategories.contains(requirementCategoryName);
+    }
+
+    /**
+     * Returns true if a requirement category with the same identity as {@code requirementCategory} exists in the
+     * requirement list.
+     */
+    public boolean hasRequirementCategory(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return requirementCategories.contains(requirementCategory);
+    }
+
+    /**
+     * Returns the requirement category with {@code requirementCategoryName}, otherwise returns null.
+     */
+    public RequirementCategory getRequirementCategory(Name requirementCategoryName) {
+        requireNonNull(requirementCategoryName);
+
+        return requirementCategories.getRequirementCategory(requirementCategoryName);
+    }
+
+    /**
+     * Returns the requirement category which contains the given {@code code}, otherwise returns null.
+     */
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return requirementCategories.getRequirementCategoryByCode(code);
+    }
+
+    /**
+     * Returns the total credits of the modules in {@code requirementCategory}.
+     * {@code requirementCategory} must exist in the requirement list.
+     */
+    public int getFulfilledCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return requirementCategories.getFulfilledCredits(requirementCategory);
+    }
+
+    /**
+     * Adds a requirement category to the requirement list.
+     * The requirement category must not already exist in the requirement list.
+     */
+    public void addRequirementCategory(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        getOwnRequirementCategories().add(requirementCategory);
+        indicateModified();
+    }
+
+    /**
+     * Replaces the given requirement category {@code target} in the list with {@code editedRequirementCategory}.
+     * {@code target} must exist in the requirement list.
+     */
+    public void setRequirementCategory(RequirementCategory target, RequirementCategory editedRequirementCategory) {
+        requireAllNonNull(target, editedRequirementCategory);
+
+        getOwnRequirementCategories().setRequirementCategory(target, editedRequirementCategory);
+        indicateModified();
+    }
+
+    /**
+     * Removes {@code key} from the requirement list.
+     * {@code key} must exist in the requirement list.
+     */
+    public void removeRequirementCategory(RequirementCategory key) {
+        requireNonNull(key);
+
+        getOwnRequirementCategories().remove(key);
+        indicateModified();
+    }
+
+    /**
+     * Removes every module from the requirement categories, keeping the requirement categories themselves.
+     */
+    public void resetRequirement() {
+        List<RequirementCategory> editedRequirementCategories = new ArrayList<>();
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            editedRequirementCategories.add(new RequirementCategory(requirementCategory.getName(),
+                    requirementCategory.getCredits(), Set.of()));
+        }
+        // the list is replaced as a whole, so the shared list is not copied first
+        requirementCategories = new UniqueRequirementCategoryList(catalog::getCreditsOfCode);
+        requirementCategories.setRequirementCategories(editedRequirementCategories);
+        ownsRequirementCategories = true;
+        indicateModified();
+    }
+
+    /**
+     * Returns the degree planner list of this student, copying the shared list first if it is not its own.
+     */
+    private UniqueDegreePlannerList getOwnDegreePlanners() {
+        if (!ownsDegreePlanners) {
+            UniqueDegreePlannerList copy = new UniqueDegreePlannerList();
+            copy.setDegreePlanners(degreePlanners);
+            degreePlanners = copy;
+            ownsDegreePlanners = true;
+        }
+        return degreePlanners;
+    }
+
+    /**
+     * Returns the requirement category list of this student, copying the shared list first if it is not its own.
+     */
+    private UniqueRequirementCategoryList getOwnRequirementCategories() {
+        if (!ownsRequirementCategories) {
+            UniqueRequirementCategoryList copy = new UniqueRequirementCategoryList(catalog::getCreditsOfCode);
+            copy.setRequirementCategories(requirementCategories);
+            requirementCategories = copy;
+            ownsRequirementCategories = true;
+        }
+        return requirementCategories;
+    }
+
+    //// history operations
+
+    /**
+     * Saves the current state at the end of the history.
+     * Undone states are removed from the history, and so are the oldest states beyond the history limit.
+     */
+    public void commit() {
+        history.subList(currentStatePointer + 1, history.size()).clear();
+        history.add(new PlanTemplate(catalog, degreePlanners, requirementCategories));
+        currentStatePointer++;
+        // the initial state is not counted as an entry
+        if (history.size() > historyLimit + 1) {
+            history.remove(0);
+            currentStatePointer--;
+        }
+        // the lists now belong to the history, so they are copied before they are modified again
+        ownsDegreePlanners = false;
+        ownsRequirementCategories = false;
+    }
+
+    /**
+     * Restores the student to its previous state, discarding any changes since the last commit.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+
+        currentStatePointer--;
+        restoreState(history.get(currentStatePointer));
+    }
+
+    /**
+     * Restores the student to its previously undone state.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+
+        currentStatePointer++;
+        restoreState(history.get(currentStatePointer));
+    }
+
+    private void restoreState(PlanTemplate state) {
+        degreePlanners = state.getDegreePlanners();
+        requirementCategories = state.getRequirementCategories();
+        ownsDegreePlanners = false;
+        ownsRequirementCategories = false;
+        indicateModified();
+    }
+
+    /**
+     * Returns true if {@code undo()} has states to undo.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if {@code redo()} has states to redo.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < history.size() - 1;
+    }
+
+    /**
+     * Returns the number of entries in the history, not counting the initial state.
+     */
+    public int getHistorySize() {
+        return history.size() - 1;
+    }
+
+    //// listener methods
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        requireNonNull(listener);
+
+        invalidationListenerManager.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        requireNonNull(listener);
+
+        invalidationListenerManager.removeListener(listener);
+    }
+
+    /**
+     * Notifies listeners that the student has been modified.
+     */
+    private void indicateModified() {
+        invalidationListenerManager.callListeners(this);
+    }
+
+    //// util methods
+
+    @Override
+    public ObservableList<Module> getModuleList() {
+        return catalog.getModuleList();
+    }
+
+    @Override
+    public ObservableList<DegreePlanner> getDegreePlannerList() {
+        return degreePlanners.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public ObservableList<RequirementCategory> getRequirementCategoryList() {
+        return requirementCategories.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentState)) {
+            return false;
+        }
+
+        StudentState otherStudentState = (StudentState) other;
+
+        // state check
+        return catalog.equals(otherStudentState.catalog)
+                && degreePlanners.equals(otherStudentState.degreePlanners)
+                && requirementCategories.equals(otherStudentState.requirementCategories)
+                && history.equals(otherStudentState.history)
+                && currentStatePointer == otherStudentState.currentStatePointer;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(catalog, degreePlanners, requirementCategories, currentStatePointer);
+    }
+}
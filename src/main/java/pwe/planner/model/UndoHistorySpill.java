@@ -0,0 +1,49 @@
+package pwe.planner.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Stores the oldest entries of an undo history outside of memory.
+ * Entries are numbered from 0 in the order that they are spilled, and are renumbered when the oldest entries are
+ * discarded.
+ */
+public interface UndoHistorySpill extends Closeable {
+
+    /**
+     * Stores {@code delta} as the entry following all previously spilled entries.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void spill(ApplicationDelta delta) throws IOException;
+
+    /**
+     * Returns the spilled entry at {@code index}.
+     *
+     * @throws IOException if there was any problem reading from the storage, or the entry could not be restored.
+     */
+    ApplicationDelta load(int index) throws IOException;
+
+    /**
+     * Discards all spilled entries from {@code size} onwards, so that {@code size} entries remain.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void truncate(int size) throws IOException;
+
+    /**
+     * Discards the oldest {@code count} spilled entries, so that the entry at {@code count} becomes the entry at 0.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void discardOldest(int count) throws IOException;
+
+    /**
+     * Discards all spilled entries, and releases the storage that holds them.
+     * Entries can still be spilled afterwards, starting from 0 again.
+     *
+     * @throws IOException if there was any problem releasing the storage.
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -1,6 +1,7 @@
 package pwe.planner.model;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,11 +14,17 @@ import pwe.planner.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_IN_MEMORY_LIMIT = 50;
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 1000;
+
     private GuiSettings guiSettings = new GuiSettings();
 
     private Path moduleListFilePath = Paths.get("data", "moduleList.json");
     private Path degreePlannerListFilePath = Paths.get("data", "degreePlannerList.json");
     private Path requirementCategoryListFilePath = Paths.get("data", "requirementCategoryList.json");
+    private int undoHistoryInMemoryLimit = DEFAULT_UNDO_HISTORY_IN_MEMORY_LIMIT;
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private Path undoHistorySpillDirectory = Paths.get("data");
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -44,7 +51,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setModuleListFilePath(newUserPrefs.getModuleListFilePath());
         setDegreePlannerListFilePath(newUserPrefs.getDegreePlannerListFilePath());
         setRequirementCategoryListFilePath(newUserPrefs.getRequirementCategoryListFilePath());
-
+        setUndoHistoryInMemoryLimit(newUserPrefs.getUndoHistoryInMemoryLimit());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setUndoHistorySpillDirectory(newUserPrefs.getUndoHistorySpillDirectory());
     }
 
     public GuiSettings getGuiSettings() {
@@ -87,6 +96,44 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.requirementCategoryListFilePath = requirementCategoryListFilePath;
     }
 
+    public int getUndoHistoryInMemoryLimit() {
+        return undoHistoryInMemoryLimit;
+    }
+
+    /**
+     * Sets the maximum number of undo history entries kept in memory.
+     * Older entries are spilled to a file in {@link #getUndoHistorySpillDirectory()}.
+     */
+    public void setUndoHistoryInMemoryLimit(int undoHistoryInMemoryLimit) {
+        checkArgument(undoHistoryInMemoryLimit > 0, VersionedApplication.MESSAGE_HISTORY_LIMIT_CONSTRAINTS);
+
+        this.undoHistoryInMemoryLimit = undoHistoryInMemoryLimit;
+    }
+
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    /**
+     * Sets the maximum number of undo history entries, including the entries spilled out of memory.
+     * The oldest entries beyond that are discarded.
+     */
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit > 0, VersionedApplication.MESSAGE_HISTORY_LIMIT_CONSTRAINTS);
+
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public Path getUndoHistorySpillDirectory() {
+        return undoHistorySpillDirectory;
+    }
+
+    public void setUndoHistorySpillDirectory(Path undoHistorySpillDirectory) {
+        requireNonNull(undoHistorySpillDirectory);
+
+        this.undoHistorySpillDirectory = undoHistorySpillDirectory;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -100,13 +147,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && moduleListFilePath.toAbsolutePath().equals(o.moduleListFilePath.toAbsolutePath())
-                && degreePlannerListFilePath.toAbsolutePath().equals(o.degreePlannerListFilePath.toAbsolutePath());
+                && degreePlannerListFilePath.toAbsolutePath().equals(o.degreePlannerListFilePath.toAbsolutePath())
+                && undoHistoryInMemoryLimit == o.undoHistoryInMemoryLimit
+                && undoHistoryLimit == o.undoHistoryLimit
+                && undoHistorySpillDirectory.toAbsolutePath().equals(o.undoHistorySpillDirectory.toAbsolutePath());
 
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, moduleListFilePath, degreePlannerListFilePath);
+        return Objects.hash(guiSettings, moduleListFilePath, degreePlannerListFilePath, undoHistoryInMemoryLimit,
+                undoHistoryLimit, undoHistorySpillDirectory);
     }
 
     @Override
@@ -123,6 +174,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 .append('\n')
                 .append("Local data file location for degree planner list: ")
                 .append(Paths.get("").toAbsolutePath().relativize(degreePlannerListFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Undo history entries kept in memory: ")
+                .append(undoHistoryInMemoryLimit)
+                .append('\n')
+                .append("Undo history entries kept: ")
+                .append(undoHistoryLimit)
+                .append('\n')
+                .append("Local directory for older undo history entries: ")
+                .append(Paths.get("").toAbsolutePath().relativize(undoHistorySpillDirectory.toAbsolutePath()))
                 .toString();
     }
 
@@ -2,61 +2,407 @@ package pwe.planner.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.util.PersistentList;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
 
 /**
  * {@code Application} that keeps track of its own history.
+ * <p>
+ * Every change to the module, degree planner and requirement category lists is recorded as a {@link ListEdit} as it
+ * happens, and a commit saves the edits since the previous commit as a single {@link ApplicationDelta}. The history
+ * therefore only costs memory proportional to what changed. Undo and redo apply the deltas to an
+ * {@link ApplicationSnapshot} of the current state, and reset the application to the result.
+ * <p>
+ * At most {@code inMemoryHistoryLimit} deltas are kept in memory. Older deltas are handed to an
+ * {@link UndoHistorySpill} if there is one, and are otherwise discarded. At most {@code historyLimit} deltas are kept
+ * in all, beyond which the oldest spilled deltas are discarded as well.
  */
 public class VersionedApplication extends Application {
 
-    private final List<ReadOnlyApplication> applicationStateList;
+    public static final String MESSAGE_HISTORY_LIMIT_CONSTRAINTS =
+            "The undo history must be able to hold at least one entry.";
+
+    private static final Logger logger = LogsCenter.getLogger(VersionedApplication.class);
+
+    private final List<ApplicationDelta> inMemoryHistory = new ArrayList<>();
+    private final int inMemoryHistoryLimit;
+    private final int historyLimit;
+    private final UndoHistorySpill spill;
+    private int spilledHistorySize;
+    /** The number of oldest spilled entries discarded to keep within {@code historyLimit}. */
+    private int discardedOldestHistorySize;
+    /** Incremented whenever spilled entries are discarded, which a {@link Savepoint} cannot restore. */
+    private int spillTruncationCount;
     private int currentStatePointer;
 
+    private ApplicationSnapshot currentState;
+    private final List<ListEdit<Module>> pendingModuleEdits = new ArrayList<>();
+    private final List<ListEdit<DegreePlanner>> pendingDegreePlannerEdits = new ArrayList<>();
+    private final List<ListEdit<RequirementCategory>> pendingRequirementCategoryEdits = new ArrayList<>();
+    private boolean isRestoringState;
+
+    /**
+     * Creates a {@code VersionedApplication} that keeps its whole history in memory.
+     */
     public VersionedApplication(ReadOnlyApplication initialState) {
+        this(initialState, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code VersionedApplication} that keeps at most {@code inMemoryHistoryLimit} history entries, and
+     * discards the oldest entries beyond that.
+     */
+    public VersionedApplication(ReadOnlyApplication initialState, int inMemoryHistoryLimit) {
+        this(initialState, inMemoryHistoryLimit, null);
+    }
+
+    /**
+     * Creates a {@code VersionedApplication} that keeps at most {@code inMemoryHistoryLimit} history entries in
+     * memory, and spills the oldest entries beyond that to {@code spill}.
+     * If {@code spill} is null, the oldest entries are discarded instead.
+     */
+    public VersionedApplication(ReadOnlyApplication initialState, int inMemoryHistoryLimit, UndoHistorySpill spill) {
+        this(initialState, inMemoryHistoryLimit, spill, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code VersionedApplication} that keeps at most {@code inMemoryHistoryLimit} history entries in
+     * memory, spills the oldest entries beyond that to {@code spill}, and keeps at most {@code historyLimit} entries
+     * in all. If {@code spill} is null, the oldest entries beyond {@code inMemoryHistoryLimit} are discarded instead.
+     */
+    public VersionedApplication(ReadOnlyApplication initialState, int inMemoryHistoryLimit, UndoHistorySpill spill,
+            int historyLimit) {
         super(initialState);
         requireNonNull(initialState);
+        if (inMemoryHistoryLimit < 1 || historyLimit < 1) {
+            throw new IllegalArgumentException(MESSAGE_HISTORY_LIMIT_CONSTRAINTS);
+        }
 
-        applicationStateList = new ArrayList<>();
-        applicationStateList.add(new Application(initialState));
+        this.inMemoryHistoryLimit = inMemoryHistoryLimit;
+        this.historyLimit = historyLimit;
+        this.spill = spill;
         currentStatePointer = 0;
+
+        currentState = ApplicationSnapshot.of(this);
+        getModuleList().addListener((ListChangeListener<Module>) change -> {
+            if (!isRestoringState) {
+                currentState = currentState.withModules(
+                        recordChange(currentState.getModules(), change, pendingModuleEdits));
+            }
+        });
+        getDegreePlannerList().addListener((ListChangeListener<DegreePlanner>) change -> {
+            if (!isRestoringState) {
+                currentState = currentState.withDegreePlanners(
+                        recordChange(currentState.getDegreePlanners(), change, pendingDegreePlannerEdits));
+            }
+        });
+        getRequirementCategoryList().addListener((ListChangeListener<RequirementCategory>) change -> {
+            if (!isRestoringState) {
+                currentState = currentState.withRequirementCategories(recordChange(
+                        currentState.getRequirementCategories(), change, pendingRequirementCategoryEdits));
+            }
+        });
+    }
+
+    /**
+     * Records {@code change} as {@code ListEdit}s at the end of {@code edits}.
+     *
+     * @return {@code list} with {@code change} applied to it.
+     */
+    private static <T> PersistentList<T> recordChange(PersistentList<T> list,
+            ListChangeListener.Change<? extends T> change, List<ListEdit<T>> edits) {
+        PersistentList<T> changedList = list;
+        while (change.next()) {
+            ListEdit<T> edit = change.wasPermutated()
+                    ? new ListEdit<>(0, changedList.toList(), change.getList())
+                    : new ListEdit<>(change.getFrom(), change.getRemoved(), change.getAddedSubList());
+            edits.add(edit);
+            changedList = edit.applyTo(changedList);
+        }
+        return changedList;
     }
 
     /**
-     * Saves a copy of the current {@code Application} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the current {@code Application} state at the end of the history.
+     * Undone states are removed from the history.
      */
     public void commit() {
+        requireNoBatchInProgress();
+
         removeStatesAfterCurrentPointer();
-        applicationStateList.add(new Application(this));
+        inMemoryHistory.add(new ApplicationDelta(pendingModuleEdits, pendingDegreePlannerEdits,
+                pendingRequirementCategoryEdits));
+        clearPendingEdits();
         currentStatePointer++;
+        enforceHistoryLimits();
         indicateModified();
     }
 
+    /**
+     * Throws an {@code IllegalStateException} if a batch of mutations is in progress, as the changes made within it
+     * are only recorded when the batch is closed.
+     */
+    private void requireNoBatchInProgress() {
+        if (isInBatch()) {
+            throw new IllegalStateException("The undo history cannot be changed while a batch is in progress.");
+        }
+    }
+
     private void removeStatesAfterCurrentPointer() {
-        applicationStateList.subList(currentStatePointer + 1, applicationStateList.size()).clear();
+        if (currentStatePointer >= spilledHistorySize) {
+            inMemoryHistory.subList(currentStatePointer - spilledHistorySize, inMemoryHistory.size()).clear();
+            return;
+        }
+
+        inMemoryHistory.clear();
+        spillTruncationCount++;
+        try {
+            spill.truncate(currentStatePointer);
+            spilledHistorySize = currentStatePointer;
+        } catch (IOException ioe) {
+            logger.warning("Unable to discard undone states from the undo history: " + ioe);
+            discardSpilledHistory();
+        }
+    }
+
+    /**
+     * Discards the oldest history entries until at most {@code historyLimit} entries remain, and moves the oldest
+     * history entries out of memory until at most {@code inMemoryHistoryLimit} entries remain in memory.
+     */
+    private void enforceHistoryLimits() {
+        int excessSpilledHistorySize = Math.min(getHistorySize() - historyLimit, spilledHistorySize);
+        if (excessSpilledHistorySize > 0) {
+            try {
+                spill.discardOldest(excessSpilledHistorySize);
+                spilledHistorySize -= excessSpilledHistorySize;
+                discardedOldestHistorySize += excessSpilledHistorySize;
+                currentStatePointer -= excessSpilledHistorySize;
+            } catch (IOException ioe) {
+                logger.warning("Unable to discard the oldest spilled undo history entries: " + ioe);
+                discardSpilledHistory();
+            }
+        }
+        while (getHistorySize() > historyLimit) {
+            inMemoryHistory.remove(0);
+            currentStatePointer--;
+        }
+
+        while (inMemoryHistory.size() > inMemoryHistoryLimit) {
+            ApplicationDelta oldestDelta = inMemoryHistory.remove(0);
+            if (spill == null) {
+                currentStatePointer--;
+                continue;
+            }
+
+            try {
+                spill.spill(oldestDelta);
+                spilledHistorySize++;
+            } catch (IOException ioe) {
+                logger.warning("Unable to spill the undo history, discarding its oldest entries: " + ioe);
+                discardSpilledHistory();
+                currentStatePointer--;
+            }
+        }
+    }
+
+    /**
+     * Discards all spilled history entries, together with any entries that can no longer be reached without them.
+     */
+    private void discardSpilledHistory() {
+        if (currentStatePointer < spilledHistorySize) {
+            inMemoryHistory.clear();
+            currentStatePointer = 0;
+        } else {
+            currentStatePointer -= spilledHistorySize;
+        }
+        spilledHistorySize = 0;
+        spillTruncationCount++;
+
+        try {
+            spill.close();
+        } catch (IOException ioe) {
+            logger.warning("Unable to clear the spilled undo history: " + ioe);
+        }
+    }
+
+    /**
+     * Returns the history entry that leads from the state at {@code index} to the state after it.
+     */
+    private ApplicationDelta getHistoryEntry(int index) throws IOException {
+        if (index < spilledHistorySize) {
+            return spill.load(index);
+        }
+        return inMemoryHistory.get(index - spilledHistorySize);
+    }
+
+    /**
+     * Returns the state of the last commit, or the last undo or redo, whichever happened last.
+     */
+    private ApplicationSnapshot getCommittedState() {
+        ApplicationDelta pendingDelta = new ApplicationDelta(pendingModuleEdits, pendingDegreePlannerEdits,
+                pendingRequirementCategoryEdits);
+        return pendingDelta.revertFrom(currentState);
+    }
+
+    /**
+     * Returns the states of the history that can be reached from the current state without loading spilled entries,
+     * in order.
+     */
+    private List<ApplicationSnapshot> getInMemoryStates() {
+        ApplicationSnapshot committedState = getCommittedState();
+        List<ApplicationSnapshot> states = new ArrayList<>();
+        states.add(committedState);
+        if (currentStatePointer < spilledHistorySize) {
+            return states;
+        }
+
+        ApplicationSnapshot state = committedState;
+        for (int i = currentStatePointer - 1; i >= spilledHistorySize; i--) {
+            state = inMemoryHistory.get(i - spilledHistorySize).revertFrom(state);
+            states.add(0, state);
+        }
+        state = committedState;
+        for (int i = currentStatePointer; i < getHistorySize(); i++) {
+            state = inMemoryHistory.get(i - spilledHistorySize).applyTo(state);
+            states.add(state);
+        }
+        return states;
+    }
+
+    private void clearPendingEdits() {
+        pendingModuleEdits.clear();
+        pendingDegreePlannerEdits.clear();
+        pendingRequirementCategoryEdits.clear();
     }
 
     /**
      * Restores the application to its previous state.
      */
     public void undo() {
+        requireNoBatchInProgress();
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+
+        ApplicationDelta delta;
+        try {
+            delta = getHistoryEntry(currentStatePointer - 1);
+        } catch (IOException ioe) {
+            logger.warning("Unable to load the undo history, discarding its oldest entries: " + ioe);
+            discardSpilledHistory();
+            throw new NoUndoableStateException();
+        }
+
         currentStatePointer--;
-        resetData(applicationStateList.get(currentStatePointer));
+        restoreState(delta.revertFrom(getCommittedState()));
     }
 
     /**
      * Restores the application to its previously undone state.
      */
     public void redo() {
+        requireNoBatchInProgress();
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+
+        ApplicationDelta delta;
+        try {
+            delta = getHistoryEntry(currentStatePointer);
+        } catch (IOException ioe) {
+            logger.warning("Unable to load the undo history, discarding its oldest entries: " + ioe);
+            discardSpilledHistory();
+            throw new NoRedoableStateException();
+        }
+
         currentStatePointer++;
-        resetData(applicationStateList.get(currentStatePointer));
+        restoreState(delta.applyTo(getCommittedState()));
+    }
+
+    /**
+     * Resets the data of this {@code Application} to {@code state}, and continues tracking changes from it.
+     */
+    private void restoreState(ApplicationSnapshot state) {
+        isRestoringState = true;
+        try {
+            resetData(state);
+        } finally {
+            isRestoringState = false;
+        }
+        currentState = state;
+        clearPendingEdits();
+    }
+
+    /**
+     * Returns a savepoint of the current state of the application and its history, which
+     * {@link #rollback(Savepoint)} restores.
+     */
+    public Savepoint savepoint() {
+        requireNoBatchInProgress();
+
+        return new Savepoint(this);
+    }
+
+    /**
+     * Restores the application and its history to {@code savepoint}, discarding every change made after it.
+     * If spilled history entries that existed at the savepoint have been truncated since, or the oldest entries
+     * discarded since include the entries of the current state, the spilled history is discarded as a whole, as it
+     * would be had the entries failed to load. Other oldest entries discarded since stay discarded.
+     */
+    public void rollback(Savepoint savepoint) {
+        requireNonNull(savepoint);
+        requireNoBatchInProgress();
+
+        restoreState(savepoint.currentState);
+        pendingModuleEdits.addAll(savepoint.pendingModuleEdits);
+        pendingDegreePlannerEdits.addAll(savepoint.pendingDegreePlannerEdits);
+        pendingRequirementCategoryEdits.addAll(savepoint.pendingRequirementCategoryEdits);
+        inMemoryHistory.clear();
+        inMemoryHistory.addAll(savepoint.inMemoryHistory);
+        currentStatePointer = savepoint.currentStatePointer;
+
+        int spilledHistorySizeAfterSavepoint = spilledHistorySize;
+        spilledHistorySize = savepoint.spilledHistorySize;
+        int discardedSinceSavepoint = discardedOldestHistorySize - savepoint.discardedOldestHistorySize;
+        if (savepoint.spillTruncationCount != spillTruncationCount
+                || discardedSinceSavepoint > Math.min(currentStatePointer, spilledHistorySize)) {
+            discardSpilledHistory();
+            indicateModified();
+            return;
+        }
+
+        // the oldest entries discarded after the savepoint stay discarded
+        currentStatePointer -= discardedSinceSavepoint;
+        spilledHistorySize -= discardedSinceSavepoint;
+        if (spilledHistorySizeAfterSavepoint > spilledHistorySize) {
+            // the entries spilled after the savepoint are kept in memory again
+            try {
+                spill.truncate(spilledHistorySize);
+            } catch (IOException ioe) {
+                logger.warning("Unable to discard spilled states from the undo history: " + ioe);
+                discardSpilledHistory();
+            }
+        }
+        indicateModified();
+    }
+
+    /**
+     * Discards the spilled history entries, together with any entries that can no longer be reached without them,
+     * and releases the storage of the {@link UndoHistorySpill}.
+     */
+    public void close() {
+        if (spill != null) {
+            discardSpilledHistory();
+        }
     }
 
     /**
@@ -70,7 +416,21 @@ public class VersionedApplication extends Application {
      * Returns true if {@code redo()} has application states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < applicationStateList.size() - 1;
+        return currentStatePointer < getHistorySize();
+    }
+
+    /**
+     * Returns the number of entries in the history, including the entries that were spilled out of memory.
+     */
+    public int getHistorySize() {
+        return spilledHistorySize + inMemoryHistory.size();
+    }
+
+    /**
+     * Returns the number of entries in the history that are kept in memory.
+     */
+    public int getInMemoryHistorySize() {
+        return inMemoryHistory.size();
     }
 
     @Override
@@ -89,15 +449,44 @@ public class VersionedApplication extends Application {
 
         // state check
         return super.equals(otherVersionedApplication)
-                && applicationStateList.equals(otherVersionedApplication.applicationStateList)
+                && getInMemoryStates().equals(otherVersionedApplication.getInMemoryStates())
+                && spilledHistorySize == otherVersionedApplication.spilledHistorySize
                 && currentStatePointer == otherVersionedApplication.currentStatePointer;
     }
 
+    /**
+     * The state of a {@code VersionedApplication} and its history at some point, to be restored by
+     * {@link #rollback(Savepoint)}. The history entries that were spilled at that point are not copied.
+     */
+    public static class Savepoint {
+        private final ApplicationSnapshot currentState;
+        private final List<ListEdit<Module>> pendingModuleEdits;
+        private final List<ListEdit<DegreePlanner>> pendingDegreePlannerEdits;
+        private final List<ListEdit<RequirementCategory>> pendingRequirementCategoryEdits;
+        private final List<ApplicationDelta> inMemoryHistory;
+        private final int spilledHistorySize;
+        private final int discardedOldestHistorySize;
+        private final int spillTruncationCount;
+        private final int currentStatePointer;
+
+        private Savepoint(VersionedApplication application) {
+            currentState = application.currentState;
+            pendingModuleEdits = new ArrayList<>(application.pendingModuleEdits);
+            pendingDegreePlannerEdits = new ArrayList<>(application.pendingDegreePlannerEdits);
+            pendingRequirementCategoryEdits = new ArrayList<>(application.pendingRequirementCategoryEdits);
+            inMemoryHistory = new ArrayList<>(application.inMemoryHistory);
+            spilledHistorySize = application.spilledHistorySize;
+            discardedOldestHistorySize = application.discardedOldestHistorySize;
+            spillTruncationCount = application.spillTruncationCount;
+            currentStatePointer = application.currentStatePointer;
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
     public static class NoUndoableStateException extends RuntimeException {
-        private NoUndoableStateException() {
+        NoUndoableStateException() {
             super("Current state pointer at start of applicationState list, unable to undo.");
         }
     }
@@ -106,7 +495,7 @@ public class VersionedApplication extends Application {
      * Thrown when trying to {@code redo()} but can't.
      */
     public static class NoRedoableStateException extends RuntimeException {
-        private NoRedoableStateException() {
+        NoRedoableStateException() {
             super("Current state pointer at end of applicationState list, unable to redo.");
         }
     }
@@ -3,6 +3,9 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.Interner;
+import pwe.planner.commons.util.StringUtil;
+
 /**
  * Represents a Module's code in the application.
  * Guarantees: immutable; is valid as declared in {@link #isValidCode(String)}
@@ -19,6 +22,17 @@ public class Code implements Comparable<Code> {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alpha}]{2,3}[\\p{Digit}]{4}[\\p{Alpha}]?";
 
+    public static final String MESSAGE_PATTERN_CONSTRAINTS =
+            "Code patterns should only contain alphanumeric characters and at least one *, which matches any "
+            + "characters, e.g. CS2*";
+
+    /*
+     * A pattern contains at least one wildcard, and no whitespace.
+     */
+    public static final String PATTERN_VALIDATION_REGEX = "[\\p{Alnum}*]*\\*[\\p{Alnum}*]*";
+
+    private static final Interner<Code> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -42,11 +56,28 @@ public class Code implements Comparable<Code> {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given string is a valid code pattern, that can be matched against codes with
+     * {@link StringUtil#matchesWildcardIgnoreCase(String, String)}.
+     */
+    public static boolean isValidCodePattern(String test) {
+        requireNonNull(test);
+
+        return test.matches(PATTERN_VALIDATION_REGEX);
+    }
+
     @Override
     public String toString() {
         return value;
     }
 
+    /**
+     * Returns the canonical {@code Code} that is equal to this code.
+     */
+    public Code intern() {
+        return INTERNER.intern(this);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
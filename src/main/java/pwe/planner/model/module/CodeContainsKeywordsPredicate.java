@@ -3,10 +3,14 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
 
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.module.ModuleWordIndex.Field;
+
 /**
  * Tests that a {@code Module}'s {@code Code} matches the keyword given.
+ * A keyword that contains {@code *} wildcards is matched against the whole code as a pattern.
  */
-public class CodeContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
+public class CodeContainsKeywordsPredicate<T> implements KeywordsPredicate<T>, IndexablePredicate<T> {
     private final String keyword;
 
     public CodeContainsKeywordsPredicate(String keyword) {
@@ -21,9 +25,22 @@ public class CodeContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
         Module module = (Module) object;
 
         String moduleCode = module.getCode().toString();
+        if (keyword.indexOf(StringUtil.WILDCARD) != -1) {
+            return StringUtil.matchesWildcardIgnoreCase(moduleCode, keyword);
+        }
         return parseKeyword(keyword, moduleCode);
     }
 
+    @Override
+    public Field getField() {
+        return Field.CODE;
+    }
+
+    @Override
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -31,4 +48,8 @@ public class CodeContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
                 && keyword.equals(((CodeContainsKeywordsPredicate) other).keyword)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
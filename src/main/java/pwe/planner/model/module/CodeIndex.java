@@ -0,0 +1,85 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Assigns the {@code Code} of every catalog module a dense integer ID, which stays the same for the lifetime of the
+ * application. IDs are assigned in the order that codes are registered, starting from 0, so a set of codes can be
+ * stored as a bitset indexed by ID (see {@link CodeSet}).
+ *
+ * Codes are only registered when their module is added to a {@link UniqueModuleList}, or when they are stored in a
+ * degree planner or a requirement category, which only hold codes of catalog modules but may be read before the
+ * catalog is. Codes that are merely looked up, or only appear in a command, never take up an ID. IDs are never reused,
+ * even if the module is deleted, as the code may still be referenced. Looking up an ID or a code takes no lock, so the
+ * index can be read by many threads at once; only the registration of a new code is serialized.
+ */
+public final class CodeIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final ConcurrentMap<Code, Integer> CODE_TO_ID = new ConcurrentHashMap<>();
+    /**
+     * The registered codes by ID. Only written while holding the lock of this class, and replaced by a larger copy
+     * when full. Every registration writes the field again, so that readers see the new code.
+     */
+    private static volatile Code[] idToCode = new Code[INITIAL_CAPACITY];
+    private static int size;
+
+    private CodeIndex() {} // prevents instantiation
+
+    /**
+     * Returns the ID of {@code code}, assigning it the next unused ID if it has none yet.
+     */
+    public static int register(Code code) {
+        requireNonNull(code);
+
+        Integer id = CODE_TO_ID.get(code);
+        return id == null ? registerNewCode(code) : id;
+    }
+
+    /**
+     * Returns the ID of {@code code}, or -1 if it has not been registered.
+     */
+    public static int findId(Object code) {
+        if (!(code instanceof Code)) {
+            return -1;
+        }
+        Integer id = CODE_TO_ID.get(code);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the {@code Code} with the given {@code id}.
+     *
+     * @throws IndexOutOfBoundsException if no code has been assigned {@code id}.
+     */
+    public static Code getCode(int id) {
+        Code[] codes = idToCode;
+        if (id < 0 || id >= codes.length || codes[id] == null) {
+            throw new IndexOutOfBoundsException("No code has the ID " + id);
+        }
+        return codes[id];
+    }
+
+    private static synchronized int registerNewCode(Code code) {
+        Integer id = CODE_TO_ID.get(code);
+        if (id != null) {
+            return id;
+        }
+
+        Code[] codes = idToCode;
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size * 2);
+        }
+        Code canonicalCode = code.intern();
+        codes[size] = canonicalCode;
+        idToCode = codes;
+        // the code is written to the array before its ID can be found
+        CODE_TO_ID.put(canonicalCode, size);
+        return size++;
+    }
+}
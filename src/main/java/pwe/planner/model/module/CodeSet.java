@@ -0,0 +1,290 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A mutable set of module codes that is stored as a bitset indexed by the {@link CodeIndex} ID of each code.
+ * Union, intersection, difference and containment checks against another {@code CodeSet} operate on whole words of
+ * the bitsets at once, instead of hashing every code. Codes that have not been registered with {@link CodeIndex}
+ * (for example those of modules that are not in the catalog) are kept in a hash set instead, and operations on sets
+ * holding such codes fall back to checking the codes one at a time. Registered codes are iterated in the order of
+ * their IDs, followed by the other codes.
+ */
+public final class CodeSet extends AbstractSet<Code> {
+
+    private final BitSet ids;
+    private final Set<Code> unregisteredCodes;
+    private final boolean isModifiable;
+
+    /**
+     * Constructs an empty {@code CodeSet}.
+     */
+    public CodeSet() {
+        this(new BitSet(), new HashSet<>(0), true);
+    }
+
+    /**
+     * Constructs a {@code CodeSet} that contains all of {@code codes}.
+     */
+    public CodeSet(Collection<? extends Code> codes) {
+        requireNonNull(codes);
+
+        isModifiable = true;
+        if (codes instanceof CodeSet) {
+            ids = (BitSet) ((CodeSet) codes).ids.clone();
+            unregisteredCodes = new HashSet<>(((CodeSet) codes).unregisteredCodes);
+        } else {
+            ids = new BitSet();
+            unregisteredCodes = new HashSet<>(0);
+            addAll(codes);
+        }
+    }
+
+    private CodeSet(BitSet ids, Set<Code> unregisteredCodes, boolean isModifiable) {
+        this.ids = ids;
+        this.unregisteredCodes = unregisteredCodes;
+        this.isModifiable = isModifiable;
+    }
+
+    /**
+     * Returns an unmodifiable view of {@code codeSet}, which reflects later changes to {@code codeSet}, and throws
+     * {@code UnsupportedOperationException} if modification is attempted. Unlike
+     * {@link java.util.Collections#unmodifiableSet(java.util.Set)}, the view is still a {@code CodeSet}, so operations
+     * against it still operate on whole words.
+     */
+    public static CodeSet unmodifiableView(CodeSet codeSet) {
+        requireNonNull(codeSet);
+
+        return new CodeSet(codeSet.ids, codeSet.unregisteredCodes, false);
+    }
+
+    /**
+     * Returns an unmodifiable {@code CodeSet} of {@code codes}, registering every code with {@link CodeIndex}, so that
+     * operations against the set always operate on whole words. Only to be used for codes of catalog modules, such as
+     * those of a degree planner or a requirement category.
+     */
+    public static CodeSet registeredCopyOf(Collection<? extends Code> codes) {
+        requireNonNull(codes);
+
+        CodeSet codeSet = new CodeSet();
+        for (Code code : codes) {
+            CodeIndex.register(code);
+            codeSet.add(code);
+        }
+        return unmodifiableView(codeSet);
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        int id = CodeIndex.findId(object);
+        return (id != -1 && ids.get(id)) || (!unregisteredCodes.isEmpty() && unregisteredCodes.contains(object));
+    }
+
+    @Override
+    public boolean add(Code code) {
+        requireModifiable();
+        requireNonNull(code);
+
+        int id = CodeIndex.findId(code);
+        if (id == -1) {
+            return unregisteredCodes.add(code);
+        }
+        // the code may have been added before it was registered
+        if (ids.get(id) || (!unregisteredCodes.isEmpty() && unregisteredCodes.contains(code))) {
+            return false;
+        }
+        ids.set(id);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        requireModifiable();
+        int id = CodeIndex.findId(object);
+        if (id != -1 && ids.get(id)) {
+            ids.clear(id);
+            return true;
+        }
+        return !unregisteredCodes.isEmpty() && unregisteredCodes.remove(object);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        requireNonNull(collection);
+
+        if (!isOnlyRegisteredCodes(collection)) {
+            return super.containsAll(collection);
+        }
+
+        BitSet missingIds = (BitSet) ((CodeSet) collection).ids.clone();
+        missingIds.andNot(ids);
+        return missingIds.isEmpty();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Code> collection) {
+        requireModifiable();
+        requireNonNull(collection);
+
+        if (!isOnlyRegisteredCodes(collection)) {
+            return super.addAll(collection);
+        }
+
+        int oldSize = size();
+        ids.or(((CodeSet) collection).ids);
+        return size() != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        requireModifiable();
+        requireNonNull(collection);
+
+        if (!isOnlyRegisteredCodes(collection)) {
+            return super.retainAll(collection);
+        }
+
+        int oldSize = size();
+        ids.and(((CodeSet) collection).ids);
+        return size() != oldSize;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        requireModifiable();
+        requireNonNull(collection);
+
+        if (!isOnlyRegisteredCodes(collection)) {
+            // unlike AbstractSet#removeAll, never iterates over this set, so the cost does not depend on its size
+            boolean isModified = false;
+            for (Object object : collection) {
+                isModified |= remove(object);
+            }
+            return isModified;
+        }
+
+        int oldSize = size();
+        ids.andNot(((CodeSet) collection).ids);
+        return size() != oldSize;
+    }
+
+    /**
+     * Returns true if this set and {@code collection} have at least one code in common.
+     */
+    public boolean intersects(Collection<?> collection) {
+        requireNonNull(collection);
+
+        if (isOnlyRegisteredCodes(collection)) {
+            return ids.intersects(((CodeSet) collection).ids);
+        }
+        return collection.stream().anyMatch(this::contains);
+    }
+
+    /**
+     * Returns true if both this set and {@code collection} are {@code CodeSet}s that only hold registered codes, so
+     * that operations between them can be done on their bitsets alone.
+     */
+    private boolean isOnlyRegisteredCodes(Collection<?> collection) {
+        return collection instanceof CodeSet && unregisteredCodes.isEmpty()
+                && ((CodeSet) collection).unregisteredCodes.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        requireModifiable();
+        ids.clear();
+        unregisteredCodes.clear();
+    }
+
+    @Override
+    public int size() {
+        return ids.cardinality() + unregisteredCodes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ids.isEmpty() && unregisteredCodes.isEmpty();
+    }
+
+    @Override
+    public Iterator<Code> iterator() {
+        return new Iterator<>() {
+            private int nextId = ids.nextSetBit(0);
+            private int lastId = -1;
+            private Iterator<Code> unregisteredCodeIterator;
+            private boolean isLastCodeUnregistered;
+
+            @Override
+            public boolean hasNext() {
+                return nextId != -1 || getUnregisteredCodeIterator().hasNext();
+            }
+
+            @Override
+            public Code next() {
+                if (nextId == -1) {
+                    Code code = getUnregisteredCodeIterator().next();
+                    lastId = -1;
+                    isLastCodeUnregistered = true;
+                    return code;
+                }
+                lastId = nextId;
+                nextId = ids.nextSetBit(nextId + 1);
+                return CodeIndex.getCode(lastId);
+            }
+
+            @Override
+            public void remove() {
+                requireModifiable();
+                if (isLastCodeUnregistered) {
+                    unregisteredCodeIterator.remove();
+                    isLastCodeUnregistered = false;
+                    return;
+                }
+                if (lastId == -1) {
+                    throw new IllegalStateException();
+                }
+                ids.clear(lastId);
+                lastId = -1;
+            }
+
+            /**
+             * Returns the iterator over the unregistered codes, which are iterated over after the registered codes.
+             */
+            private Iterator<Code> getUnregisteredCodeIterator() {
+                if (unregisteredCodeIterator == null) {
+                    unregisteredCodeIterator = unregisteredCodes.iterator();
+                }
+                return unregisteredCodeIterator;
+            }
+        };
+    }
+
+    /**
+     * Throws {@code UnsupportedOperationException} if this set is an unmodifiable view.
+     */
+    private void requireModifiable() {
+        if (!isModifiable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof CodeSet && isOnlyRegisteredCodes((CodeSet) other)) {
+            return ids.equals(((CodeSet) other).ids);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
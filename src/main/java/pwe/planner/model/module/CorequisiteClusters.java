@@ -0,0 +1,117 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Groups module codes into co-requisite clusters.
+ * Every code in a cluster is a co-requisite of every other code in the same cluster, and each code belongs to at most
+ * one cluster. Codes without any co-requisite are not tracked.
+ *
+ * All codes of a cluster share the same backing {@link CodeSet}, so looking up the cluster of a code takes constant
+ * time, while merging and splitting clusters take time proportional to the size of the clusters involved.
+ */
+public class CorequisiteClusters {
+
+    private final Map<Code, CodeSet> codeToCluster = new HashMap<>();
+
+    /**
+     * Returns the co-requisite cluster of {@code code}, that is {@code code} together with all of its co-requisites.
+     * The returned set is an unmodifiable view, which throws {@code UnsupportedOperationException} if modification
+     * is attempted.
+     */
+    public Set<Code> getCluster(Code code) {
+        requireNonNull(code);
+
+        CodeSet cluster = codeToCluster.get(code);
+        return cluster == null ? Set.of(code) : CodeSet.unmodifiableView(cluster);
+    }
+
+    /**
+     * Merges {@code code} and the clusters of all of {@code corequisites} into a single cluster.
+     * The smaller clusters are always merged into the largest one, so that a code is moved at most a logarithmic
+     * number of times over any sequence of merges.
+     *
+     * @return the merged cluster, as described in {@link #getCluster(Code)}.
+     */
+    public Set<Code> merge(Code code, Set<Code> corequisites) {
+        requireAllNonNull(code, corequisites);
+
+        if (corequisites.isEmpty()) {
+            return getCluster(code);
+        }
+
+        CodeSet largestCluster = codeToCluster.get(code);
+        for (Code corequisite : corequisites) {
+            CodeSet cluster = codeToCluster.get(corequisite);
+            if (cluster != null && (largestCluster == null || cluster.size() > largestCluster.size())) {
+                largestCluster = cluster;
+            }
+        }
+
+        CodeSet mergedCluster = largestCluster == null ? new CodeSet() : largestCluster;
+        absorb(mergedCluster, code);
+        for (Code corequisite : corequisites) {
+            absorb(mergedCluster, corequisite);
+        }
+
+        return CodeSet.unmodifiableView(mergedCluster);
+    }
+
+    /**
+     * Removes {@code code} from its cluster.
+     * The remaining codes of the cluster stay co-requisites of one another.
+     *
+     * @return the remaining codes of the cluster that {@code code} was removed from.
+     */
+    public Set<Code> remove(Code code) {
+        requireNonNull(code);
+
+        CodeSet cluster = codeToCluster.remove(code);
+        if (cluster == null) {
+            return Set.of();
+        }
+
+        cluster.remove(code);
+        if (cluster.size() == 1) {
+            // a single code has no co-requisites left, and is no longer tracked
+            Code remainingCode = cluster.iterator().next();
+            codeToCluster.remove(remainingCode);
+            return Set.of(remainingCode);
+        }
+        return CodeSet.unmodifiableView(cluster);
+    }
+
+    /**
+     * Removes all clusters.
+     */
+    public void clear() {
+        codeToCluster.clear();
+    }
+
+    /**
+     * Moves {@code code}, together with the rest of its cluster, into {@code targetCluster}.
+     */
+    private void absorb(CodeSet targetCluster, Code code) {
+        CodeSet cluster = codeToCluster.get(code);
+        if (cluster == targetCluster) {
+            return;
+        }
+
+        if (cluster == null) {
+            targetCluster.add(code);
+            codeToCluster.put(code, targetCluster);
+            return;
+        }
+
+        // the whole cluster is merged at once, and only the mapping of each of its codes has to be updated
+        targetCluster.addAll(cluster);
+        for (Code codeToMove : cluster) {
+            codeToCluster.put(codeToMove, targetCluster);
+        }
+    }
+}
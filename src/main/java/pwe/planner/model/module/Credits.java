@@ -3,6 +3,8 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.Interner;
+
 /**
  * Represents a Module's credits in the application.
  * Guarantees: immutable; is valid as declared in {@link #isValidCredits(String)}
@@ -12,7 +14,11 @@ public class Credits {
     public static final String MESSAGE_CONSTRAINTS =
             "Credits should only contain numbers between 0 and 999.";
     public static final String VALIDATION_REGEX = "0|([\\d&&[^0]]{1}[\\d]{0,2})";
+    public static final int MAX_VALUE = 999;
+    private static final Interner<Credits> INTERNER = new Interner<>();
+
     public final String value;
+    private final int intValue;
 
     /**
      * Constructs a {@code Credits}.
@@ -24,6 +30,7 @@ public class Credits {
         checkArgument(isValidCredits(credits), MESSAGE_CONSTRAINTS);
 
         value = credits;
+        intValue = Integer.parseInt(credits);
     }
 
     /**
@@ -35,11 +42,25 @@ public class Credits {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the amount of credits as an {@code int}.
+     */
+    public int intValue() {
+        return intValue;
+    }
+
     @Override
     public String toString() {
         return value;
     }
 
+    /**
+     * Returns the canonical {@code Credits} that is equal to this credits.
+     */
+    public Credits intern() {
+        return INTERNER.intern(this);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,22 @@
+package pwe.planner.model.module;
+
+import java.util.function.Predicate;
+
+import pwe.planner.model.module.ModuleWordIndex.Field;
+
+/**
+ * A {@code Predicate} on modules that matches a keyword against one {@link Field} of modules, and can therefore be
+ * answered by a {@link ModuleWordIndex} lookup instead of being tested against every module.
+ */
+public interface IndexablePredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns the field of modules that the keyword is matched against.
+     */
+    Field getField();
+
+    /**
+     * Returns the keyword that is matched.
+     */
+    String getKeyword();
+}
@@ -2,11 +2,11 @@ package pwe.planner.model.module;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import pwe.planner.commons.util.CompactSet;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.model.planner.Semester;
 import pwe.planner.model.tag.Tag;
@@ -30,9 +30,9 @@ public class Module {
     // Data fields
     private final Name name;
     private final Credits credits;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Code> corequisites = new HashSet<>();
-    private final Set<Semester> semesters = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Code> corequisites;
+    private final Set<Semester> semesters;
 
     /**
      * Every field must be present and not null.
@@ -41,12 +41,14 @@ public class Module {
             Set<Tag> tags) {
         requireAllNonNull(code, name, credits, semesters, corequisites, tags);
 
-        this.code = code;
-        this.name = name;
-        this.credits = credits;
-        this.semesters.addAll(semesters);
-        this.corequisites.addAll(corequisites);
-        this.tags.addAll(tags);
+        // modules of a large catalog mostly share the same few tags, semesters and credits, and refer to each other's
+        // codes, so equal values are interned and stored in compact sets to keep the catalog small in memory
+        this.code = code.intern();
+        this.name = name.intern();
+        this.credits = credits.intern();
+        this.semesters = CompactSet.copyOf(semesters.stream().map(Semester::intern).collect(Collectors.toList()));
+        this.corequisites = CompactSet.copyOf(corequisites.stream().map(Code::intern).collect(Collectors.toList()));
+        this.tags = CompactSet.copyOf(tags.stream().map(Tag::intern).collect(Collectors.toList()));
     }
 
     public Code getCode() {
@@ -66,7 +68,7 @@ public class Module {
      * if modification is attempted.
      */
     public Set<Semester> getSemesters() {
-        return Collections.unmodifiableSet(semesters);
+        return semesters;
     }
 
     /**
@@ -74,7 +76,7 @@ public class Module {
      * if modification is attempted.
      */
     public Set<Code> getCorequisites() {
-        return Collections.unmodifiableSet(corequisites);
+        return corequisites;
     }
 
     /**
@@ -82,7 +84,7 @@ public class Module {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
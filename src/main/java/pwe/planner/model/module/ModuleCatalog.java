@@ -0,0 +1,212 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An immutable module list, which is shared by every {@link pwe.planner.model.StudentState} backed by it.
+ * The modules are indexed once as the catalog is created. As the catalog is never modified afterwards, it can be read
+ * by many threads at once without locking.
+ *
+ * A catalog can be derived from another one with some of its modules changed (see {@link #withChanges(Map)}). The
+ * derived catalog shares the modules and the indexes of the catalog it was derived from, and only indexes the changed
+ * modules, so deriving a catalog takes time proportional to the number of changed modules rather than the size of the
+ * catalog. Once too many modules have changed, every module is indexed again, so that lookups stay fast.
+ */
+public class ModuleCatalog {
+
+    /** The number of changed modules that a derived catalog always keeps apart from the modules it shares. */
+    private static final int MIN_CHANGED_MODULES_BEFORE_REINDEX = 64;
+
+    /** The modules that are shared by every catalog derived from this one. */
+    private final UniqueModuleList baseModules;
+    /**
+     * The module of every code whose module differs from {@code baseModules}, or null if the module was removed, in
+     * the order that the codes were first changed in.
+     */
+    private final Map<Code, Module> changedModules;
+    private final ModuleWordIndex wordIndex;
+    /** The modules of the catalog, which are only listed once they are asked for in a derived catalog. */
+    private volatile ObservableList<Module> moduleList;
+
+    /**
+     * Creates a catalog of {@code modules}.
+     * {@code modules} must not contain duplicate modules.
+     */
+    public ModuleCatalog(List<Module> modules) {
+        requireNonNull(modules);
+
+        baseModules = new UniqueModuleList();
+        baseModules.setModules(modules);
+        changedModules = Collections.emptyMap();
+        wordIndex = baseModules.getWordIndex();
+        moduleList = baseModules.asUnmodifiableObservableList();
+    }
+
+    /**
+     * Creates a catalog of {@code baseModules} with {@code changedModules} applied, as described in
+     * {@link #changedModules}.
+     */
+    private ModuleCatalog(UniqueModuleList baseModules, Map<Code, Module> changedModules) {
+        this.baseModules = baseModules;
+        this.changedModules = changedModules;
+
+        List<Module> presentChangedModules = new ArrayList<>();
+        for (Module module : changedModules.values()) {
+            if (module != null) {
+                presentChangedModules.add(module);
+            }
+        }
+        UniqueModuleList indexedChangedModules = new UniqueModuleList();
+        indexedChangedModules.setModules(presentChangedModules);
+        wordIndex = new OverlayWordIndex(baseModules.getWordIndex(), indexedChangedModules.getWordIndex(),
+                new CodeSet(changedModules.keySet()), this::getModuleByCode);
+    }
+
+    /**
+     * Returns a catalog of the modules of this catalog, with the module of every code in {@code changes} replaced by
+     * its module in {@code changes}, or removed if its module in {@code changes} is null.
+     * Returns this catalog if none of the modules have changed.
+     */
+    public ModuleCatalog withChanges(Map<Code, Module> changes) {
+        requireNonNull(changes);
+
+        Map<Code, Module> nextChangedModules = new LinkedHashMap<>(changedModules);
+        boolean hasChanged = false;
+        for (Map.Entry<Code, Module> change : changes.entrySet()) {
+            Code code = change.getKey();
+            Module module = change.getValue();
+            // undoing and redoing restores the same module objects, which are not changes at all
+            if (module == getModuleByCode(code)) {
+                continue;
+            }
+            hasChanged = true;
+            if (module == baseModules.getModuleByCode(code)) {
+                nextChangedModules.remove(code);
+            } else {
+                nextChangedModules.put(code, module);
+            }
+        }
+
+        if (!hasChanged) {
+            return this;
+        }
+        int baseSize = baseModules.asUnmodifiableObservableList().size();
+        if (nextChangedModules.size() > Math.max(MIN_CHANGED_MODULES_BEFORE_REINDEX, (int) Math.sqrt(baseSize))) {
+            return new ModuleCatalog(mergeModules(baseModules, nextChangedModules));
+        }
+        return new ModuleCatalog(baseModules, nextChangedModules);
+    }
+
+    /**
+     * Returns the modules of {@code baseModules} with {@code changedModules} applied, as described in
+     * {@link #changedModules}. Changed modules keep the position of the module with the same code in
+     * {@code baseModules}, and the other changed modules follow every module of {@code baseModules}.
+     */
+    private static List<Module> mergeModules(UniqueModuleList baseModules, Map<Code, Module> changedModules) {
+        List<Module> modules = new ArrayList<>(baseModules.asUnmodifiableObservableList().size());
+        for (Module module : baseModules) {
+            if (!changedModules.containsKey(module.getCode())) {
+                modules.add(module);
+            } else if (changedModules.get(module.getCode()) != null) {
+                modules.add(changedModules.get(module.getCode()));
+            }
+        }
+        for (Map.Entry<Code, Module> changedModule : changedModules.entrySet()) {
+            if (changedModule.getValue() != null && !baseModules.containsCode(changedModule.getKey())) {
+                modules.add(changedModule.getValue());
+            }
+        }
+        return modules;
+    }
+
+    /**
+     * Returns true if a module with {@code code} exists in the catalog.
+     */
+    public boolean hasModuleCode(Code code) {
+        requireNonNull(code);
+
+        return getModuleByCode(code) != null;
+    }
+
+    /**
+     * Returns the module with {@code code}, or null if there is no such module.
+     */
+    public Module getModuleByCode(Code code) {
+        requireNonNull(code);
+
+        if (changedModules.containsKey(code)) {
+            return changedModules.get(code);
+        }
+        return baseModules.getModuleByCode(code);
+    }
+
+    /**
+     * Returns the credits of the module with {@code code}, or 0 if there is no such module.
+     */
+    public int getCreditsOfCode(Code code) {
+        Module module = getModuleByCode(code);
+        return module == null ? 0 : module.getCredits().intValue();
+    }
+
+    /**
+     * Returns the co-requisite cluster of {@code code}, that is {@code code} together with all of its co-requisites.
+     */
+    public Set<Code> getCorequisiteCluster(Code code) {
+        requireNonNull(code);
+
+        Set<Code> baseCluster = baseModules.getCorequisiteCluster(code);
+        if (changedModules.isEmpty() || Collections.disjoint(baseCluster, changedModules.keySet())) {
+            return baseCluster;
+        }
+
+        // every co-requisite of a module is a co-requisite of every other module of its cluster as well, so the
+        // cluster of a changed module is the module together with its own co-requisites
+        Module module = getModuleByCode(code);
+        if (module == null) {
+            return Set.of(code);
+        }
+        CodeSet cluster = new CodeSet(module.getCorequisites());
+        cluster.add(code);
+        return CodeSet.unmodifiableView(cluster);
+    }
+
+    /**
+     * Returns the word index of the names, codes and tags of the modules in the catalog.
+     */
+    public ModuleWordIndex getWordIndex() {
+        return wordIndex;
+    }
+
+    public ObservableList<Module> getModuleList() {
+        ObservableList<Module> modules = moduleList;
+        if (modules == null) {
+            // listing the modules again is harmless if another thread is doing so as well
+            modules = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(mergeModules(baseModules, changedModules)));
+            moduleList = modules;
+        }
+        return modules;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ModuleCatalog // instanceof handles nulls
+                && getModuleList().equals(((ModuleCatalog) other).getModuleList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return getModuleList().hashCode();
+    }
+}
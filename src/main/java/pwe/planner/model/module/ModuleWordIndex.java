@@ -0,0 +1,440 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import pwe.planner.commons.util.PrefixTrie;
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.logic.parser.ParserUtil;
+
+/**
+ * An inverted index from the case-folded words of each searchable {@link Field} of modules, to the codes of the modules
+ * that contain each word.
+ *
+ * Keywords are matched in the same way as {@link ParserUtil#parseKeyword(String, String)}: a single word matches
+ * modules that contain the word, and multiple words match modules whose value is equal to all of the words. Both only
+ * look up the posting lists of the words, and multiple words are only compared against the modules that contain every
+ * one of the words.
+ *
+ * The words of names and tags are also indexed by their trigrams (their substrings of three characters), through
+ * which fuzzy keywords (such as {@code algoritm~}) are resolved. Only the words that share enough trigrams with a
+ * word of the keyword to be within its edit distance are compared against it, instead of every module.
+ *
+ * Codes are also kept in a {@link PrefixTrie}, through which code patterns with {@code *} wildcards (such as
+ * {@code CS2*}) are resolved by walking down to the codes that start with the part of the pattern before its first
+ * wildcard, and through which codes are completed.
+ *
+ * The index is kept in sync with a {@link UniqueModuleList} by every mutating operation of the list.
+ */
+public class ModuleWordIndex {
+
+    /**
+     * The fields of a module that are indexed.
+     */
+    public enum Field {
+        NAME(true, module -> List.of(module.getName().fullName)),
+        CODE(false, module -> List.of(module.getCode().value)),
+        CREDITS(false, module -> List.of(module.getCredits().value)),
+        SEMESTER(false, module -> module.getSemesters().stream().map(semester -> semester.plannerSemester)
+                .collect(Collectors.toList())),
+        TAG(true, module -> module.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+
+        private final boolean isTrigramIndexed;
+        private final Function<Module, Collection<String>> valuesOf;
+
+        Field(boolean isTrigramIndexed, Function<Module, Collection<String>> valuesOf) {
+            this.isTrigramIndexed = isTrigramIndexed;
+            this.valuesOf = valuesOf;
+        }
+
+        /**
+         * Returns the values of this field of {@code module} that keywords are matched against.
+         */
+        public Collection<String> getValues(Module module) {
+            requireNonNull(module);
+
+            return valuesOf.apply(module);
+        }
+    }
+
+    /** Pads words on both sides, so that every character of a word starts, is in the middle of, and ends a trigram. */
+    private static final String TRIGRAM_PADDING = "\u0000\u0000";
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final Function<Code, Module> moduleLookup;
+    private final Map<Field, FieldIndex> fieldIndexes = new EnumMap<>(Field.class);
+    private final CodeSet allCodes = new CodeSet();
+    private final PrefixTrie<Code> codeTrie = new PrefixTrie<>();
+    private int modificationCount;
+
+    /**
+     * Creates an empty index, which looks up indexed modules by code through {@code moduleLookup}.
+     */
+    ModuleWordIndex(Function<Code, Module> moduleLookup) {
+        requireNonNull(moduleLookup);
+
+        this.moduleLookup = moduleLookup;
+        for (Field field : Field.values()) {
+            fieldIndexes.put(field, new FieldIndex(field));
+        }
+    }
+
+    /**
+     * Adds the words of {@code module} to the index.
+     */
+    void add(Module module) {
+        requireNonNull(module);
+
+        fieldIndexes.values().forEach(fieldIndex -> fieldIndex.add(module));
+        allCodes.add(module.getCode());
+        codeTrie.put(module.getCode().value, module.getCode());
+        modificationCount++;
+    }
+
+    /**
+     * Removes the words of {@code module} from the index.
+     */
+    void remove(Module module) {
+        requireNonNull(module);
+
+        fieldIndexes.values().forEach(fieldIndex -> fieldIndex.remove(module));
+        allCodes.remove(module.getCode());
+        codeTrie.remove(module.getCode().value);
+        modificationCount++;
+    }
+
+    /**
+     * Removes all modules from the index.
+     */
+    void clear() {
+        fieldIndexes.values().forEach(FieldIndex::clear);
+        allCodes.clear();
+        codeTrie.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of times that the index has been modified, which changes whenever the result of any lookup
+     * might have changed.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the number of indexed modules.
+     */
+    public int size() {
+        return allCodes.size();
+    }
+
+    /**
+     * Returns a new set of the codes of all indexed modules.
+     */
+    public CodeSet getAllCodes() {
+        return new CodeSet(allCodes);
+    }
+
+    /**
+     * Returns the indexed module with the given {@code code}, or null if there is none.
+     */
+    public Module getModule(Code code) {
+        requireNonNull(code);
+
+        return moduleLookup.apply(code);
+    }
+
+    /**
+     * Returns a new set of the codes of all modules whose {@code field} matches {@code keyword}.
+     */
+    public CodeSet getCodesMatching(Field field, String keyword) {
+        requireAllNonNull(field, keyword);
+
+        if (isCodePattern(field, keyword)) {
+            CodeSet matchingCodes = new CodeSet();
+            String upperCasePattern = keyword.toUpperCase();
+            codeTrie.forEachWithPrefix(getLiteralPrefix(upperCasePattern), code -> {
+                if (StringUtil.matchesWildcardIgnoreCase(code.value, upperCasePattern)) {
+                    matchingCodes.add(code);
+                }
+                return true;
+            });
+            return matchingCodes;
+        }
+        return fieldIndexes.get(field).getCodesMatching(keyword);
+    }
+
+    /**
+     * Returns an upper bound of the number of modules whose {@code field} matches {@code keyword}, without looking
+     * up the modules themselves.
+     */
+    public int estimateMatches(Field field, String keyword) {
+        requireAllNonNull(field, keyword);
+
+        if (isCodePattern(field, keyword)) {
+            return codeTrie.countWithPrefix(getLiteralPrefix(keyword.toUpperCase()));
+        }
+        return fieldIndexes.get(field).estimateMatches(keyword);
+    }
+
+    /**
+     * Visits the indexed codes that start with {@code prefix} (ignoring case) in their natural order, until
+     * {@code visitor} returns false.
+     */
+    public void forEachCodeWithPrefix(String prefix, Predicate<Code> visitor) {
+        requireAllNonNull(prefix, visitor);
+
+        codeTrie.forEachWithPrefix(prefix.toUpperCase(), visitor);
+    }
+
+    /**
+     * Returns true if {@code keyword} is a pattern of codes with wildcards, rather than a word of {@code field}.
+     */
+    private static boolean isCodePattern(Field field, String keyword) {
+        return field == Field.CODE && keyword.indexOf(StringUtil.WILDCARD) != -1;
+    }
+
+    /**
+     * Returns the part of {@code pattern} before its first wildcard, which every matching code starts with.
+     */
+    private static String getLiteralPrefix(String pattern) {
+        return pattern.substring(0, pattern.indexOf(StringUtil.WILDCARD));
+    }
+
+    /**
+     * Removes the codes of all modules that do not satisfy {@code predicate} from {@code codesToFilter}.
+     *
+     * @return {@code codesToFilter}, for chaining.
+     */
+    public CodeSet filter(CodeSet codesToFilter, Predicate<Module> predicate) {
+        requireAllNonNull(codesToFilter, predicate);
+
+        codesToFilter.removeIf(code -> !predicate.test(moduleLookup.apply(code)));
+        return codesToFilter;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} padded on both sides.
+     */
+    private static Set<String> getTrigrams(String word) {
+        String paddedWord = TRIGRAM_PADDING + word + TRIGRAM_PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * An inverted index of the words of one field of modules.
+     */
+    private class FieldIndex {
+        private final Field field;
+        private final Map<String, CodeSet> wordToCodes = new HashMap<>();
+        /** The indexed words that contain each trigram, which is only kept for fields that are trigram indexed. */
+        private final Map<String, Set<String>> trigramToWords = new HashMap<>();
+
+        private FieldIndex(Field field) {
+            this.field = field;
+        }
+
+        private void add(Module module) {
+            for (String value : field.valuesOf.apply(module)) {
+                for (String word : StringUtil.splitWords(value)) {
+                    String foldedWord = StringUtil.foldCase(word);
+                    CodeSet postings = wordToCodes.get(foldedWord);
+                    if (postings == null) {
+                        postings = new CodeSet();
+                        wordToCodes.put(foldedWord, postings);
+                        addTrigrams(foldedWord);
+                    }
+                    postings.add(module.getCode());
+                }
+            }
+        }
+
+        private void addTrigrams(String foldedWord) {
+            if (!field.isTrigramIndexed) {
+                return;
+            }
+            for (String trigram : getTrigrams(foldedWord)) {
+                trigramToWords.computeIfAbsent(trigram, unused -> new HashSet<>()).add(foldedWord);
+            }
+        }
+
+        private void removeTrigrams(String foldedWord) {
+            if (!field.isTrigramIndexed) {
+                return;
+            }
+            for (String trigram : getTrigrams(foldedWord)) {
+                Set<String> words = trigramToWords.get(trigram);
+                words.remove(foldedWord);
+                if (words.isEmpty()) {
+                    trigramToWords.remove(trigram);
+                }
+            }
+        }
+
+        private void remove(Module module) {
+            for (String value : field.valuesOf.apply(module)) {
+                for (String word : StringUtil.splitWords(value)) {
+                    String foldedWord = StringUtil.foldCase(word);
+                    CodeSet postings = wordToCodes.get(foldedWord);
+                    if (postings == null) {
+                        continue;
+                    }
+                    postings.remove(module.getCode());
+                    if (postings.isEmpty()) {
+                        wordToCodes.remove(foldedWord);
+                        removeTrigrams(foldedWord);
+                    }
+                }
+            }
+        }
+
+        private void clear() {
+            wordToCodes.clear();
+            trigramToWords.clear();
+        }
+
+        /**
+         * Returns true if {@code keyword} can be looked up in the index, which is the case for all keywords that the
+         * parser produces, except for fuzzy keywords of fields that are not trigram indexed.
+         */
+        private boolean isIndexable(String keyword) {
+            return !keyword.isEmpty() && keyword.equals(keyword.trim())
+                    && (field.isTrigramIndexed || !ParserUtil.isFuzzyKeyword(keyword));
+        }
+
+        private int estimateMatches(String keyword) {
+            if (!isIndexable(keyword)) {
+                return allCodes.size();
+            }
+            if (ParserUtil.isFuzzyKeyword(keyword)) {
+                int estimate = allCodes.size();
+                for (String word : StringUtil.splitWords(ParserUtil.removeFuzzySuffix(keyword))) {
+                    int wordEstimate = 0;
+                    for (String similarWord : getSimilarWords(StringUtil.foldCase(word))) {
+                        wordEstimate += wordToCodes.get(similarWord).size();
+                    }
+                    estimate = Math.min(estimate, wordEstimate);
+                }
+                return estimate;
+            }
+
+            int estimate = allCodes.size();
+            for (String word : StringUtil.splitWords(keyword)) {
+                CodeSet postings = wordToCodes.get(StringUtil.foldCase(word));
+                estimate = Math.min(estimate, postings == null ? 0 : postings.size());
+            }
+            return estimate;
+        }
+
+        private CodeSet getCodesMatching(String keyword) {
+            if (!isIndexable(keyword)) {
+                // tested against every module as a fallback
+                return filter(new CodeSet(allCodes), module -> field.valuesOf.apply(module).stream()
+                        .anyMatch(value -> ParserUtil.parseKeyword(keyword, value)));
+            }
+
+            if (ParserUtil.isFuzzyKeyword(keyword)) {
+                return getCodesMatchingFuzzy(keyword);
+            }
+
+            List<String> words = StringUtil.splitWords(keyword);
+            CodeSet matchingCodes = null;
+            for (String word : words) {
+                CodeSet postings = wordToCodes.get(StringUtil.foldCase(word));
+                if (postings == null) {
+                    return new CodeSet();
+                }
+                if (matchingCodes == null) {
+                    matchingCodes = new CodeSet(postings);
+                } else {
+                    matchingCodes.retainAll(postings);
+                }
+            }
+
+            if (words.size() == 1) {
+                return matchingCodes;
+            }
+            // a module that contains every word only matches if its whole value is equal to the keyword
+            return filter(matchingCodes, module -> field.valuesOf.apply(module).stream()
+                    .anyMatch(value -> value.trim().equalsIgnoreCase(keyword)));
+        }
+
+        private CodeSet getCodesMatchingFuzzy(String keyword) {
+            List<String> words = StringUtil.splitWords(ParserUtil.removeFuzzySuffix(keyword));
+            CodeSet matchingCodes = null;
+            for (String word : words) {
+                CodeSet wordCodes = new CodeSet();
+                for (String similarWord : getSimilarWords(StringUtil.foldCase(word))) {
+                    wordCodes.addAll(wordToCodes.get(similarWord));
+                }
+                if (matchingCodes == null) {
+                    matchingCodes = wordCodes;
+                } else {
+                    matchingCodes.retainAll(wordCodes);
+                }
+                if (matchingCodes.isEmpty()) {
+                    return matchingCodes;
+                }
+            }
+
+            if (words.size() == 1) {
+                return matchingCodes;
+            }
+            // the words of the keyword have to be matched by the words of the same value
+            return filter(matchingCodes, module -> field.valuesOf.apply(module).stream()
+                    .anyMatch(value -> ParserUtil.parseKeyword(keyword, value)));
+        }
+
+        /**
+         * Returns the indexed words that are within the edit distance tolerated for {@code foldedWord}.
+         *
+         * A word within edit distance {@code k} shares all but at most {@code 3k} of the trigrams of
+         * {@code foldedWord}, as every edit changes at most three trigrams. Only the words that share that many
+         * trigrams are compared, unless {@code foldedWord} is too short for the trigrams to rule out any word.
+         */
+        private List<String> getSimilarWords(String foldedWord) {
+            int maxDistance = ParserUtil.getMaxEditDistance(foldedWord.length());
+            if (maxDistance == 0) {
+                return wordToCodes.containsKey(foldedWord) ? List.of(foldedWord) : List.of();
+            }
+
+            Set<String> trigrams = getTrigrams(foldedWord);
+            int minSharedTrigrams = trigrams.size() - TRIGRAM_LENGTH * maxDistance;
+            Collection<String> candidateWords;
+            if (minSharedTrigrams <= 0) {
+                candidateWords = wordToCodes.keySet();
+            } else {
+                Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+                for (String trigram : trigrams) {
+                    for (String word : trigramToWords.getOrDefault(trigram, Collections.emptySet())) {
+                        sharedTrigramCounts.merge(word, 1, Integer::sum);
+                    }
+                }
+                candidateWords = sharedTrigramCounts.entrySet().stream()
+                        .filter(entry -> entry.getValue() >= minSharedTrigrams)
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toList());
+            }
+
+            return candidateWords.stream()
+                    .filter(word -> StringUtil.getEditDistanceIgnoreCase(foldedWord, word, maxDistance) != -1)
+                    .collect(Collectors.toList());
+        }
+    }
+}
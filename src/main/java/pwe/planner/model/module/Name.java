@@ -3,6 +3,8 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.Interner;
+
 /**
  * Represents a Module's name in the application.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,8 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^[\\p{Graph}&&[^\\(\\)\\|\\&]][\\p{Print}&&[^\\(\\)\\|\\&]]*$";
+    private static final Interner<Name> INTERNER = new Interner<>();
+
     public final String fullName;
 
     /**
@@ -48,6 +52,13 @@ public class Name {
         return fullName;
     }
 
+    /**
+     * Returns the canonical {@code Name} that is equal to this name.
+     */
+    public Name intern() {
+        return INTERNER.intern(this);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -3,10 +3,12 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
 
+import pwe.planner.model.module.ModuleWordIndex.Field;
+
 /**
  * Tests that a {@code Module}'s {@code Name} matches the keyword given.
  */
-public class NameContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
+public class NameContainsKeywordsPredicate<T> implements KeywordsPredicate<T>, IndexablePredicate<T> {
     private final String keyword;
 
     public NameContainsKeywordsPredicate(String keyword) {
@@ -24,6 +26,16 @@ public class NameContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
         return parseKeyword(keyword, moduleName);
     }
 
+    @Override
+    public Field getField() {
+        return Field.NAME;
+    }
+
+    @Override
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -31,4 +43,8 @@ public class NameContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
                 && keyword.equals(((NameContainsKeywordsPredicate) other).keyword)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
@@ -0,0 +1,122 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The word index of a {@link ModuleCatalog} derived from another catalog, which resolves keywords through the index of
+ * the modules that the catalogs share and a small index of the modules that have changed since.
+ * The codes of changed modules are dropped from the codes matched by the shared index, and the codes matched by the
+ * index of the changed modules are added instead. As the catalog is never modified, neither is its index.
+ */
+class OverlayWordIndex extends ModuleWordIndex {
+
+    private final ModuleWordIndex baseIndex;
+    private final ModuleWordIndex changedIndex;
+    /** The codes of every module that has been replaced, added or removed since the shared modules were indexed. */
+    private final CodeSet changedCodes;
+    private final CodeSet allCodes;
+
+    /**
+     * Creates an index of the modules of {@code baseIndex} with the modules of {@code changedCodes} replaced by those
+     * of {@code changedIndex}, which looks up indexed modules by code through {@code moduleLookup}.
+     */
+    OverlayWordIndex(ModuleWordIndex baseIndex, ModuleWordIndex changedIndex, CodeSet changedCodes,
+            Function<Code, Module> moduleLookup) {
+        super(moduleLookup);
+        requireAllNonNull(baseIndex, changedIndex, changedCodes);
+
+        this.baseIndex = baseIndex;
+        this.changedIndex = changedIndex;
+        this.changedCodes = changedCodes;
+        allCodes = baseIndex.getAllCodes();
+        allCodes.removeAll(changedCodes);
+        allCodes.addAll(changedIndex.getAllCodes());
+    }
+
+    @Override
+    public int size() {
+        return allCodes.size();
+    }
+
+    @Override
+    public CodeSet getAllCodes() {
+        return new CodeSet(allCodes);
+    }
+
+    @Override
+    public CodeSet getCodesMatching(Field field, String keyword) {
+        requireAllNonNull(field, keyword);
+
+        CodeSet matchingCodes = baseIndex.getCodesMatching(field, keyword);
+        matchingCodes.removeAll(changedCodes);
+        matchingCodes.addAll(changedIndex.getCodesMatching(field, keyword));
+        return matchingCodes;
+    }
+
+    @Override
+    public int estimateMatches(Field field, String keyword) {
+        requireAllNonNull(field, keyword);
+
+        return baseIndex.estimateMatches(field, keyword) + changedIndex.estimateMatches(field, keyword);
+    }
+
+    @Override
+    public void forEachCodeWithPrefix(String prefix, Predicate<Code> visitor) {
+        requireAllNonNull(prefix, visitor);
+
+        List<Code> changedCodesWithPrefix = new ArrayList<>();
+        changedIndex.forEachCodeWithPrefix(prefix, changedCodesWithPrefix::add);
+        MergingVisitor mergingVisitor = new MergingVisitor(changedCodesWithPrefix, visitor);
+        baseIndex.forEachCodeWithPrefix(prefix, mergingVisitor);
+        mergingVisitor.visitRemainingChangedCodes();
+    }
+
+    /**
+     * Visits the codes of the shared index that have not changed, together with the codes of the changed modules, in
+     * their natural order.
+     */
+    private class MergingVisitor implements Predicate<Code> {
+        private final List<Code> changedCodesWithPrefix;
+        private final Predicate<Code> visitor;
+        private int nextChangedCode;
+        private boolean isStopped;
+
+        MergingVisitor(List<Code> changedCodesWithPrefix, Predicate<Code> visitor) {
+            this.changedCodesWithPrefix = changedCodesWithPrefix;
+            this.visitor = visitor;
+        }
+
+        @Override
+        public boolean test(Code baseCode) {
+            requireNonNull(baseCode);
+
+            while (nextChangedCode < changedCodesWithPrefix.size()
+                    && changedCodesWithPrefix.get(nextChangedCode).compareTo(baseCode) < 0) {
+                if (!visit(changedCodesWithPrefix.get(nextChangedCode++))) {
+                    return false;
+                }
+            }
+            return changedCodes.contains(baseCode) || visit(baseCode);
+        }
+
+        /**
+         * Visits the changed codes that come after every code of the shared index, unless the visitor has stopped.
+         */
+        void visitRemainingChangedCodes() {
+            while (!isStopped && nextChangedCode < changedCodesWithPrefix.size()) {
+                visit(changedCodesWithPrefix.get(nextChangedCode++));
+            }
+        }
+
+        private boolean visit(Code code) {
+            isStopped = !visitor.test(code);
+            return !isStopped;
+        }
+    }
+}
@@ -5,12 +5,13 @@ import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
 
 import java.util.Set;
 
+import pwe.planner.model.module.ModuleWordIndex.Field;
 import pwe.planner.model.tag.Tag;
 
 /**
  * Tests that a {@code Module}'s {@code Tag} matches keyword given.
  */
-public class TagContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
+public class TagContainsKeywordsPredicate<T> implements KeywordsPredicate<T>, IndexablePredicate<T> {
     private final String keyword;
 
     public TagContainsKeywordsPredicate(String keyword) {
@@ -28,6 +29,16 @@ public class TagContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
         return tags.stream().anyMatch(tag -> parseKeyword(keyword, tag.tagName));
     }
 
+    @Override
+    public Field getField() {
+        return Field.TAG;
+    }
+
+    @Override
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -35,4 +46,8 @@ public class TagContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
                 && keyword.equals(((TagContainsKeywordsPredicate) other).keyword)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
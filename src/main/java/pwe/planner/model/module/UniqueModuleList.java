@@ -3,14 +3,16 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.util.BatchableObservableList;
 import pwe.planner.model.module.exceptions.DuplicateModuleException;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
 
@@ -23,13 +25,27 @@ import pwe.planner.model.module.exceptions.ModuleNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Modules are additionally indexed by their {@code Code}, so that lookups by code take constant time regardless of
+ * the size of the list, and grouped into {@link CorequisiteClusters}, so that cascading co-requisite changes only
+ * touch the modules of the affected clusters. The position of every module in the list is indexed by code as well,
+ * so that replacing a module does not search the list for it. These are kept in sync with the backing list by every
+ * mutating operation, as is the {@link ModuleWordIndex} that keyword searches are resolved through. The code of
+ * every module is also registered with {@link CodeIndex} as soon as it is added, so that sets of catalog codes are
+ * stored as bitsets (see {@link CodeSet}).
+ *
  * @see Module#isSameModule(Module)
  */
 public class UniqueModuleList implements Iterable<Module> {
 
-    private final ObservableList<Module> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Module> internalList = new BatchableObservableList<>();
     private final ObservableList<Module> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, Module> codeToModule = new HashMap<>();
+    /** The position of every module in the backing list, which is out of date from {@code staleIndexFrom} onwards. */
+    private final Map<Code, Integer> codeToIndex = new HashMap<>();
+    private int staleIndexFrom = Integer.MAX_VALUE;
+    private final CorequisiteClusters corequisiteClusters = new CorequisiteClusters();
+    private final ModuleWordIndex wordIndex = new ModuleWordIndex(codeToModule::get);
 
     /**
      * Returns true if the list contains an equivalent module as the given argument.
@@ -37,7 +53,16 @@ public class UniqueModuleList implements Iterable<Module> {
     public boolean contains(Module toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameModule);
+        return codeToModule.containsKey(toCheck.getCode());
+    }
+
+    /**
+     * Returns true if the list contains a module with the given {@code Code}.
+     */
+    public boolean containsCode(Code toCheck) {
+        requireNonNull(toCheck);
+
+        return codeToModule.containsKey(toCheck);
     }
 
     /**
@@ -46,10 +71,26 @@ public class UniqueModuleList implements Iterable<Module> {
     public Module getModuleByCode(Code toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream()
-                .filter(module -> module.getCode().equals(toCheck))
-                .findFirst()
-                .orElse(null);
+        return codeToModule.get(toCheck);
+    }
+
+    /**
+     * Returns the co-requisite cluster of {@code code}, that is {@code code} together with all of its co-requisites.
+     * The returned set is an unmodifiable view, which throws {@code UnsupportedOperationException} if modification
+     * is attempted.
+     */
+    public Set<Code> getCorequisiteCluster(Code code) {
+        requireNonNull(code);
+
+        return corequisiteClusters.getCluster(code);
+    }
+
+    /**
+     * Returns the word index of the searchable fields of the modules in this list, which is kept in sync with the
+     * list.
+     */
+    public ModuleWordIndex getWordIndex() {
+        return wordIndex;
     }
 
     /**
@@ -62,60 +103,33 @@ public class UniqueModuleList implements Iterable<Module> {
         if (contains(toAdd)) {
             throw new DuplicateModuleException();
         }
-        internalList.add(toAdd);
 
-        cascadeAddToModuleCorequisites(toAdd);
+        // the module and the co-requisites cascaded to it are reported to listeners as a single change
+        beginBatch();
+        try {
+            codeToIndex.put(toAdd.getCode(), internalList.size());
+            internalList.add(toAdd);
+            codeToModule.put(toAdd.getCode(), toAdd);
+            CodeIndex.register(toAdd.getCode());
+            wordIndex.add(toAdd);
+
+            cascadeAddToModuleCorequisites(toAdd);
+        } finally {
+            endBatch();
+        }
     }
 
     /**
-     * Combines all co-requisites linked to current module into one {@code Set<Code>}, and update all linked modules to
-     * have all-corequisites
+     * Merges the co-requisite cluster of {@code moduleToAdd} with the clusters of all of its co-requisites, and updates
+     * all modules in the merged cluster to have every other module in the cluster as a co-requisite.
      *
      * @param moduleToAdd
      */
     private void cascadeAddToModuleCorequisites(Module moduleToAdd) {
         assert moduleToAdd != null;
 
-        // create a union Set<Code> of co-requisites
-        Code currentCode = moduleToAdd.getCode();
-        Set<Code> currentCorequisites = moduleToAdd.getCorequisites();
-        Set<Code> allCorequisites = new HashSet<>(currentCorequisites);
-
-        for (Code codeToAdd : currentCorequisites) {
-            Optional<Module> otherModuleOptional = internalUnmodifiableList.stream()
-                    .filter(module -> module.getCode().equals(codeToAdd))
-                    .findFirst();
-
-            if (otherModuleOptional.isPresent()) {
-                allCorequisites.addAll(otherModuleOptional.get().getCorequisites());
-            }
-        }
-
-        allCorequisites.add(currentCode);
-
-        // update all co-requisite modules with the union set excluding itself
-        for (Code codeToEditCorequisites : allCorequisites) {
-            Optional<Module> otherModuleOptional = internalUnmodifiableList.stream()
-                    .filter(module -> module.getCode().equals(codeToEditCorequisites))
-                    .findFirst();
-
-            if (otherModuleOptional.isPresent()) {
-                Module otherModule = otherModuleOptional.get();
-                Set<Code> editedOtherCorequisites = new HashSet<>(allCorequisites);
-                editedOtherCorequisites.remove(otherModule.getCode());
-
-                Module editedOtherModule = new Module(
-                        otherModule.getCode(),
-                        otherModule.getName(),
-                        otherModule.getCredits(),
-                        otherModule.getSemesters(),
-                        editedOtherCorequisites,
-                        otherModule.getTags()
-                );
-
-                setModule(otherModule, editedOtherModule, false);
-            }
-        }
+        Set<Code> mergedCluster = corequisiteClusters.merge(moduleToAdd.getCode(), moduleToAdd.getCorequisites());
+        updateCorequisitesInCluster(mergedCluster);
     }
 
     /**
@@ -126,7 +140,12 @@ public class UniqueModuleList implements Iterable<Module> {
     public void setModule(Module target, Module editedModule) {
         requireAllNonNull(target, editedModule);
 
-        setModule(target, editedModule, true);
+        beginBatch();
+        try {
+            setModule(target, editedModule, true);
+        } finally {
+            endBatch();
+        }
     }
 
 
@@ -138,7 +157,7 @@ public class UniqueModuleList implements Iterable<Module> {
     private void setModule(Module target, Module editedModule, boolean cascade) {
         requireAllNonNull(target, editedModule);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ModuleNotFoundException();
         }
@@ -148,96 +167,128 @@ public class UniqueModuleList implements Iterable<Module> {
         }
 
         internalList.set(index, editedModule);
+        codeToModule.remove(target.getCode());
+        codeToModule.put(editedModule.getCode(), editedModule);
+        codeToIndex.remove(target.getCode());
+        codeToIndex.put(editedModule.getCode(), index);
+        CodeIndex.register(editedModule.getCode());
+        wordIndex.remove(target);
+        wordIndex.add(editedModule);
 
         if (cascade) {
-            if (!target.getCode().equals(editedModule.getCode())) {
-                cascadeEditToModuleCorequisites(target, editedModule);
-            }
+            // the edited module leaves its previous cluster (under its previous code), and then joins the clusters of
+            // its edited co-requisites
             cascadeDeleteToModuleCorequisites(target);
             cascadeAddToModuleCorequisites(editedModule);
         }
     }
 
     /**
-     * Cascades the edited module code by updating {@code UniqueModuleList} accordingly
-     * @param target module code to edit/find
-     * @param editedModule module code to replace with
+     * Removes the equivalent module from the list.
+     * The module must exist in the list.
      */
-    private void cascadeEditToModuleCorequisites(Module target, Module editedModule) {
-        assert target != null;
-        assert editedModule != null;
-
-        ObservableList<Module> modules = internalUnmodifiableList;
-        Code codeToEdit = target.getCode();
-        Code editedCode = editedModule.getCode();
+    public void remove(Module toRemove) {
+        requireNonNull(toRemove);
 
-        for (Module module : modules) {
-            if (module.getCorequisites().contains(codeToEdit)) {
-                Set<Code> editedCorequisiteCodes = new HashSet<>(module.getCorequisites());
-                editedCorequisiteCodes.remove(codeToEdit);
-                editedCorequisiteCodes.add(editedCode);
-
-                Module editedCorequisiteModule = new Module(
-                        module.getCode(),
-                        module.getName(),
-                        module.getCredits(),
-                        module.getSemesters(),
-                        editedCorequisiteCodes,
-                        module.getTags()
-                );
-
-                setModule(module, editedCorequisiteModule, false);
+        beginBatch();
+        try {
+            int index = indexOf(toRemove);
+            if (index == -1) {
+                throw new ModuleNotFoundException();
             }
+            internalList.remove(index);
+            codeToModule.remove(toRemove.getCode());
+            codeToIndex.remove(toRemove.getCode());
+            // the modules after the removed module have moved up, and are only reindexed once one of them is looked up
+            staleIndexFrom = Math.min(staleIndexFrom, index);
+            wordIndex.remove(toRemove);
+
+            cascadeDeleteToModuleCorequisites(toRemove);
+        } finally {
+            endBatch();
         }
     }
 
     /**
-     * Removes the equivalent module from the list.
-     * The module must exist in the list.
+     * Returns the position of a module equal to {@code module} in the backing list, or -1 if there is none.
      */
-    public void remove(Module toRemove) {
-        requireNonNull(toRemove);
-
-        if (!internalList.remove(toRemove)) {
-            throw new ModuleNotFoundException();
+    private int indexOf(Module module) {
+        Integer index = codeToIndex.get(module.getCode());
+        if (index == null) {
+            return -1;
         }
-
-        cascadeDeleteToModuleCorequisites(toRemove);
+        if (index >= staleIndexFrom) {
+            for (int i = staleIndexFrom; i < internalList.size(); i++) {
+                codeToIndex.put(internalList.get(i).getCode(), i);
+            }
+            staleIndexFrom = Integer.MAX_VALUE;
+            index = codeToIndex.get(module.getCode());
+        }
+        return internalList.get(index).equals(module) ? index : -1;
     }
 
     /**
-     * Cascades the deleted module code by removing it from {@code UniqueModuleList} accordingly
+     * Cascades the deleted module code by removing it from its co-requisite cluster, and from the co-requisites of the
+     * remaining modules in the cluster.
      * @param moduleToDelete module code to delete
      */
     private void cascadeDeleteToModuleCorequisites(Module moduleToDelete) {
         assert moduleToDelete != null;
 
-        ObservableList<Module> modules = internalUnmodifiableList;
-        Code codeToDelete = moduleToDelete.getCode();
+        Set<Code> remainingCluster = corequisiteClusters.remove(moduleToDelete.getCode());
+        updateCorequisitesInCluster(remainingCluster);
+    }
 
-        for (Module module : modules) {
-            if (module.getCorequisites().contains(codeToDelete)) {
-                Set<Code> editedCorequisiteCodes = new HashSet<>(module.getCorequisites());
-                editedCorequisiteCodes.remove(codeToDelete);
-
-                Module editedModule = new Module(
-                        module.getCode(),
-                        module.getName(),
-                        module.getCredits(),
-                        module.getSemesters(),
-                        editedCorequisiteCodes,
-                        module.getTags()
-                );
-
-                setModule(module, editedModule, false);
+    /**
+     * Updates every module in {@code cluster} to have exactly the other codes of {@code cluster} as co-requisites.
+     * Only modules whose co-requisites differ are replaced.
+     */
+    private void updateCorequisitesInCluster(Set<Code> cluster) {
+        assert cluster != null;
+
+        for (Code code : cluster) {
+            Module module = codeToModule.get(code);
+            if (module == null) {
+                continue;
             }
+
+            Set<Code> corequisites = module.getCorequisites();
+            boolean isUpToDate = corequisites.size() == cluster.size() - 1 && cluster.containsAll(corequisites)
+                    && !corequisites.contains(code);
+            if (isUpToDate) {
+                continue;
+            }
+
+            Set<Code> editedCorequisites = new CodeSet(cluster);
+            editedCorequisites.remove(code);
+
+            Module editedModule = new Module(
+                    module.getCode(),
+                    module.getName(),
+                    module.getCredits(),
+                    module.getSemesters(),
+                    editedCorequisites,
+                    module.getTags()
+            );
+
+            setModule(module, editedModule, false);
+        }
+    }
+
+    /**
+     * Rebuilds the co-requisite clusters from the co-requisites of every module in the list.
+     */
+    private void rebuildCorequisiteClusters() {
+        corequisiteClusters.clear();
+        for (Module module : internalList) {
+            corequisiteClusters.merge(module.getCode(), module.getCorequisites());
         }
     }
 
     public void setModules(UniqueModuleList replacement) {
         requireNonNull(replacement);
 
-        internalList.setAll(replacement.internalList);
+        setModules(replacement.internalList);
     }
 
     /**
@@ -251,7 +302,39 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
 
-        internalList.setAll(modules);
+        // the indexes are rebuilt before listeners are notified of the replaced modules
+        beginBatch();
+        try {
+            internalList.setAll(modules);
+            codeToModule.clear();
+            codeToIndex.clear();
+            staleIndexFrom = Integer.MAX_VALUE;
+            wordIndex.clear();
+            modules.forEach(module -> {
+                codeToIndex.put(module.getCode(), codeToModule.size());
+                codeToModule.put(module.getCode(), module);
+                CodeIndex.register(module.getCode());
+                wordIndex.add(module);
+            });
+            rebuildCorequisiteClusters();
+        } finally {
+            endBatch();
+        }
+    }
+
+    /**
+     * Starts a batch of changes to this list. Listeners of {@link #asUnmodifiableObservableList()} are notified of all
+     * changes made within the batch at once, when the matching {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -282,11 +365,10 @@ public class UniqueModuleList implements Iterable<Module> {
      * Returns true if {@code modules} contains only unique modules.
      */
     private boolean modulesAreUnique(List<Module> modules) {
-        for (int i = 0; i < modules.size() - 1; i++) {
-            for (int j = i + 1; j < modules.size(); j++) {
-                if (modules.get(i).isSameModule(modules.get(j))) {
-                    return false;
-                }
+        Set<Code> seenCodes = new HashSet<>();
+        for (Module module : modules) {
+            if (!seenCodes.add(module.getCode())) {
+                return false;
             }
         }
         return true;
@@ -2,13 +2,12 @@ package pwe.planner.model.planner;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
 
 /**
  * Represents a DegreePlanner in the degreePlanner list.
@@ -25,7 +24,7 @@ public class DegreePlanner implements Comparable<DegreePlanner> {
     private final Semester semester;
 
     // Data fields
-    private final Set<Code> codes = new HashSet<>();
+    private final CodeSet codes;
 
     /**
      * Every field must be present and not null.
@@ -33,13 +32,17 @@ public class DegreePlanner implements Comparable<DegreePlanner> {
     public DegreePlanner(Year year, Semester semester, Set<Code> codes) {
         requireAllNonNull(year, semester, codes);
 
-        this.year = year;
-        this.semester = semester;
-        this.codes.addAll(codes);
+        this.year = year.intern();
+        this.semester = semester.intern();
+        this.codes = CodeSet.registeredCopyOf(codes);
     }
 
-    public Set<Code> getCodes() {
-        return Collections.unmodifiableSet(codes);
+    /**
+     * Returns an immutable set of the codes of the modules in this degree planner, which throws
+     * {@code UnsupportedOperationException} if modification is attempted.
+     */
+    public CodeSet getCodes() {
+        return codes;
     }
 
     public Year getYear() {
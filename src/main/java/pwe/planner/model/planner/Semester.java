@@ -3,6 +3,8 @@ package pwe.planner.model.planner;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.Interner;
+
 /**
  * Represents a DegreePlanner's Semester in the degreePlanner list.
  * Guarantees: details are present and not null, field values are validated, immutable.
@@ -18,6 +20,8 @@ public class Semester implements Comparable<Semester> {
     public static final String SEMESTER_VALIDATION_REGEX =
             "[1-4]{1}";
 
+    private static final Interner<Semester> INTERNER = new Interner<>();
+
     public final String plannerSemester;
 
     /**
@@ -46,6 +50,13 @@ public class Semester implements Comparable<Semester> {
         return plannerSemester;
     }
 
+    /**
+     * Returns the canonical {@code Semester} that is equal to this semester.
+     */
+    public Semester intern() {
+        return INTERNER.intern(this);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -5,13 +5,15 @@ import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
 
 import java.util.Set;
 
+import pwe.planner.model.module.IndexablePredicate;
 import pwe.planner.model.module.KeywordsPredicate;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleWordIndex.Field;
 
 /**
  * Tests that a {@code DegreePlanner}'s {@code Semester} matches any of the keyword given.
  */
-public class SemesterContainsKeywordPredicate<T> implements KeywordsPredicate<T> {
+public class SemesterContainsKeywordPredicate<T> implements KeywordsPredicate<T>, IndexablePredicate<T> {
     private final String keyword;
 
     public SemesterContainsKeywordPredicate(String keyword) {
@@ -37,10 +39,25 @@ public class SemesterContainsKeywordPredicate<T> implements KeywordsPredicate<T>
         }
     }
 
+    @Override
+    public Field getField() {
+        return Field.SEMESTER;
+    }
+
+    @Override
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof SemesterContainsKeywordPredicate // instanceof handles nulls
                 && keyword.equals(((SemesterContainsKeywordPredicate) other).keyword)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
@@ -3,12 +3,17 @@ package pwe.planner.model.planner;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.util.BatchableObservableList;
 import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
 import pwe.planner.model.planner.exceptions.DegreePlannerNotFoundException;
 import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
 
@@ -21,14 +26,20 @@ import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
  * the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * Degree planners are additionally indexed by their year and semester, and by every code that they contain, so that
+ * looking up the degree planner of a slot or of a code does not require scanning the list. Both indexes are kept in
+ * sync with the backing list by every mutating operation.
  *
  * @see DegreePlanner#isSameDegreePlanner(DegreePlanner)
  */
 public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
 
-    private final ObservableList<DegreePlanner> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<DegreePlanner> internalList = new BatchableObservableList<>();
     private final ObservableList<DegreePlanner> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Year, Map<Semester, DegreePlanner>> slotToDegreePlanner = new HashMap<>();
+    private final Map<Code, DegreePlanner> codeToDegreePlanner = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent degree planner as the given argument.
@@ -36,7 +47,17 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public boolean contains(DegreePlanner toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameDegreePlanner);
+        return getDegreePlanner(toCheck.getYear(), toCheck.getSemester()) != null;
+    }
+
+    /**
+     * Returns the degree planner of the given {@code year} and {@code semester}, otherwise returns null.
+     */
+    public DegreePlanner getDegreePlanner(Year year, Semester semester) {
+        requireAllNonNull(year, semester);
+
+        Map<Semester, DegreePlanner> semesterToDegreePlanner = slotToDegreePlanner.get(year);
+        return semesterToDegreePlanner == null ? null : semesterToDegreePlanner.get(semester);
     }
 
     /**
@@ -46,10 +67,7 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public DegreePlanner getDegreePlannerByCode(Code toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream()
-                .filter(degreePlanner -> degreePlanner.getCodes().contains(toCheck))
-                .findFirst()
-                .orElse(null);
+        return codeToDegreePlanner.get(toCheck);
     }
 
     /**
@@ -63,6 +81,7 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
             throw new DuplicateDegreePlannerException();
         }
         internalList.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -84,6 +103,43 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         }
 
         internalList.set(index, editedDegreePlanner);
+        unindex(target);
+        index(editedDegreePlanner);
+    }
+
+    /**
+     * Replaces {@code codeToReplace} with {@code replacementCode} in the degree planner that contains it, if any.
+     * Only the degree planner that refers to {@code codeToReplace} is looked up and replaced.
+     */
+    public void replaceCode(Code codeToReplace, Code replacementCode) {
+        requireAllNonNull(codeToReplace, replacementCode);
+
+        DegreePlanner referrer = getDegreePlannerByCode(codeToReplace);
+        if (referrer == null) {
+            return;
+        }
+
+        Set<Code> editedCodes = new CodeSet(referrer.getCodes());
+        editedCodes.remove(codeToReplace);
+        editedCodes.add(replacementCode);
+        setDegreePlanner(referrer, new DegreePlanner(referrer.getYear(), referrer.getSemester(), editedCodes));
+    }
+
+    /**
+     * Removes {@code codeToRemove} from the degree planner that contains it, if any.
+     * Only the degree planner that refers to {@code codeToRemove} is looked up and replaced.
+     */
+    public void removeCode(Code codeToRemove) {
+        requireNonNull(codeToRemove);
+
+        DegreePlanner referrer = getDegreePlannerByCode(codeToRemove);
+        if (referrer == null) {
+            return;
+        }
+
+        Set<Code> editedCodes = new CodeSet(referrer.getCodes());
+        editedCodes.remove(codeToRemove);
+        setDegreePlanner(referrer, new DegreePlanner(referrer.getYear(), referrer.getSemester(), editedCodes));
     }
 
     /**
@@ -96,12 +152,14 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         if (!internalList.remove(toRemove)) {
             throw new DegreePlannerNotFoundException();
         }
+        unindex(toRemove);
     }
 
     public void setDegreePlanners(UniqueDegreePlannerList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -116,6 +174,22 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         }
 
         internalList.setAll(degreePlanners);
+        reindex();
+    }
+
+    /**
+     * Starts a batch of changes to this list. Listeners of {@link #asUnmodifiableObservableList()} are notified of all
+     * changes made within the batch at once, when the matching {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -142,6 +216,44 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         return internalList.hashCode();
     }
 
+    /**
+     * Adds {@code degreePlanner} to the year/semester and code indexes.
+     */
+    private void index(DegreePlanner degreePlanner) {
+        assert degreePlanner != null;
+
+        slotToDegreePlanner.computeIfAbsent(degreePlanner.getYear(), unused -> new HashMap<>())
+                .put(degreePlanner.getSemester(), degreePlanner);
+        for (Code code : degreePlanner.getCodes()) {
+            codeToDegreePlanner.put(code, degreePlanner);
+        }
+    }
+
+    /**
+     * Removes {@code degreePlanner} from the year/semester and code indexes.
+     * Index entries that have since been claimed by another degree planner are left untouched.
+     */
+    private void unindex(DegreePlanner degreePlanner) {
+        assert degreePlanner != null;
+
+        Map<Semester, DegreePlanner> semesterToDegreePlanner = slotToDegreePlanner.get(degreePlanner.getYear());
+        if (semesterToDegreePlanner != null) {
+            semesterToDegreePlanner.remove(degreePlanner.getSemester(), degreePlanner);
+        }
+        for (Code code : degreePlanner.getCodes()) {
+            codeToDegreePlanner.remove(code, degreePlanner);
+        }
+    }
+
+    /**
+     * Rebuilds both indexes from the backing list.
+     */
+    private void reindex() {
+        slotToDegreePlanner.clear();
+        codeToDegreePlanner.clear();
+        internalList.forEach(this::index);
+    }
+
     /**
      * Returns true if {@code degreePlanners} contains only unique degreePlanner.
      */
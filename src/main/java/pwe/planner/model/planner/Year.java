@@ -3,6 +3,8 @@ package pwe.planner.model.planner;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.Interner;
+
 /**
  * Represents a DegreePlanner's Year in the degreePlanner list.
  * Guarantees: details are present and not null, field values are validated, immutable.
@@ -18,6 +20,8 @@ public class Year implements Comparable<Year> {
     public static final String YEAR_VALIDATION_REGEX =
             "[1-4]{1}";
 
+    private static final Interner<Year> INTERNER = new Interner<>();
+
     public final String year;
 
     /**
@@ -46,6 +50,13 @@ public class Year implements Comparable<Year> {
         return year;
     }
 
+    /**
+     * Returns the canonical {@code Year} that is equal to this year.
+     */
+    public Year intern() {
+        return INTERNER.intern(this);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -26,10 +26,20 @@ public class YearContainsKeywordPredicate<T> implements KeywordsPredicate<T> {
         return parseKeyword(keyword, year);
     }
 
+    @Override
+    public String toString() {
+        return "year \"" + keyword + "\"";
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof YearContainsKeywordPredicate // instanceof handles nulls
                 && keyword.equals(((YearContainsKeywordPredicate) other).keyword)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
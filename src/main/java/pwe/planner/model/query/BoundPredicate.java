@@ -0,0 +1,45 @@
+package pwe.planner.model.query;
+
+import java.util.function.Predicate;
+
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleWordIndex;
+
+/**
+ * A search expression bound to a {@link ModuleWordIndex}, which tests modules by looking up the result of a plan of
+ * the expression instead of evaluating it. The plan is created and executed again whenever the index has been
+ * modified since it was last executed.
+ *
+ * @see QueryPlanner#bind(Predicate, ModuleWordIndex)
+ */
+public class BoundPredicate implements Predicate<Module> {
+
+    private final Predicate<Module> predicate;
+    private final ModuleWordIndex index;
+    private int modificationCount;
+    private CodeSet matchingCodes;
+
+    BoundPredicate(Predicate<Module> predicate, ModuleWordIndex index, CodeSet matchingCodes, int modificationCount) {
+        this.predicate = predicate;
+        this.index = index;
+        this.matchingCodes = matchingCodes;
+        this.modificationCount = modificationCount;
+    }
+
+    /**
+     * Returns the search expression that this predicate is equivalent to.
+     */
+    public Predicate<Module> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean test(Module module) {
+        if (modificationCount != index.getModificationCount()) {
+            matchingCodes = QueryPlanner.plan(predicate, index).execute(index);
+            modificationCount = index.getModificationCount();
+        }
+        return matchingCodes.contains(module.getCode());
+    }
+}
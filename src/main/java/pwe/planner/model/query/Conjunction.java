@@ -0,0 +1,66 @@
+package pwe.planner.model.query;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A node of a parsed search expression, which is satisfied if all of its operands are satisfied.
+ * Nested conjunctions are flattened into a single node, so that a {@link QueryPlanner} is free to evaluate the
+ * operands in any order.
+ */
+public class Conjunction<T> implements Predicate<T> {
+
+    private final List<Predicate<T>> operands;
+
+    private Conjunction(List<Predicate<T>> operands) {
+        this.operands = Collections.unmodifiableList(operands);
+    }
+
+    /**
+     * Returns the conjunction of {@code first} and {@code second}.
+     */
+    public static <T> Conjunction<T> of(Predicate<T> first, Predicate<T> second) {
+        requireAllNonNull(first, second);
+
+        List<Predicate<T>> operands = new ArrayList<>();
+        addFlattened(operands, first);
+        addFlattened(operands, second);
+        return new Conjunction<>(operands);
+    }
+
+    private static <T> void addFlattened(List<Predicate<T>> operands, Predicate<T> operand) {
+        if (operand instanceof Conjunction) {
+            operands.addAll(((Conjunction<T>) operand).operands);
+        } else {
+            operands.add(operand);
+        }
+    }
+
+    /**
+     * Returns the operands of this conjunction, in the order that they were given.
+     */
+    public List<Predicate<T>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(T object) {
+        return operands.stream().allMatch(operand -> operand.test(object));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Conjunction // instanceof handles nulls
+                && operands.equals(((Conjunction<?>) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+}
@@ -0,0 +1,66 @@
+package pwe.planner.model.query;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A node of a parsed search expression, which is satisfied if any of its operands is satisfied.
+ * Nested disjunctions are flattened into a single node, so that a {@link QueryPlanner} is free to evaluate the
+ * operands in any order.
+ */
+public class Disjunction<T> implements Predicate<T> {
+
+    private final List<Predicate<T>> operands;
+
+    private Disjunction(List<Predicate<T>> operands) {
+        this.operands = Collections.unmodifiableList(operands);
+    }
+
+    /**
+     * Returns the disjunction of {@code first} and {@code second}.
+     */
+    public static <T> Disjunction<T> of(Predicate<T> first, Predicate<T> second) {
+        requireAllNonNull(first, second);
+
+        List<Predicate<T>> operands = new ArrayList<>();
+        addFlattened(operands, first);
+        addFlattened(operands, second);
+        return new Disjunction<>(operands);
+    }
+
+    private static <T> void addFlattened(List<Predicate<T>> operands, Predicate<T> operand) {
+        if (operand instanceof Disjunction) {
+            operands.addAll(((Disjunction<T>) operand).operands);
+        } else {
+            operands.add(operand);
+        }
+    }
+
+    /**
+     * Returns the operands of this disjunction, in the order that they were given.
+     */
+    public List<Predicate<T>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(T object) {
+        return operands.stream().anyMatch(operand -> operand.test(object));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Disjunction // instanceof handles nulls
+                && operands.equals(((Disjunction<?>) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+}
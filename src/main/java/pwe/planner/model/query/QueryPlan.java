@@ -0,0 +1,266 @@
+package pwe.planner.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleWordIndex;
+import pwe.planner.model.module.ModuleWordIndex.Field;
+
+/**
+ * A node of a plan that evaluates a search expression against the modules of a {@link ModuleWordIndex}, producing the
+ * codes of the matching modules. Plans are created by {@link QueryPlanner}.
+ *
+ * Every node records the number of codes that it produced and the time that it took in its last evaluation, which are
+ * shown by {@link #explain()} next to the number of codes that the planner estimated.
+ */
+public abstract class QueryPlan {
+
+    private static final String INDENT = "  ";
+
+    private final int estimate;
+    private int actual = -1;
+    private long elapsedNanos;
+
+    QueryPlan(int estimate) {
+        this.estimate = estimate;
+    }
+
+    /**
+     * Returns the number of codes that this plan is estimated to produce.
+     */
+    public int getEstimate() {
+        return estimate;
+    }
+
+    /**
+     * Returns true if this plan is answered from the posting lists of the index, without testing any module.
+     */
+    abstract boolean isIndexed();
+
+    /**
+     * Returns a one-line description of this node.
+     */
+    abstract String describe();
+
+    /**
+     * Returns the codes of the modules in {@code candidates} that match this plan, or of all modules in {@code index}
+     * if {@code candidates} is null. {@code candidates} is not modified.
+     */
+    abstract CodeSet evaluate(ModuleWordIndex index, CodeSet candidates);
+
+    List<QueryPlan> getChildren() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the codes of the modules in {@code index} that match this plan.
+     */
+    public CodeSet execute(ModuleWordIndex index) {
+        requireNonNull(index);
+
+        return execute(index, null);
+    }
+
+    CodeSet execute(ModuleWordIndex index, CodeSet candidates) {
+        long startTime = System.nanoTime();
+        CodeSet result = evaluate(index, candidates);
+        elapsedNanos = System.nanoTime() - startTime;
+        actual = result.size();
+        return result;
+    }
+
+    /**
+     * Clears the figures of this plan, for a node that was not evaluated because an earlier node already decided the
+     * result.
+     */
+    void skip() {
+        actual = -1;
+        elapsedNanos = 0;
+        getChildren().forEach(QueryPlan::skip);
+    }
+
+    /**
+     * Returns a description of this plan as an indented tree, with the figures recorded by the last
+     * {@link #execute(ModuleWordIndex)}.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder();
+        explain(builder, "");
+        return builder.toString().trim();
+    }
+
+    private void explain(StringBuilder builder, String indent) {
+        builder.append(indent).append(describe()).append(" (estimated ").append(estimate);
+        if (actual == -1) {
+            builder.append(", skipped)\n");
+        } else {
+            builder.append(", actual ").append(actual).append(", ").append(ScanPlan.formatNanos(elapsedNanos))
+                    .append(")\n");
+        }
+        getChildren().forEach(child -> child.explain(builder, indent + INDENT));
+    }
+
+    /**
+     * Looks up the codes of the modules whose {@code field} matches {@code keyword} in the index.
+     */
+    static class IndexLookup extends QueryPlan {
+        private final Field field;
+        private final String keyword;
+
+        IndexLookup(Field field, String keyword, int estimate) {
+            super(estimate);
+            requireAllNonNull(field, keyword);
+
+            this.field = field;
+            this.keyword = keyword;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return true;
+        }
+
+        @Override
+        String describe() {
+            return "IndexLookup " + field.name().toLowerCase() + " \"" + keyword + "\"";
+        }
+
+        @Override
+        CodeSet evaluate(ModuleWordIndex index, CodeSet candidates) {
+            CodeSet codes = index.getCodesMatching(field, keyword);
+            if (candidates != null) {
+                codes.retainAll(candidates);
+            }
+            return codes;
+        }
+    }
+
+    /**
+     * Tests a predicate against every candidate module.
+     */
+    static class Scan extends QueryPlan {
+        private final Predicate<Module> predicate;
+
+        Scan(Predicate<Module> predicate, int estimate) {
+            super(estimate);
+            requireNonNull(predicate);
+
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return false;
+        }
+
+        @Override
+        String describe() {
+            return "Scan " + ScanPlan.describe(predicate);
+        }
+
+        @Override
+        CodeSet evaluate(ModuleWordIndex index, CodeSet candidates) {
+            return index.filter(candidates == null ? index.getAllCodes() : new CodeSet(candidates), predicate);
+        }
+    }
+
+    /**
+     * Produces the codes that match all of its children. Each child is only evaluated against the codes produced by
+     * the previous children, and evaluation stops as soon as no code is left.
+     */
+    static class Intersection extends QueryPlan {
+        private final List<QueryPlan> children;
+
+        /**
+         * Creates an intersection of {@code children}, which are evaluated in the given order.
+         */
+        Intersection(List<QueryPlan> children, int estimate) {
+            super(estimate);
+            requireNonNull(children);
+
+            this.children = Collections.unmodifiableList(children);
+        }
+
+        @Override
+        boolean isIndexed() {
+            return children.stream().allMatch(QueryPlan::isIndexed);
+        }
+
+        @Override
+        String describe() {
+            return "Intersection";
+        }
+
+        @Override
+        List<QueryPlan> getChildren() {
+            return children;
+        }
+
+        @Override
+        CodeSet evaluate(ModuleWordIndex index, CodeSet candidates) {
+            CodeSet result = candidates;
+            for (int i = 0; i < children.size(); i++) {
+                if (result != null && result.isEmpty()) {
+                    children.subList(i, children.size()).forEach(QueryPlan::skip);
+                    break;
+                }
+                result = children.get(i).execute(index, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Produces the codes that match any of its children. Children that are not answered from the index are only
+     * evaluated against the candidates that no earlier child produced.
+     */
+    static class Union extends QueryPlan {
+        private final List<QueryPlan> children;
+
+        /**
+         * Creates a union of {@code children}, which are evaluated in the given order.
+         */
+        Union(List<QueryPlan> children, int estimate) {
+            super(estimate);
+            requireNonNull(children);
+
+            this.children = Collections.unmodifiableList(children);
+        }
+
+        @Override
+        boolean isIndexed() {
+            return children.stream().allMatch(QueryPlan::isIndexed);
+        }
+
+        @Override
+        String describe() {
+            return "Union";
+        }
+
+        @Override
+        List<QueryPlan> getChildren() {
+            return children;
+        }
+
+        @Override
+        CodeSet evaluate(ModuleWordIndex index, CodeSet candidates) {
+            CodeSet result = new CodeSet();
+            for (QueryPlan child : children) {
+                if (child.isIndexed()) {
+                    result.addAll(child.execute(index, candidates));
+                    continue;
+                }
+                CodeSet remainingCandidates = candidates == null ? index.getAllCodes() : new CodeSet(candidates);
+                remainingCandidates.removeAll(result);
+                result.addAll(child.execute(index, remainingCandidates));
+            }
+            return result;
+        }
+    }
+}
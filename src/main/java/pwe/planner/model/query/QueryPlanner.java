@@ -0,0 +1,124 @@
+package pwe.planner.model.query;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.IndexablePredicate;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleWordIndex;
+import pwe.planner.model.query.QueryPlan.IndexLookup;
+import pwe.planner.model.query.QueryPlan.Intersection;
+import pwe.planner.model.query.QueryPlan.Scan;
+import pwe.planner.model.query.QueryPlan.Union;
+
+/**
+ * Creates cost-based {@link QueryPlan plans} to evaluate search expressions against a {@link ModuleWordIndex}.
+ *
+ * {@link IndexablePredicate Indexable} leaves are answered by looking up their keyword in the index, and
+ * {@link Conjunction conjunctions} and {@link Disjunction disjunctions} of them are answered by set operations on the
+ * looked up codes. Only the remaining predicates are tested against modules, and only against the modules that can
+ * still affect the result.
+ *
+ * The operands of a conjunction are evaluated in ascending order of their estimated number of matches, with index
+ * lookups before scans, so that the candidates shrink as early and as cheaply as possible. The number of matches of an
+ * index lookup is estimated from the sizes of its posting lists, and that of a scan from a sample of the modules.
+ */
+public class QueryPlanner {
+
+    private QueryPlanner() {} // prevents instantiation
+
+    /**
+     * Returns true if any part of {@code predicate} can be answered from a {@code ModuleWordIndex}.
+     */
+    public static boolean isIndexable(Predicate<?> predicate) {
+        if (predicate instanceof IndexablePredicate) {
+            return true;
+        }
+        if (predicate instanceof Conjunction) {
+            return ((Conjunction<?>) predicate).getOperands().stream().anyMatch(QueryPlanner::isIndexable);
+        }
+        if (predicate instanceof Disjunction) {
+            return ((Disjunction<?>) predicate).getOperands().stream().anyMatch(QueryPlanner::isIndexable);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a plan to evaluate {@code predicate} against the modules in {@code index}.
+     */
+    public static QueryPlan plan(Predicate<Module> predicate, ModuleWordIndex index) {
+        requireAllNonNull(predicate, index);
+
+        List<Module> sample = new ArrayList<>();
+        for (Code code : index.getAllCodes()) {
+            if (sample.size() == ScanPlan.SAMPLE_SIZE) {
+                break;
+            }
+            sample.add(index.getModule(code));
+        }
+        return plan(predicate, index, sample);
+    }
+
+    private static QueryPlan plan(Predicate<Module> predicate, ModuleWordIndex index, List<Module> sample) {
+        if (predicate instanceof IndexablePredicate) {
+            IndexablePredicate<?> indexablePredicate = (IndexablePredicate<?>) predicate;
+            return new IndexLookup(indexablePredicate.getField(), indexablePredicate.getKeyword(),
+                    index.estimateMatches(indexablePredicate.getField(), indexablePredicate.getKeyword()));
+        }
+
+        if (predicate instanceof Conjunction) {
+            List<QueryPlan> children = plan(((Conjunction<Module>) predicate).getOperands(), index, sample);
+            children.sort(Comparator.comparing((QueryPlan child) -> !child.isIndexed())
+                    .thenComparingInt(QueryPlan::getEstimate));
+            return new Intersection(children, children.stream().mapToInt(QueryPlan::getEstimate).min().getAsInt());
+        }
+
+        if (predicate instanceof Disjunction) {
+            List<QueryPlan> children = plan(((Disjunction<Module>) predicate).getOperands(), index, sample);
+            // scans are evaluated last, so that they skip the modules that the index lookups already produced
+            children.sort(Comparator.comparing((QueryPlan child) -> !child.isIndexed()));
+            int estimate = children.stream().mapToInt(QueryPlan::getEstimate).sum();
+            return new Union(children, Math.min(estimate, index.size()));
+        }
+
+        double selectivity = ScanPlan.estimateSelectivity(predicate, sample);
+        return new Scan(predicate, (int) Math.ceil(selectivity * index.size()));
+    }
+
+    private static List<QueryPlan> plan(List<Predicate<Module>> predicates, ModuleWordIndex index,
+            List<Module> sample) {
+        List<QueryPlan> plans = new ArrayList<>();
+        for (Predicate<Module> predicate : predicates) {
+            plans.add(plan(predicate, index, sample));
+        }
+        return plans;
+    }
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} for the modules in {@code index}, which tests modules
+     * by looking up the result of a plan of {@code predicate}. The plan is created and executed again whenever the
+     * index has been modified since it was last executed.
+     */
+    public static BoundPredicate bind(Predicate<Module> predicate, ModuleWordIndex index) {
+        requireAllNonNull(predicate, index);
+
+        return new BoundPredicate(predicate, index, null, -1);
+    }
+
+    /**
+     * Returns a predicate like {@link #bind(Predicate, ModuleWordIndex)}, which starts from {@code matchingCodes}, the
+     * result of a plan of {@code predicate} that has just been executed against {@code index}, instead of planning it
+     * again.
+     */
+    public static BoundPredicate bind(Predicate<Module> predicate, ModuleWordIndex index, CodeSet matchingCodes) {
+        requireAllNonNull(predicate, index, matchingCodes);
+
+        return new BoundPredicate(predicate, index, matchingCodes, index.getModificationCount());
+    }
+}
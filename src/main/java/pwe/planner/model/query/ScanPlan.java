@@ -0,0 +1,135 @@
+package pwe.planner.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import pwe.planner.model.module.IndexablePredicate;
+
+/**
+ * A plan that evaluates a search expression by testing the elements of a list that is not indexed.
+ *
+ * The operands of a top-level {@link Conjunction} are tested as separate stages, in ascending order of the fraction of
+ * a sample of the list that they accept, so that each stage only tests the elements accepted by the earlier stages.
+ */
+public class ScanPlan<T> {
+
+    /** The maximum number of elements that are tested to estimate the selectivity of a predicate. */
+    static final int SAMPLE_SIZE = 64;
+
+    private final List<Stage<T>> stages;
+
+    private ScanPlan(List<Stage<T>> stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Returns a plan to evaluate {@code predicate}, with stages ordered by their selectivity on {@code elements}.
+     */
+    public static <T> ScanPlan<T> of(Predicate<T> predicate, List<? extends T> elements) {
+        requireAllNonNull(predicate, elements);
+
+        List<Predicate<T>> operands = predicate instanceof Conjunction
+                ? ((Conjunction<T>) predicate).getOperands()
+                : Collections.singletonList(predicate);
+        List<? extends T> sample = elements.subList(0, Math.min(elements.size(), SAMPLE_SIZE));
+
+        List<Stage<T>> stages = operands.stream()
+                .map(operand -> new Stage<>(operand, estimateSelectivity(operand, sample)))
+                .sorted(Comparator.comparingDouble(stage -> stage.selectivity))
+                .collect(Collectors.toList());
+        return new ScanPlan<>(stages);
+    }
+
+    /**
+     * Returns the fraction of {@code sample} that satisfies {@code predicate}, or 1 if {@code sample} is empty.
+     */
+    static <T> double estimateSelectivity(Predicate<T> predicate, List<? extends T> sample) {
+        if (sample.isEmpty()) {
+            return 1;
+        }
+        return (double) sample.stream().filter(predicate).count() / sample.size();
+    }
+
+    /**
+     * Returns a human-readable description of {@code predicate}.
+     */
+    static String describe(Predicate<?> predicate) {
+        if (predicate instanceof IndexablePredicate) {
+            IndexablePredicate<?> indexablePredicate = (IndexablePredicate<?>) predicate;
+            return indexablePredicate.getField().name().toLowerCase()
+                    + " \"" + indexablePredicate.getKeyword() + "\"";
+        }
+        if (predicate instanceof Conjunction) {
+            return ((Conjunction<?>) predicate).getOperands().stream().map(ScanPlan::describe)
+                    .collect(Collectors.joining(" and ", "(", ")"));
+        }
+        if (predicate instanceof Disjunction) {
+            return ((Disjunction<?>) predicate).getOperands().stream().map(ScanPlan::describe)
+                    .collect(Collectors.joining(" or ", "(", ")"));
+        }
+        return predicate.toString();
+    }
+
+    /**
+     * Returns the elements of {@code elements} that satisfy the planned predicate, in the same order.
+     * The number of elements tested and accepted by each stage, and the time taken, are recorded for
+     * {@link #explain()}.
+     */
+    public List<T> execute(List<? extends T> elements) {
+        requireNonNull(elements);
+
+        List<T> candidates = new ArrayList<>(elements);
+        for (Stage<T> stage : stages) {
+            long startTime = System.nanoTime();
+            stage.tested = candidates.size();
+            candidates.removeIf(stage.predicate.negate());
+            stage.accepted = candidates.size();
+            stage.elapsedNanos = System.nanoTime() - startTime;
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns a description of each stage, in the order that they are evaluated, with the figures recorded by the
+     * last {@link #execute(List)}.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder();
+        for (Stage<T> stage : stages) {
+            builder.append(String.format("Scan %s (selectivity %.2f, tested %d, accepted %d, %s)\n",
+                    describe(stage.predicate), stage.selectivity, stage.tested, stage.accepted,
+                    formatNanos(stage.elapsedNanos)));
+        }
+        return builder.toString().trim();
+    }
+
+    /**
+     * Returns {@code nanos} formatted in milliseconds.
+     */
+    static String formatNanos(long nanos) {
+        return String.format("%.3f ms", nanos / 1e6);
+    }
+
+    /**
+     * One predicate of a {@code ScanPlan}, with the figures of its last evaluation.
+     */
+    private static class Stage<T> {
+        private final Predicate<T> predicate;
+        private final double selectivity;
+        private int tested;
+        private int accepted;
+        private long elapsedNanos;
+
+        private Stage(Predicate<T> predicate, double selectivity) {
+            this.predicate = predicate;
+            this.selectivity = selectivity;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package pwe.planner.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import pwe.planner.logic.parser.ParserUtil;
+import pwe.planner.model.module.IndexablePredicate;
+import pwe.planner.model.module.Module;
+
+/**
+ * Orders modules by how closely they match the fuzzy keywords of a search expression, with the closest matches first.
+ *
+ * The distance of a module is the sum of the number of typos between each fuzzy keyword and the closest value of the
+ * module. A keyword that the module does not match (in a disjunction) counts as the length of the keyword, which is
+ * more than the typos tolerated by any match. Distances are computed once per module.
+ */
+public class SimilarityRanking implements Comparator<Module> {
+
+    private final List<IndexablePredicate<?>> fuzzyPredicates;
+    private final Map<Module, Integer> distances = new IdentityHashMap<>();
+
+    private SimilarityRanking(List<IndexablePredicate<?>> fuzzyPredicates) {
+        this.fuzzyPredicates = fuzzyPredicates;
+    }
+
+    /**
+     * Returns the ranking of modules by the fuzzy keywords of {@code predicate}, or null if it has no fuzzy keywords.
+     */
+    public static SimilarityRanking of(Predicate<?> predicate) {
+        requireNonNull(predicate);
+
+        List<IndexablePredicate<?>> fuzzyPredicates = new ArrayList<>();
+        collectFuzzyPredicates(predicate, fuzzyPredicates);
+        return fuzzyPredicates.isEmpty() ? null : new SimilarityRanking(fuzzyPredicates);
+    }
+
+    private static void collectFuzzyPredicates(Predicate<?> predicate, List<IndexablePredicate<?>> fuzzyPredicates) {
+        if (predicate instanceof BoundPredicate) {
+            collectFuzzyPredicates(((BoundPredicate) predicate).getPredicate(), fuzzyPredicates);
+        } else if (predicate instanceof IndexablePredicate) {
+            IndexablePredicate<?> indexablePredicate = (IndexablePredicate<?>) predicate;
+            if (ParserUtil.isFuzzyKeyword(indexablePredicate.getKeyword())) {
+                fuzzyPredicates.add(indexablePredicate);
+            }
+        } else if (predicate instanceof Conjunction) {
+            ((Conjunction<?>) predicate).getOperands()
+                    .forEach(operand -> collectFuzzyPredicates(operand, fuzzyPredicates));
+        } else if (predicate instanceof Disjunction) {
+            ((Disjunction<?>) predicate).getOperands()
+                    .forEach(operand -> collectFuzzyPredicates(operand, fuzzyPredicates));
+        }
+    }
+
+    /**
+     * Returns the distance of {@code module} from the fuzzy keywords.
+     */
+    public int getDistance(Module module) {
+        requireNonNull(module);
+
+        return distances.computeIfAbsent(module, this::computeDistance);
+    }
+
+    private int computeDistance(Module module) {
+        int totalDistance = 0;
+        for (IndexablePredicate<?> fuzzyPredicate : fuzzyPredicates) {
+            String keyword = fuzzyPredicate.getKeyword();
+            int closestDistance = ParserUtil.removeFuzzySuffix(keyword).length();
+            for (String value : fuzzyPredicate.getField().getValues(module)) {
+                int distance = ParserUtil.getFuzzyDistance(keyword, value);
+                if (distance != -1) {
+                    closestDistance = Math.min(closestDistance, distance);
+                }
+            }
+            totalDistance += closestDistance;
+        }
+        return totalDistance;
+    }
+
+    @Override
+    public int compare(Module first, Module second) {
+        return Integer.compare(getDistance(first), getDistance(second));
+    }
+}
@@ -3,12 +3,11 @@ package pwe.planner.model.requirement;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
 import pwe.planner.model.module.Credits;
 import pwe.planner.model.module.Name;
 
@@ -23,7 +22,7 @@ public class RequirementCategory {
 
     // Data fields
     private final Credits credits;
-    private final Set<Code> codeSet = new HashSet<>();
+    private final CodeSet codeSet;
 
     /**
      * Every field must be present and not null.
@@ -31,9 +30,9 @@ public class RequirementCategory {
     public RequirementCategory(Name name, Credits credits, Set<Code> codeSet) {
         requireAllNonNull(name, credits, codeSet);
 
-        this.name = name;
-        this.credits = credits;
-        this.codeSet.addAll(codeSet);
+        this.name = name.intern();
+        this.credits = credits.intern();
+        this.codeSet = CodeSet.registeredCopyOf(codeSet);
     }
 
     public Name getName() {
@@ -48,8 +47,8 @@ public class RequirementCategory {
      * Returns an immutable setCode, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Code> getCodeSet() {
-        return Collections.unmodifiableSet(codeSet);
+    public CodeSet getCodeSet() {
+        return codeSet;
     }
 
     /**
@@ -71,7 +70,7 @@ public class RequirementCategory {
     public boolean hasModuleCode(Set<Code> codeSetToCheck) {
         requireNonNull(codeSetToCheck);
 
-        return codeSetToCheck.stream().anyMatch(codeSet::contains);
+        return codeSet.intersects(codeSetToCheck);
     }
 
     /**
@@ -3,12 +3,19 @@ package pwe.planner.model.requirement;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.util.BatchableObservableList;
 import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.requirement.exceptions.DuplicateRequirementCategoryException;
 import pwe.planner.model.requirement.exceptions.RequirementCategoryNotFoundException;
@@ -27,14 +34,40 @@ import pwe.planner.model.requirement.exceptions.RequirementCategoryNotFoundExcep
  * the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * Requirement categories are additionally indexed by every code that they contain, so that looking up the
+ * requirement category of a code does not require scanning the list. The credits fulfilled by the modules of every
+ * requirement category are kept as well, so that they are not summed up every time they are shown. Both are kept in
+ * sync with the backing list by every mutating operation, and the credits are updated through
+ * {@link #updateFulfilledCredits(Code, int)} when the credits of a module change.
  *
  * @see RequirementCategory#isSameRequirementCategory(RequirementCategory)
  */
 public class UniqueRequirementCategoryList implements Iterable<RequirementCategory> {
 
-    private final ObservableList<RequirementCategory> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<RequirementCategory> internalList = new BatchableObservableList<>();
     private final ObservableList<RequirementCategory> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, RequirementCategory> codeToRequirementCategory = new HashMap<>();
+    // keyed by name, as requirement categories hash all of their codes
+    private final Map<Name, Integer> nameToFulfilledCredits = new HashMap<>();
+    private final ToIntFunction<Code> creditsOfCode;
+
+    /**
+     * Creates a list in which codes fulfil no credits, for lists that are only checked for duplicates.
+     */
+    public UniqueRequirementCategoryList() {
+        this(code -> 0);
+    }
+
+    /**
+     * Creates a list in which every code fulfils the credits returned by {@code creditsOfCode}.
+     */
+    public UniqueRequirementCategoryList(ToIntFunction<Code> creditsOfCode) {
+        requireNonNull(creditsOfCode);
+
+        this.creditsOfCode = creditsOfCode;
+    }
 
     /**
      * Returns true if the list contains an equivalent Name as the given argument.
@@ -67,6 +100,65 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
                 .orElse(null);
     }
 
+    /**
+     * Returns the requirement category which contains the given {@code code}, otherwise returns null.
+     */
+    public RequirementCategory getRequirementCategoryByCode(Code toCheck) {
+        requireNonNull(toCheck);
+
+        return codeToRequirementCategory.get(toCheck);
+    }
+
+    /**
+     * Returns the total credits of the modules in {@code requirementCategory}.
+     * {@code requirementCategory} must exist in the list.
+     */
+    public int getFulfilledCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        Integer fulfilledCredits = nameToFulfilledCredits.get(requirementCategory.getName());
+        if (fulfilledCredits == null) {
+            throw new RequirementCategoryNotFoundException();
+        }
+        return fulfilledCredits;
+    }
+
+    /**
+     * Adds {@code creditDifference} to the fulfilled credits of the requirement category that contains {@code code},
+     * if any. Should be called whenever the credits of the module with {@code code} change by
+     * {@code creditDifference}.
+     */
+    public void updateFulfilledCredits(Code code, int creditDifference) {
+        requireNonNull(code);
+
+        RequirementCategory referrer = getRequirementCategoryByCode(code);
+        if (referrer != null) {
+            nameToFulfilledCredits.merge(referrer.getName(), creditDifference, Integer::sum);
+        }
+    }
+
+    /**
+     * Recounts the fulfilled credits of the requirement category that contains {@code code}, if any.
+     * Should be called whenever the module with {@code code} is replaced without knowing its previous credits.
+     */
+    public void refreshFulfilledCredits(Code code) {
+        requireNonNull(code);
+
+        RequirementCategory referrer = getRequirementCategoryByCode(code);
+        if (referrer != null) {
+            nameToFulfilledCredits.put(referrer.getName(), countFulfilledCredits(referrer));
+        }
+    }
+
+    /**
+     * Recounts the fulfilled credits of every requirement category.
+     * Should be called whenever the credits of any number of modules change at once.
+     */
+    public void refreshFulfilledCredits() {
+        internalList.forEach(requirementCategory -> nameToFulfilledCredits.put(requirementCategory.getName(),
+                countFulfilledCredits(requirementCategory)));
+    }
+
     /**
      * Adds a requirement to the list.
      * The requirement must not already exist in the list.
@@ -78,6 +170,7 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
             throw new DuplicateRequirementCategoryException();
         }
         internalList.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -100,6 +193,45 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
         }
 
         internalList.set(index, editedRequirementCategory);
+        unindex(target);
+        index(editedRequirementCategory);
+    }
+
+    /**
+     * Replaces {@code codeToReplace} with {@code replacementCode} in the requirement category that contains it, if any.
+     * Only the requirement category that refers to {@code codeToReplace} is looked up and replaced.
+     */
+    public void replaceCode(Code codeToReplace, Code replacementCode) {
+        requireAllNonNull(codeToReplace, replacementCode);
+
+        RequirementCategory referrer = getRequirementCategoryByCode(codeToReplace);
+        if (referrer == null) {
+            return;
+        }
+
+        Set<Code> editedCodes = new CodeSet(referrer.getCodeSet());
+        editedCodes.remove(codeToReplace);
+        editedCodes.add(replacementCode);
+        setRequirementCategory(referrer,
+                new RequirementCategory(referrer.getName(), referrer.getCredits(), editedCodes));
+    }
+
+    /**
+     * Removes {@code codeToRemove} from the requirement category that contains it, if any.
+     * Only the requirement category that refers to {@code codeToRemove} is looked up and replaced.
+     */
+    public void removeCode(Code codeToRemove) {
+        requireNonNull(codeToRemove);
+
+        RequirementCategory referrer = getRequirementCategoryByCode(codeToRemove);
+        if (referrer == null) {
+            return;
+        }
+
+        Set<Code> editedCodes = new CodeSet(referrer.getCodeSet());
+        editedCodes.remove(codeToRemove);
+        setRequirementCategory(referrer,
+                new RequirementCategory(referrer.getName(), referrer.getCredits(), editedCodes));
     }
 
     /**
@@ -112,12 +244,14 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
         if (!internalList.remove(toRemove)) {
             throw new RequirementCategoryNotFoundException();
         }
+        unindex(toRemove);
     }
 
     public void setRequirementCategories(UniqueRequirementCategoryList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -132,6 +266,22 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
         }
 
         internalList.setAll(requirementCategories);
+        reindex();
+    }
+
+    /**
+     * Starts a batch of changes to this list. Listeners of {@link #asUnmodifiableObservableList()} are notified of all
+     * changes made within the batch at once, when the matching {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -158,6 +308,47 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
         return internalList.hashCode();
     }
 
+    /**
+     * Adds {@code requirementCategory} to the code index, and counts its fulfilled credits.
+     */
+    private void index(RequirementCategory requirementCategory) {
+        assert requirementCategory != null;
+
+        for (Code code : requirementCategory.getCodeSet()) {
+            codeToRequirementCategory.put(code, requirementCategory);
+        }
+        nameToFulfilledCredits.put(requirementCategory.getName(), countFulfilledCredits(requirementCategory));
+    }
+
+    /**
+     * Removes {@code requirementCategory} from the code index, and drops its fulfilled credits.
+     * Index entries that have since been claimed by another requirement category are left untouched.
+     */
+    private void unindex(RequirementCategory requirementCategory) {
+        assert requirementCategory != null;
+
+        for (Code code : requirementCategory.getCodeSet()) {
+            codeToRequirementCategory.remove(code, requirementCategory);
+        }
+        nameToFulfilledCredits.remove(requirementCategory.getName());
+    }
+
+    /**
+     * Rebuilds the code index and the fulfilled credits from the backing list.
+     */
+    private void reindex() {
+        codeToRequirementCategory.clear();
+        nameToFulfilledCredits.clear();
+        internalList.forEach(this::index);
+    }
+
+    /**
+     * Returns the total credits of the modules in {@code requirementCategory}.
+     */
+    private int countFulfilledCredits(RequirementCategory requirementCategory) {
+        return requirementCategory.getCodeSet().stream().mapToInt(creditsOfCode).sum();
+    }
+
     /**
      * Returns true if {@code requirement} contains only unique requirement modules.
      */
@@ -0,0 +1,263 @@
+package pwe.planner.model.suggestion;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import pwe.planner.commons.util.TopK;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleWordIndex;
+import pwe.planner.model.module.ModuleWordIndex.Field;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.tag.Tag;
+
+/**
+ * Finds the set of modules that fills a budget of credits in a semester as fully as possible, and among those, the set
+ * with the most matching tags.
+ *
+ * As a module can only be planned together with its co-requisites, the set is chosen from whole co-requisite
+ * clusters, which are only candidates if every module in them is offered in the semester and none is planned yet.
+ * The clusters are chosen by dynamic programming over the credits (a 0/1 knapsack), where the best number of matching
+ * tags of every amount of credits is memoized as the clusters are added one at a time, so no set of clusters is ever
+ * enumerated. The clusters are bounded first: at most {@code budget / c} clusters of {@code c} credits fit into the
+ * budget, so only that many of the best clusters of every amount of credits are kept in a {@link TopK}.
+ *
+ * The clusters are added from the most matching tags per credit down, and if the time budget (by default
+ * {@link #TIME_BUDGET_NANOS}) runs out, the best set of the clusters added so far is returned instead.
+ */
+public class CreditBudgetSuggester {
+
+    public static final long TIME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    public static final String MESSAGE_CONSTRAINTS = "Time budget of suggestions should not be negative.";
+
+    private final ModuleWordIndex index;
+    private final Function<Code, Set<Code>> clusterLookup;
+    private final long timeBudgetNanos;
+
+    public CreditBudgetSuggester(ModuleWordIndex index, Function<Code, Set<Code>> clusterLookup) {
+        this(index, clusterLookup, TIME_BUDGET_NANOS);
+    }
+
+    /**
+     * Creates a CreditBudgetSuggester that returns the best set found so far once {@code timeBudgetNanos} has passed.
+     * {@code clusterLookup} returns the co-requisite cluster of a code, which includes the code itself.
+     */
+    public CreditBudgetSuggester(ModuleWordIndex index, Function<Code, Set<Code>> clusterLookup,
+            long timeBudgetNanos) {
+        requireAllNonNull(index, clusterLookup);
+        checkArgument(timeBudgetNanos >= 0, MESSAGE_CONSTRAINTS);
+
+        this.index = index;
+        this.clusterLookup = clusterLookup;
+        this.timeBudgetNanos = timeBudgetNanos;
+    }
+
+    /**
+     * Returns the set of modules offered in {@code semester} and not in {@code plannedCodes} that fills as much of
+     * {@code budget} as possible, with the most modules having {@code tagsToFind}.
+     */
+    public Suggestion suggest(Credits budget, Set<Tag> tagsToFind, Semester semester, CodeSet plannedCodes) {
+        requireAllNonNull(budget, tagsToFind, semester, plannedCodes);
+
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        int capacity = budget.intValue();
+        List<Cluster> clusters = getCandidateClusters(capacity, tagsToFind, semester, plannedCodes);
+
+        // clusters without credits take up no budget, so those with matching tags are always worth taking
+        List<Cluster> chosenClusters = new ArrayList<>();
+        List<Cluster> clustersWithCredits = new ArrayList<>();
+        for (Cluster cluster : clusters) {
+            if (cluster.credits > 0) {
+                clustersWithCredits.add(cluster);
+            } else if (cluster.numberOfMatchingTags > 0) {
+                chosenClusters.add(cluster);
+            }
+        }
+        clustersWithCredits.sort(Comparator.comparingDouble((Cluster cluster) ->
+                (double) -cluster.numberOfMatchingTags / cluster.credits).thenComparing(Cluster::getFirstCode));
+
+        // bestMatchingTags[c] is the most matching tags of a set with exactly c credits, or -1 if there is none
+        int[] bestMatchingTags = new int[capacity + 1];
+        Arrays.fill(bestMatchingTags, -1);
+        bestMatchingTags[0] = 0;
+        List<BitSet> improvedCredits = new ArrayList<>();
+        boolean isOptimal = true;
+        for (Cluster cluster : clustersWithCredits) {
+            if (System.nanoTime() - deadline >= 0) {
+                isOptimal = false;
+                break;
+            }
+
+            BitSet improved = new BitSet(capacity + 1);
+            for (int credits = capacity; credits >= cluster.credits; credits--) {
+                int previous = bestMatchingTags[credits - cluster.credits];
+                if (previous != -1 && previous + cluster.numberOfMatchingTags > bestMatchingTags[credits]) {
+                    bestMatchingTags[credits] = previous + cluster.numberOfMatchingTags;
+                    improved.set(credits);
+                }
+            }
+            improvedCredits.add(improved);
+        }
+
+        int filledCredits = capacity;
+        while (bestMatchingTags[filledCredits] == -1) {
+            filledCredits--;
+        }
+        // walks back through the clusters, taking every cluster that last improved the remaining credits
+        for (int i = improvedCredits.size() - 1, credits = filledCredits; i >= 0 && credits > 0; i--) {
+            if (improvedCredits.get(i).get(credits)) {
+                chosenClusters.add(clustersWithCredits.get(i));
+                credits -= clustersWithCredits.get(i).credits;
+            }
+        }
+
+        List<Code> codes = new ArrayList<>();
+        int numberOfMatchingTags = 0;
+        for (Cluster cluster : chosenClusters) {
+            codes.addAll(cluster.codes);
+            numberOfMatchingTags += cluster.numberOfMatchingTags;
+        }
+        Collections.sort(codes);
+        return new Suggestion(codes, filledCredits, numberOfMatchingTags, isOptimal);
+    }
+
+    /**
+     * Returns the co-requisite clusters that could be part of the best set, in which every module is offered in
+     * {@code semester} and none is in {@code plannedCodes}. These are the {@code capacity / c} clusters with the most
+     * matching tags among the clusters of every amount of credits {@code c}, and every cluster without credits.
+     */
+    private List<Cluster> getCandidateClusters(int capacity, Set<Tag> tagsToFind, Semester semester,
+            CodeSet plannedCodes) {
+        CodeSet offeredCodes = index.getCodesMatching(Field.SEMESTER, semester.plannerSemester);
+        offeredCodes.removeAll(plannedCodes);
+
+        List<TopK<Cluster>> bestClustersByCredits = new ArrayList<>(Collections.nCopies(capacity + 1, null));
+        CodeSet visitedCodes = new CodeSet();
+        for (Code code : offeredCodes) {
+            Module module = index.getModule(code);
+            List<Code> clusterCodes;
+            // most modules have no co-requisites, and are clusters on their own
+            if (module.getCorequisites().isEmpty()) {
+                clusterCodes = Collections.singletonList(code);
+            } else if (visitedCodes.contains(code)) {
+                continue;
+            } else {
+                Set<Code> cluster = clusterLookup.apply(code);
+                visitedCodes.addAll(cluster);
+                if (!offeredCodes.containsAll(cluster)) {
+                    continue;
+                }
+                clusterCodes = new ArrayList<>(cluster);
+                Collections.sort(clusterCodes);
+            }
+
+            int credits = 0;
+            int numberOfMatchingTags = 0;
+            for (Code clusterCode : clusterCodes) {
+                Module clusterModule = index.getModule(clusterCode);
+                credits += clusterModule.getCredits().intValue();
+                for (Tag tag : tagsToFind) {
+                    if (clusterModule.getTags().contains(tag)) {
+                        numberOfMatchingTags++;
+                    }
+                }
+            }
+            if (credits > capacity) {
+                continue;
+            }
+            if (bestClustersByCredits.get(credits) == null) {
+                int maxClusters = credits == 0 ? Integer.MAX_VALUE : capacity / credits;
+                bestClustersByCredits.set(credits, new TopK<>(maxClusters));
+            }
+            bestClustersByCredits.get(credits).offer(new Cluster(clusterCodes, credits, numberOfMatchingTags));
+        }
+
+        List<Cluster> clusters = new ArrayList<>();
+        bestClustersByCredits.stream().filter(Objects::nonNull).map(TopK::toSortedList).forEach(clusters::addAll);
+        return clusters;
+    }
+
+    /**
+     * A co-requisite cluster, which can only be planned as a whole.
+     * Clusters are ordered from the most matching tags down, and then by their first codes.
+     */
+    private static class Cluster implements Comparable<Cluster> {
+        private final List<Code> codes;
+        private final int credits;
+        private final int numberOfMatchingTags;
+
+        private Cluster(List<Code> codes, int credits, int numberOfMatchingTags) {
+            this.codes = codes;
+            this.credits = credits;
+            this.numberOfMatchingTags = numberOfMatchingTags;
+        }
+
+        private Code getFirstCode() {
+            return codes.get(0);
+        }
+
+        @Override
+        public int compareTo(Cluster other) {
+            if (numberOfMatchingTags != other.numberOfMatchingTags) {
+                return Integer.compare(other.numberOfMatchingTags, numberOfMatchingTags);
+            }
+            return getFirstCode().compareTo(other.getFirstCode());
+        }
+    }
+
+    /**
+     * A set of modules to suggest, which fills {@code credits} of the budget.
+     */
+    public static class Suggestion {
+        private final List<Code> codes;
+        private final int credits;
+        private final int numberOfMatchingTags;
+        private final boolean isOptimal;
+
+        public Suggestion(List<Code> codes, int credits, int numberOfMatchingTags, boolean isOptimal) {
+            requireNonNull(codes);
+
+            this.codes = Collections.unmodifiableList(new ArrayList<>(codes));
+            this.credits = credits;
+            this.numberOfMatchingTags = numberOfMatchingTags;
+            this.isOptimal = isOptimal;
+        }
+
+        /**
+         * Returns the codes of the modules, in their natural order.
+         */
+        public List<Code> getCodes() {
+            return codes;
+        }
+
+        public int getCredits() {
+            return credits;
+        }
+
+        public int getNumberOfMatchingTags() {
+            return numberOfMatchingTags;
+        }
+
+        /**
+         * Returns true if no other set fills more of the budget, or fills as much of it with more matching tags.
+         * Returns false if the time budget ran out before every cluster was considered.
+         */
+        public boolean isOptimal() {
+            return isOptimal;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package pwe.planner.model.suggestion;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import pwe.planner.commons.util.TopK;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.ModuleWordIndex;
+import pwe.planner.model.module.ModuleWordIndex.Field;
+import pwe.planner.model.tag.Tag;
+
+/**
+ * Finds the modules that best match the credits and tags that suggestions are made for, in the order of
+ * {@link ModuleToSuggest#compareTo(ModuleToSuggest)}.
+ *
+ * The modules are grouped by their number of matching tags through the tag postings of the {@link ModuleWordIndex},
+ * and the groups are visited from the most matching tags down, as every module of a group is suggested before the
+ * modules of the groups after it. Within a group, the modules are visited through the credits postings one credit
+ * difference at a time, from the credits to find outwards. Only the best {@code k} suggestions are kept in a
+ * {@link TopK}, and the visit stops as soon as it is full, so most modules are never scored and none are sorted.
+ */
+public class ModuleSuggester {
+
+    private final ModuleWordIndex index;
+
+    public ModuleSuggester(ModuleWordIndex index) {
+        requireNonNull(index);
+
+        this.index = index;
+    }
+
+    /**
+     * Returns at most {@code k} modules to suggest for {@code creditsToFind} and {@code tagsToFind} from the best to
+     * the worst, leaving out the modules in {@code excludedCodes}.
+     */
+    public List<ModuleToSuggest> suggest(Credits creditsToFind, Set<Tag> tagsToFind, CodeSet excludedCodes, int k) {
+        requireAllNonNull(creditsToFind, tagsToFind, excludedCodes);
+
+        TopK<ModuleToSuggest> suggestions = new TopK<>(k);
+        List<CodeSet> codesWithAtLeast = getCodesWithAtLeastMatchingTags(tagsToFind);
+        for (int numberOfMatchingTags = codesWithAtLeast.size() - 1; numberOfMatchingTags >= 0
+                && !suggestions.isFull(); numberOfMatchingTags--) {
+            CodeSet group = new CodeSet(codesWithAtLeast.get(numberOfMatchingTags));
+            if (numberOfMatchingTags + 1 < codesWithAtLeast.size()) {
+                group.removeAll(codesWithAtLeast.get(numberOfMatchingTags + 1));
+            }
+            group.removeAll(excludedCodes);
+            offerClosestCredits(group, numberOfMatchingTags, creditsToFind.intValue(), suggestions);
+        }
+        return suggestions.toSortedList();
+    }
+
+    /**
+     * Returns the codes of the modules with at least {@code i} of {@code tagsToFind} at every index {@code i}, up to
+     * the largest number of matching tags of any module.
+     */
+    private List<CodeSet> getCodesWithAtLeastMatchingTags(Set<Tag> tagsToFind) {
+        List<CodeSet> codesWithAtLeast = new ArrayList<>();
+        codesWithAtLeast.add(index.getAllCodes());
+        for (Tag tag : tagsToFind) {
+            // the index ignores cases, while tags only match tags of the same case
+            CodeSet codesWithTag = index.filter(index.getCodesMatching(Field.TAG, tag.tagName),
+                    module -> module.getTags().contains(tag));
+            if (codesWithTag.isEmpty()) {
+                continue;
+            }
+
+            // a module with this tag has one more matching tag than it has without it
+            codesWithAtLeast.add(new CodeSet());
+            for (int i = codesWithAtLeast.size() - 1; i > 0; i--) {
+                CodeSet codesWithOneMore = new CodeSet(codesWithAtLeast.get(i - 1));
+                codesWithOneMore.retainAll(codesWithTag);
+                codesWithAtLeast.get(i).addAll(codesWithOneMore);
+            }
+        }
+        return codesWithAtLeast;
+    }
+
+    /**
+     * Offers the modules in {@code group}, which all have {@code numberOfMatchingTags} matching tags, to
+     * {@code suggestions} from the smallest credit difference from {@code bestCredits} up, until every module in the
+     * group has been offered or the suggestions are full.
+     */
+    private void offerClosestCredits(CodeSet group, int numberOfMatchingTags, int bestCredits,
+            TopK<ModuleToSuggest> suggestions) {
+        int remaining = group.size();
+        // once the suggestions are full, modules with a larger credit difference are worse than every kept module
+        for (int creditDifference = 0; remaining > 0 && !suggestions.isFull(); creditDifference++) {
+            remaining -= offerModulesWithCredits(group, bestCredits - creditDifference, creditDifference,
+                    numberOfMatchingTags, suggestions);
+            if (creditDifference != 0) {
+                remaining -= offerModulesWithCredits(group, bestCredits + creditDifference, creditDifference,
+                        numberOfMatchingTags, suggestions);
+            }
+        }
+    }
+
+    /**
+     * Offers the modules in {@code group} with {@code credits} to {@code suggestions}.
+     *
+     * @return the number of modules offered.
+     */
+    private int offerModulesWithCredits(CodeSet group, int credits, int creditDifference, int numberOfMatchingTags,
+            TopK<ModuleToSuggest> suggestions) {
+        if (credits < 0 || credits > Credits.MAX_VALUE) {
+            return 0;
+        }
+        CodeSet codesWithCredits = index.getCodesMatching(Field.CREDITS, String.valueOf(credits));
+        codesWithCredits.retainAll(group);
+        for (Code code : codesWithCredits) {
+            suggestions.offer(new ModuleToSuggest(creditDifference, numberOfMatchingTags, code));
+        }
+        return codesWithCredits.size();
+    }
+}
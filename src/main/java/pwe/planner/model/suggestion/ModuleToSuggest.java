@@ -0,0 +1,66 @@
+package pwe.planner.model.suggestion;
+
+import pwe.planner.model.module.Code;
+
+/**
+ * Represents how well a module matches the credits and tags that suggestions are made for.
+ */
+public class ModuleToSuggest implements Comparable<ModuleToSuggest> {
+    private int creditDifference;
+    private int numberOfMatchingTags;
+    private Code moduleCode;
+
+    public ModuleToSuggest(int creditDifference, int numberOfMatchingTags, Code moduleCode) {
+        this.creditDifference = creditDifference;
+        this.numberOfMatchingTags = numberOfMatchingTags;
+        this.moduleCode = moduleCode;
+    }
+
+    public int getCreditDifference() {
+        return creditDifference;
+    }
+
+    public int getNumberOfMatchingTags() {
+        return numberOfMatchingTags;
+    }
+
+    public Code getModuleCode() {
+        return moduleCode;
+    }
+
+    /**
+     * @param moduleToCompare A valid module to suggest
+     * @return number of matching tags difference between two modules to suggest, or
+     * credit difference between two modules if tie. If both tie, sort according to
+     * alphabetical order.
+     */
+    @Override
+    public int compareTo(ModuleToSuggest moduleToCompare) {
+        if (this.getNumberOfMatchingTags() == moduleToCompare.getNumberOfMatchingTags()
+            && this.getCreditDifference() == moduleToCompare.getCreditDifference()) {
+            return this.getModuleCode().compareTo(moduleToCompare.getModuleCode());
+        } else if (this.getNumberOfMatchingTags() == moduleToCompare.getNumberOfMatchingTags()) {
+            return this.getCreditDifference() - moduleToCompare.getCreditDifference();
+        }
+        return moduleToCompare.getNumberOfMatchingTags() - this.getNumberOfMatchingTags();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ModuleToSuggest // instanceof handles nulls
+                && creditDifference == ((ModuleToSuggest) other).creditDifference
+                && numberOfMatchingTags == ((ModuleToSuggest) other).numberOfMatchingTags
+                && moduleCode.equals(((ModuleToSuggest) other).moduleCode));
+    }
+
+    @Override
+    public int hashCode() {
+        return moduleCode.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return moduleCode.toString();
+    }
+}
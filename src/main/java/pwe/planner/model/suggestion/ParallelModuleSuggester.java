@@ -0,0 +1,171 @@
+package pwe.planner.model.suggestion;
+
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import pwe.planner.commons.util.TopK;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.tag.Tag;
+
+/**
+ * Finds the same modules to suggest as {@link ModuleSuggester}, by scoring every module of the catalog on a
+ * {@link ForkJoinPool} instead of looking them up in the word index.
+ *
+ * The catalog is split in halves until the pieces have at most {@code sequentialCutoff} modules, each piece keeps its
+ * best {@code k} suggestions in its own {@link TopK}, and the halves are merged as they are joined. As
+ * {@link ModuleToSuggest} are totally ordered by their codes in the end, the merged suggestions do not depend on how
+ * the catalog is split. Catalogs with at most {@code sequentialCutoff} modules are scored in the calling thread.
+ *
+ * The server scores large catalogs with an instance that it sets on its model (see
+ * {@link pwe.planner.model.Model#setParallelSuggester(ParallelModuleSuggester)}), as scoring every module on many
+ * processors then takes less time than visiting the word index on one. Only catalogs of at least
+ * {@code minCatalogSize} modules are scored by the suggester; as where the two take the same time depends on the
+ * processors, the server takes {@code minCatalogSize} as a parameter.
+ */
+public class ParallelModuleSuggester implements AutoCloseable {
+
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 2048;
+    public static final int DEFAULT_MIN_CATALOG_SIZE = 50_000;
+    public static final String MESSAGE_CONSTRAINTS = "Parallelism, sequential cutoff and minimum catalog size should "
+            + "be positive.";
+
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+    private final int minCatalogSize;
+
+    /**
+     * Creates a ParallelModuleSuggester that scores modules on the available processors.
+     */
+    public ParallelModuleSuggester() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    /**
+     * Creates a ParallelModuleSuggester that scores pieces of at most {@code sequentialCutoff} modules on
+     * {@code parallelism} threads.
+     */
+    public ParallelModuleSuggester(int parallelism, int sequentialCutoff) {
+        this(parallelism, sequentialCutoff, DEFAULT_MIN_CATALOG_SIZE);
+    }
+
+    /**
+     * Creates a ParallelModuleSuggester that scores pieces of at most {@code sequentialCutoff} modules on
+     * {@code parallelism} threads, and should only score catalogs of at least {@code minCatalogSize} modules.
+     */
+    public ParallelModuleSuggester(int parallelism, int sequentialCutoff, int minCatalogSize) {
+        checkArgument(parallelism > 0 && sequentialCutoff > 0 && minCatalogSize > 0, MESSAGE_CONSTRAINTS);
+
+        pool = new ForkJoinPool(parallelism);
+        this.sequentialCutoff = sequentialCutoff;
+        this.minCatalogSize = minCatalogSize;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public int getMinCatalogSize() {
+        return minCatalogSize;
+    }
+
+    /**
+     * Returns true if a catalog of {@code catalogSize} modules is large enough to be scored by this suggester, instead
+     * of being looked up in the word index.
+     */
+    public boolean shouldScore(int catalogSize) {
+        return catalogSize >= minCatalogSize;
+    }
+
+    /**
+     * Returns at most {@code k} modules of {@code modules} to suggest for {@code creditsToFind} and
+     * {@code tagsToFind} from the best to the worst, leaving out the modules in {@code excludedCodes}.
+     * {@code modules} and {@code excludedCodes} should not be modified until the suggestions are returned.
+     */
+    public List<ModuleToSuggest> suggest(List<Module> modules, Credits creditsToFind, Set<Tag> tagsToFind,
+            CodeSet excludedCodes, int k) {
+        requireAllNonNull(modules, creditsToFind, tagsToFind, excludedCodes);
+        checkArgument(k > 0, TopK.MESSAGE_CONSTRAINTS);
+
+        ScoringTask task = new ScoringTask(modules.toArray(new Module[0]), 0, modules.size(),
+                creditsToFind.intValue(), tagsToFind.toArray(new Tag[0]), excludedCodes, k);
+        if (modules.size() <= sequentialCutoff) {
+            return task.compute().toSortedList();
+        }
+        return pool.invoke(task).toSortedList();
+    }
+
+    /**
+     * Shuts down the threads that score the modules.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Scores the modules in {@code modules[from, to)}, and returns the best {@code k} of them.
+     */
+    private class ScoringTask extends RecursiveTask<TopK<ModuleToSuggest>> {
+        private final Module[] modules;
+        private final int from;
+        private final int to;
+        private final int bestCredits;
+        private final Tag[] tagsToFind;
+        private final Set<Code> excludedCodes;
+        private final int k;
+
+        private ScoringTask(Module[] modules, int from, int to, int bestCredits, Tag[] tagsToFind,
+                Set<Code> excludedCodes, int k) {
+            this.modules = modules;
+            this.from = from;
+            this.to = to;
+            this.bestCredits = bestCredits;
+            this.tagsToFind = tagsToFind;
+            this.excludedCodes = excludedCodes;
+            this.k = k;
+        }
+
+        @Override
+        protected TopK<ModuleToSuggest> compute() {
+            if (to - from <= sequentialCutoff) {
+                return score();
+            }
+
+            int middle = (from + to) >>> 1;
+            ScoringTask left = new ScoringTask(modules, from, middle, bestCredits, tagsToFind, excludedCodes, k);
+            ScoringTask right = new ScoringTask(modules, middle, to, bestCredits, tagsToFind, excludedCodes, k);
+            left.fork();
+            TopK<ModuleToSuggest> suggestions = right.compute();
+            suggestions.merge(left.join());
+            return suggestions;
+        }
+
+        private TopK<ModuleToSuggest> score() {
+            TopK<ModuleToSuggest> suggestions = new TopK<>(k);
+            for (int i = from; i < to; i++) {
+                Module module = modules[i];
+                if (excludedCodes.contains(module.getCode())) {
+                    continue;
+                }
+
+                int numberOfMatchingTags = 0;
+                for (Tag tag : tagsToFind) {
+                    if (module.getTags().contains(tag)) {
+                        numberOfMatchingTags++;
+                    }
+                }
+                int creditDifference = Math.abs(module.getCredits().intValue() - bestCredits);
+                suggestions.offer(new ModuleToSuggest(creditDifference, numberOfMatchingTags, module.getCode()));
+            }
+            return suggestions;
+        }
+    }
+}
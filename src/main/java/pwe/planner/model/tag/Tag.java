@@ -3,6 +3,8 @@ package pwe.planner.model.tag;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import pwe.planner.commons.util.Interner;
+
 /**
  * Represents a Tag in the application.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +14,8 @@ public class Tag implements Comparable<Tag> {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> INTERNER = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -35,6 +39,13 @@ public class Tag implements Comparable<Tag> {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the canonical {@code Tag} that is equal to this tag.
+     */
+    public Tag intern() {
+        return INTERNER.intern(this);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
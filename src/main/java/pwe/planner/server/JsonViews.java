@@ -0,0 +1,145 @@
+package pwe.planner.server;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import pwe.planner.logic.CommandPipeline;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * The JSON views of the data served by {@link PlannerServer}.
+ * Their fields are written to the response as they are.
+ */
+class JsonViews {
+
+    private JsonViews() {} // prevents instantiation
+
+    /**
+     * Returns the {@code toString()} of every one of {@code values}, in their natural order.
+     */
+    private static List<String> toSortedStrings(Collection<?> values) {
+        return values.stream().map(Object::toString).sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * A module, with its semesters, co-requisites and tags in their natural order.
+     */
+    static class ModuleView {
+        private final String code;
+        private final String name;
+        private final int credits;
+        private final List<String> semesters;
+        private final List<String> corequisites;
+        private final List<String> tags;
+
+        ModuleView(Module module) {
+            code = module.getCode().toString();
+            name = module.getName().toString();
+            credits = module.getCredits().intValue();
+            semesters = toSortedStrings(module.getSemesters());
+            corequisites = toSortedStrings(module.getCorequisites());
+            tags = module.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A degree planner, with its codes in their natural order.
+     */
+    static class DegreePlannerView {
+        private final String year;
+        private final String semester;
+        private final List<String> codes;
+
+        DegreePlannerView(DegreePlanner degreePlanner) {
+            year = degreePlanner.getYear().toString();
+            semester = degreePlanner.getSemester().toString();
+            codes = toSortedStrings(degreePlanner.getCodes());
+        }
+    }
+
+    /**
+     * A requirement category, with the credits fulfilled by its modules and its codes in their natural order.
+     */
+    static class RequirementCategoryView {
+        private final String name;
+        private final int credits;
+        private final int fulfilledCredits;
+        private final List<String> codes;
+
+        RequirementCategoryView(RequirementCategory requirementCategory, int fulfilledCredits) {
+            name = requirementCategory.getName().toString();
+            credits = requirementCategory.getCredits().intValue();
+            this.fulfilledCredits = fulfilledCredits;
+            codes = toSortedStrings(requirementCategory.getCodeSet());
+        }
+    }
+
+    /**
+     * The feedback of a command, and whether it succeeded.
+     */
+    static class CommandResultView {
+        private final String feedbackToUser;
+        private final boolean isSuccessful;
+
+        CommandResultView(String feedbackToUser, boolean isSuccessful) {
+            this.feedbackToUser = feedbackToUser;
+            this.isSuccessful = isSuccessful;
+        }
+    }
+
+    /**
+     * An error, which is responded to a request that could not be served.
+     */
+    static class ErrorView {
+        private final String error;
+
+        ErrorView(String error) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * The latency of the requests served so far, in milliseconds.
+     */
+    static class LatencyView {
+        private final long requests;
+        private final long rejectedRequests;
+        private final double meanMillis;
+        private final double p50Millis;
+        private final double p90Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+
+        LatencyView(LatencyRecorder recorder) {
+            requests = recorder.getCount();
+            rejectedRequests = recorder.getRejectedCount();
+            meanMillis = recorder.getMeanMillis();
+            p50Millis = recorder.getPercentileMillis(50);
+            p90Millis = recorder.getPercentileMillis(90);
+            p99Millis = recorder.getPercentileMillis(99);
+            maxMillis = recorder.getMaxMillis();
+        }
+    }
+
+    /**
+     * The queue depth and batch sizes of a {@link CommandPipeline}.
+     */
+    static class PipelineView {
+        private final int queueDepth;
+        private final long batches;
+        private final long batchedCommands;
+        private final double meanBatchSize;
+        private final int largestBatchSize;
+
+        PipelineView(CommandPipeline pipeline) {
+            queueDepth = pipeline.getQueueDepth();
+            batches = pipeline.getBatchCount();
+            batchedCommands = pipeline.getBatchedCommandCount();
+            meanBatchSize = pipeline.getMeanBatchSize();
+            largestBatchSize = pipeline.getLargestBatchSize();
+        }
+    }
+}
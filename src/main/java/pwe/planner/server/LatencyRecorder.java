@@ -0,0 +1,94 @@
+package pwe.planner.server;
+
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of requests in a histogram of power-of-two buckets of microseconds, so that recording takes
+ * constant time and memory however many requests there are, and many threads can record at once without locking.
+ * Percentiles are reported as the upper bound of the bucket they fall in, so they are overestimated by less than a
+ * factor of two.
+ */
+public class LatencyRecorder {
+
+    public static final String MESSAGE_CONSTRAINTS = "Percentile should be more than 0 and at most 100.";
+
+    private static final int NUMBER_OF_BUCKETS = 40;
+
+    /** The number of requests that took {@code [2^(i - 1), 2^i)} microseconds at every index {@code i > 0}. */
+    private final AtomicLongArray buckets = new AtomicLongArray(NUMBER_OF_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a request that was served in {@code nanos} nanoseconds.
+     */
+    public void record(long nanos) {
+        long micros = Math.max(nanos, 0) / 1000;
+        int bucket = Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros), NUMBER_OF_BUCKETS - 1);
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Records a request that was rejected without being served.
+     */
+    public void recordRejection() {
+        rejectedCount.increment();
+    }
+
+    /**
+     * Returns the number of requests served.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the number of requests rejected.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public double getMeanMillis() {
+        long served = getCount();
+        return served == 0 ? 0 : totalNanos.sum() / 1e6 / served;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1e6;
+    }
+
+    /**
+     * Returns the latency that {@code percentile} percent of the requests were served within, in milliseconds, or 0
+     * if no request was served.
+     */
+    public double getPercentileMillis(double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100, MESSAGE_CONSTRAINTS);
+
+        long served = 0;
+        long[] counts = new long[NUMBER_OF_BUCKETS];
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            served += counts[i];
+        }
+
+        long rank = (long) Math.ceil(percentile / 100 * served);
+        long seen = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS && served > 0; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min((1L << i) / 1e3, getMaxMillis());
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,369 @@
+package pwe.planner.server;
+
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.CommandPipeline;
+import pwe.planner.logic.Logic;
+import pwe.planner.logic.commands.Command;
+import pwe.planner.logic.commands.CommandResult;
+import pwe.planner.logic.commands.exceptions.CommandException;
+import pwe.planner.logic.parser.CommandParser;
+import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.SnapshotModel;
+import pwe.planner.model.StudentModel;
+import pwe.planner.model.StudentRegistry;
+import pwe.planner.model.StudentState;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.server.JsonViews.CommandResultView;
+import pwe.planner.server.JsonViews.DegreePlannerView;
+import pwe.planner.server.JsonViews.ErrorView;
+import pwe.planner.server.JsonViews.LatencyView;
+import pwe.planner.server.JsonViews.ModuleView;
+import pwe.planner.server.JsonViews.PipelineView;
+import pwe.planner.server.JsonViews.RequirementCategoryView;
+
+/**
+ * Serves the commands and the data of the application as JSON over HTTP, with the JDK's built-in {@link HttpServer}.
+ * <ul>
+ *     <li>{@code POST /commands} executes the command in the request body through a {@link CommandPipeline}, and
+ *     returns its feedback once the application has been saved with its changes. If the application cannot be
+ *     saved, the changes are rolled back, and the server responds with {@code 503 Service Unavailable}, as the command
+ *     may succeed once it is submitted again.</li>
+ *     <li>{@code GET /modules}, {@code GET /planners} and {@code GET /requirements} return the module list, the degree
+ *     planner list and the requirement list, as of the last committed command.</li>
+ *     <li>{@code POST /students/ID/commands} executes the command in the request body on the degree plan of the
+ *     student with the given ID, through a {@link StudentModel}. {@code GET /students/ID/planners} and
+ *     {@code GET /students/ID/requirements} return the degree planner list and the requirement list of the student.
+ *     Students are looked up in a {@link StudentRegistry}, which creates a student from its template the first time
+ *     it is requested, and are only held in memory. Students share the module catalog of the template, so commands
+ *     that would modify the catalog fail.</li>
+ *     <li>{@code GET /stats} returns the latency of the requests served so far.</li>
+ *     <li>{@code GET /pipeline} returns the number of commands waiting in the pipeline, and the sizes of the batches
+ *     it has saved so far.</li>
+ * </ul>
+ * The thread of the {@code HttpServer} only admits requests. It hands every request to a fixed number of threads
+ * through a bounded queue, and once the queue is full, it responds with {@code 503 Service Unavailable} right away,
+ * so the requests waiting to be served are bounded however fast they arrive. Read-only commands and the lists are
+ * served from the latest {@link pwe.planner.model.ModelSnapshot} without locking, so they are served in parallel with
+ * each other and with the command that modifies the application. Commands that modify the application are executed
+ * in order by the writer of the pipeline, and the threads serving them wait for their batch to be saved, so the more
+ * threads there are, the more of these commands can be saved together. The requests of different students are served
+ * in parallel as well, while the requests of one student are served one at a time.
+ */
+public class PlannerServer implements AutoCloseable {
+
+    public static final String MESSAGE_CONSTRAINTS = "Number of threads and queue capacity should be positive.";
+    public static final String MESSAGE_SERVER_BUSY = "The server is busy, please try again later.";
+    public static final String MESSAGE_NOT_FOUND = "There is nothing at %1$s!";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not allowed at %2$s, only %3$s is!";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be served: %1$s";
+
+    /** The paths of the resources of a student, with the id of the student and the name of the resource. */
+    private static final Pattern STUDENT_PATH_PATTERN =
+            Pattern.compile("/students/(?<studentId>[^/]+)/(?<resource>commands|planners|requirements)");
+
+    private static final Logger logger = LogsCenter.getLogger(PlannerServer.class);
+
+    private final Logic logic;
+    private final CommandPipeline pipeline;
+    private final StudentRegistry students;
+    /** The parsers of the threads executing the commands of students, as a parser caches what it parses. */
+    private final ThreadLocal<CommandParser> commandParsers = ThreadLocal.withInitial(CommandParser::new);
+    private final HttpServer server;
+    private final ThreadPoolExecutor pool;
+    private final LatencyRecorder latencyRecorder = new LatencyRecorder();
+
+    /**
+     * Creates a server bound to {@code address}, which serves requests to {@code logic} and to the students of
+     * {@code students} on {@code threads} threads, with at most {@code queueCapacity} requests waiting for a thread.
+     * Commands are executed through {@code pipeline}, which should execute them on {@code logic}, and is not closed by
+     * the server. The server is only started by {@link #start()}.
+     *
+     * @throws IOException if the server cannot be bound to {@code address}.
+     */
+    public PlannerServer(Logic logic, CommandPipeline pipeline, StudentRegistry students, InetSocketAddress address,
+            int threads, int queueCapacity) throws IOException {
+        requireAllNonNull(logic, pipeline, students, address);
+        checkArgument(threads > 0 && queueCapacity > 0, MESSAGE_CONSTRAINTS);
+
+        this.logic = logic;
+        this.pipeline = pipeline;
+        this.students = students;
+        pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+        server = HttpServer.create(address, 0);
+        server.createContext("/commands", exchange -> admit(exchange, "POST", this::executeCommand));
+        server.createContext("/modules", exchange -> admit(exchange, "GET", this::getModules));
+        server.createContext("/planners", exchange -> admit(exchange, "GET", this::getDegreePlanners));
+        server.createContext("/requirements", exchange -> admit(exchange, "GET", this::getRequirementCategories));
+        server.createContext("/stats", exchange -> admit(exchange, "GET", this::getStats));
+        server.createContext("/pipeline", exchange -> admit(exchange, "GET", this::getPipelineStats));
+        server.createContext("/students/", this::admitStudentRequest);
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving requests at " + getAddress());
+    }
+
+    /**
+     * Returns the address that the server is bound to.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    public LatencyRecorder getLatencyRecorder() {
+        return latencyRecorder;
+    }
+
+    /**
+     * Stops serving requests, and shuts down the threads that serve them once the requests in the queue are served.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        pool.shutdown();
+    }
+
+    /**
+     * Admits {@code exchange} to be served by {@code endpoint} if it was made at the path of its context.
+     */
+    private void admit(HttpExchange exchange, String method, Endpoint endpoint) {
+        boolean isContextPath = exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath());
+        submit(exchange, method, isContextPath ? endpoint : null);
+    }
+
+    /**
+     * Admits {@code exchange} to be served by the endpoint of the resource of the student in its path.
+     */
+    private void admitStudentRequest(HttpExchange exchange) {
+        Matcher matcher = STUDENT_PATH_PATTERN.matcher(exchange.getRequestURI().getPath());
+        if (!matcher.matches()) {
+            submit(exchange, exchange.getRequestMethod(), null);
+            return;
+        }
+
+        String studentId = matcher.group("studentId");
+        switch (matcher.group("resource")) {
+        case "commands":
+            submit(exchange, "POST", studentExchange -> executeStudentCommand(studentExchange, studentId));
+            break;
+        case "planners":
+            submit(exchange, "GET", studentExchange -> getStudentDegreePlanners(studentId));
+            break;
+        default:
+            submit(exchange, "GET", studentExchange -> getStudentRequirementCategories(studentId));
+            break;
+        }
+    }
+
+    /**
+     * Hands {@code exchange} to the threads that serve requests, or rejects it if too many requests are waiting.
+     * If {@code endpoint} is null, there is nothing at the path of the request.
+     */
+    private void submit(HttpExchange exchange, String method, Endpoint endpoint) {
+        long start = System.nanoTime();
+        try {
+            pool.execute(() -> serve(exchange, method, endpoint, start));
+        } catch (RejectedExecutionException ree) {
+            latencyRecorder.recordRejection();
+            respond(exchange, new Response(HTTP_UNAVAILABLE, new ErrorView(MESSAGE_SERVER_BUSY)));
+        }
+    }
+
+    private void serve(HttpExchange exchange, String method, Endpoint endpoint, long start) {
+        String path = exchange.getRequestURI().getPath();
+        Response response;
+        if (endpoint == null) {
+            response = new Response(HTTP_NOT_FOUND, new ErrorView(String.format(MESSAGE_NOT_FOUND, path)));
+        } else if (!method.equals(exchange.getRequestMethod())) {
+            response = new Response(HTTP_BAD_METHOD, new ErrorView(String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                    exchange.getRequestMethod(), path, method)));
+        } else {
+            try {
+                response = endpoint.serve(exchange);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Unable to serve " + method + " " + path + ": " + e);
+                response = new Response(HTTP_INTERNAL_ERROR,
+                        new ErrorView(String.format(MESSAGE_INTERNAL_ERROR, e.getMessage())));
+            }
+        }
+        respond(exchange, response);
+
+        long nanos = System.nanoTime() - start;
+        latencyRecorder.record(nanos);
+        logger.fine(String.format("%s %s %d in %.3f ms", exchange.getRequestMethod(), path, response.status,
+                nanos / 1e6));
+    }
+
+    /**
+     * Writes {@code response} to {@code exchange} as JSON, and closes the exchange.
+     */
+    private void respond(HttpExchange exchange, Response response) {
+        try (OutputStream body = exchange.getResponseBody()) {
+            byte[] bytes = JsonUtil.toCompactJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, bytes.length);
+            body.write(bytes);
+        } catch (IOException ioe) {
+            logger.warning("Unable to respond to " + exchange.getRequestURI() + ": " + ioe);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns the text of the command in the body of {@code exchange}.
+     */
+    private static String readCommandText(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).trim();
+    }
+
+    private Response executeCommand(HttpExchange exchange) throws IOException {
+        String commandText = readCommandText(exchange);
+        try {
+            CommandResult commandResult = pipeline.submit(commandText).get();
+            return new Response(HTTP_OK, new CommandResultView(commandResult.getFeedbackToUser(), true));
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            // the application could not be saved, which is not the fault of the command
+            if (cause instanceof CommandException && cause.getCause() instanceof IOException) {
+                return new Response(HTTP_UNAVAILABLE, new CommandResultView(cause.getMessage(), false));
+            }
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                return new Response(HTTP_BAD_REQUEST, new CommandResultView(cause.getMessage(), false));
+            }
+            if (cause instanceof RejectedExecutionException) {
+                return new Response(HTTP_UNAVAILABLE, new ErrorView(MESSAGE_SERVER_BUSY));
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return new Response(HTTP_UNAVAILABLE, new ErrorView(MESSAGE_SERVER_BUSY));
+        }
+    }
+
+    private Response getModules(HttpExchange exchange) {
+        List<Module> modules = logic.getSnapshot().getState().getModuleList();
+        return new Response(HTTP_OK, modules.stream().map(ModuleView::new).collect(Collectors.toList()));
+    }
+
+    private Response getDegreePlanners(HttpExchange exchange) {
+        List<DegreePlanner> degreePlanners = logic.getSnapshot().getState().getDegreePlannerList();
+        return new Response(HTTP_OK, degreePlanners.stream().map(DegreePlannerView::new)
+                .collect(Collectors.toList()));
+    }
+
+    private Response getRequirementCategories(HttpExchange exchange) {
+        SnapshotModel snapshotModel = new SnapshotModel(logic.getSnapshot());
+        List<RequirementCategoryView> requirementCategories = new ArrayList<>();
+        for (RequirementCategory requirementCategory : snapshotModel.getFilteredRequirementCategoryList()) {
+            requirementCategories.add(new RequirementCategoryView(requirementCategory,
+                    snapshotModel.getFulfilledCredits(requirementCategory)));
+        }
+        return new Response(HTTP_OK, requirementCategories);
+    }
+
+    private Response executeStudentCommand(HttpExchange exchange, String studentId) throws IOException {
+        String commandText = readCommandText(exchange);
+        StudentState student = students.getOrCreateStudent(studentId);
+        try {
+            Command command = commandParsers.get().parseCommand(commandText);
+            CommandResult commandResult;
+            // a student is only used by one thread at a time, but different students are served in parallel
+            synchronized (student) {
+                commandResult = command.execute(new StudentModel(student), new CommandHistory());
+            }
+            return new Response(HTTP_OK, new CommandResultView(commandResult.getFeedbackToUser(), true));
+        } catch (CommandException | ParseException e) {
+            return new Response(HTTP_BAD_REQUEST, new CommandResultView(e.getMessage(), false));
+        } catch (UnsupportedOperationException uoe) {
+            // the command would modify the catalog, which the student shares with every other student
+            return new Response(HTTP_BAD_REQUEST, new CommandResultView(uoe.getMessage(), false));
+        }
+    }
+
+    private Response getStudentDegreePlanners(String studentId) {
+        StudentState student = students.getOrCreateStudent(studentId);
+        synchronized (student) {
+            return new Response(HTTP_OK, student.getDegreePlannerList().stream().map(DegreePlannerView::new)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private Response getStudentRequirementCategories(String studentId) {
+        StudentState student = students.getOrCreateStudent(studentId);
+        List<RequirementCategoryView> requirementCategories = new ArrayList<>();
+        synchronized (student) {
+            for (RequirementCategory requirementCategory : student.getRequirementCategoryList()) {
+                requirementCategories.add(new RequirementCategoryView(requirementCategory,
+                        student.getFulfilledCredits(requirementCategory)));
+            }
+        }
+        return new Response(HTTP_OK, requirementCategories);
+    }
+
+    private Response getStats(HttpExchange exchange) {
+        return new Response(HTTP_OK, new LatencyView(latencyRecorder));
+    }
+
+    private Response getPipelineStats(HttpExchange exchange) {
+        return new Response(HTTP_OK, new PipelineView(pipeline));
+    }
+
+    /**
+     * Serves a request that was made with the allowed method.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        Response serve(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * A status code, and the body to write as JSON.
+     */
+    private static class Response {
+        private final int status;
+        private final Object body;
+
+        private Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.ApplicationDelta;
+import pwe.planner.model.ListEdit;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * Jackson-friendly version of {@link ApplicationDelta}.
+ */
+class JsonAdaptedApplicationDelta {
+
+    private final List<JsonAdaptedListEdit<JsonAdaptedModule>> moduleEdits = new ArrayList<>();
+    private final List<JsonAdaptedListEdit<JsonAdaptedDegreePlanner>> degreePlannerEdits = new ArrayList<>();
+    private final List<JsonAdaptedListEdit<JsonAdaptedRequirementCategory>> requirementCategoryEdits =
+            new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedApplicationDelta} with the given edits.
+     */
+    @JsonCreator
+    public JsonAdaptedApplicationDelta(
+            @JsonProperty("moduleEdits") List<JsonAdaptedListEdit<JsonAdaptedModule>> moduleEdits,
+            @JsonProperty("degreePlannerEdits") List<JsonAdaptedListEdit<JsonAdaptedDegreePlanner>> degreePlannerEdits,
+            @JsonProperty("requirementCategoryEdits")
+                    List<JsonAdaptedListEdit<JsonAdaptedRequirementCategory>> requirementCategoryEdits) {
+        if (moduleEdits != null) {
+            this.moduleEdits.addAll(moduleEdits);
+        }
+        if (degreePlannerEdits != null) {
+            this.degreePlannerEdits.addAll(degreePlannerEdits);
+        }
+        if (requirementCategoryEdits != null) {
+            this.requirementCategoryEdits.addAll(requirementCategoryEdits);
+        }
+    }
+
+    /**
+     * Converts a given {@code ApplicationDelta} into this class for Jackson use.
+     */
+    public JsonAdaptedApplicationDelta(ApplicationDelta source) {
+        requireNonNull(source);
+
+        source.getModuleEdits().forEach(edit -> moduleEdits.add(new JsonAdaptedListEdit<>(edit,
+                JsonAdaptedModule::new)));
+        source.getDegreePlannerEdits().forEach(edit -> degreePlannerEdits.add(new JsonAdaptedListEdit<>(edit,
+                JsonAdaptedDegreePlanner::new)));
+        source.getRequirementCategoryEdits().forEach(edit -> requirementCategoryEdits.add(new JsonAdaptedListEdit<>(
+                edit, JsonAdaptedRequirementCategory::new)));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted delta into the model's {@code ApplicationDelta} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted delta.
+     */
+    public ApplicationDelta toModelType() throws IllegalValueException {
+        List<ListEdit<Module>> modelModuleEdits = new ArrayList<>();
+        for (JsonAdaptedListEdit<JsonAdaptedModule> edit : moduleEdits) {
+            modelModuleEdits.add(edit.toModelType(JsonAdaptedModule::toModelType));
+        }
+
+        List<ListEdit<DegreePlanner>> modelDegreePlannerEdits = new ArrayList<>();
+        for (JsonAdaptedListEdit<JsonAdaptedDegreePlanner> edit : degreePlannerEdits) {
+            modelDegreePlannerEdits.add(edit.toModelType(JsonAdaptedDegreePlanner::toModelType));
+        }
+
+        List<ListEdit<RequirementCategory>> modelRequirementCategoryEdits = new ArrayList<>();
+        for (JsonAdaptedListEdit<JsonAdaptedRequirementCategory> edit : requirementCategoryEdits) {
+            modelRequirementCategoryEdits.add(edit.toModelType(JsonAdaptedRequirementCategory::toModelType));
+        }
+
+        return new ApplicationDelta(modelModuleEdits, modelDegreePlannerEdits, modelRequirementCategoryEdits);
+    }
+}
@@ -0,0 +1,79 @@
+package pwe.planner.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.ListEdit;
+
+/**
+ * Jackson-friendly version of {@link ListEdit}.
+ *
+ * @param <J> the Jackson-friendly type of the edited elements.
+ */
+class JsonAdaptedListEdit<J> {
+
+    public static final String MESSAGE_INVALID_FROM = "A list edit cannot start at a negative position!";
+
+    private final int from;
+    private final List<J> removed = new ArrayList<>();
+    private final List<J> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListEdit} with the given list edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedListEdit(@JsonProperty("from") int from, @JsonProperty("removed") List<J> removed,
+            @JsonProperty("added") List<J> added) {
+        this.from = from;
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code ListEdit} into this class for Jackson use, adapting each element with {@code adapter}.
+     */
+    public <T> JsonAdaptedListEdit(ListEdit<T> source, Function<T, J> adapter) {
+        from = source.getFrom();
+        source.getRemoved().stream().map(adapter).forEach(removed::add);
+        source.getAdded().stream().map(adapter).forEach(added::add);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted list edit into the model's {@code ListEdit} object, converting each
+     * element with {@code converter}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted list edit.
+     */
+    public <T> ListEdit<T> toModelType(ElementConverter<J, T> converter) throws IllegalValueException {
+        if (from < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_FROM);
+        }
+
+        List<T> modelRemoved = new ArrayList<>();
+        for (J element : removed) {
+            modelRemoved.add(converter.toModelType(element));
+        }
+        List<T> modelAdded = new ArrayList<>();
+        for (J element : added) {
+            modelAdded.add(converter.toModelType(element));
+        }
+        return new ListEdit<>(from, modelRemoved, modelAdded);
+    }
+
+    /**
+     * Converts a Jackson-friendly element into the model's type.
+     */
+    @FunctionalInterface
+    interface ElementConverter<J, T> {
+        T toModelType(J element) throws IllegalValueException;
+    }
+}
@@ -3,8 +3,9 @@ package pwe.planner.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -67,34 +68,34 @@ class JsonSerializableModuleList {
     public ObservableList<Module> toModelType() throws IllegalValueException {
         // Ensure all modules are unique
         UniqueModuleList uniqueModuleList = new UniqueModuleList();
+        // the modules as read, before co-requisites are cascaded by the module list
+        Map<Code, Module> codeToReadModule = new HashMap<>();
         for (JsonAdaptedModule jsonAdaptedModule : modules) {
             Module module = jsonAdaptedModule.toModelType();
             if (uniqueModuleList.contains(module)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
             }
             uniqueModuleList.add(module);
+            codeToReadModule.put(module.getCode(), module);
         }
 
-        ObservableList<Module> moduleList = uniqueModuleList.asUnmodifiableObservableList();
-        for (Module module : moduleList) {
+        for (Module module : codeToReadModule.values()) {
             for (Code corequisite : module.getCorequisites()) {
-                Optional<Module> corequisiteModuleOptional = moduleList.stream()
-                        .filter(currentModule -> currentModule.getCode().equals(corequisite))
-                        .findFirst();
+                Module corequisiteModule = codeToReadModule.get(corequisite);
 
                 // Ensure that all module co-requisites refers to existing modules in module list
-                if (!corequisiteModuleOptional.isPresent()) {
+                if (corequisiteModule == null) {
                     throw new IllegalValueException(String.format(MESSAGE_NON_EXISTENT_COREQUISITE, corequisite));
                 }
                 // Ensure that module co-requisites must be two-way (A has B as a co-requisite, and vice versa)
-                if (!corequisiteModuleOptional.get().getCorequisites().contains(module.getCode())) {
+                if (!corequisiteModule.getCorequisites().contains(module.getCode())) {
                     throw new IllegalValueException(String.format(MESSAGE_ONE_WAY_COREQUISITE, module.getCode(),
                             corequisite));
                 }
             }
         }
 
-        return moduleList;
+        return uniqueModuleList.asUnmodifiableObservableList();
     }
 
 }
@@ -0,0 +1,206 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.JsonUtil;
+import pwe.planner.model.ApplicationDelta;
+import pwe.planner.model.UndoHistorySpill;
+
+/**
+ * A class to spill undo history entries to a file on the hard disk, one json record after another.
+ * The offsets of the records are kept in memory, so that any entry can be read back without scanning the file.
+ * <p>
+ * Every spill has a file of its own, which is created in the spill directory when the first entry is spilled, so that
+ * several histories in one JVM never share a file. Truncated entries are cut off the end of the file. Discarded oldest
+ * entries are left in place until they take up more of the file than the remaining entries, which are then copied to
+ * a new file, so that the file is at most twice the size of its entries. Once no entries remain, the file is closed
+ * and deleted, to be created again by the next spill.
+ */
+public class JsonUndoHistorySpill implements UndoHistorySpill {
+
+    private static final String FILE_NAME_PREFIX = "undoHistory";
+    private static final String FILE_NAME_SUFFIX = ".tmp";
+
+    private final Path directory;
+    /** The offsets in the file of all records, including the discarded records before {@code firstRecord}. */
+    private final List<Long> recordOffsets = new ArrayList<>();
+    private int firstRecord;
+    private long endOffset;
+    private Path filePath;
+    private RandomAccessFile file;
+
+    public JsonUndoHistorySpill(Path directory) {
+        requireNonNull(directory);
+
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the file that the entries are spilled to, or null if no entries are spilled.
+     */
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of spilled entries.
+     */
+    public int size() {
+        return recordOffsets.size() - firstRecord;
+    }
+
+    @Override
+    public void spill(ApplicationDelta delta) throws IOException {
+        requireNonNull(delta);
+
+        byte[] record = JsonUtil.toJsonString(new JsonAdaptedApplicationDelta(delta)).getBytes(StandardCharsets.UTF_8);
+        RandomAccessFile file = getFile();
+        file.seek(endOffset);
+        file.write(record);
+        recordOffsets.add(endOffset);
+        endOffset += record.length;
+    }
+
+    @Override
+    public ApplicationDelta load(int index) throws IOException {
+        Objects.checkIndex(index, size());
+        int recordIndex = firstRecord + index;
+        long startOffset = recordOffsets.get(recordIndex);
+        long nextOffset = recordIndex + 1 < recordOffsets.size() ? recordOffsets.get(recordIndex + 1) : endOffset;
+        byte[] record = new byte[(int) (nextOffset - startOffset)];
+
+        RandomAccessFile file = getFile();
+        file.seek(startOffset);
+        file.readFully(record);
+
+        try {
+            return JsonUtil.fromJsonString(new String(record, StandardCharsets.UTF_8),
+                    JsonAdaptedApplicationDelta.class).toModelType();
+        } catch (IllegalValueException ive) {
+            throw new IOException("Undo history entry " + index + " is corrupted: " + ive.getMessage(), ive);
+        }
+    }
+
+    @Override
+    public void truncate(int size) throws IOException {
+        if (size >= size()) {
+            return;
+        }
+        if (size == 0) {
+            close();
+            return;
+        }
+
+        endOffset = recordOffsets.get(firstRecord + size);
+        recordOffsets.subList(firstRecord + size, recordOffsets.size()).clear();
+        getFile().setLength(endOffset);
+    }
+
+    @Override
+    public void discardOldest(int count) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+        if (count >= size()) {
+            close();
+            return;
+        }
+
+        firstRecord += count;
+        long discardedLength = recordOffsets.get(firstRecord);
+        if (discardedLength > endOffset - discardedLength) {
+            compact();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        recordOffsets.clear();
+        firstRecord = 0;
+        endOffset = 0;
+        if (file == null) {
+            return;
+        }
+
+        try {
+            file.close();
+        } finally {
+            file = null;
+            Path closedFilePath = filePath;
+            filePath = null;
+            Files.deleteIfExists(closedFilePath);
+        }
+    }
+
+    /**
+     * Copies the records from {@code firstRecord} onwards to a new file, which replaces the current file.
+     */
+    private void compact() throws IOException {
+        long startOffset = recordOffsets.get(firstRecord);
+        Path newFilePath = createFile();
+        RandomAccessFile newFile = new RandomAccessFile(newFilePath.toFile(), "rw");
+        try {
+            FileChannel source = file.getChannel();
+            FileChannel target = newFile.getChannel();
+            long length = endOffset - startOffset;
+            long copied = 0;
+            while (copied < length) {
+                copied += source.transferTo(startOffset + copied, length - copied, target);
+            }
+        } catch (IOException ioe) {
+            newFile.close();
+            Files.deleteIfExists(newFilePath);
+            throw ioe;
+        }
+
+        RandomAccessFile oldFile = file;
+        Path oldFilePath = filePath;
+        file = newFile;
+        filePath = newFilePath;
+        recordOffsets.subList(0, firstRecord).clear();
+        recordOffsets.replaceAll(offset -> offset - startOffset);
+        firstRecord = 0;
+        endOffset -= startOffset;
+
+        oldFile.close();
+        Files.deleteIfExists(oldFilePath);
+    }
+
+    /**
+     * Returns the spill file, creating an empty one if there is none.
+     */
+    private RandomAccessFile getFile() throws IOException {
+        if (file == null) {
+            Path newFilePath = createFile();
+            file = new RandomAccessFile(newFilePath.toFile(), "rw");
+            filePath = newFilePath;
+        }
+        return file;
+    }
+
+    /**
+     * Creates an empty file in the spill directory, with a name that no other file has.
+     */
+    private Path createFile() throws IOException {
+        Files.createDirectories(directory);
+        Path newFilePath = Files.createTempFile(directory, FILE_NAME_PREFIX, FILE_NAME_SUFFIX);
+        // in case the application exits without closing the spill
+        newFilePath.toFile().deleteOnExit();
+        return newFilePath;
+    }
+}
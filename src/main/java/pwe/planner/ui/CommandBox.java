@@ -2,13 +2,18 @@ package pwe.planner.ui;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Bounds;
 import javafx.scene.control.TextField;
+import javafx.scene.control.Tooltip;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.stage.PopupWindow;
 import pwe.planner.logic.Logic;
 import pwe.planner.logic.commands.CommandResult;
 import pwe.planner.logic.commands.exceptions.CommandException;
@@ -16,6 +21,8 @@ import pwe.planner.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * The completions of the word being typed are shown below the text field as the user types, and the first
+ * completion is accepted with the Tab key.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -23,20 +30,31 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CompletionProvider completionProvider;
     private final List<String> history;
+    private final Tooltip completionTooltip = new Tooltip();
+    private List<String> completions = Collections.emptyList();
     private ListElementPointer historySnapshot;
 
     @FXML
     private TextField commandTextField;
 
     public CommandBox(CommandExecutor commandExecutor, List<String> history) {
+        this(commandExecutor, commandText -> Collections.emptyList(), history);
+    }
+
+    public CommandBox(CommandExecutor commandExecutor, CompletionProvider completionProvider, List<String> history) {
         super(FXML);
-        requireAllNonNull(commandExecutor, history);
+        requireAllNonNull(commandExecutor, completionProvider, history);
 
         this.commandExecutor = commandExecutor;
+        this.completionProvider = completionProvider;
         this.history = history;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // calls #showCompletions(String) whenever there is a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> showCompletions(newText));
+        completionTooltip.setAnchorLocation(PopupWindow.AnchorLocation.CONTENT_TOP_LEFT);
         historySnapshot = new ListElementPointer(history);
     }
 
@@ -59,6 +77,13 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case TAB:
+            if (!completions.isEmpty()) {
+                // consuming it keeps the focus in the text field
+                keyEvent.consume();
+                replaceText(completions.get(0));
+            }
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -92,6 +117,26 @@ public class CommandBox extends UiPart<Region> {
         replaceText(historySnapshot.next());
     }
 
+    /**
+     * Shows the completions of {@code text} below the text field, or hides them if there are none.
+     */
+    private void showCompletions(String text) {
+        assert text != null;
+
+        completions = text.isEmpty() ? Collections.emptyList() : completionProvider.getCompletions(text).stream()
+                .filter(completion -> !completion.equals(text))
+                .collect(Collectors.toList());
+        boolean isShowing = commandTextField.getScene() != null && commandTextField.getScene().getWindow() != null;
+        if (completions.isEmpty() || !isShowing) {
+            completionTooltip.hide();
+            return;
+        }
+
+        completionTooltip.setText(String.join("\n", completions));
+        Bounds screenBounds = commandTextField.localToScreen(commandTextField.getBoundsInLocal());
+        completionTooltip.show(commandTextField, screenBounds.getMinX(), screenBounds.getMaxY());
+    }
+
     /**
      * Sets {@code CommandBox}'s text field with {@code text} and
      * positions the caret to the end of the {@code text}.
@@ -108,6 +153,7 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        completionTooltip.hide();
         try {
             commandExecutor.execute(commandTextField.getText());
             initHistory();
@@ -162,4 +208,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that completes partially entered commands.
+     */
+    @FunctionalInterface
+    public interface CompletionProvider {
+        /**
+         * Returns the completions of the partially entered command.
+         *
+         * @see Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
 }
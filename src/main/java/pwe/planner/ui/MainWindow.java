@@ -135,13 +135,13 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         requirementCategoryListPanel = new RequirementCategoryListPanel(logic.getFilteredRequirementCategoryList(),
-                logic.getApplication().getModuleList());
+                logic::getFulfilledCredits);
         requirementCategoryListPanelPlaceholder.getChildren().add(requirementCategoryListPanel.getRoot());
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getModuleListFilePath(), logic.getApplication());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions, logic.getHistory());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
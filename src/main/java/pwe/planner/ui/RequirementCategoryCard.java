@@ -1,18 +1,13 @@
 package pwe.planner.ui;
 
-import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
 
-import java.util.stream.Stream;
-
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.text.Text;
-import pwe.planner.model.module.Credits;
-import pwe.planner.model.module.Module;
 import pwe.planner.model.requirement.RequirementCategory;
 
 /**
@@ -36,20 +31,14 @@ public class RequirementCategoryCard extends UiPart<Region> {
     @FXML
     private FlowPane codes;
 
-    public RequirementCategoryCard(RequirementCategory requirementCategory, ObservableList<Module> moduleList) {
+    public RequirementCategoryCard(RequirementCategory requirementCategory, int currentCredits) {
         super(FXML);
-        requireAllNonNull(requirementCategory, moduleList);
+        requireNonNull(requirementCategory);
 
         this.requirementCategory = requirementCategory;
 
         requirementCategoryName.setText(requirementCategory.getName().fullName);
 
-        Stream<Module> modulesInRequirementCategory = requirementCategory.getCodeSet().stream()
-                .map(code -> moduleList.stream().filter(module -> module.getCode().equals(code)).findFirst().get());
-
-        int currentCredits = modulesInRequirementCategory.map(Module::getCredits).map(Credits::toString)
-                .map(Integer::parseInt).reduce(0, (totalCredits, credit) -> totalCredits + credit);
-
         String creditsRequired = requirementCategory.getCredits().toString();
 
         requirementCategoryCredit.setText("Modular Credits Fulfilled: " + currentCredits + "/" + creditsRequired);
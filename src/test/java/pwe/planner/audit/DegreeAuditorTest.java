@@ -0,0 +1,186 @@
+package pwe.planner.audit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.storage.JsonSerializableApplication.MESSAGE_INVALID_COREQUISITES_IN_DEGREE_PLANNER;
+import static pwe.planner.storage.JsonSerializableApplication.MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER;
+import static pwe.planner.storage.JsonSerializableApplication.MESSAGE_NON_EXISTENT_DEGREE_PLANNER_CODE;
+import static pwe.planner.storage.JsonSerializableApplication.MESSAGE_NON_EXISTENT_REQUIREMENT_CATEGORY_CODE;
+import static pwe.planner.testutil.Assert.assertThrows;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlanners;
+import static pwe.planner.testutil.TypicalModules.getTypicalModules;
+import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_FOUNDATION;
+import static pwe.planner.testutil.TypicalRequirementCategories.MATHEMATICS;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategories;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.audit.StudentAudit.CategoryProgress;
+import pwe.planner.model.Application;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.testutil.DegreePlannerBuilder;
+import pwe.planner.testutil.RequirementCategoryBuilder;
+
+public class DegreeAuditorTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final DegreeAuditor auditor = new DegreeAuditor(getTypicalModules(), 2);
+
+    @After
+    public void tearDown() {
+        auditor.close();
+    }
+
+    @Test
+    public void constructor_nonPositiveParallelism_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(DegreeAuditor.MESSAGE_CONSTRAINTS);
+        new DegreeAuditor(getTypicalModules(), 0);
+    }
+
+    @Test
+    public void audit_typicalPlan_validWithFulfilledCredits() {
+        StudentAudit audit = auditor.audit("A0000001", getTypicalDegreePlanners(), getTypicalRequirementCategories());
+
+        assertTrue(audit.isValid());
+        assertFalse(audit.isFulfilled());
+        assertTrue(audit.getRequirementCategories().contains(new CategoryProgress("Computing Foundation", 3, 36)));
+        assertTrue(audit.getRequirementCategories().contains(new CategoryProgress("Mathematics", 1, 12)));
+    }
+
+    @Test
+    public void audit_invalidPlan_everyViolationReported() {
+        StudentAudit audit = auditor.audit("A0000002", getInvalidDegreePlanners(), getInvalidRequirementCategories());
+
+        assertEquals(List.of(
+                String.format(MESSAGE_NON_EXISTENT_REQUIREMENT_CATEGORY_CODE, "CS9999", "Computing Foundation"),
+                String.format(MESSAGE_INVALID_COREQUISITES_IN_DEGREE_PLANNER, "CS1231", "CS2102", "1", "1", "1", "2"),
+                String.format(MESSAGE_NON_EXISTENT_DEGREE_PLANNER_CODE, "CS9999", "1", "1"),
+                String.format(MESSAGE_INVALID_DEGREE_PLANNER_MODULE_SEMESTER, "CS2102", "1", "2", "1").trim()),
+                audit.getViolations());
+        assertEquals(new CategoryProgress("Computing Foundation", 3, 36), audit.getRequirementCategories().get(0));
+    }
+
+    @Test
+    public void auditAll_auditFails_noAuditRunningAfterReturn() throws Exception {
+        Path students = testFolder.newFolder("students").toPath();
+        for (int i = 0; i < 6; i++) {
+            Files.createDirectory(students.resolve(String.format("A000000%d", i)));
+        }
+        Path resultFile = testFolder.getRoot().toPath().resolve("results.jsonl");
+        AtomicInteger runningAudits = new AtomicInteger();
+        DegreeAuditor failingAuditor = new DegreeAuditor(getTypicalModules(), 2) {
+            @Override
+            public StudentAudit audit(Path dataSet) {
+                if (dataSet.endsWith("A0000000")) {
+                    throw new IllegalStateException();
+                }
+                runningAudits.incrementAndGet();
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                runningAudits.decrementAndGet();
+                return super.audit(dataSet);
+            }
+        };
+
+        try {
+            assertThrows(IllegalStateException.class, () -> failingAuditor.auditAll(students, resultFile));
+            assertEquals(0, runningAudits.get());
+        } finally {
+            failingAuditor.close();
+        }
+    }
+
+    @Test
+    public void auditAll_directoryOfStudents_everyStudentWritten() throws Exception {
+        Path students = testFolder.newFolder("students").toPath();
+        save(students.resolve("A0000001"), getTypicalDegreePlanners(), getTypicalRequirementCategories());
+        save(students.resolve("A0000002"), getInvalidDegreePlanners(), getInvalidRequirementCategories());
+        // a data set without files
+        Files.createDirectory(students.resolve("A0000003"));
+        Path resultFile = testFolder.getRoot().toPath().resolve("results.jsonl");
+
+        AuditSummary summary = auditor.auditAll(students, resultFile);
+
+        assertEquals(3, summary.getNumberOfStudents());
+        assertEquals(2, summary.getNumberOfInvalidPlans());
+        assertEquals(2, summary.getNumberOfUnfulfilledPlans());
+        List<String> lines = Files.readAllLines(resultFile);
+        assertEquals(Set.of("A0000001", "A0000002", "A0000003"), lines.stream()
+                .map(line -> line.replaceAll("^\\{\"studentId\":\"([^\"]*)\".*$", "$1")).collect(Collectors.toSet()));
+        assertTrue(lines.stream().anyMatch(line -> line.contains(
+                String.format(DegreeAuditor.MESSAGE_MISSING_FILE, DegreeAuditor.DEGREE_PLANNER_LIST_FILE_NAME))));
+    }
+
+    @Test
+    public void readCatalog_savedModuleList_success() throws Exception {
+        Path catalog = testFolder.getRoot().toPath();
+        save(catalog, getTypicalDegreePlanners(), getTypicalRequirementCategories());
+
+        assertEquals(getTypicalModules(), DegreeAuditor.readCatalog(catalog));
+    }
+
+    @Test
+    public void readCatalog_missingModuleList_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        DegreeAuditor.readCatalog(testFolder.getRoot().toPath());
+    }
+
+    /**
+     * Returns degree planners in which CS1231 and its co-requisite CS2102 are planned in different semesters, CS2102
+     * is planned in a semester it is not offered in, and CS9999 does not exist.
+     */
+    private static List<DegreePlanner> getInvalidDegreePlanners() {
+        return List.of(
+                new DegreePlannerBuilder().withYear("1").withSemester("1").withCodes("CS1231", "CS9999").build(),
+                new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes("CS2102").build());
+    }
+
+    /**
+     * Returns requirement categories in which CS9999 does not exist.
+     */
+    private static List<RequirementCategory> getInvalidRequirementCategories() {
+        return List.of(new RequirementCategoryBuilder(COMPUTING_FOUNDATION).withCodes("CS2100", "CS9999").build(),
+                MATHEMATICS);
+    }
+
+    /**
+     * Saves the typical modules, {@code degreePlanners} and {@code requirementCategories} as a data set in
+     * {@code dataSet}.
+     */
+    private static void save(Path dataSet, List<DegreePlanner> degreePlanners,
+            List<RequirementCategory> requirementCategories) throws IOException {
+        Files.createDirectories(dataSet);
+        Application application = new Application();
+        application.setModules(getTypicalModules());
+        application.setDegreePlanners(degreePlanners);
+        application.setRequirementCategories(requirementCategories);
+        new JsonApplicationStorage(dataSet.resolve(DegreeAuditor.MODULE_LIST_FILE_NAME),
+                dataSet.resolve(DegreeAuditor.DEGREE_PLANNER_LIST_FILE_NAME),
+                dataSet.resolve(DegreeAuditor.REQUIREMENT_CATEGORY_LIST_FILE_NAME)).saveApplication(application);
+    }
+}
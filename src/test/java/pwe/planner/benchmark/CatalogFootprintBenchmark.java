@@ -0,0 +1,104 @@
+package pwe.planner.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the heap retained by an application loaded from storage, as the module list grows.
+ * The application is saved to and read back from json files, so that every value object is created by the storage
+ * layer as it is when the application starts.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=CatalogFootprintBenchmark}.
+ */
+public class CatalogFootprintBenchmark {
+
+    private static final int[] CATALOG_SIZES = {5_000, 20_000, 50_000};
+    private static final int REQUIREMENT_CATEGORIES = 8;
+    private static final int CODES_PER_DEGREE_PLANNER = 6;
+
+    public static void main(String[] args) throws IOException, DataConversionException {
+        System.out.println(String.format("%10s %15s %18s", "modules", "retained", "per module"));
+
+        Path folder = Files.createTempDirectory("footprint");
+        JsonApplicationStorage storage = new JsonApplicationStorage(folder.resolve("modules.json"),
+                folder.resolve("planners.json"), folder.resolve("requirements.json"));
+
+        for (int size : CATALOG_SIZES) {
+            storage.saveApplication(getApplication(size));
+
+            long before = getUsedHeap();
+            ReadOnlyApplication loadedApplication = storage.readApplication().get();
+            long after = getUsedHeap();
+
+            System.out.println(String.format("%10d %12.1f MB %15.0f B", loadedApplication.getModuleList().size(),
+                    (after - before) / 1024.0 / 1024.0, (after - before) / (double) size));
+        }
+    }
+
+    /**
+     * Returns an application of {@code size} synthetic modules, with every module in a requirement category and
+     * a few modules in each degree planner.
+     */
+    private static Application getApplication(int size) {
+        List<Module> modules = SyntheticModules.getModules(size);
+
+        List<RequirementCategory> requirementCategories = new ArrayList<>();
+        for (int i = 0; i < REQUIREMENT_CATEGORIES; i++) {
+            Set<Code> codes = new HashSet<>();
+            for (int j = i; j < size; j += REQUIREMENT_CATEGORIES) {
+                codes.add(SyntheticModules.getCode(j));
+            }
+            requirementCategories.add(new RequirementCategory(new Name("Category " + i), new Credits("40"), codes));
+        }
+
+        List<DegreePlanner> degreePlanners = new ArrayList<>();
+        int nextModule = 0;
+        for (int year = 1; year <= 4; year++) {
+            for (int semester = 1; semester <= 4; semester++) {
+                Semester plannedSemester = new Semester(String.valueOf(semester));
+                Set<Code> codes = new HashSet<>();
+                while (codes.size() < CODES_PER_DEGREE_PLANNER) {
+                    Module module = modules.get(nextModule++);
+                    // modules without co-requisites can be planned in any semester they are offered in
+                    if (module.getSemesters().contains(plannedSemester)) {
+                        codes.add(module.getCode());
+                    }
+                }
+                degreePlanners.add(new DegreePlanner(new Year(String.valueOf(year)), plannedSemester, codes));
+            }
+        }
+
+        Application application = new Application();
+        application.setModules(modules);
+        application.setDegreePlanners(degreePlanners);
+        application.setRequirementCategories(requirementCategories);
+        return application;
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,92 @@
+package pwe.planner.benchmark;
+
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import pwe.planner.logic.CommandCompleter;
+import pwe.planner.logic.commands.FindCommand;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.module.Module;
+import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the latency of completing a code on every keystroke while it is typed, as the module list grows.
+ * The completions are found both by {@link CommandCompleter}, which walks down the code trie, and by testing the
+ * code of every module against the typed prefix. The worst keystroke is reported next to the average, as it is the
+ * one that the per-keystroke time budget has to cover.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=CompletionBenchmark}.
+ */
+public class CompletionBenchmark {
+
+    private static final int[] CATALOG_SIZES = {1_000, 5_000, 20_000, 50_000};
+    private static final int ROUNDS = 20;
+    private static final int WARMUP_ROUNDS = 5;
+
+    /** Accumulates the results, so that the completions cannot be optimized away. */
+    private static long sink;
+
+    public static void main(String[] args) {
+        System.out.println(String.format("%10s %15s %15s %15s %15s", "modules", "trie mean", "trie worst",
+                "scan mean", "scan worst"));
+
+        for (int size : CATALOG_SIZES) {
+            ApplicationBuilder applicationBuilder = new ApplicationBuilder();
+            SyntheticModules.getModules(size).forEach(applicationBuilder::withModule);
+            ModelManager model = new ModelManager(applicationBuilder.build());
+            CommandCompleter completer = new CommandCompleter(model);
+            List<Module> modules = model.getApplication().getModuleList();
+
+            String commandPrefix = FindCommand.COMMAND_WORD + " " + PREFIX_CODE;
+            String code = SyntheticModules.getCode(size - 1).value;
+            long[] trieNanos = new long[2];
+            long[] scanNanos = new long[2];
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                for (int typed = 1; typed <= code.length(); typed++) {
+                    String commandText = commandPrefix + code.substring(0, typed);
+
+                    long trieStart = System.nanoTime();
+                    sink += completer.getCompletions(commandText).size();
+                    long scanStart = System.nanoTime();
+                    sink += scanCompletions(modules, commandPrefix, code.substring(0, typed)).size();
+                    long end = System.nanoTime();
+
+                    if (round >= WARMUP_ROUNDS) {
+                        record(trieNanos, scanStart - trieStart);
+                        record(scanNanos, end - scanStart);
+                    }
+                }
+            }
+
+            double keystrokes = (double) ROUNDS * code.length();
+            System.out.println(String.format("%10d %12.3f ms %12.3f ms %12.3f ms %12.3f ms", size,
+                    trieNanos[0] / 1e6 / keystrokes, trieNanos[1] / 1e6, scanNanos[0] / 1e6 / keystrokes,
+                    scanNanos[1] / 1e6));
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Adds {@code elapsedNanos} to the total in {@code nanos[0]}, and keeps the maximum in {@code nanos[1]}.
+     */
+    private static void record(long[] nanos, long elapsedNanos) {
+        nanos[0] += elapsedNanos;
+        nanos[1] = Math.max(nanos[1], elapsedNanos);
+    }
+
+    /**
+     * Returns the completions of the typed {@code codePrefix}, found by testing the code of every module.
+     */
+    private static List<String> scanCompletions(List<Module> modules, String commandPrefix, String codePrefix) {
+        return modules.stream()
+                .map(module -> module.getCode().value)
+                .filter(code -> code.startsWith(codePrefix))
+                .sorted()
+                .limit(CommandCompleter.MAX_COMPLETIONS)
+                .map(code -> commandPrefix + code)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,72 @@
+package pwe.planner.benchmark;
+
+import java.util.List;
+import java.util.Set;
+
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.suggestion.CreditBudgetSuggester;
+import pwe.planner.model.suggestion.CreditBudgetSuggester.Suggestion;
+import pwe.planner.model.tag.Tag;
+import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the latency of finding the modules that best fill a budget of credits in a semester with
+ * {@link CreditBudgetSuggester}, as the module list and the budget grow. Suggestions that were cut short by the time
+ * budget are counted separately.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=CreditBudgetBenchmark}.
+ */
+public class CreditBudgetBenchmark {
+
+    private static final int[] CATALOG_SIZES = {1_000, 5_000, 20_000, 50_000};
+    private static final List<Credits> BUDGETS = List.of(new Credits("20"), new Credits("40"), new Credits("160"));
+    private static final int ROUNDS = 20;
+    private static final int WARMUP_ROUNDS = 5;
+
+    /** Accumulates the results, so that the suggestions cannot be optimized away. */
+    private static long sink;
+
+    public static void main(String[] args) {
+        Set<Tag> tagsToFind = Set.of(new Tag("core"), new Tag("math"), new Tag("lab"));
+        Semester semester = new Semester("1");
+        CodeSet plannedCodes = new CodeSet(List.of(SyntheticModules.getCode(0), SyntheticModules.getCode(1)));
+
+        StringBuilder header = new StringBuilder(String.format("%10s", "modules"));
+        for (Credits budget : BUDGETS) {
+            header.append(String.format(" %15s", budget + " credits"));
+        }
+        System.out.println(header + String.format(" %10s", "cut short"));
+
+        for (int size : CATALOG_SIZES) {
+            ApplicationBuilder applicationBuilder = new ApplicationBuilder();
+            SyntheticModules.getModules(size).forEach(applicationBuilder::withModule);
+            ModelManager model = new ModelManager(applicationBuilder.build());
+            CreditBudgetSuggester suggester = new CreditBudgetSuggester(model.getModuleWordIndex(),
+                    model::getCorequisiteCluster);
+
+            StringBuilder row = new StringBuilder(String.format("%10d", size));
+            int cutShortCount = 0;
+            for (Credits budget : BUDGETS) {
+                long nanos = 0;
+                for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    Suggestion suggestion = suggester.suggest(budget, tagsToFind, semester, plannedCodes);
+                    long end = System.nanoTime();
+
+                    sink += suggestion.getCredits() + suggestion.getNumberOfMatchingTags();
+                    if (round >= WARMUP_ROUNDS) {
+                        nanos += end - start;
+                        cutShortCount += suggestion.isOptimal() ? 0 : 1;
+                    }
+                }
+                row.append(String.format(" %12.3f ms", nanos / 1e6 / ROUNDS));
+            }
+            System.out.println(row + String.format(" %10d", cutShortCount));
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+}
@@ -0,0 +1,117 @@
+package pwe.planner.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import pwe.planner.audit.AuditSummary;
+import pwe.planner.audit.DegreeAuditor;
+import pwe.planner.model.Application;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the throughput of {@link DegreeAuditor}, in students per second, as the number of threads grows.
+ * Every student plans 40 modules of a catalog of 5000 modules over 8 semesters, in 4 requirement categories.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=DegreeAuditBenchmark}.
+ */
+public class DegreeAuditBenchmark {
+
+    private static final int CATALOG_SIZE = 5_000;
+    private static final int NUMBER_OF_STUDENTS = 1_000;
+    private static final int MODULES_PER_SEMESTER = 5;
+    private static final int NUMBER_OF_CATEGORIES = 4;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+    private static final int ROUNDS = 3;
+    private static final int WARMUP_ROUNDS = 2;
+
+    /** Accumulates the results, so that the audits cannot be optimized away. */
+    private static long sink;
+
+    public static void main(String[] args) throws IOException {
+        List<Module> catalog = SyntheticModules.getModules(CATALOG_SIZE);
+        Path root = Files.createTempDirectory("degreeAuditBenchmark");
+        Path students = root.resolve("students");
+        Path resultFile = root.resolve("auditResults.jsonl");
+        createStudents(catalog, students);
+
+        System.out.println(String.format("%10s %20s", "threads", "students/s"));
+        System.out.println("(" + Runtime.getRuntime().availableProcessors() + " processor(s) available)");
+        for (int threads : THREAD_COUNTS) {
+            try (DegreeAuditor auditor = new DegreeAuditor(catalog, threads)) {
+                long nanos = 0;
+                for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                    AuditSummary summary = auditor.auditAll(students, resultFile);
+                    sink += summary.getNumberOfInvalidPlans() + summary.getNumberOfUnfulfilledPlans();
+                    if (round >= WARMUP_ROUNDS) {
+                        nanos += summary.getElapsedNanos();
+                    }
+                }
+                System.out.println(String.format("%10d %20.1f", threads, NUMBER_OF_STUDENTS * ROUNDS / (nanos / 1e9)));
+            }
+        }
+        System.out.println("(checksum " + sink + ")");
+
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Saves the data sets of {@link #NUMBER_OF_STUDENTS} students, who each plan different modules of
+     * {@code catalog}, in subdirectories of {@code students}.
+     */
+    private static void createStudents(List<Module> catalog, Path students) throws IOException {
+        Application application = new Application();
+        application.setModules(catalog);
+        for (int student = 0; student < NUMBER_OF_STUDENTS; student++) {
+            List<DegreePlanner> degreePlanners = new ArrayList<>();
+            List<List<Code>> codesOfCategories = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_CATEGORIES; i++) {
+                codesOfCategories.add(new ArrayList<>());
+            }
+            int next = student * MODULES_PER_SEMESTER;
+            for (int year = 1; year <= 4; year++) {
+                for (int semester = 1; semester <= 2; semester++) {
+                    List<Code> codes = new ArrayList<>();
+                    for (int i = 0; i < MODULES_PER_SEMESTER; i++, next++) {
+                        Code code = catalog.get(next % catalog.size()).getCode();
+                        codes.add(code);
+                        codesOfCategories.get(next % NUMBER_OF_CATEGORIES).add(code);
+                    }
+                    degreePlanners.add(new DegreePlanner(new Year(String.valueOf(year)),
+                            new Semester(String.valueOf(semester)), new CodeSet(codes)));
+                }
+            }
+            List<RequirementCategory> requirementCategories = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_CATEGORIES; i++) {
+                requirementCategories.add(new RequirementCategory(new Name("Category " + (char) ('A' + i)),
+                        new Credits("40"), new CodeSet(codesOfCategories.get(i))));
+            }
+
+            application.setDegreePlanners(degreePlanners);
+            application.setRequirementCategories(requirementCategories);
+            Path dataSet = students.resolve(String.format("A%07d", student));
+            Files.createDirectories(dataSet);
+            new JsonApplicationStorage(dataSet.resolve(DegreeAuditor.MODULE_LIST_FILE_NAME),
+                    dataSet.resolve(DegreeAuditor.DEGREE_PLANNER_LIST_FILE_NAME),
+                    dataSet.resolve(DegreeAuditor.REQUIREMENT_CATEGORY_LIST_FILE_NAME)).saveApplication(application);
+            // the students share the catalog, so their own copies are never read
+            Files.delete(dataSet.resolve(DegreeAuditor.MODULE_LIST_FILE_NAME));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package pwe.planner.benchmark;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.module.CodeContainsKeywordsPredicate;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+import pwe.planner.model.module.TagContainsKeywordsPredicate;
+import pwe.planner.model.query.Conjunction;
+import pwe.planner.model.query.Disjunction;
+import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the latency of filtering the module list by keyword queries, as the module list grows.
+ * Each query is run both as given, which is planned against the word index of the module list, and wrapped in a
+ * plain predicate, which is tested against every module.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=FindBenchmark}.
+ */
+public class FindBenchmark {
+
+    private static final int[] CATALOG_SIZES = {1_000, 5_000, 20_000, 50_000};
+    private static final int ROUNDS = 20;
+    private static final int WARMUP_ROUNDS = 5;
+
+    public static void main(String[] args) {
+        List<Predicate<Module>> queries = List.of(
+                new NameContainsKeywordsPredicate<>("Algorithms"),
+                new CodeContainsKeywordsPredicate<>("AA0042"),
+                new CodeContainsKeywordsPredicate<>("AA1***"),
+                new TagContainsKeywordsPredicate<>("theory"),
+                Conjunction.of(new NameContainsKeywordsPredicate<>("Data"),
+                        new TagContainsKeywordsPredicate<>("core")),
+                Conjunction.of(new TagContainsKeywordsPredicate<>("core"),
+                        new CodeContainsKeywordsPredicate<>("AA0042")),
+                Disjunction.of(new NameContainsKeywordsPredicate<>("Compilers"),
+                        new NameContainsKeywordsPredicate<>("Graphics")));
+
+        System.out.println(String.format("%10s %15s %15s", "modules", "indexed", "scanned"));
+
+        for (int size : CATALOG_SIZES) {
+            ApplicationBuilder applicationBuilder = new ApplicationBuilder();
+            SyntheticModules.getModules(size).forEach(applicationBuilder::withModule);
+            ModelManager model = new ModelManager(applicationBuilder.build());
+
+            long indexedNanos = 0;
+            long scannedNanos = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                long indexedStart = System.nanoTime();
+                for (Predicate<Module> query : queries) {
+                    model.updateFilteredModuleList(query);
+                    model.updateFilteredModuleList(Model.PREDICATE_SHOW_ALL_MODULES);
+                }
+                long scannedStart = System.nanoTime();
+                for (Predicate<Module> query : queries) {
+                    model.updateFilteredModuleList(query::test);
+                    model.updateFilteredModuleList(Model.PREDICATE_SHOW_ALL_MODULES);
+                }
+                long end = System.nanoTime();
+
+                if (round >= WARMUP_ROUNDS) {
+                    indexedNanos += scannedStart - indexedStart;
+                    scannedNanos += end - scannedStart;
+                }
+            }
+
+            int queryCount = ROUNDS * queries.size();
+            System.out.println(String.format("%10d %12.3f ms %12.3f ms", size,
+                    indexedNanos / 1e6 / queryCount, scannedNanos / 1e6 / queryCount));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package pwe.planner.benchmark;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+import pwe.planner.model.module.TagContainsKeywordsPredicate;
+import pwe.planner.model.query.Conjunction;
+import pwe.planner.model.query.SimilarityRanking;
+import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the latency of fuzzy keyword queries, ranked by similarity, as the module list grows.
+ * Each query is run both as given, where the words similar to a keyword are found through the trigram index of the
+ * module list, and wrapped in a plain predicate, which computes the edit distance of the keyword to every module
+ * before the matches are ranked.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=FuzzyFindBenchmark}.
+ */
+public class FuzzyFindBenchmark {
+
+    private static final int[] CATALOG_SIZES = {1_000, 5_000, 20_000, 50_000};
+    private static final int ROUNDS = 20;
+    private static final int WARMUP_ROUNDS = 5;
+
+    /** Accumulates the results, so that the queries cannot be optimized away. */
+    private static long sink;
+
+    public static void main(String[] args) {
+        List<Predicate<Module>> queries = List.of(
+                new NameContainsKeywordsPredicate<>("algoritms~"),
+                new NameContainsKeywordsPredicate<>("strucures dta~"),
+                new TagContainsKeywordsPredicate<>("elctive~"),
+                Conjunction.of(new NameContainsKeywordsPredicate<>("compilrs~"),
+                        new TagContainsKeywordsPredicate<>("thory~")),
+                new NameContainsKeywordsPredicate<>("bioinformatics~"));
+
+        System.out.println(String.format("%10s %15s %15s", "modules", "indexed", "scanned"));
+
+        for (int size : CATALOG_SIZES) {
+            ApplicationBuilder applicationBuilder = new ApplicationBuilder();
+            SyntheticModules.getModules(size).forEach(applicationBuilder::withModule);
+            ModelManager model = new ModelManager(applicationBuilder.build());
+
+            long indexedNanos = 0;
+            long scannedNanos = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                long indexedStart = System.nanoTime();
+                for (Predicate<Module> query : queries) {
+                    model.updateFilteredModuleList(query);
+                    sink += model.getFilteredModuleList().size();
+                    model.updateFilteredModuleList(Model.PREDICATE_SHOW_ALL_MODULES);
+                }
+                long scannedStart = System.nanoTime();
+                for (Predicate<Module> query : queries) {
+                    model.updateFilteredModuleList(query::test);
+                    sink += rank(model.getFilteredModuleList(), query).size();
+                    model.updateFilteredModuleList(Model.PREDICATE_SHOW_ALL_MODULES);
+                }
+                long end = System.nanoTime();
+
+                if (round >= WARMUP_ROUNDS) {
+                    indexedNanos += scannedStart - indexedStart;
+                    scannedNanos += end - scannedStart;
+                }
+            }
+
+            int queryCount = ROUNDS * queries.size();
+            System.out.println(String.format("%10d %12.3f ms %12.3f ms", size,
+                    indexedNanos / 1e6 / queryCount, scannedNanos / 1e6 / queryCount));
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Returns {@code matches} ranked by their similarity to the fuzzy keywords of {@code query}.
+     */
+    private static List<Module> rank(List<Module> matches, Predicate<Module> query) {
+        return matches.stream()
+                .sorted(SimilarityRanking.of(query))
+                .collect(Collectors.toList());
+    }
+}
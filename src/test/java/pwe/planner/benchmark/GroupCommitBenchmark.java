@@ -0,0 +1,124 @@
+package pwe.planner.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import pwe.planner.logic.CommandPipeline;
+import pwe.planner.logic.LogicManager;
+import pwe.planner.logic.commands.CommandResult;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.StorageManager;
+import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the throughput of {@code add} commands, in commands per second, submitted by a number of client threads
+ * to an application of 1000 modules saved to disk. The commands are either executed by {@link LogicManager}, which
+ * saves the application after every command, or by a {@link CommandPipeline}, which saves it once per batch.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=GroupCommitBenchmark}.
+ */
+public class GroupCommitBenchmark {
+
+    private static final int CATALOG_SIZE = 1_000;
+    private static final int[] CLIENT_COUNTS = {1, 4, 16};
+    private static final int COMMANDS_PER_CLIENT = 40;
+    private static final int WARMUP_ROUNDS = 1;
+
+    /** Accumulates the results, so that the commands cannot be optimized away. */
+    private static long sink;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println(String.format("%10s %20s %20s %16s", "clients", "per command (cmd/s)",
+                "group commit (cmd/s)", "mean batch size"));
+        System.out.println("(" + Runtime.getRuntime().availableProcessors() + " processor(s) available)");
+        for (int clients : CLIENT_COUNTS) {
+            double perCommand = 0;
+            double groupCommit = 0;
+            double meanBatchSize = 0;
+            for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                perCommand = measure(clients, false)[0];
+                double[] pipelined = measure(clients, true);
+                groupCommit = pipelined[0];
+                meanBatchSize = pipelined[1];
+            }
+            System.out.println(String.format("%10d %20.1f %20.1f %16.1f", clients, perCommand, groupCommit,
+                    meanBatchSize));
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Returns the number of commands per second, and the mean batch size, while {@code clients} threads add modules
+     * through a {@link CommandPipeline} if {@code usePipeline} is true, or through {@link LogicManager} otherwise.
+     */
+    private static double[] measure(int clients, boolean usePipeline) throws Exception {
+        Path root = Files.createTempDirectory("groupCommitBenchmark");
+        ApplicationBuilder applicationBuilder = new ApplicationBuilder();
+        SyntheticModules.getModules(CATALOG_SIZE).forEach(applicationBuilder::withModule);
+        ModelManager model = new ModelManager(applicationBuilder.build(), new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonApplicationStorage(root.resolve("modules.json"),
+                root.resolve("planners.json"), root.resolve("requirements.json")),
+                new JsonUserPrefsStorage(root.resolve("preferences.json")));
+        LogicManager logic = new LogicManager(model, storage);
+
+        double meanBatchSize = 1;
+        long nanos;
+        try (CommandPipeline pipeline = new CommandPipeline(logic)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                int client = i;
+                threads.add(new Thread(() -> submit(logic, usePipeline ? pipeline : null, client)));
+            }
+            long start = System.nanoTime();
+            threads.forEach(Thread::start);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            nanos = System.nanoTime() - start;
+            if (usePipeline) {
+                meanBatchSize = pipeline.getMeanBatchSize();
+            }
+        }
+
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+        return new double[] {clients * COMMANDS_PER_CLIENT / (nanos / 1e9), meanBatchSize};
+    }
+
+    /**
+     * Adds {@link #COMMANDS_PER_CLIENT} modules one after another, through {@code pipeline} if it is not null, or
+     * through {@code logic} otherwise.
+     */
+    private static void submit(LogicManager logic, CommandPipeline pipeline, int client) {
+        long checksum = 0;
+        for (int i = 0; i < COMMANDS_PER_CLIENT; i++) {
+            String commandText = "add code/" + SyntheticModules.getCode(CATALOG_SIZE + client * COMMANDS_PER_CLIENT + i)
+                    + " name/Group Commit credits/4";
+            CommandResult result;
+            try {
+                if (pipeline == null) {
+                    result = logic.execute(commandText);
+                } else {
+                    CompletableFuture<CommandResult> future = pipeline.submit(commandText);
+                    result = future.get();
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            checksum += result.getFeedbackToUser().length();
+        }
+        synchronized (GroupCommitBenchmark.class) {
+            sink += checksum;
+        }
+    }
+}
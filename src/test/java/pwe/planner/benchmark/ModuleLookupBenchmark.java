@@ -0,0 +1,63 @@
+package pwe.planner.benchmark;
+
+import java.util.List;
+import java.util.Random;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the cost of looking up modules by {@code Code} as the module list grows.
+ * Lookup latency is expected to stay flat across catalog sizes.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=ModuleLookupBenchmark}.
+ */
+public class ModuleLookupBenchmark {
+
+    private static final int[] CATALOG_SIZES = {1_000, 5_000, 20_000, 50_000};
+    private static final int LOOKUPS = 200_000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    public static void main(String[] args) {
+        System.out.println(String.format("%10s %18s %18s", "modules", "getModuleByCode", "hasModuleCode"));
+
+        for (int size : CATALOG_SIZES) {
+            List<Module> modules = SyntheticModules.getModules(size);
+            Application application = new Application();
+            application.setModules(modules);
+
+            Code[] codes = new Code[LOOKUPS];
+            Random random = new Random(size);
+            for (int i = 0; i < LOOKUPS; i++) {
+                // roughly one in ten lookups misses
+                codes[i] = SyntheticModules.getCode(random.nextInt(size + size / 10));
+            }
+
+            long getNanos = 0;
+            long hasNanos = 0;
+            for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                getNanos = time(() -> {
+                    for (Code code : codes) {
+                        application.getModuleByCode(code);
+                    }
+                });
+                hasNanos = time(() -> {
+                    for (Code code : codes) {
+                        application.hasModuleCode(code);
+                    }
+                });
+            }
+
+            System.out.println(String.format("%10d %15.1f ns %15.1f ns", size,
+                    (double) getNanos / LOOKUPS, (double) hasNanos / LOOKUPS));
+        }
+    }
+
+    private static long time(Runnable runnable) {
+        long start = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - start;
+    }
+}
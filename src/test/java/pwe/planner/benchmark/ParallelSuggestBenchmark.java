@@ -0,0 +1,81 @@
+package pwe.planner.benchmark;
+
+import java.util.List;
+import java.util.Set;
+
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.suggestion.ParallelModuleSuggester;
+import pwe.planner.model.tag.Tag;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures how scoring every module to suggest scales with the number of threads of
+ * {@link ParallelModuleSuggester}, for catalogs of different sizes. The first column scores the whole catalog in the
+ * calling thread, and the speedup of every thread count is relative to it.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=ParallelSuggestBenchmark}.
+ */
+public class ParallelSuggestBenchmark {
+
+    private static final int[] CATALOG_SIZES = {5_000, 50_000, 200_000};
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+    private static final int ROUNDS = 20;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MAX_SUGGESTIONS = 10;
+
+    /** Accumulates the results, so that the suggestions cannot be optimized away. */
+    private static long sink;
+
+    public static void main(String[] args) {
+        Credits creditsToFind = new Credits("5");
+        Set<Tag> tagsToFind = Set.of(new Tag("core"), new Tag("math"), new Tag("lab"));
+        CodeSet excludedCodes = new CodeSet(List.of(SyntheticModules.getCode(0), SyntheticModules.getCode(1)));
+
+        StringBuilder header = new StringBuilder(String.format("%10s %15s", "modules", "sequential"));
+        for (int threads : THREAD_COUNTS) {
+            header.append(String.format(" %20s", threads + " thread(s)"));
+        }
+        System.out.println(header);
+        System.out.println("(" + Runtime.getRuntime().availableProcessors() + " processor(s) available)");
+
+        for (int size : CATALOG_SIZES) {
+            List<Module> modules = SyntheticModules.getModules(size);
+
+            double sequentialMillis;
+            try (ParallelModuleSuggester sequentialSuggester = new ParallelModuleSuggester(1, Integer.MAX_VALUE)) {
+                sequentialMillis = measure(sequentialSuggester, modules, creditsToFind, tagsToFind, excludedCodes);
+            }
+            StringBuilder row = new StringBuilder(String.format("%10d %12.3f ms", size, sequentialMillis));
+            for (int threads : THREAD_COUNTS) {
+                try (ParallelModuleSuggester parallelSuggester = new ParallelModuleSuggester(threads,
+                        ParallelModuleSuggester.DEFAULT_SEQUENTIAL_CUTOFF)) {
+                    double parallelMillis = measure(parallelSuggester, modules, creditsToFind, tagsToFind,
+                            excludedCodes);
+                    row.append(String.format(" %9.3f ms (%4.2fx)", parallelMillis, sequentialMillis / parallelMillis));
+                }
+            }
+            System.out.println(row);
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Returns the mean time taken by {@code suggester} to suggest modules, in milliseconds.
+     */
+    private static double measure(ParallelModuleSuggester suggester, List<Module> modules, Credits creditsToFind,
+            Set<Tag> tagsToFind, CodeSet excludedCodes) {
+        long nanos = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            long start = System.nanoTime();
+            sink += suggester.suggest(modules, creditsToFind, tagsToFind, excludedCodes, MAX_SUGGESTIONS).size();
+            long end = System.nanoTime();
+
+            if (round >= WARMUP_ROUNDS) {
+                nanos += end - start;
+            }
+        }
+        return nanos / 1e6 / ROUNDS;
+    }
+}
@@ -0,0 +1,87 @@
+package pwe.planner.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.testutil.ModuleBuilder;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the cost of reading the credits fulfilled by every requirement category, as the number of modules in the
+ * requirement categories grows. The credits kept by the application are compared with counting them again from the
+ * modules, and the cost of keeping them up to date when the credits of a module are edited is shown as well.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=RequirementProgressBenchmark}.
+ */
+public class RequirementProgressBenchmark {
+
+    private static final int[] CATALOG_SIZES = {1_000, 5_000, 20_000, 50_000};
+    private static final int NUMBER_OF_CATEGORIES = 8;
+    private static final int ROUNDS = 200;
+    private static final int WARMUP_ROUNDS = 50;
+
+    /** Accumulates the results, so that the credits cannot be optimized away. */
+    private static long sink;
+
+    public static void main(String[] args) {
+        System.out.println(String.format("%10s %15s %15s %15s", "modules", "kept", "recounted", "edit"));
+
+        for (int size : CATALOG_SIZES) {
+            Application application = new Application();
+            application.setModules(SyntheticModules.getModules(size));
+
+            List<Set<Code>> codesOfCategories = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_CATEGORIES; i++) {
+                codesOfCategories.add(new CodeSet());
+            }
+            for (int i = 0; i < size; i++) {
+                codesOfCategories.get(i % NUMBER_OF_CATEGORIES).add(SyntheticModules.getCode(i));
+            }
+            List<RequirementCategory> requirementCategories = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_CATEGORIES; i++) {
+                requirementCategories.add(new RequirementCategory(new Name("Category " + (char) ('A' + i)),
+                        new Credits("160"), codesOfCategories.get(i)));
+            }
+            application.setRequirementCategories(requirementCategories);
+
+            long keptNanos = 0;
+            long recountedNanos = 0;
+            long editNanos = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                long keptStart = System.nanoTime();
+                for (RequirementCategory requirementCategory : application.getRequirementCategoryList()) {
+                    sink += application.getFulfilledCredits(requirementCategory);
+                }
+                long recountedStart = System.nanoTime();
+                for (RequirementCategory requirementCategory : application.getRequirementCategoryList()) {
+                    sink += requirementCategory.getCodeSet().stream()
+                            .map(code -> application.getModuleByCode(code).getCredits().toString())
+                            .mapToInt(Integer::parseInt).sum();
+                }
+                Module target = application.getModuleByCode(SyntheticModules.getCode(round % size));
+                Module editedModule = new ModuleBuilder(target).withCredits(String.valueOf(round % 8)).build();
+                long editStart = System.nanoTime();
+                application.editModule(target, editedModule);
+                long end = System.nanoTime();
+
+                if (round >= WARMUP_ROUNDS) {
+                    keptNanos += recountedStart - keptStart;
+                    recountedNanos += editStart - recountedStart;
+                    editNanos += end - editStart;
+                }
+            }
+
+            System.out.println(String.format("%10d %12.3f us %12.3f us %12.3f us", size, keptNanos / 1e3 / ROUNDS,
+                    recountedNanos / 1e3 / ROUNDS, editNanos / 1e3 / ROUNDS));
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+}
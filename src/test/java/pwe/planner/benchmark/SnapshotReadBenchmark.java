@@ -0,0 +1,130 @@
+package pwe.planner.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.commands.FindCommand;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.SnapshotModel;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the throughput of {@code find} commands executed by a number of reader threads, while a writer thread
+ * keeps committing changes to a degree planner. The readers either take turns with the writer to execute the command
+ * on the model itself, or execute it on a {@link SnapshotModel} of the latest snapshot without locking.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=SnapshotReadBenchmark}.
+ */
+public class SnapshotReadBenchmark {
+
+    private static final int CATALOG_SIZE = 5_000;
+    private static final int[] READER_COUNTS = {1, 2, 4, 8};
+    private static final long WARMUP_MILLIS = 1_000;
+    private static final long MEASURE_MILLIS = 3_000;
+    private static final String[] KEYWORDS = {"Algorithms", "Networks", "Compilers", "Security", "Theory"};
+    private static final Year YEAR = new Year("1");
+    private static final Semester SEMESTER = new Semester("1");
+
+    /** Accumulates the results, so that the commands cannot be optimized away. */
+    private static final LongAdder sink = new LongAdder();
+
+    public static void main(String[] args) throws InterruptedException {
+        ApplicationBuilder applicationBuilder = new ApplicationBuilder();
+        SyntheticModules.getModules(CATALOG_SIZE).forEach(applicationBuilder::withModule);
+        ModelManager model = new ModelManager(applicationBuilder.build());
+        model.enableSnapshots();
+        model.addDegreePlanner(new DegreePlanner(YEAR, SEMESTER, Set.of()));
+        model.commitApplication();
+
+        System.out.println(String.format("%10s %28s %28s", "readers", "locked (reads/s, commits/s)",
+                "snapshot (reads/s, commits/s)"));
+        System.out.println("(" + Runtime.getRuntime().availableProcessors() + " processor(s) available)");
+        for (int readers : READER_COUNTS) {
+            double[] locked = measure(model, readers, false);
+            double[] snapshot = measure(model, readers, true);
+            System.out.println(String.format("%10d %16.0f %11.0f %16.0f %11.0f", readers, locked[0], locked[1],
+                    snapshot[0], snapshot[1]));
+        }
+        System.out.println("(checksum " + sink.sum() + ")");
+    }
+
+    /**
+     * Returns the number of reads and commits per second, while {@code readers} threads execute {@code find} commands
+     * on snapshots of {@code model} if {@code useSnapshots} is true, or on {@code model} itself otherwise.
+     */
+    private static double[] measure(ModelManager model, int readers, boolean useSnapshots)
+            throws InterruptedException {
+        AtomicBoolean isRunning = new AtomicBoolean(true);
+        LongAdder reads = new LongAdder();
+        LongAdder commits = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+        threads.add(new Thread(() -> write(model, isRunning, commits)));
+        for (int i = 0; i < readers; i++) {
+            int firstKeyword = i;
+            threads.add(new Thread(() -> read(model, firstKeyword, useSnapshots, isRunning, reads)));
+        }
+        threads.forEach(Thread::start);
+
+        Thread.sleep(WARMUP_MILLIS);
+        long startReads = reads.sum();
+        long startCommits = commits.sum();
+        long start = System.nanoTime();
+        Thread.sleep(MEASURE_MILLIS);
+        long endReads = reads.sum();
+        long endCommits = commits.sum();
+        long end = System.nanoTime();
+
+        isRunning.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (end - start) / 1e9;
+        return new double[] {(endReads - startReads) / seconds, (endCommits - startCommits) / seconds};
+    }
+
+    /**
+     * Replaces the codes of the degree planner and commits the change, until {@code isRunning} is false.
+     */
+    private static void write(ModelManager model, AtomicBoolean isRunning, LongAdder commits) {
+        for (int i = 0; isRunning.get(); i++) {
+            synchronized (model) {
+                DegreePlanner degreePlanner = model.getDegreePlanner(YEAR, SEMESTER);
+                model.setDegreePlanner(degreePlanner, new DegreePlanner(YEAR, SEMESTER,
+                        Set.of(SyntheticModules.getCode(i % CATALOG_SIZE))));
+                model.commitApplication();
+            }
+            commits.increment();
+        }
+    }
+
+    /**
+     * Executes {@code find} commands, until {@code isRunning} is false.
+     */
+    private static void read(ModelManager model, int firstKeyword, boolean useSnapshots, AtomicBoolean isRunning,
+            LongAdder reads) {
+        CommandHistory history = new CommandHistory();
+        long checksum = 0;
+        for (int i = firstKeyword; isRunning.get(); i++) {
+            FindCommand command = new FindCommand(new NameContainsKeywordsPredicate<>(KEYWORDS[i % KEYWORDS.length]));
+            if (useSnapshots) {
+                checksum += command.execute(new SnapshotModel(model.getSnapshot()), history)
+                        .getFeedbackToUser().length();
+            } else {
+                synchronized (model) {
+                    checksum += command.execute(model, history).getFeedbackToUser().length();
+                }
+            }
+            reads.increment();
+        }
+        sink.add(checksum);
+    }
+}
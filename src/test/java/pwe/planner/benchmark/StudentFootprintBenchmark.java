@@ -0,0 +1,83 @@
+package pwe.planner.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.PlanTemplate;
+import pwe.planner.model.StudentState;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleCatalog;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the heap retained by every student hosted in one JVM, when each student has its own application and when
+ * the students are created from a {@link PlanTemplate} over one shared {@link ModuleCatalog}. The time taken to
+ * create a student, and the heap retained once every student has modified a degree planner, are shown as well.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=StudentFootprintBenchmark}.
+ */
+public class StudentFootprintBenchmark {
+
+    private static final int CATALOG_SIZE = 5_000;
+    private static final int NUMBER_OF_APPLICATIONS = 20;
+    private static final int NUMBER_OF_STUDENTS = 10_000;
+
+    /** Keeps the students reachable while the heap is measured. */
+    private static List<Object> students = new ArrayList<>();
+
+    public static void main(String[] args) {
+        List<Module> modules = SyntheticModules.getModules(CATALOG_SIZE);
+        List<DegreePlanner> degreePlanners = new ArrayList<>();
+        for (int year = 1; year <= 4; year++) {
+            for (int semester = 1; semester <= 2; semester++) {
+                degreePlanners.add(new DegreePlanner(new Year(String.valueOf(year)),
+                        new Semester(String.valueOf(semester)), Set.of(modules.get(year * 2 + semester).getCode())));
+            }
+        }
+
+        long before = getUsedHeap();
+        for (int i = 0; i < NUMBER_OF_APPLICATIONS; i++) {
+            Application application = new Application();
+            application.setModules(modules);
+            application.setDegreePlanners(degreePlanners);
+            students.add(application);
+        }
+        long applicationBytes = (getUsedHeap() - before) / NUMBER_OF_APPLICATIONS;
+        students.clear();
+
+        before = getUsedHeap();
+        PlanTemplate template = new PlanTemplate(new ModuleCatalog(modules), degreePlanners, List.of());
+        long catalogBytes = getUsedHeap() - before;
+        long start = System.nanoTime();
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            students.add(template.createStudent());
+        }
+        double createMicros = (System.nanoTime() - start) / 1e3 / NUMBER_OF_STUDENTS;
+        long studentBytes = (getUsedHeap() - before - catalogBytes) / NUMBER_OF_STUDENTS;
+        for (Object student : students) {
+            ((StudentState) student).setDegreePlanner(degreePlanners.get(0), new DegreePlanner(
+                    degreePlanners.get(0).getYear(), degreePlanners.get(0).getSemester(), Set.of()));
+        }
+        long modifiedStudentBytes = (getUsedHeap() - before - catalogBytes) / NUMBER_OF_STUDENTS;
+
+        System.out.println(String.format("%d modules, shared catalog %.1f MB", CATALOG_SIZE,
+                catalogBytes / 1024.0 / 1024.0));
+        System.out.println(String.format("%30s %12d B", "application per student", applicationBytes));
+        System.out.println(String.format("%30s %12d B (created in %.3f us)", "student from template", studentBytes,
+                createMicros));
+        System.out.println(String.format("%30s %12d B", "student after modification", modifiedStudentBytes));
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
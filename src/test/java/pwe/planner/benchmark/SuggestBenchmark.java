@@ -0,0 +1,98 @@
+package pwe.planner.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.suggestion.ModuleSuggester;
+import pwe.planner.model.suggestion.ModuleToSuggest;
+import pwe.planner.model.tag.Tag;
+import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the latency of finding the modules to suggest, as the module list grows.
+ * The suggestions are found both by {@link ModuleSuggester}, which looks up the modules with matching tags and the
+ * modules with the closest credits in the word index and keeps the best of them in a bounded heap, and by scoring
+ * every module and sorting all of them.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=SuggestBenchmark}.
+ */
+public class SuggestBenchmark {
+
+    private static final int[] CATALOG_SIZES = {1_000, 5_000, 20_000, 50_000};
+    private static final int ROUNDS = 20;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MAX_SUGGESTIONS = 10;
+
+    /** Accumulates the results, so that the suggestions cannot be optimized away. */
+    private static long sink;
+
+    public static void main(String[] args) {
+        List<Credits> creditsToFind = List.of(new Credits("4"), new Credits("5"), new Credits("12"));
+        List<Set<Tag>> tagsToFind = List.of(Set.of(), Set.of(new Tag("theory")),
+                Set.of(new Tag("core"), new Tag("math"), new Tag("lab")));
+
+        System.out.println(String.format("%10s %15s %15s", "modules", "indexed", "sorted"));
+
+        for (int size : CATALOG_SIZES) {
+            ApplicationBuilder applicationBuilder = new ApplicationBuilder();
+            SyntheticModules.getModules(size).forEach(applicationBuilder::withModule);
+            ModelManager model = new ModelManager(applicationBuilder.build());
+            ModuleSuggester suggester = new ModuleSuggester(model.getModuleWordIndex());
+            List<Module> modules = model.getApplication().getModuleList();
+            CodeSet excludedCodes = new CodeSet(List.of(SyntheticModules.getCode(0), SyntheticModules.getCode(1)));
+
+            long indexedNanos = 0;
+            long sortedNanos = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                long indexedStart = System.nanoTime();
+                for (Credits credits : creditsToFind) {
+                    for (Set<Tag> tags : tagsToFind) {
+                        sink += suggester.suggest(credits, tags, excludedCodes, MAX_SUGGESTIONS).size();
+                    }
+                }
+                long sortedStart = System.nanoTime();
+                for (Credits credits : creditsToFind) {
+                    for (Set<Tag> tags : tagsToFind) {
+                        sink += sortAll(modules, credits, tags, excludedCodes).size();
+                    }
+                }
+                long end = System.nanoTime();
+
+                if (round >= WARMUP_ROUNDS) {
+                    indexedNanos += sortedStart - indexedStart;
+                    sortedNanos += end - sortedStart;
+                }
+            }
+
+            int queryCount = ROUNDS * creditsToFind.size() * tagsToFind.size();
+            System.out.println(String.format("%10d %12.3f ms %12.3f ms", size,
+                    indexedNanos / 1e6 / queryCount, sortedNanos / 1e6 / queryCount));
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Returns the best suggestions, found by scoring every module and sorting all of them.
+     */
+    private static List<ModuleToSuggest> sortAll(List<Module> modules, Credits creditsToFind, Set<Tag> tagsToFind,
+            CodeSet excludedCodes) {
+        return modules.stream()
+                .map(module -> {
+                    Set<Tag> matchingTags = new HashSet<>(tagsToFind);
+                    matchingTags.retainAll(module.getTags());
+                    int creditDifference = Math.abs(module.getCredits().intValue() - creditsToFind.intValue());
+                    return new ModuleToSuggest(creditDifference, matchingTags.size(), module.getCode());
+                })
+                .sorted()
+                .filter(suggestion -> !excludedCodes.contains(suggestion.getModuleCode()))
+                .limit(MAX_SUGGESTIONS)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,249 @@
+package pwe.planner.benchmark;
+
+import static pwe.planner.logic.parser.CliSyntax.OPERATORS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import pwe.planner.logic.parser.ArgumentMultimap;
+import pwe.planner.logic.parser.ArgumentTokenizer;
+import pwe.planner.logic.parser.BooleanExpressionTokenizer;
+import pwe.planner.logic.parser.Prefix;
+
+/**
+ * Measures the latency of tokenizing long {@code planner_add} argument strings and long {@code find} expressions, as
+ * they grow. Each input is tokenized both by the current single-pass tokenizers, and by copies of the previous
+ * tokenizers that search for every prefix and delimiter separately. Both are checked to produce the same tokens.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=TokenizerBenchmark}.
+ */
+public class TokenizerBenchmark {
+
+    private static final int[] ARGUMENT_COUNTS = {10, 100, 500, 2_000};
+    /** Each measurement tokenizes this many arguments in total, split between repetitions of the same input. */
+    private static final int ARGUMENTS_PER_MEASUREMENT = 20_000;
+    private static final int ROUNDS = 10;
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static final Prefix[] PLANNER_ADD_PREFIXES = {PREFIX_YEAR, PREFIX_SEMESTER, PREFIX_CODE};
+    private static final List<Prefix> FIND_PREFIXES =
+            List.of(PREFIX_NAME, PREFIX_CODE, PREFIX_CREDITS, PREFIX_TAG, PREFIX_SEMESTER);
+
+    /** Accumulates the results, so that the tokenizing cannot be optimized away. */
+    private static long sink;
+
+    public static void main(String[] args) {
+        System.out.println(String.format("%10s %15s %15s %15s %15s", "arguments", "args current", "args previous",
+                "expr current", "expr previous"));
+
+        for (int count : ARGUMENT_COUNTS) {
+            String argsString = createPlannerAddArguments(count);
+            String expression = createFindExpression(count);
+            verifySameTokens(argsString, expression);
+
+            int repetitions = ARGUMENTS_PER_MEASUREMENT / count;
+            List<Supplier<Integer>> tokenizers = List.of(
+                () -> ArgumentTokenizer.tokenize(argsString, PLANNER_ADD_PREFIXES)
+                        .getAllValues(PREFIX_CODE).size(),
+                () -> PreviousArgumentTokenizer.tokenize(argsString, PLANNER_ADD_PREFIXES)
+                        .getAllValues(PREFIX_CODE).size(),
+                () -> drain(new BooleanExpressionTokenizer(expression, FIND_PREFIXES)).size(),
+                () -> new PreviousBooleanExpressionTokenizer(expression, FIND_PREFIXES).tokens.size());
+
+            long[] nanos = new long[tokenizers.size()];
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                for (int i = 0; i < tokenizers.size(); i++) {
+                    long elapsedNanos = time(tokenizers.get(i), repetitions);
+                    if (round >= WARMUP_ROUNDS) {
+                        nanos[i] += elapsedNanos;
+                    }
+                }
+            }
+
+            double measurements = (double) ROUNDS * repetitions;
+            System.out.println(String.format("%10d %12.3f ms %12.3f ms %12.3f ms %12.3f ms", count,
+                    nanos[0] / 1e6 / measurements, nanos[1] / 1e6 / measurements, nanos[2] / 1e6 / measurements,
+                    nanos[3] / 1e6 / measurements));
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Returns the arguments of a {@code planner_add} command with {@code codeCount} codes.
+     */
+    private static String createPlannerAddArguments(int codeCount) {
+        StringBuilder builder = new StringBuilder(" " + PREFIX_YEAR + "1 " + PREFIX_SEMESTER + "2");
+        for (int i = 0; i < codeCount; i++) {
+            builder.append(String.format(" %sCS%04d", PREFIX_CODE, i));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns a {@code find} expression with {@code termCount} search terms.
+     */
+    private static String createFindExpression(int termCount) {
+        StringBuilder builder = new StringBuilder(" " + PREFIX_NAME + "Programming Methodology");
+        for (int i = 1; i < termCount; i++) {
+            switch (i % 4) {
+            case 0:
+                builder.append(" || (" + PREFIX_TAG + "core && " + PREFIX_CREDITS + "4)");
+                break;
+            case 1:
+                builder.append(String.format(" && %sCS%04d", PREFIX_CODE, i));
+                break;
+            case 2:
+                builder.append(" ||  " + PREFIX_NAME + "Data Structures and Algorithms ");
+                break;
+            default:
+                builder.append(" && " + PREFIX_SEMESTER).append(i % 4);
+                break;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void verifySameTokens(String argsString, String expression) {
+        ArgumentMultimap current = ArgumentTokenizer.tokenize(argsString, PLANNER_ADD_PREFIXES);
+        ArgumentMultimap previous = PreviousArgumentTokenizer.tokenize(argsString, PLANNER_ADD_PREFIXES);
+        for (Prefix prefix : PLANNER_ADD_PREFIXES) {
+            if (!current.getAllValues(prefix).equals(previous.getAllValues(prefix))) {
+                throw new AssertionError("Different values for " + prefix);
+            }
+        }
+        if (!current.getPreamble().equals(previous.getPreamble())) {
+            throw new AssertionError("Different preambles");
+        }
+
+        List<String> currentTokens = drain(new BooleanExpressionTokenizer(expression, FIND_PREFIXES));
+        if (!currentTokens.equals(new ArrayList<>(new PreviousBooleanExpressionTokenizer(expression,
+                FIND_PREFIXES).tokens))) {
+            throw new AssertionError("Different expression tokens");
+        }
+    }
+
+    private static List<String> drain(BooleanExpressionTokenizer tokenizer) {
+        List<String> tokens = new ArrayList<>();
+        while (tokenizer.hasMoreTokens()) {
+            tokens.add(tokenizer.nextToken());
+        }
+        return tokens;
+    }
+
+    private static long time(Supplier<Integer> tokenizer, int repetitions) {
+        long start = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            sink += tokenizer.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * The previous {@code ArgumentTokenizer}, which finds the positions of every prefix separately, sorts them, and
+     * copies every argument value before trimming it.
+     */
+    private static class PreviousArgumentTokenizer {
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<int[]> positions = new ArrayList<>();
+            for (int i = 0; i < prefixes.length; i++) {
+                int position = argsString.indexOf(" " + prefixes[i].getPrefix(), 0);
+                while (position != -1) {
+                    positions.add(new int[] {i, position + 1});
+                    position = argsString.indexOf(" " + prefixes[i].getPrefix(), position + 1);
+                }
+            }
+            positions.sort(Comparator.comparingInt(position -> position[1]));
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            Prefix currentPrefix = new Prefix("");
+            int valueStartPos = 0;
+            for (int[] position : positions) {
+                putCopying(argMultimap, currentPrefix, argsString.substring(valueStartPos, position[1]).trim());
+                currentPrefix = prefixes[position[0]];
+                valueStartPos = position[1] + currentPrefix.getPrefix().length();
+            }
+            putCopying(argMultimap, currentPrefix, argsString.substring(valueStartPos).trim());
+            return argMultimap;
+        }
+
+        /**
+         * Puts {@code value} into {@code argMultimap} after copying the existing values, as
+         * {@code ArgumentMultimap#put} previously did.
+         */
+        private static void putCopying(ArgumentMultimap argMultimap, Prefix prefix, String value) {
+            argMultimap.getAllValues(prefix);
+            argMultimap.put(prefix, value);
+        }
+    }
+
+    /**
+     * The previous {@code BooleanExpressionTokenizer}, which searches for every delimiter from the start of every
+     * token.
+     */
+    private static class PreviousBooleanExpressionTokenizer {
+        private final String stringToTokenize;
+        private final List<String> prefixes;
+        private final List<String> delimiters;
+        private final Deque<String> tokens = new ArrayDeque<>();
+        private int nextTokenStartIndex = 0;
+        private int nextTokenEndIndex = 0;
+
+        PreviousBooleanExpressionTokenizer(String stringToTokenize, List<Prefix> prefixes) {
+            this.stringToTokenize = stringToTokenize;
+            this.prefixes = prefixes.stream().map(Prefix::getPrefix).collect(Collectors.toList());
+            this.delimiters = Stream.concat(this.prefixes.stream(), OPERATORS.stream()).collect(Collectors.toList());
+            while (hasNextToken()) {
+                extractNextToken();
+            }
+        }
+
+        private boolean hasNextToken() {
+            if (nextTokenStartIndex >= stringToTokenize.length() || nextTokenEndIndex >= stringToTokenize.length()) {
+                return false;
+            }
+            Optional<Integer> optionalNextTokenEndIndex = delimiters.stream()
+                    .map(delimiter -> {
+                        int index = stringToTokenize.indexOf(delimiter, nextTokenStartIndex);
+                        if (index == nextTokenStartIndex) {
+                            index += delimiter.length();
+                        }
+                        return index;
+                    })
+                    .filter(index -> index != -1)
+                    .min(Integer::compare);
+            if (!optionalNextTokenEndIndex.isPresent()) {
+                nextTokenEndIndex = stringToTokenize.length();
+                return nextTokenStartIndex != nextTokenEndIndex;
+            }
+            nextTokenEndIndex = optionalNextTokenEndIndex.get();
+            return true;
+        }
+
+        private void extractNextToken() {
+            String nextToken = stringToTokenize.substring(nextTokenStartIndex, nextTokenEndIndex).trim();
+            if (!nextToken.isEmpty()) {
+                String lastToken = tokens.peekLast();
+                if (!delimiters.contains(nextToken) && lastToken != null && prefixes.contains(lastToken)) {
+                    tokens.removeLast();
+                    tokens.addLast(lastToken + nextToken);
+                } else {
+                    tokens.addLast(nextToken);
+                }
+            }
+            nextTokenStartIndex = nextTokenEndIndex;
+        }
+    }
+}
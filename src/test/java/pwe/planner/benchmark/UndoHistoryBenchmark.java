@@ -0,0 +1,60 @@
+package pwe.planner.benchmark;
+
+import java.util.List;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.VersionedApplication;
+import pwe.planner.model.module.Module;
+import pwe.planner.testutil.ModuleBuilder;
+import pwe.planner.testutil.SyntheticModules;
+
+/**
+ * Measures the cost of committing a single module edit to the undo history as the module list grows.
+ * Commit latency is expected to stay flat across catalog sizes, and undo/redo to grow with the catalog size since they
+ * reset the whole application.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=UndoHistoryBenchmark}.
+ */
+public class UndoHistoryBenchmark {
+
+    private static final int[] CATALOG_SIZES = {1_000, 5_000, 20_000, 50_000};
+    private static final int COMMITS = 200;
+    private static final int WARMUP_ROUNDS = 3;
+
+    public static void main(String[] args) {
+        System.out.println(String.format("%10s %18s %18s", "modules", "edit + commit", "undo"));
+
+        for (int size : CATALOG_SIZES) {
+            List<Module> modules = SyntheticModules.getModules(size);
+            Application application = new Application();
+            application.setModules(modules);
+
+            long commitNanos = 0;
+            long undoNanos = 0;
+            for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                VersionedApplication versionedApplication = new VersionedApplication(application);
+                commitNanos = time(() -> {
+                    for (int i = 0; i < COMMITS; i++) {
+                        Module target = versionedApplication.getModuleList().get(i);
+                        versionedApplication.setModule(target, new ModuleBuilder(target).withCredits("12").build());
+                        versionedApplication.commit();
+                    }
+                });
+                undoNanos = time(() -> {
+                    while (versionedApplication.canUndo()) {
+                        versionedApplication.undo();
+                    }
+                });
+            }
+
+            System.out.println(String.format("%10d %15.1f us %15.1f us", size,
+                    commitNanos / 1000.0 / COMMITS, undoNanos / 1000.0 / COMMITS));
+        }
+    }
+
+    private static long time(Runnable runnable) {
+        long start = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,83 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CompactSetTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Set<String> set = CompactSet.copyOf(Arrays.asList("c", "a", "b", "a"));
+
+    @Test
+    public void copyOf_nullCollection_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        CompactSet.copyOf(null);
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        CompactSet.copyOf(Arrays.asList("a", null));
+    }
+
+    @Test
+    public void copyOf_duplicateElements_duplicatesRemoved() {
+        assertEquals(3, set.size());
+        assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), set);
+        assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")).hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void copyOf_emptyCollection_returnsEmptySet() {
+        assertTrue(CompactSet.copyOf(new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    public void copyOf_largeCollection_sameIterationOrderAsHashSet() {
+        for (int size = 0; size <= CompactSet.MAX_ARRAY_SIZE + 1; size++) {
+            List<String> elements = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                elements.add("element" + (size * 31 + i));
+            }
+
+            assertEquals(new ArrayList<>(new HashSet<>(elements)), new ArrayList<>(CompactSet.copyOf(elements)));
+        }
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(set.contains("a"));
+        assertFalse(set.contains("d"));
+        assertFalse(set.contains(null));
+    }
+
+    @Test
+    public void remove_absentElement_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        set.remove("d");
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        set.add("d");
+    }
+
+    @Test
+    public void clear_emptySet_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        CompactSet.copyOf(new ArrayList<>()).clear();
+    }
+}
@@ -0,0 +1,74 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class InternerTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        interner.intern(null);
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        String first = new String("CS1010");
+        String second = new String("CS1010");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+    }
+
+    @Test
+    public void intern_differentValues_returnsDifferentInstances() {
+        String first = interner.intern(new String("CS1010"));
+        String second = interner.intern(new String("CS2040"));
+
+        assertEquals("CS1010", first);
+        assertEquals("CS2040", second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void intern_equalValuesFromManyThreads_returnsSingleInstance() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return interner.intern(new String("CS1010"));
+                }));
+            }
+            start.countDown();
+
+            String canonicalValue = futures.get(0).get();
+            for (Future<String> future : futures) {
+                assertSame(canonicalValue, future.get());
+            }
+            assertEquals(1, interner.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LruCacheTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final LruCache<String, Integer> cache = new LruCache<>(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(LruCache.MESSAGE_CONSTRAINTS);
+        new LruCache<String, Integer>(0);
+    }
+
+    @Test
+    public void get_countsHitsAndMisses() {
+        assertNull(cache.get("a"));
+        cache.put("a", 1);
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a"); // "b" is now the least recently used entry
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(Integer.valueOf(3), cache.get("c"));
+    }
+
+    @Test
+    public void clear_removesEntriesKeepsCounts() {
+        cache.put("a", 1);
+        cache.get("a");
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+}
@@ -0,0 +1,112 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "c", "d"));
+
+    @Test
+    public void of_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.of(null);
+    }
+
+    @Test
+    public void empty_noElements() {
+        assertEquals(0, PersistentList.empty().size());
+        assertEquals(Collections.emptyList(), PersistentList.empty().toList());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.get(4);
+    }
+
+    @Test
+    public void set_validIndex_originalListUnchanged() {
+        PersistentList<String> editedList = list.set(1, "x");
+
+        assertEquals(Arrays.asList("a", "x", "c", "d"), editedList.toList());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), list.toList());
+    }
+
+    @Test
+    public void insertAll_validIndex_originalListUnchanged() {
+        PersistentList<String> editedList = list.insertAll(2, Arrays.asList("x", "y"));
+
+        assertEquals(Arrays.asList("a", "b", "x", "y", "c", "d"), editedList.toList());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), list.toList());
+    }
+
+    @Test
+    public void removeRange_validRange_originalListUnchanged() {
+        PersistentList<String> editedList = list.removeRange(1, 3);
+
+        assertEquals(Arrays.asList("a", "d"), editedList.toList());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), list.toList());
+    }
+
+    @Test
+    public void removeRange_invalidRange_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.removeRange(3, 5);
+    }
+
+    @Test
+    public void randomOperations_sameAsArrayList() {
+        Random random = new Random(0);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.insertAll(index, Collections.singletonList(i));
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.removeRange(index, index + 1);
+            }
+        }
+
+        assertEquals(expected, actual.toList());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void equals() {
+        // same elements -> returns true
+        assertEquals(list, PersistentList.of(Arrays.asList("a", "b", "c", "d")));
+        assertEquals(list.hashCode(), PersistentList.of(Arrays.asList("a", "b", "c", "d")).hashCode());
+
+        // different elements -> returns false
+        assertNotEquals(list, list.set(0, "x"));
+
+        // different size -> returns false
+        assertNotEquals(list, list.removeRange(0, 1));
+    }
+}
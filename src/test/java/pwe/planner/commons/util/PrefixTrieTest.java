@@ -0,0 +1,93 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PrefixTrieTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PrefixTrie<Integer> trie = new PrefixTrie<>();
+
+    @Test
+    public void put_replacesValue() {
+        assertNull(trie.put("CS2040", 1));
+        assertEquals(Integer.valueOf(1), trie.put("CS2040", 2));
+
+        assertEquals(Integer.valueOf(2), trie.get("CS2040"));
+        assertNull(trie.get("CS204"));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void getValuesWithPrefix_valuesInKeyOrder() {
+        trie.put("CS2102", 3);
+        trie.put("CS2040C", 2);
+        trie.put("CS2040", 1);
+        trie.put("MA1521", 4);
+
+        assertEquals(List.of(1, 2, 3), trie.getValuesWithPrefix("CS2", 10));
+        assertEquals(List.of(1, 2), trie.getValuesWithPrefix("CS2", 2));
+        assertEquals(List.of(1, 2, 3, 4), trie.getValuesWithPrefix("", 10));
+        assertTrue(trie.getValuesWithPrefix("CS3", 10).isEmpty());
+        assertTrue(trie.getValuesWithPrefix("CS2", 0).isEmpty());
+        assertEquals(3, trie.countWithPrefix("CS"));
+        assertEquals(0, trie.countWithPrefix("CS3"));
+    }
+
+    @Test
+    public void getValuesWithPrefix_negativeLimit_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(PrefixTrie.MESSAGE_CONSTRAINTS);
+        trie.getValuesWithPrefix("", -1);
+    }
+
+    @Test
+    public void forEachWithPrefix_stoppedByVisitor() {
+        trie.put("a", 1);
+        trie.put("ab", 2);
+        trie.put("abc", 3);
+
+        List<Integer> visited = new ArrayList<>();
+        assertFalse(trie.forEachWithPrefix("a", value -> visited.add(value) && value < 2));
+        assertEquals(List.of(1, 2), visited);
+        assertTrue(trie.forEachWithPrefix("b", value -> false));
+    }
+
+    @Test
+    public void remove_prunesKeysWithoutAffectingOthers() {
+        trie.put("CS2040", 1);
+        trie.put("CS2040C", 2);
+        trie.put("CS2102", 3);
+
+        assertEquals(Integer.valueOf(2), trie.remove("CS2040C"));
+        assertNull(trie.remove("CS2040C"));
+        assertNull(trie.remove("CS20"));
+        assertEquals(List.of(1, 3), trie.getValuesWithPrefix("CS", 10));
+
+        assertEquals(Integer.valueOf(1), trie.remove("CS2040"));
+        assertEquals(0, trie.countWithPrefix("CS20"));
+        assertEquals(1, trie.size());
+
+        trie.put("CS2040", 4);
+        assertEquals(List.of(4, 3), trie.getValuesWithPrefix("CS", 10));
+    }
+
+    @Test
+    public void clear_removesAllKeys() {
+        trie.put("CS2040", 1);
+        trie.clear();
+
+        assertEquals(0, trie.size());
+        assertNull(trie.get("CS2040"));
+    }
+}
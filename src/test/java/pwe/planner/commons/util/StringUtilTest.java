@@ -7,6 +7,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -196,6 +198,91 @@ public class StringUtilTest {
 
     }
 
+    //---------------- Tests for splitWords --------------------------------------
+
+    @Test
+    public void splitWords_nullGiven_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.splitWords(null);
+    }
+
+    @Test
+    public void splitWords_validInputs_correctResult() {
+        // no words
+        assertEquals(List.of(), StringUtil.splitWords(""));
+        assertEquals(List.of(), StringUtil.splitWords("  \t\n "));
+
+        // leading, trailing and repeated whitespace
+        assertEquals(List.of("abc", "def"), StringUtil.splitWords("  abc \t\n def  "));
+
+        // same words as splitting by the regular expression
+        assertEquals(Arrays.asList("a1 b2\u000Bc3\fd4\re5".split("\\s+")),
+                StringUtil.splitWords("a1 b2\u000Bc3\fd4\re5"));
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.foldCase(null);
+    }
+
+    @Test
+    public void foldCase_equalIgnoringCase_sameFoldedForm() {
+        assertEquals(StringUtil.foldCase("XyZ 123"), StringUtil.foldCase("xYz 123"));
+        assertEquals(StringUtil.foldCase("\u00DF"), StringUtil.foldCase("\u1E9E")); // sharp s
+        assertFalse(StringUtil.foldCase("abc").equals(StringUtil.foldCase("abd")));
+    }
+
+    //---------------- Tests for matchesWildcardIgnoreCase --------------------------------------
+
+    @Test
+    public void matchesWildcardIgnoreCase_nullPattern_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.matchesWildcardIgnoreCase("CS2040C", null);
+    }
+
+    @Test
+    public void matchesWildcardIgnoreCase_validInputs_correctResult() {
+        // no wildcard -> whole string equal ignoring case
+        assertTrue(StringUtil.matchesWildcardIgnoreCase("CS2040C", "cs2040c"));
+        assertFalse(StringUtil.matchesWildcardIgnoreCase("CS2040C", "CS2040"));
+
+        // wildcards match any sequence of characters, including an empty one
+        assertTrue(StringUtil.matchesWildcardIgnoreCase("CS2040C", "CS2***"));
+        assertTrue(StringUtil.matchesWildcardIgnoreCase("CS2040C", "CS2040C*"));
+        assertTrue(StringUtil.matchesWildcardIgnoreCase("CS2040C", "*40*"));
+        assertTrue(StringUtil.matchesWildcardIgnoreCase("CS2040C", "C*0*0C"));
+        assertTrue(StringUtil.matchesWildcardIgnoreCase("", "*"));
+        assertFalse(StringUtil.matchesWildcardIgnoreCase("CS2040C", "CS3*"));
+        assertFalse(StringUtil.matchesWildcardIgnoreCase("CS2040C", "*40"));
+        assertFalse(StringUtil.matchesWildcardIgnoreCase("", "CS*"));
+    }
+
+    //---------------- Tests for getEditDistanceIgnoreCase --------------------------------------
+
+    @Test
+    public void getEditDistanceIgnoreCase_negativeMaxDistance_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        StringUtil.getEditDistanceIgnoreCase("algorithm", "algoritm", -1);
+    }
+
+    @Test
+    public void getEditDistanceIgnoreCase_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistanceIgnoreCase("Algorithm", "aLGORITHM", 0));
+        assertEquals(1, StringUtil.getEditDistanceIgnoreCase("algorithm", "algoritm", 2)); // deletion
+        assertEquals(1, StringUtil.getEditDistanceIgnoreCase("algorithm", "algorithms", 2)); // insertion
+        assertEquals(2, StringUtil.getEditDistanceIgnoreCase("algorithm", "alogrithm", 2)); // transposition
+        assertEquals(3, StringUtil.getEditDistanceIgnoreCase("kitten", "sitting", 3));
+        assertEquals(2, StringUtil.getEditDistanceIgnoreCase("", "ab", 2));
+
+        // distance greater than maxDistance -> -1
+        assertEquals(-1, StringUtil.getEditDistanceIgnoreCase("kitten", "sitting", 2));
+        assertEquals(-1, StringUtil.getEditDistanceIgnoreCase("algorithm", "algo", 2));
+        assertEquals(-1, StringUtil.getEditDistanceIgnoreCase("database", "science", 2));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
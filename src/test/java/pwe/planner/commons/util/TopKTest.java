@@ -0,0 +1,52 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TopKTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TopK<Integer> topK = new TopK<>(3);
+
+    @Test
+    public void constructor_nonPositiveK_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(TopK.MESSAGE_CONSTRAINTS);
+        new TopK<Integer>(0);
+    }
+
+    @Test
+    public void offer_smallestElementsKept() {
+        assertTrue(topK.offer(5));
+        assertTrue(topK.offer(9));
+        assertFalse(topK.isFull());
+        assertTrue(topK.offer(1));
+        assertTrue(topK.isFull());
+
+        // not smaller than the largest kept element -> not kept
+        assertFalse(topK.offer(9));
+        assertFalse(topK.offer(10));
+
+        assertTrue(topK.offer(2));
+        assertEquals(3, topK.size());
+        assertEquals(List.of(1, 2, 5), topK.toSortedList());
+    }
+
+    @Test
+    public void merge_smallestElementsOfBothKept() {
+        List.of(4, 8, 6).forEach(topK::offer);
+        TopK<Integer> other = new TopK<>(3);
+        List.of(7, 3, 5, 9).forEach(other::offer);
+
+        topK.merge(other);
+        assertEquals(List.of(3, 4, 5), topK.toSortedList());
+    }
+}
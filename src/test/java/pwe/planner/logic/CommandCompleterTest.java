@@ -0,0 +1,80 @@
+package pwe.planner.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_COREQUISITE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.logic.commands.FindCommand;
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class CommandCompleterTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Model model = new ModelManager();
+    // no time budget, so that the completions do not depend on how fast the tests run
+    private final CommandCompleter completer = new CommandCompleter(model, Long.MAX_VALUE / 2);
+
+    @Test
+    public void constructor_negativeTimeBudget_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(CommandCompleter.MESSAGE_CONSTRAINTS);
+        new CommandCompleter(model, -1);
+    }
+
+    @Test
+    public void getCompletions_commandWord_commandWordsInOrder() {
+        assertEquals(List.of("planner_add", "planner_list", "planner_move", "planner_remove", "planner_show",
+                "planner_suggest"), completer.getCompletions("planner_"));
+        assertEquals(List.of("  find"), completer.getCompletions("  fi"));
+        assertTrue(completer.getCompletions("unknown").isEmpty());
+    }
+
+    @Test
+    public void getCompletions_code_codesWithTypedPrefix() {
+        model.addModule(new ModuleBuilder().withCode("CS2102").build());
+        model.addModule(new ModuleBuilder().withCode("CS2040C").build());
+        model.addModule(new ModuleBuilder().withCode("MA1521").build());
+
+        String findCode = FindCommand.COMMAND_WORD + " " + PREFIX_NAME + "Data || " + PREFIX_CODE;
+        assertEquals(List.of(findCode + "CS2040C", findCode + "CS2102"), completer.getCompletions(findCode + "cs2"));
+        assertEquals(List.of("edit 1 (" + PREFIX_COREQUISITE + "MA1521"),
+                completer.getCompletions("edit 1 (" + PREFIX_COREQUISITE + "MA"));
+
+        // module added after the completer is created -> completed
+        model.addModule(new ModuleBuilder().withCode("CS2100").build());
+        assertEquals(3, completer.getCompletions(findCode + "CS2").size());
+
+        // not a code prefix, or nothing typed -> no completions
+        assertTrue(completer.getCompletions(FindCommand.COMMAND_WORD + " " + PREFIX_NAME + "CS").isEmpty());
+        assertTrue(completer.getCompletions(findCode + "CS2 ").isEmpty());
+    }
+
+    @Test
+    public void getCompletions_manyCandidates_atMostMaxCompletions() {
+        for (int i = 0; i < CommandCompleter.MAX_COMPLETIONS * 2; i++) {
+            model.addModule(new ModuleBuilder().withCode(String.format("CS%04d", i)).build());
+        }
+
+        assertEquals(CommandCompleter.MAX_COMPLETIONS, completer.getCompletions("find " + PREFIX_CODE + "CS").size());
+    }
+
+    @Test
+    public void getCompletions_timeBudgetUsedUp_stopsAfterFirstCompletion() {
+        for (int i = 0; i < CommandCompleter.MAX_COMPLETIONS; i++) {
+            model.addModule(new ModuleBuilder().withCode(String.format("CS%04d", i)).build());
+        }
+
+        assertEquals(1, new CommandCompleter(model, 0).getCompletions("find " + PREFIX_CODE + "CS").size());
+    }
+}
@@ -0,0 +1,258 @@
+package pwe.planner.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static pwe.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
+import static pwe.planner.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.logic.commands.AddCommand;
+import pwe.planner.logic.commands.CommandResult;
+import pwe.planner.logic.commands.ListCommand;
+import pwe.planner.logic.commands.PlannerListCommand;
+import pwe.planner.logic.commands.exceptions.CommandException;
+import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.ModelSnapshot;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.StorageManager;
+
+public class CommandPipelineTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager();
+    private SaveCountingStorage storage;
+    private LogicManager logic;
+    private CommandPipeline pipeline;
+
+    @Before
+    public void setUp() throws Exception {
+        JsonApplicationStorage applicationStorage =
+                new JsonApplicationStorage(temporaryFolder.newFile().toPath(), temporaryFolder.newFile().toPath(),
+                        temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        storage = new SaveCountingStorage(applicationStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+    }
+
+    @After
+    public void tearDown() {
+        storage.saveAllowed.countDown();
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    public void constructor_nonPositiveQueueCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CommandPipeline.MESSAGE_CONSTRAINTS, () ->
+                new CommandPipeline(logic, 0, 1));
+    }
+
+    @Test
+    public void submit_invalidCommand_failsWithParseException() throws Exception {
+        pipeline = new CommandPipeline(logic);
+
+        assertFailure(pipeline.submit("uicfhmowqewca"), ParseException.class, MESSAGE_UNKNOWN_COMMAND);
+        assertEquals(0, pipeline.getBatchCount());
+    }
+
+    @Test
+    public void submit_readOnlyCommand_completedWithoutBatch() throws Exception {
+        pipeline = new CommandPipeline(logic);
+
+        CompletableFuture<CommandResult> future = pipeline.submit(PlannerListCommand.COMMAND_WORD);
+        assertTrue(future.isDone());
+        assertEquals(new PlannerListCommand().execute(model, new CommandHistory()).getFeedbackToUser(),
+                future.get().getFeedbackToUser());
+        assertEquals(0, pipeline.getBatchCount());
+        assertEquals(0, storage.saveCount.get());
+    }
+
+    @Test
+    public void submit_commandsWhileSaving_savedTogetherInOrder() throws Exception {
+        storage.saveAllowed = new CountDownLatch(1);
+        pipeline = new CommandPipeline(logic);
+
+        CompletableFuture<CommandResult> firstFuture = pipeline.submit(addCommand("AA0001"));
+        assertTrue(storage.saveStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        // the writer is saving the first command, so the other commands wait in the queue together
+        List<CompletableFuture<CommandResult>> futures = new ArrayList<>();
+        for (String code : List.of("AA0002", "AA0003", "AA0004")) {
+            futures.add(pipeline.submit(addCommand(code)));
+        }
+        assertEquals(3, pipeline.getQueueDepth());
+        assertFalse(firstFuture.isDone());
+
+        storage.saveAllowed.countDown();
+        firstFuture.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        for (CompletableFuture<CommandResult> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        assertEquals(2, storage.saveCount.get());
+        assertEquals(2, pipeline.getBatchCount());
+        assertEquals(4, pipeline.getBatchedCommandCount());
+        assertEquals(3, pipeline.getLargestBatchSize());
+        assertEquals(2.0, pipeline.getMeanBatchSize(), 0);
+        assertEquals(0, pipeline.getQueueDepth());
+        assertEquals(List.of("AA0001", "AA0002", "AA0003", "AA0004"), model.getApplication().getModuleList()
+                .stream().map(module -> module.getCode().value).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void submit_whileSaving_snapshotPublishedOnceSaved() throws Exception {
+        storage.saveAllowed = new CountDownLatch(1);
+        pipeline = new CommandPipeline(logic);
+
+        CompletableFuture<CommandResult> future = pipeline.submit(addCommand("AA0001"));
+        assertTrue(storage.saveStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        // the change is not visible to read-only commands until it is saved
+        assertTrue(model.getSnapshot().getState().getModuleList().isEmpty());
+
+        storage.saveAllowed.countDown();
+        future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(1, model.getSnapshot().getState().getModuleList().size());
+    }
+
+    @Test
+    public void submit_saveFails_failsWithCommandExceptionAndBatchRolledBack() throws Exception {
+        storage.failsToSave = true;
+        pipeline = new CommandPipeline(logic);
+        ModelSnapshot snapshot = model.getSnapshot();
+
+        assertFailure(pipeline.submit(addCommand("AA0001")), CommandException.class,
+                LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION);
+        assertTrue(model.getApplication().getModuleList().isEmpty());
+        assertFalse(model.canUndoApplication());
+        assertSame(snapshot, model.getSnapshot());
+
+        // the application is as it was last saved, so the next batch only saves its own changes
+        storage.failsToSave = false;
+        assertEquals(ListCommand.MESSAGE_SUCCESS, pipeline.submit(ListCommand.COMMAND_WORD)
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getFeedbackToUser());
+        assertEquals(1, storage.saveCount.get());
+        pipeline.submit(addCommand("AA0002")).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(List.of("AA0002"), storage.readModuleList().get().stream()
+                .map(module -> module.getCode().value).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void submit_queueFull_failsWithRejectedExecutionException() throws Exception {
+        storage.saveAllowed = new CountDownLatch(1);
+        pipeline = new CommandPipeline(logic, 1, 1);
+
+        CompletableFuture<CommandResult> firstFuture = pipeline.submit(addCommand("AA0001"));
+        assertTrue(storage.saveStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<CommandResult> queuedFuture = pipeline.submit(addCommand("AA0002"));
+        assertFailure(pipeline.submit(addCommand("AA0003")), RejectedExecutionException.class,
+                CommandPipeline.MESSAGE_QUEUE_FULL);
+
+        storage.saveAllowed.countDown();
+        firstFuture.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        queuedFuture.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(2, model.getApplication().getModuleList().size());
+    }
+
+    @Test
+    public void close_commandsQueued_executedBeforeClosing() throws Exception {
+        pipeline = new CommandPipeline(logic);
+        List<CompletableFuture<CommandResult>> futures = new ArrayList<>();
+        for (String code : List.of("AA0001", "AA0002", "AA0003")) {
+            futures.add(pipeline.submit(addCommand(code)));
+        }
+
+        pipeline.close();
+        for (CompletableFuture<CommandResult> future : futures) {
+            assertTrue(future.isDone());
+            future.get();
+        }
+        assertEquals(3, model.getApplication().getModuleList().size());
+
+        assertFailure(pipeline.submit(addCommand("AA0004")), RejectedExecutionException.class,
+                CommandPipeline.MESSAGE_CLOSED);
+    }
+
+    /**
+     * Returns the command to add a module with {@code code}.
+     */
+    private static String addCommand(String code) {
+        return AddCommand.COMMAND_WORD + " " + PREFIX_CODE + code + " " + PREFIX_NAME + "Pipelining " + PREFIX_CREDITS
+                + "4";
+    }
+
+    /**
+     * Asserts that {@code future} completes exceptionally with {@code expectedException} and {@code expectedMessage}.
+     */
+    private static void assertFailure(CompletableFuture<CommandResult> future,
+            Class<? extends Throwable> expectedException, String expectedMessage) throws Exception {
+        try {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            fail("Expected " + expectedException.getName() + " to be thrown");
+        } catch (ExecutionException ee) {
+            assertEquals(expectedException, ee.getCause().getClass());
+            assertEquals(expectedMessage, ee.getCause().getMessage());
+        }
+    }
+
+    /**
+     * A storage that counts how many times the application is saved, and that can hold a save until it is allowed,
+     * or fail every save.
+     */
+    private static class SaveCountingStorage extends StorageManager {
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final AtomicInteger saveCount = new AtomicInteger();
+        private volatile CountDownLatch saveAllowed = new CountDownLatch(0);
+        private volatile boolean failsToSave;
+
+        private SaveCountingStorage(JsonApplicationStorage applicationStorage,
+                JsonUserPrefsStorage userPrefsStorage) {
+            super(applicationStorage, userPrefsStorage);
+        }
+
+        @Override
+        public void saveApplication(ReadOnlyApplication application) throws IOException {
+            saveStarted.countDown();
+            try {
+                saveAllowed.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+
+            saveCount.incrementAndGet();
+            if (failsToSave) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveApplication(application);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package pwe.planner.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX;
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULES_LISTED_OVERVIEW;
 import static pwe.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static pwe.planner.logic.commands.CommandTestUtil.CODE_DESC_AMY;
 import static pwe.planner.logic.commands.CommandTestUtil.CREDITS_DESC_AMY;
 import static pwe.planner.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static pwe.planner.logic.commands.CommandTestUtil.SEMESTERS_DESC_AMY;
+import static pwe.planner.testutil.Assert.assertThrows;
+import static pwe.planner.testutil.TypicalModules.ALICE;
 import static pwe.planner.testutil.TypicalModules.AMY;
 
 import java.io.IOException;
@@ -24,6 +29,7 @@ import org.junit.rules.TemporaryFolder;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.commands.AddCommand;
 import pwe.planner.logic.commands.CommandResult;
+import pwe.planner.logic.commands.FindCommand;
 import pwe.planner.logic.commands.HistoryCommand;
 import pwe.planner.logic.commands.ListCommand;
 import pwe.planner.logic.commands.PlannerListCommand;
@@ -31,6 +37,7 @@ import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.Model;
 import pwe.planner.model.ModelManager;
+import pwe.planner.model.ModelSnapshot;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.UserPrefs;
 import pwe.planner.model.module.Module;
@@ -113,6 +120,55 @@ public class LogicManagerTest {
         expectedModel.commitApplication();
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
         assertCommandBehavior(CommandException.class, addCommand, expectedMessage, expectedModel);
+        // the history command would fail to save the unsaved change again, so the history is checked directly
+        assertEquals(Collections.singletonList(addCommand), logic.getHistory());
+    }
+
+    @Test
+    public void execute_previousSaveFailed_savedByNextCommand() throws Exception {
+        JsonApplicationFailingOnceStub applicationStorage =
+                new JsonApplicationFailingOnceStub(temporaryFolder.newFile().toPath(),
+                        temporaryFolder.newFile().toPath(), temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        logic = new LogicManager(model, new StorageManager(applicationStorage, userPrefsStorage));
+
+        String addCommand = AddCommand.COMMAND_WORD + CODE_DESC_AMY + NAME_DESC_AMY + CREDITS_DESC_AMY
+                + SEMESTERS_DESC_AMY;
+        assertThrows(CommandException.class, LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, () ->
+                logic.execute(addCommand));
+
+        // the next command does not modify the application, but the change that failed to be saved is saved with it
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, applicationStorage.saveCount);
+        assertTrue(applicationStorage.readModuleList().get().contains(new ModuleBuilder(AMY).withTags().build()));
+    }
+
+    @Test
+    public void executeConcurrently_readOnlyCommand_executedOnSnapshot() throws Exception {
+        logic.enableSnapshots();
+        model.addModule(ALICE);
+        model.commitApplication();
+        ModelSnapshot snapshot = model.getSnapshot();
+
+        String findCommand = FindCommand.COMMAND_WORD + " name/Nonexistent";
+        CommandResult result = logic.executeConcurrently(findCommand);
+        assertEquals(String.format(MESSAGE_MODULES_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        // the filtered list of the model is left as it is, and the command is not recorded in the history
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredModuleList());
+        assertSame(snapshot, model.getSnapshot());
+        assertEquals(Collections.emptyList(), logic.getHistory());
+    }
+
+    @Test
+    public void executeConcurrently_commandModifyingApplication_snapshotPublished() throws Exception {
+        logic.enableSnapshots();
+        long version = logic.getSnapshot().getVersion();
+        String addCommand = AddCommand.COMMAND_WORD + CODE_DESC_AMY + NAME_DESC_AMY + CREDITS_DESC_AMY
+                + SEMESTERS_DESC_AMY;
+        logic.executeConcurrently(addCommand);
+
+        assertEquals(version + 1, logic.getSnapshot().getVersion());
+        assertTrue(logic.getSnapshot().getState().getModuleList().stream().anyMatch(AMY::isSameModule));
         assertHistoryCorrect(addCommand);
     }
 
@@ -200,6 +256,26 @@ public class LogicManagerTest {
         }
     }
 
+    /**
+     * A stub class to throw an {@code IOException} the first time the save method is called.
+     */
+    private static class JsonApplicationFailingOnceStub extends JsonApplicationStorage {
+        private int saveCount;
+
+        private JsonApplicationFailingOnceStub(Path moduleListFilePath, Path degreePlannerListFilePath,
+                Path requirementCategoryListFilePath) {
+            super(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
+        }
+
+        @Override
+        public void saveModuleList(ReadOnlyApplication application, Path filePath) throws IOException {
+            if (++saveCount == 1) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveModuleList(application, filePath);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
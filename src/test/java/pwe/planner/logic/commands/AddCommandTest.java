@@ -8,6 +8,7 @@ import static org.junit.Assert.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -21,13 +22,20 @@ import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Application;
 import pwe.planner.model.Model;
+import pwe.planner.model.ModelSnapshot;
+import pwe.planner.model.ModelTransaction;
+import pwe.planner.model.MutationBatch;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.ReadOnlyUserPrefs;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleWordIndex;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.suggestion.ParallelModuleSuggester;
 import pwe.planner.testutil.ModuleBuilder;
 
 public class AddCommandTest {
@@ -186,6 +194,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void enableSnapshots() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MutationBatch batch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelTransaction beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setApplication(ReadOnlyApplication application) {
             throw new AssertionError("This method should not be called.");
@@ -216,6 +244,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Code> getCorequisiteCluster(Code code) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModuleWordIndex getModuleWordIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ParallelModuleSuggester getParallelSuggester() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setParallelSuggester(ParallelModuleSuggester suggester) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteModule(Module target) {
             throw new AssertionError("This method should not be called.");
@@ -266,6 +314,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getUndoHistorySize() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getUndoHistoryInMemorySize() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setSavepoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void releaseSavepoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackToSavepoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyProperty<Module> selectedModuleProperty() {
             throw new AssertionError("This method should not be called.");
@@ -286,6 +364,11 @@ public class AddCommandTest {
             return false;
         }
 
+        @Override
+        public DegreePlanner getDegreePlanner(Year year, Semester semester) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public DegreePlanner getDegreePlannerByCode(Code toCheck) {
             throw new AssertionError("This method should not be called.");
@@ -337,6 +420,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public RequirementCategory getRequirementCategoryByCode(Code code) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getFulfilledCredits(RequirementCategory requirementCategory) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addRequirementCategory(RequirementCategory requirementCategory) {
             //ToDo: implement error check
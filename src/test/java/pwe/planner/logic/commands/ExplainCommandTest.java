@@ -0,0 +1,100 @@
+package pwe.planner.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.commons.core.Messages.MESSAGE_MODULES_LISTED_OVERVIEW;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_1;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.UserPrefs;
+import pwe.planner.model.module.CodeContainsKeywordsPredicate;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+import pwe.planner.model.planner.SemesterContainsKeywordPredicate;
+import pwe.planner.model.planner.YearContainsKeywordPredicate;
+import pwe.planner.model.query.Conjunction;
+import pwe.planner.model.query.Disjunction;
+import pwe.planner.storage.JsonSerializableApplication;
+
+public class ExplainCommandTest {
+    private Model model = new ModelManager(
+            new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                    getTypicalRequirementCategoriesList()).toModelType(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    public ExplainCommandTest() throws IllegalValueException {}
+
+    @Test
+    public void execute_find_filtersAndExplainsPlan() {
+        FindCommand findCommand = new FindCommand(Conjunction.of(new NameContainsKeywordsPredicate<>(
+                ALICE.getName().fullName), new CodeContainsKeywordsPredicate<>(ALICE.getCode().value)));
+
+        String feedback = new ExplainCommand(findCommand).execute(model, commandHistory).getFeedbackToUser();
+
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredModuleList());
+        assertTrue(feedback.startsWith(String.format(MESSAGE_MODULES_LISTED_OVERVIEW, 1) + "\nQuery plan"));
+        assertTrue(feedback.contains("Intersection (estimated 1, actual 1"));
+        assertTrue(feedback.contains("IndexLookup code \"" + ALICE.getCode().value + "\""));
+    }
+
+    @Test
+    public void execute_fuzzyFind_sameModulesAndRankingAsFind() throws IllegalValueException {
+        FindCommand findCommand = new FindCommand(Disjunction.of(new NameContainsKeywordsPredicate<>("Kurzs~"),
+                new NameContainsKeywordsPredicate<>("Meire~")));
+        Model expectedModel = new ModelManager(
+                new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                        getTypicalRequirementCategoriesList()).toModelType(), new UserPrefs());
+        findCommand.execute(expectedModel, commandHistory);
+
+        new ExplainCommand(findCommand).execute(model, commandHistory);
+
+        assertFalse(model.getFilteredModuleList().isEmpty());
+        assertEquals(expectedModel.getFilteredModuleList(), model.getFilteredModuleList());
+    }
+
+    @Test
+    public void execute_plannerShow_filtersAndExplainsPlan() {
+        PlannerShowCommand plannerShowCommand = new PlannerShowCommand(Conjunction.of(
+                new YearContainsKeywordPredicate<>("1"), new SemesterContainsKeywordPredicate<>("1")));
+
+        String feedback = new ExplainCommand(plannerShowCommand).execute(model, commandHistory).getFeedbackToUser();
+
+        assertEquals(Collections.singletonList(YEAR_1_SEMESTER_1), model.getFilteredDegreePlannerList());
+        assertTrue(feedback.startsWith(String.format(PlannerShowCommand.MESSAGE_SUCCESS, 1) + "\nQuery plan"));
+        assertTrue(feedback.contains("Scan year \"1\""));
+        assertTrue(feedback.contains("Scan semester \"1\""));
+    }
+
+    @Test
+    public void equals() {
+        FindCommand findCommand = new FindCommand(new NameContainsKeywordsPredicate<>("first"));
+        PlannerShowCommand plannerShowCommand = new PlannerShowCommand(new YearContainsKeywordPredicate<>("1"));
+        ExplainCommand explainFindCommand = new ExplainCommand(findCommand);
+
+        // same object -> returns true
+        assertTrue(explainFindCommand.equals(explainFindCommand));
+
+        // same values -> returns true
+        assertTrue(explainFindCommand.equals(new ExplainCommand(findCommand)));
+
+        // different types -> returns false
+        assertFalse(explainFindCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(explainFindCommand.equals(null));
+
+        // different explained command -> returns false
+        assertFalse(explainFindCommand.equals(new ExplainCommand(plannerShowCommand)));
+    }
+}
@@ -1,10 +1,16 @@
 package pwe.planner.logic.commands;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.logic.commands.CommandTestUtil.assertCommandFailure;
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
 import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
@@ -14,13 +20,18 @@ import org.junit.Test;
 import pwe.planner.commons.exceptions.IllegalValueException;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.commands.PlannerSuggestCommand.Category;
 import pwe.planner.model.Model;
 import pwe.planner.model.ModelManager;
 import pwe.planner.model.UserPrefs;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Credits;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.suggestion.ParallelModuleSuggester;
 import pwe.planner.model.tag.Tag;
 import pwe.planner.storage.JsonSerializableApplication;
+import pwe.planner.testutil.Assert;
 
 /**
  * Contains unit tests for PlannerSuggestCommand.
@@ -36,6 +47,27 @@ public class PlannerSuggestCommandTest {
                         getTypicalRequirementCategoriesList()).toModelType(), new UserPrefs());
     }
 
+    @Test
+    public void execute_parallelSuggester_sameSuggestionsAsIndex() throws Exception {
+        List<PlannerSuggestCommand> commands = List.of(
+                new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("nonexistent"))),
+                new PlannerSuggestCommand(new Credits("3"), Set.of(new Tag("friends"), new Tag("owesMoney"))),
+                new PlannerSuggestCommand(new Credits("2"), Set.of(), 1, EnumSet.allOf(Category.class)));
+        List<String> expectedMessages = new ArrayList<>();
+        for (PlannerSuggestCommand command : commands) {
+            expectedMessages.add(command.execute(model, commandHistory).getFeedbackToUser());
+        }
+
+        try (ParallelModuleSuggester suggester = new ParallelModuleSuggester(2, 1, 1)) {
+            // every catalog is scored in parallel, in pieces of a single module
+            model.setParallelSuggester(suggester);
+            for (int i = 0; i < commands.size(); i++) {
+                assertEquals(expectedMessages.get(i), commands.get(i).execute(model, commandHistory)
+                        .getFeedbackToUser());
+            }
+        }
+    }
+
     @Test
     public void execute_modulesWithoutMatchingTagsAndCredits_recommendedModulesFound() {
         Credits bestCredits = new Credits("3");
@@ -68,4 +100,79 @@ public class PlannerSuggestCommandTest {
         assertCommandSuccess(new PlannerSuggestCommand(bestCredits, tagsToFind), model, commandHistory,
                 expectedMessage, model);
     }
+
+    @Test
+    public void constructor_noCategoryOrNoSuggestion_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, PlannerSuggestCommand.MESSAGE_CONSTRAINTS, () ->
+                new PlannerSuggestCommand(new Credits("4"), Set.of(), 0, EnumSet.allOf(Category.class)));
+        Assert.assertThrows(IllegalArgumentException.class, PlannerSuggestCommand.MESSAGE_CONSTRAINTS, () ->
+                new PlannerSuggestCommand(new Credits("4"), Set.of(), 10, EnumSet.noneOf(Category.class)));
+    }
+
+    @Test
+    public void execute_fewerSuggestionsAndCategories_onlyThoseShown() {
+        Credits bestCredits = new Credits("4");
+        Set<Tag> tagsToFind = Set.of(new Tag("nonexistent"));
+        PlannerSuggestCommand command = new PlannerSuggestCommand(bestCredits, tagsToFind, 1,
+                EnumSet.of(Category.RECOMMENDED, Category.MATCHING_CREDITS));
+
+        String expectedMessage = PlannerSuggestCommand.MESSAGE_SORTED
+                + String.format(PlannerSuggestCommand.MESSAGE_CATEGORY, "Module(s) recommended", "CS2101")
+                + String.format(PlannerSuggestCommand.MESSAGE_CATEGORY, "Module(s) with matching credits", "CS2101");
+
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_creditBudget_unplannedModulesFillingBudgetFound() {
+        PlannerSuggestCommand command = new PlannerSuggestCommand(new Credits("10"), Set.of(), new Year("2"),
+                new Semester("2"));
+        String expectedMessage = String.format(PlannerSuggestCommand.MESSAGE_BUDGET_SUCCESS, 10, "10", "2", "2",
+                "CS2101, CS2105");
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, model);
+
+        // only the modules that fit are suggested
+        command = new PlannerSuggestCommand(new Credits("5"), Set.of(), new Year("2"), new Semester("2"));
+        expectedMessage = String.format(PlannerSuggestCommand.MESSAGE_BUDGET_SUCCESS, 4, "5", "2", "2", "CS2101");
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_creditBudgetNonexistentDegreePlanner_throwsCommandException() {
+        PlannerSuggestCommand command = new PlannerSuggestCommand(new Credits("10"), Set.of(), new Year("4"),
+                new Semester("1"));
+        String expectedMessage = String.format(PlannerSuggestCommand.MESSAGE_NONEXISTENT_DEGREE_PLANNER, "4", "1");
+        assertCommandFailure(command, model, commandHistory, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        PlannerSuggestCommand suggestCommand = new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")));
+
+        // same values -> returns true
+        assertTrue(suggestCommand.equals(new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")),
+                PlannerSuggestCommand.DEFAULT_MAX_SUGGESTIONS, EnumSet.allOf(Category.class))));
+
+        // different number of suggestions -> returns false
+        assertFalse(suggestCommand.equals(new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")),
+                1, EnumSet.allOf(Category.class))));
+
+        // different categories -> returns false
+        assertFalse(suggestCommand.equals(new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")),
+                PlannerSuggestCommand.DEFAULT_MAX_SUGGESTIONS, EnumSet.of(Category.RECOMMENDED))));
+
+        // different credits -> returns false
+        assertFalse(suggestCommand.equals(new PlannerSuggestCommand(new Credits("2"), Set.of(new Tag("core")))));
+
+        // credit budget -> returns false
+        PlannerSuggestCommand budgetCommand = new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")),
+                new Year("1"), new Semester("2"));
+        assertFalse(suggestCommand.equals(budgetCommand));
+        assertTrue(budgetCommand.equals(new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")),
+                new Year("1"), new Semester("2"))));
+
+        // different semester -> returns false
+        assertFalse(budgetCommand.equals(new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")),
+                new Year("1"), new Semester("1"))));
+    }
 }
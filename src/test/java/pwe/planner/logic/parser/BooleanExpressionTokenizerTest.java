@@ -0,0 +1,57 @@
+package pwe.planner.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static pwe.planner.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+public class BooleanExpressionTokenizerTest {
+
+    private static final List<Prefix> PREFIXES = List.of(new Prefix("n/"), new Prefix("c/"));
+
+    @Test
+    public void nextToken_noMoreTokens_throwsNoSuchElementException() {
+        BooleanExpressionTokenizer tokenizer = new BooleanExpressionTokenizer("   ", PREFIXES);
+
+        assertFalse(tokenizer.hasMoreTokens());
+        assertThrows(NoSuchElementException.class, tokenizer::nextToken);
+    }
+
+    @Test
+    public void nextToken_prefixedArgumentsAndOperators_tokenized() {
+        assertTokens(" n/Data  Structures ||(c/CS1010 && c/ CS2040C )",
+                "n/Data  Structures", "||", "(", "c/CS1010", "&&", "c/CS2040C", ")");
+
+        // a prefix without a value is its own token
+        assertTokens("n/ && c/CS1010", "n/", "&&", "c/CS1010");
+
+        // a delimiter inside an argument value still ends the token
+        assertTokens("n/Programming(Methodology)", "n/Programming", "(", "Methodology", ")");
+
+        // an unknown prefix is not a delimiter
+        assertTokens("t/core && n/Data", "t/core", "&&", "n/Data");
+    }
+
+    @Test
+    public void nextToken_partialOperator_tokenizedAsText() {
+        assertTokens("n/A & n/B", "n/A &", "n/B");
+        assertTokens("n/A &&& n/B", "n/A", "&&", "&", "n/B");
+    }
+
+    /**
+     * Asserts that tokenizing {@code expression} gives {@code expectedTokens}, in order.
+     */
+    private void assertTokens(String expression, String... expectedTokens) {
+        BooleanExpressionTokenizer tokenizer = new BooleanExpressionTokenizer(expression, PREFIXES);
+        List<String> tokens = new ArrayList<>();
+        while (tokenizer.hasMoreTokens()) {
+            tokens.add(tokenizer.nextToken());
+        }
+        assertEquals(List.of(expectedTokens), tokens);
+    }
+}
@@ -1,6 +1,7 @@
 package pwe.planner.logic.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static pwe.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -24,6 +25,7 @@ import pwe.planner.logic.commands.DeleteCommand;
 import pwe.planner.logic.commands.EditCommand;
 import pwe.planner.logic.commands.EditCommand.EditModuleDescriptor;
 import pwe.planner.logic.commands.ExitCommand;
+import pwe.planner.logic.commands.ExplainCommand;
 import pwe.planner.logic.commands.FindCommand;
 import pwe.planner.logic.commands.HelpCommand;
 import pwe.planner.logic.commands.HistoryCommand;
@@ -104,6 +106,13 @@ public class CommandParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_explain() throws Exception {
+        ExplainCommand command = (ExplainCommand) parser.parseCommand(ExplainCommand.COMMAND_WORD + " "
+                + FindCommand.COMMAND_WORD + " " + PREFIX_NAME + "foo");
+        assertEquals(new ExplainCommand(new FindCommand(new NameContainsKeywordsPredicate<>("foo"))), command);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         String keyword = "foo";
@@ -241,6 +250,25 @@ public class CommandParserTest {
         parser.parseCommand("");
     }
 
+    @Test
+    public void parseCommand_explainUnsupportedCommand_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+        parser.parseCommand(ExplainCommand.COMMAND_WORD + " " + ListCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void parseCommand_commandWords_allRecognised() {
+        for (String commandWord : CommandParser.COMMAND_WORDS) {
+            try {
+                parser.parseCommand(commandWord);
+            } catch (ParseException pe) {
+                // a command word without its arguments may be rejected, but not as an unknown command
+                assertNotEquals(commandWord, MESSAGE_UNKNOWN_COMMAND, pe.getMessage());
+            }
+        }
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
@@ -1,8 +1,11 @@
 package pwe.planner.logic.parser;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static pwe.planner.logic.parser.CliSyntax.FUZZY_SUFFIX;
 import static pwe.planner.logic.parser.CliSyntax.OPERATOR_AND;
 import static pwe.planner.logic.parser.CliSyntax.OPERATOR_LEFT_BRACKET;
 import static pwe.planner.logic.parser.CliSyntax.OPERATOR_OR;
@@ -15,14 +18,18 @@ import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
 import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.function.Predicate;
+
 import org.junit.Test;
 
+import pwe.planner.commons.util.LruCache;
 import pwe.planner.logic.commands.FindCommand;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.CodeContainsKeywordsPredicate;
 import pwe.planner.model.module.Credits;
 import pwe.planner.model.module.CreditsContainsKeywordsPredicate;
+import pwe.planner.model.module.Module;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.module.NameContainsKeywordsPredicate;
 import pwe.planner.model.module.TagContainsKeywordsPredicate;
@@ -33,6 +40,25 @@ public class FindCommandParserTest {
     private static final String WHITESPACE = " ";
     private FindCommandParser parser = new FindCommandParser();
 
+    @Test
+    public void parse_withPredicateCache_reusesCompiledExpression() throws Exception {
+        LruCache<String, Predicate<Module>> predicateCache = new LruCache<>(2);
+        FindCommandParser cachingParser = new FindCommandParser(predicateCache);
+
+        FindCommand firstCommand = cachingParser.parse(" " + PREFIX_NAME + "Alice " + OPERATOR_AND + " "
+                + PREFIX_CODE + "CS1231");
+        // same expression with different surrounding whitespace -> same predicate instance
+        FindCommand secondCommand = cachingParser.parse(PREFIX_NAME + "Alice " + OPERATOR_AND + " "
+                + PREFIX_CODE + "CS1231   ");
+        assertSame(firstCommand.getPredicate(), secondCommand.getPredicate());
+        assertEquals(1, predicateCache.getHitCount());
+        assertEquals(1, predicateCache.getMissCount());
+
+        // invalid expressions are not cached
+        assertParseFailure(cachingParser, PREFIX_CODE + "     ", Code.MESSAGE_CONSTRAINTS);
+        assertEquals(1, predicateCache.size());
+    }
+
     @Test
     public void parse_emptyArg_throwsParseException() {
         assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -57,6 +83,17 @@ public class FindCommandParserTest {
         // single keyword
         assertParseSuccess(parser, PREFIX_CODE + "CS1231", expectedFindCodeCommand);
 
+        // code pattern
+        assertParseSuccess(parser, PREFIX_CODE + "cs2***",
+                new FindCommand(new CodeContainsKeywordsPredicate<>("CS2***")));
+        assertParseFailure(parser, PREFIX_CODE + "CS2*-", Code.MESSAGE_PATTERN_CONSTRAINTS);
+
+        // fuzzy keywords
+        assertParseSuccess(parser, PREFIX_NAME + "algoritm" + FUZZY_SUFFIX,
+                new FindCommand(new NameContainsKeywordsPredicate<>("algoritm" + FUZZY_SUFFIX)));
+        assertParseSuccess(parser, PREFIX_TAG + "cor" + FUZZY_SUFFIX,
+                new FindCommand(new TagContainsKeywordsPredicate<>("cor" + FUZZY_SUFFIX)));
+
         FindCommand expectedFindCreditsCommand =
                 new FindCommand(new CreditsContainsKeywordsPredicate<>("999"));
         // single keyword
@@ -130,6 +130,42 @@ public class ParserUtilTest {
         assertEquals(expectedCode, ParserUtil.parseCode(codeWithWhitespace));
     }
 
+    @Test
+    public void parseCodeKeyword_validCode_returnsUpperCaseCode() throws Exception {
+        assertEquals(VALID_CODE, ParserUtil.parseCodeKeyword(WHITESPACE + VALID_CODE.toLowerCase() + WHITESPACE));
+    }
+
+    @Test
+    public void parseCodeKeyword_validPattern_returnsUpperCasePattern() throws Exception {
+        assertEquals("CS2***", ParserUtil.parseCodeKeyword(WHITESPACE + "cs2***" + WHITESPACE));
+        assertEquals("*", ParserUtil.parseCodeKeyword("*"));
+    }
+
+    @Test
+    public void parseCodeKeyword_invalidValue_throwsParseException() {
+        Assert.assertThrows(ParseException.class, Code.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseCodeKeyword("CS2"));
+        Assert.assertThrows(ParseException.class, Code.MESSAGE_PATTERN_CONSTRAINTS, () ->
+                ParserUtil.parseCodeKeyword("CS2*-"));
+    }
+
+    @Test
+    public void parseNameKeyword_fuzzyName_returnsTrimmedFuzzyName() throws Exception {
+        assertEquals(VALID_NAME, ParserUtil.parseNameKeyword(WHITESPACE + VALID_NAME + WHITESPACE));
+        assertEquals(VALID_NAME + CliSyntax.FUZZY_SUFFIX,
+                ParserUtil.parseNameKeyword(WHITESPACE + VALID_NAME + CliSyntax.FUZZY_SUFFIX + WHITESPACE));
+        Assert.assertThrows(ParseException.class, () ->
+                ParserUtil.parseNameKeyword(INVALID_NAME + CliSyntax.FUZZY_SUFFIX));
+    }
+
+    @Test
+    public void parseTagKeyword_fuzzyTag_returnsTrimmedFuzzyTag() throws Exception {
+        assertEquals(VALID_TAG_1, ParserUtil.parseTagKeyword(WHITESPACE + VALID_TAG_1 + WHITESPACE));
+        assertEquals(VALID_TAG_1 + CliSyntax.FUZZY_SUFFIX,
+                ParserUtil.parseTagKeyword(WHITESPACE + VALID_TAG_1 + CliSyntax.FUZZY_SUFFIX + WHITESPACE));
+        Assert.assertThrows(ParseException.class, () ->
+                ParserUtil.parseTagKeyword(INVALID_TAG + CliSyntax.FUZZY_SUFFIX));
+    }
+
     @Test
     public void parseTag_null_throwsNullPointerException() throws Exception {
         thrown.expect(NullPointerException.class);
@@ -193,4 +229,33 @@ public class ParserUtilTest {
         assertTrue(ParserUtil.parseKeyword(sentenceKeyword, sentence));
 
     }
+
+    @Test
+    public void parseKeyword_fuzzyKeyword_matchesWordsWithTypos() {
+        String name = "Data Structures and Algorithms";
+        assertTrue(ParserUtil.parseKeyword("algoritm~", name));
+        assertTrue(ParserUtil.parseKeyword("dta strucures~", name));
+        assertFalse(ParserUtil.parseKeyword("algoritm", name));
+        assertFalse(ParserUtil.parseKeyword("dat~", "Database")); // no typos tolerated in short words
+        assertFalse(ParserUtil.parseKeyword("data xyz~", name));
+    }
+
+    @Test
+    public void isFuzzyKeyword() {
+        assertTrue(ParserUtil.isFuzzyKeyword("algoritm~"));
+        assertFalse(ParserUtil.isFuzzyKeyword("algoritm"));
+        assertFalse(ParserUtil.isFuzzyKeyword("~"));
+        assertFalse(ParserUtil.isFuzzyKeyword(" ~"));
+    }
+
+    @Test
+    public void getFuzzyDistance() {
+        String name = "Data Structures and Algorithms";
+        assertEquals(0, ParserUtil.getFuzzyDistance("data~", name));
+        assertEquals(1, ParserUtil.getFuzzyDistance("dta~", name));
+        assertEquals(2, ParserUtil.getFuzzyDistance("algoritm~", name));
+        assertEquals(3, ParserUtil.getFuzzyDistance("dta algoritm~", name));
+        assertEquals(-1, ParserUtil.getFuzzyDistance("data xyz~", name));
+        Assert.assertThrows(IllegalArgumentException.class, () -> ParserUtil.getFuzzyDistance("data", name));
+    }
 }
@@ -1,6 +1,9 @@
 package pwe.planner.logic.parser;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static pwe.planner.logic.parser.CliSyntax.OPERATOR_AND;
@@ -12,10 +15,14 @@ import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
 import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.function.Predicate;
+
 import org.junit.Test;
 
+import pwe.planner.commons.util.LruCache;
 import pwe.planner.logic.commands.PlannerShowCommand;
 import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.planner.Semester;
 import pwe.planner.model.planner.SemesterContainsKeywordPredicate;
 import pwe.planner.model.planner.Year;
@@ -25,6 +32,20 @@ public class PlannerShowCommandParserTest {
     private static final String WHITESPACE = " ";
     private PlannerShowCommandParser parser = new PlannerShowCommandParser();
 
+    @Test
+    public void parse_withPredicateCache_reusesCompiledExpression() throws Exception {
+        LruCache<String, Predicate<DegreePlanner>> predicateCache = new LruCache<>(2);
+        PlannerShowCommandParser cachingParser = new PlannerShowCommandParser(predicateCache);
+
+        PlannerShowCommand firstCommand = cachingParser.parse(" " + PREFIX_YEAR + "1");
+        PlannerShowCommand secondCommand = cachingParser.parse(" " + PREFIX_YEAR + "1 ");
+        PlannerShowCommand otherCommand = cachingParser.parse(" " + PREFIX_YEAR + "2");
+        assertSame(firstCommand.getPredicate(), secondCommand.getPredicate());
+        assertNotSame(firstCommand.getPredicate(), otherCommand.getPredicate());
+        assertEquals(1, predicateCache.getHitCount());
+        assertEquals(2, predicateCache.getMissCount());
+    }
+
     @Test
     public void parse_emptyArg_throwsParseException() {
         //Displays usage
@@ -3,7 +3,9 @@ package pwe.planner.logic.parser;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static pwe.planner.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
 import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -13,6 +15,8 @@ import org.junit.Test;
 
 import pwe.planner.logic.commands.PlannerSuggestCommand;
 import pwe.planner.model.module.Credits;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
 import pwe.planner.model.tag.Tag;
 
 public class PlannerSuggestCommandParserTest {
@@ -27,6 +31,11 @@ public class PlannerSuggestCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_CREDITS + "2 "
                 + PREFIX_TAG + "validName " + PREFIX_TAG
                 + "anotherValidName", new PlannerSuggestCommand(bestCredits, tagsToFind));
+
+        // year and semester - credit budget
+        assertParseSuccess(parser, " " + PREFIX_CREDITS + "2 " + PREFIX_YEAR + "1 " + PREFIX_SEMESTER + "2 "
+                + PREFIX_TAG + "validName " + PREFIX_TAG + "anotherValidName",
+                new PlannerSuggestCommand(bestCredits, tagsToFind, new Year("1"), new Semester("2")));
     }
 
     @Test
@@ -35,6 +44,12 @@ public class PlannerSuggestCommandParserTest {
 
         // missing credits prefix
         assertParseFailure(parser, " " + "3 " + PREFIX_TAG + "validTag", expectedMessage);
+
+        // year without semester
+        assertParseFailure(parser, " " + PREFIX_CREDITS + "3 " + PREFIX_YEAR + "1", expectedMessage);
+
+        // semester without year
+        assertParseFailure(parser, " " + PREFIX_CREDITS + "3 " + PREFIX_SEMESTER + "1", expectedMessage);
     }
 
     @Test
@@ -42,6 +57,10 @@ public class PlannerSuggestCommandParserTest {
         // invalid credits
         assertParseFailure(parser, " " + PREFIX_CREDITS + "-1 " + PREFIX_TAG + "validTag", Credits.MESSAGE_CONSTRAINTS);
 
+        // invalid semester
+        assertParseFailure(parser, " " + PREFIX_CREDITS + "3 " + PREFIX_YEAR + "1 " + PREFIX_SEMESTER + "5",
+                Semester.MESSAGE_SEMESTER_CONSTRAINTS);
+
         // non-empty preamble
         assertParseFailure(parser, PREAMBLE_NON_EMPTY + " " + PREFIX_CREDITS + "1 " + PREFIX_TAG + "validTag",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlannerSuggestCommand.MESSAGE_USAGE));
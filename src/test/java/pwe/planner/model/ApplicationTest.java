@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
 import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
 import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
@@ -21,14 +22,17 @@ import org.junit.rules.ExpectedException;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.module.exceptions.DuplicateModuleException;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
 import pwe.planner.storage.JsonSerializableApplication;
 import pwe.planner.testutil.ModuleBuilder;
+import pwe.planner.testutil.RequirementCategoryBuilder;
 
 public class ApplicationTest {
 
@@ -122,6 +126,57 @@ public class ApplicationTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void batch_multipleMutations_listenersNotifiedOnceOnClose() {
+        SimpleIntegerProperty invalidationCounter = new SimpleIntegerProperty();
+        SimpleIntegerProperty changeCounter = new SimpleIntegerProperty();
+        application.addListener(observable -> invalidationCounter.set(invalidationCounter.get() + 1));
+        application.getModuleList().addListener((ListChangeListener<Module>) change ->
+                changeCounter.set(changeCounter.get() + 1));
+
+        try (MutationBatch batch = application.batch()) {
+            application.addModule(ALICE);
+            application.addModule(BENSON);
+            application.removeModule(ALICE);
+            assertTrue(application.hasModule(BENSON));
+            assertEquals(0, invalidationCounter.get());
+            assertEquals(0, changeCounter.get());
+        }
+        assertEquals(1, invalidationCounter.get());
+        assertEquals(1, changeCounter.get());
+        assertEquals(Collections.singletonList(BENSON), application.getModuleList());
+    }
+
+    @Test
+    public void getFulfilledCredits_applicationModified_creditsKeptUpToDate() throws IllegalValueException {
+        application.resetData(new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType());
+        Code code = new Code("CS2100");
+        assertEquals(3, application.getFulfilledCredits(application.getRequirementCategoryByCode(code)));
+
+        // credits edited
+        Module editedModule = new ModuleBuilder(application.getModuleByCode(code)).withCredits("6").build();
+        application.editModule(application.getModuleByCode(code), editedModule);
+        assertEquals(6, application.getFulfilledCredits(application.getRequirementCategoryByCode(code)));
+
+        // code and credits edited
+        Code editedCode = new Code("CS2109");
+        application.editModule(editedModule, new ModuleBuilder(editedModule).withCode(editedCode.value)
+                .withCredits("2").build());
+        assertEquals(2, application.getFulfilledCredits(application.getRequirementCategoryByCode(editedCode)));
+
+        // another module moved into the requirement category
+        RequirementCategory requirementCategory = application.getRequirementCategoryByCode(editedCode);
+        RequirementCategory editedRequirementCategory = new RequirementCategoryBuilder(requirementCategory)
+                .withCodes(editedCode.value, "CS2105").build();
+        application.setRequirementCategory(requirementCategory, editedRequirementCategory);
+        assertEquals(8, application.getFulfilledCredits(editedRequirementCategory));
+
+        // module deleted
+        application.removeModule(application.getModuleByCode(editedCode));
+        assertEquals(6, application.getFulfilledCredits(application.getRequirementCategoryByCode(new Code("CS2105"))));
+    }
+
     /**
      * A stub ReadOnlyApplication whose modules list can violate interface constraints.
      */
@@ -2,12 +2,16 @@ package pwe.planner.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_CODE_BOB;
 import static pwe.planner.model.Model.PREDICATE_SHOW_ALL_MODULES;
 import static pwe.planner.testutil.TypicalModules.ALICE;
 import static pwe.planner.testutil.TypicalModules.BENSON;
 import static pwe.planner.testutil.TypicalModules.BOB;
+import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_FOUNDATION;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -20,6 +24,8 @@ import org.junit.rules.ExpectedException;
 
 import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleCatalog;
+import pwe.planner.model.module.ModuleWordIndex.Field;
 import pwe.planner.model.module.NameContainsKeywordsPredicate;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
 import pwe.planner.testutil.ApplicationBuilder;
@@ -155,6 +161,191 @@ public class ModelManagerTest {
         assertEquals(ALICE, modelManager.getSelectedModule());
     }
 
+    @Test
+    public void batch_filterSetWithinBatch_filterAppliedOnClose() {
+        modelManager.addModule(ALICE);
+        try (MutationBatch batch = modelManager.batch()) {
+            modelManager.addModule(BENSON);
+            modelManager.updateFilteredModuleList(module -> module.equals(BENSON));
+            assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredModuleList());
+        }
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredModuleList());
+    }
+
+    @Test
+    public void updateFilteredModuleList_keywordPredicate_updatedOnModuleEdits() {
+        Module benson = new ModuleBuilder().withCode("CS1231").withName("Benson Meier").build();
+        modelManager.addModule(ALICE);
+        modelManager.addModule(benson);
+        modelManager.updateFilteredModuleList(new NameContainsKeywordsPredicate<>("Benson"));
+        assertEquals(Collections.singletonList(benson), modelManager.getFilteredModuleList());
+
+        // edited module no longer matches -> hidden
+        modelManager.setModule(benson, new ModuleBuilder(benson).withName("Benjamin").build());
+        assertEquals(Collections.emptyList(), modelManager.getFilteredModuleList());
+
+        // edited module matches -> shown
+        Module editedAlice = new ModuleBuilder(ALICE).withName("Alice Benson").build();
+        modelManager.setModule(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), modelManager.getFilteredModuleList());
+    }
+
+    @Test
+    public void updateFilteredModuleList_fuzzyKeyword_closestMatchesFirst() {
+        Module twoTypos = new ModuleBuilder().withCode("CS3243").withName("Algoritm Design").build();
+        Module exact = new ModuleBuilder().withCode("CS2040").withName("Data Structures and Algorithms").build();
+        Module oneTypo = new ModuleBuilder().withCode("CS3230").withName("Design of Algorithm").build();
+        modelManager.addModule(twoTypos);
+        modelManager.addModule(exact);
+        modelManager.addModule(oneTypo);
+        modelManager.addModule(ALICE);
+
+        modelManager.updateFilteredModuleList(new NameContainsKeywordsPredicate<>("algorithms~"));
+        assertEquals(Arrays.asList(exact, oneTypo, twoTypos), modelManager.getFilteredModuleList());
+
+        // not a fuzzy keyword -> list order kept
+        modelManager.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        assertEquals(Arrays.asList(twoTypos, exact, oneTypo, ALICE), modelManager.getFilteredModuleList());
+    }
+
+    @Test
+    public void commitApplication_batchInProgress_throwsIllegalStateException() {
+        try (MutationBatch batch = modelManager.batch()) {
+            modelManager.addModule(ALICE);
+            thrown.expect(IllegalStateException.class);
+            modelManager.commitApplication();
+        }
+    }
+
+    @Test
+    public void getSnapshot_commandsCommitted_newVersionPublished() {
+        modelManager.enableSnapshots();
+        ModelSnapshot initialSnapshot = modelManager.getSnapshot();
+        assertEquals(0, initialSnapshot.getVersion());
+
+        // not committed -> same snapshot
+        modelManager.addModule(ALICE);
+        assertSame(initialSnapshot, modelManager.getSnapshot());
+
+        modelManager.commitApplication();
+        ModelSnapshot committedSnapshot = modelManager.getSnapshot();
+        assertEquals(1, committedSnapshot.getVersion());
+        assertEquals(Collections.singletonList(ALICE), committedSnapshot.getState().getModuleList());
+        assertEquals(Collections.emptyList(), initialSnapshot.getState().getModuleList());
+
+        modelManager.undoApplication();
+        assertEquals(2, modelManager.getSnapshot().getVersion());
+        assertEquals(Collections.emptyList(), modelManager.getSnapshot().getState().getModuleList());
+
+        modelManager.redoApplication();
+        assertEquals(3, modelManager.getSnapshot().getVersion());
+        assertEquals(Collections.singletonList(ALICE), modelManager.getSnapshot().getState().getModuleList());
+    }
+
+    @Test
+    public void releaseSavepoint_commandsCommitted_snapshotPublishedOnRelease() {
+        modelManager.enableSnapshots();
+        ModelSnapshot initialSnapshot = modelManager.getSnapshot();
+        modelManager.setSavepoint();
+        modelManager.addModule(ALICE);
+        modelManager.commitApplication();
+        assertSame(initialSnapshot, modelManager.getSnapshot());
+
+        modelManager.releaseSavepoint();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getSnapshot().getState().getModuleList());
+        assertTrue(modelManager.canUndoApplication());
+    }
+
+    @Test
+    public void rollbackToSavepoint_commandsCommitted_changesDiscarded() {
+        modelManager.enableSnapshots();
+        modelManager.addModule(BENSON);
+        modelManager.commitApplication();
+        ModelSnapshot snapshot = modelManager.getSnapshot();
+        modelManager.setSavepoint();
+        modelManager.addModule(ALICE);
+        modelManager.commitApplication();
+        modelManager.undoApplication();
+        modelManager.deleteModule(BENSON);
+        modelManager.commitApplication();
+
+        modelManager.rollbackToSavepoint();
+        assertEquals(Collections.singletonList(BENSON), modelManager.getApplication().getModuleList());
+        assertSame(snapshot, modelManager.getSnapshot());
+        assertFalse(modelManager.canRedoApplication());
+        modelManager.undoApplication();
+        assertEquals(Collections.emptyList(), modelManager.getSnapshot().getState().getModuleList());
+    }
+
+    @Test
+    public void setSavepoint_savepointAlreadySet_throwsIllegalStateException() {
+        modelManager.setSavepoint();
+        thrown.expect(IllegalStateException.class);
+        modelManager.setSavepoint();
+    }
+
+    @Test
+    public void releaseSavepoint_noSavepoint_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        modelManager.releaseSavepoint();
+    }
+
+    @Test
+    public void getSnapshot_snapshotsNotEnabled_nothingPublished() {
+        modelManager.addModule(ALICE);
+        modelManager.commitApplication();
+        assertNull(modelManager.getSnapshot());
+
+        modelManager.enableSnapshots();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getSnapshot().getState().getModuleList());
+    }
+
+    @Test
+    public void getSnapshot_moduleEdited_onlyEditedModuleChanged() {
+        modelManager.addModule(ALICE);
+        modelManager.addModule(BENSON);
+        modelManager.commitApplication();
+        modelManager.enableSnapshots();
+        ModuleCatalog catalog = modelManager.getSnapshot().getState().getCatalog();
+
+        Module editedAlice = new ModuleBuilder(ALICE).withName("Quantum Computing").build();
+        modelManager.editModule(ALICE, editedAlice);
+        modelManager.commitApplication();
+        ModuleCatalog editedCatalog = modelManager.getSnapshot().getState().getCatalog();
+        assertEquals(Arrays.asList(editedAlice, BENSON), editedCatalog.getModuleList());
+        assertEquals(Collections.singleton(ALICE.getCode()),
+                editedCatalog.getWordIndex().getCodesMatching(Field.NAME, "quantum"));
+        assertTrue(editedCatalog.getWordIndex().getCodesMatching(Field.NAME, "alice").isEmpty());
+        assertSame(ALICE, catalog.getModuleByCode(ALICE.getCode()));
+
+        // undoing restores the module of the first catalog
+        modelManager.undoApplication();
+        assertSame(ALICE, modelManager.getSnapshot().getState().getCatalog().getModuleByCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void getSnapshot_modulesUnchanged_catalogReused() {
+        modelManager.enableSnapshots();
+        modelManager.addModule(ALICE);
+        modelManager.commitApplication();
+        ModuleCatalog catalog = modelManager.getSnapshot().getState().getCatalog();
+
+        modelManager.addRequirementCategory(COMPUTING_FOUNDATION);
+        modelManager.commitApplication();
+        assertSame(catalog, modelManager.getSnapshot().getState().getCatalog());
+        assertEquals(Collections.singletonList(COMPUTING_FOUNDATION),
+                modelManager.getSnapshot().getState().getRequirementCategoryList());
+
+        // undoing resets the modules to the same modules -> catalog reused
+        modelManager.undoApplication();
+        assertSame(catalog, modelManager.getSnapshot().getState().getCatalog());
+
+        modelManager.addModule(BENSON);
+        modelManager.commitApplication();
+        assertNotSame(catalog, modelManager.getSnapshot().getState().getCatalog());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getSnapshot().getState().getModuleList());
+    }
+
     @Test
     public void equals() {
         Application application = new ApplicationBuilder().withModule(ALICE).withModule(BENSON).build();
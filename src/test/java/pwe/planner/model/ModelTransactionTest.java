@@ -0,0 +1,105 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_1;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_2;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_BREADTH;
+import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_FOUNDATION;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.requirement.exceptions.RequirementCategoryNotFoundException;
+import pwe.planner.storage.JsonSerializableApplication;
+import pwe.planner.testutil.RequirementCategoryBuilder;
+
+public class ModelTransactionTest {
+
+    private static final RequirementCategory EDITED_COMPUTING_FOUNDATION =
+            new RequirementCategoryBuilder(COMPUTING_FOUNDATION).withCodes().build();
+    private static final RequirementCategory EDITED_COMPUTING_BREADTH =
+            new RequirementCategoryBuilder(COMPUTING_BREADTH).withCodes("CS2100").build();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private ReadOnlyApplication typicalApplication;
+    private Model model;
+
+    @Before
+    public void setUp() throws IllegalValueException {
+        typicalApplication = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+        model = new ModelManager(typicalApplication, new UserPrefs());
+    }
+
+    @Test
+    public void commit_multipleSteps_allStepsKeptAndCommitted() {
+        try (ModelTransaction transaction = model.beginTransaction()) {
+            transaction.setRequirementCategory(COMPUTING_FOUNDATION, EDITED_COMPUTING_FOUNDATION);
+            transaction.setRequirementCategory(COMPUTING_BREADTH, EDITED_COMPUTING_BREADTH);
+            transaction.commit();
+        }
+
+        assertEquals(EDITED_COMPUTING_FOUNDATION, model.getRequirementCategory(COMPUTING_FOUNDATION.getName()));
+        assertEquals(EDITED_COMPUTING_BREADTH, model.getRequirementCategory(COMPUTING_BREADTH.getName()));
+        assertTrue(model.canUndoApplication());
+    }
+
+    @Test
+    public void close_withoutCommit_allStepsReverted() {
+        try (ModelTransaction transaction = model.beginTransaction()) {
+            transaction.setRequirementCategory(COMPUTING_FOUNDATION, EDITED_COMPUTING_FOUNDATION);
+            transaction.setRequirementCategory(COMPUTING_BREADTH, EDITED_COMPUTING_BREADTH);
+        }
+
+        assertEquals(new ModelManager(typicalApplication, new UserPrefs()), model);
+        assertFalse(model.canUndoApplication());
+    }
+
+    @Test
+    public void close_stepFailsMidway_previousStepsReverted() {
+        try (ModelTransaction transaction = model.beginTransaction()) {
+            transaction.setRequirementCategory(COMPUTING_FOUNDATION, EDITED_COMPUTING_FOUNDATION);
+            transaction.setRequirementCategory(EDITED_COMPUTING_BREADTH, COMPUTING_BREADTH);
+        } catch (RequirementCategoryNotFoundException e) {
+            assertEquals(new ModelManager(typicalApplication, new UserPrefs()), model);
+            assertFalse(model.canUndoApplication());
+            return;
+        }
+        throw new AssertionError("The second step should have failed.");
+    }
+
+    @Test
+    public void rollback_moveModuleBetweenPlanner_degreePlannersReverted() {
+        try (ModelTransaction transaction = model.beginTransaction()) {
+            transaction.moveModuleBetweenPlanner(YEAR_1_SEMESTER_1, YEAR_1_SEMESTER_2, new Code("CS1231"));
+            assertEquals(model.getDegreePlanner(YEAR_1_SEMESTER_2.getYear(), YEAR_1_SEMESTER_2.getSemester()),
+                    model.getDegreePlannerByCode(new Code("CS2102")));
+            transaction.rollback();
+        }
+
+        assertEquals(YEAR_1_SEMESTER_1, model.getDegreePlannerByCode(new Code("CS1231")));
+        assertEquals(YEAR_1_SEMESTER_1, model.getDegreePlannerByCode(new Code("CS2102")));
+        assertEquals(new ModelManager(typicalApplication, new UserPrefs()), model);
+    }
+
+    @Test
+    public void commit_transactionAlreadyEnded_throwsIllegalStateException() {
+        ModelTransaction transaction = model.beginTransaction();
+        transaction.rollback();
+
+        thrown.expect(IllegalStateException.class);
+        transaction.commit();
+    }
+}
@@ -0,0 +1,96 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.Assert.assertThrows;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.AMY;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_FOUNDATION;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.commands.Command;
+import pwe.planner.logic.parser.CommandParser;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+import pwe.planner.storage.JsonSerializableApplication;
+
+public class SnapshotModelTest {
+
+    private ModelManager model;
+
+    @Before
+    public void setUp() throws IllegalValueException {
+        model = new ModelManager(new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType(), new UserPrefs());
+        model.enableSnapshots();
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SnapshotModel(null));
+    }
+
+    @Test
+    public void execute_readOnlyCommands_sameResultAsModel() throws Exception {
+        List<String> commandTexts = List.of("find name/Alice", "planner_list", "requirement_list",
+                "planner_suggest credits/4 tag/friends");
+        CommandParser commandParser = new CommandParser();
+        for (String commandText : commandTexts) {
+            Command command = commandParser.parseCommand(commandText);
+            assertTrue(command.isReadOnly());
+
+            SnapshotModel snapshotModel = new SnapshotModel(model.getSnapshot());
+            assertEquals(command.execute(model, new CommandHistory()).getFeedbackToUser(),
+                    command.execute(snapshotModel, new CommandHistory()).getFeedbackToUser());
+        }
+    }
+
+    @Test
+    public void updateFilteredModuleList_keywordPredicate_modelNotFiltered() {
+        int moduleCount = model.getFilteredModuleList().size();
+        SnapshotModel snapshotModel = new SnapshotModel(model.getSnapshot());
+
+        snapshotModel.updateFilteredModuleList(new NameContainsKeywordsPredicate<>("Alice"));
+        assertEquals(Collections.singletonList(ALICE), snapshotModel.getFilteredModuleList());
+        assertEquals(moduleCount, model.getFilteredModuleList().size());
+    }
+
+    @Test
+    public void getFulfilledCredits_sameAsModel() {
+        SnapshotModel snapshotModel = new SnapshotModel(model.getSnapshot());
+        assertEquals(model.getFulfilledCredits(COMPUTING_FOUNDATION),
+                snapshotModel.getFulfilledCredits(COMPUTING_FOUNDATION));
+    }
+
+    @Test
+    public void hasModule_modelModifiedAfterSnapshot_snapshotUnchanged() {
+        ModelSnapshot snapshot = model.getSnapshot();
+        model.deleteModule(ALICE);
+        model.commitApplication();
+
+        SnapshotModel snapshotModel = new SnapshotModel(snapshot);
+        assertTrue(snapshotModel.hasModule(ALICE));
+        assertFalse(model.hasModule(ALICE));
+        assertSame(snapshot, snapshotModel.getSnapshot());
+    }
+
+    @Test
+    public void addModule_throwsUnsupportedOperationException() {
+        SnapshotModel snapshotModel = new SnapshotModel(model.getSnapshot());
+        assertThrows(UnsupportedOperationException.class, SnapshotModel.MESSAGE_READ_ONLY, () ->
+                snapshotModel.addModule(AMY));
+        assertThrows(UnsupportedOperationException.class, SnapshotModel.MESSAGE_READ_ONLY,
+                snapshotModel::commitApplication);
+    }
+}
@@ -0,0 +1,79 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.Assert.assertThrows;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlanners;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.AMY;
+import static pwe.planner.testutil.TypicalModules.getTypicalModules;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategories;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.commands.Command;
+import pwe.planner.logic.parser.CommandParser;
+import pwe.planner.model.module.ModuleCatalog;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+
+public class StudentModelTest {
+
+    private final ModuleCatalog catalog = new ModuleCatalog(getTypicalModules());
+    private final PlanTemplate template = new PlanTemplate(catalog, getTypicalDegreePlanners(),
+            getTypicalRequirementCategories());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StudentModel(null));
+    }
+
+    @Test
+    public void execute_studentCommands_sameResultAsModel() throws Exception {
+        Application application = new Application();
+        application.setModules(getTypicalModules());
+        application.setDegreePlanners(getTypicalDegreePlanners());
+        application.setRequirementCategories(getTypicalRequirementCategories());
+        ModelManager model = new ModelManager(application);
+        StudentState student = template.createStudent();
+
+        List<String> commandTexts = List.of("planner_move year/1 sem/2 code/CS1010", "planner_remove code/CS1231",
+                "clear requirement", "undo", "redo", "undo", "planner_list", "requirement_list");
+        CommandParser commandParser = new CommandParser();
+        for (String commandText : commandTexts) {
+            Command command = commandParser.parseCommand(commandText);
+            assertEquals(command.execute(model, new CommandHistory()).getFeedbackToUser(),
+                    command.execute(new StudentModel(student), new CommandHistory()).getFeedbackToUser());
+            assertEquals(model.getApplication().getDegreePlannerList(), student.getDegreePlannerList());
+            assertEquals(model.getApplication().getRequirementCategoryList(), student.getRequirementCategoryList());
+        }
+
+        // the template is left as it is
+        assertEquals(getTypicalDegreePlanners(), template.getDegreePlannerList());
+    }
+
+    @Test
+    public void updateFilteredModuleList_keywordPredicate_catalogFiltered() {
+        StudentModel studentModel = new StudentModel(template.createStudent());
+
+        studentModel.updateFilteredModuleList(new NameContainsKeywordsPredicate<>("Alice"));
+        assertEquals(Collections.singletonList(ALICE), studentModel.getFilteredModuleList());
+        assertEquals(getTypicalModules().size(), catalog.getModuleList().size());
+    }
+
+    @Test
+    public void addModule_throwsUnsupportedOperationException() {
+        StudentModel studentModel = new StudentModel(template.createStudent());
+
+        assertThrows(UnsupportedOperationException.class, StudentModel.MESSAGE_CATALOG_READ_ONLY, () ->
+                studentModel.addModule(AMY));
+        assertThrows(UnsupportedOperationException.class, StudentModel.MESSAGE_UNSUPPORTED,
+                studentModel::setSavepoint);
+        assertFalse(studentModel.hasModule(AMY));
+        assertTrue(studentModel.hasModule(ALICE));
+    }
+}
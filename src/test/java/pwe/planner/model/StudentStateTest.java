@@ -0,0 +1,227 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.Assert.assertThrows;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_1;
+import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_2;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlanners;
+import static pwe.planner.testutil.TypicalModules.getTypicalModules;
+import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_FOUNDATION;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategories;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import pwe.planner.model.VersionedApplication.NoRedoableStateException;
+import pwe.planner.model.VersionedApplication.NoUndoableStateException;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.ModuleCatalog;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.testutil.RequirementCategoryBuilder;
+
+public class StudentStateTest {
+
+    private static final DegreePlanner EMPTY_YEAR_1_SEMESTER_1 = new DegreePlanner(YEAR_1_SEMESTER_1.getYear(),
+            YEAR_1_SEMESTER_1.getSemester(), Set.of());
+
+    private final ModuleCatalog catalog = new ModuleCatalog(getTypicalModules());
+    private final PlanTemplate template = new PlanTemplate(catalog, getTypicalDegreePlanners(),
+            getTypicalRequirementCategories());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StudentState(null));
+    }
+
+    @Test
+    public void createStudent_template_sharesCatalogAndLists() {
+        StudentState student = template.createStudent();
+
+        assertSame(catalog, student.getCatalog());
+        assertSame(catalog.getModuleList(), student.getModuleList());
+        assertSame(template.getDegreePlannerList(), student.getDegreePlannerList());
+        assertSame(template.getRequirementCategoryList(), student.getRequirementCategoryList());
+        assertEquals(3, student.getFulfilledCredits(COMPUTING_FOUNDATION));
+        assertFalse(student.canUndo());
+        assertFalse(student.canRedo());
+    }
+
+    @Test
+    public void setDegreePlanner_studentFromTemplate_templateAndOtherStudentsUnchanged() {
+        StudentState student = template.createStudent();
+        StudentState otherStudent = template.createStudent();
+
+        student.setDegreePlanner(YEAR_1_SEMESTER_1, EMPTY_YEAR_1_SEMESTER_1);
+
+        assertTrue(student.hasDegreePlanner(EMPTY_YEAR_1_SEMESTER_1));
+        assertTrue(template.getDegreePlannerList().contains(YEAR_1_SEMESTER_1));
+        assertTrue(otherStudent.hasDegreePlanner(YEAR_1_SEMESTER_1));
+        assertEquals(template.getDegreePlannerList(), otherStudent.getDegreePlannerList());
+        // the requirement categories are not modified, so they are still shared
+        assertSame(template.getRequirementCategoryList(), student.getRequirementCategoryList());
+    }
+
+    @Test
+    public void setRequirementCategory_studentFromTemplate_fulfilledCreditsOfStudentOnly() {
+        StudentState student = template.createStudent();
+        RequirementCategory editedComputingFoundation = new RequirementCategoryBuilder(COMPUTING_FOUNDATION)
+                .withCodes("CS2100", "CS2105").build();
+
+        student.setRequirementCategory(COMPUTING_FOUNDATION, editedComputingFoundation);
+
+        assertEquals(9, student.getFulfilledCredits(editedComputingFoundation));
+        assertEquals(3, template.createStudent().getFulfilledCredits(COMPUTING_FOUNDATION));
+        assertEquals(editedComputingFoundation, student.getRequirementCategoryByCode(new Code("CS2105")));
+    }
+
+    @Test
+    public void undoRedo_committedStates_restoresStates() {
+        StudentState student = template.createStudent();
+        student.setDegreePlanner(YEAR_1_SEMESTER_1, EMPTY_YEAR_1_SEMESTER_1);
+        student.commit();
+        student.removeDegreePlanner(YEAR_1_SEMESTER_2);
+        student.commit();
+
+        student.undo();
+        assertTrue(student.hasDegreePlanner(YEAR_1_SEMESTER_2));
+        assertTrue(student.hasDegreePlanner(EMPTY_YEAR_1_SEMESTER_1));
+
+        student.undo();
+        assertEquals(template.getDegreePlannerList(), student.getDegreePlannerList());
+        assertFalse(student.canUndo());
+
+        student.redo();
+        student.redo();
+        assertFalse(student.hasDegreePlanner(YEAR_1_SEMESTER_2));
+        assertFalse(student.canRedo());
+        assertEquals(2, student.getHistorySize());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_changesDiscarded() {
+        StudentState student = template.createStudent();
+        student.commit();
+        student.removeDegreePlanner(YEAR_1_SEMESTER_2);
+
+        student.undo();
+
+        assertTrue(student.hasDegreePlanner(YEAR_1_SEMESTER_2));
+    }
+
+    @Test
+    public void commit_afterUndo_undoneStatesRemoved() {
+        StudentState student = template.createStudent();
+        student.removeDegreePlanner(YEAR_1_SEMESTER_2);
+        student.commit();
+        student.undo();
+
+        student.setDegreePlanner(YEAR_1_SEMESTER_1, EMPTY_YEAR_1_SEMESTER_1);
+        student.commit();
+
+        assertFalse(student.canRedo());
+        assertEquals(1, student.getHistorySize());
+        assertTrue(student.hasDegreePlanner(YEAR_1_SEMESTER_2));
+        // the committed state is not modified by later changes
+        student.removeDegreePlanner(YEAR_1_SEMESTER_2);
+        student.undo();
+        student.redo();
+        assertTrue(student.hasDegreePlanner(YEAR_1_SEMESTER_2));
+        assertTrue(student.hasDegreePlanner(EMPTY_YEAR_1_SEMESTER_1));
+    }
+
+    @Test
+    public void undo_atStartOfHistory_throwsNoUndoableStateException() {
+        assertThrows(NoUndoableStateException.class, () -> template.createStudent().undo());
+    }
+
+    @Test
+    public void redo_atEndOfHistory_throwsNoRedoableStateException() {
+        assertThrows(NoRedoableStateException.class, () -> template.createStudent().redo());
+    }
+
+    @Test
+    public void constructor_nonPositiveHistoryLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, VersionedApplication.MESSAGE_HISTORY_LIMIT_CONSTRAINTS, () ->
+                new StudentState(template, 0));
+    }
+
+    @Test
+    public void commit_beyondHistoryLimit_oldestStatesDiscarded() {
+        StudentState student = template.createStudent(2);
+
+        student.removeDegreePlanner(YEAR_1_SEMESTER_1);
+        student.commit();
+        student.removeDegreePlanner(YEAR_1_SEMESTER_2);
+        student.commit();
+        student.removeRequirementCategory(COMPUTING_FOUNDATION);
+        student.commit();
+        assertEquals(2, student.getHistorySize());
+
+        student.undo();
+        student.undo();
+        assertFalse(student.canUndo());
+        // the state before the first commit has been discarded
+        assertFalse(student.hasDegreePlanner(YEAR_1_SEMESTER_1));
+        assertTrue(student.hasDegreePlanner(YEAR_1_SEMESTER_2));
+
+        student.redo();
+        student.redo();
+        assertFalse(student.hasRequirementCategory(COMPUTING_FOUNDATION.getName()));
+    }
+
+    @Test
+    public void addListener_modification_listenerNotified() {
+        StudentState student = template.createStudent();
+        int[] notifications = new int[1];
+        student.addListener(observable -> notifications[0]++);
+
+        student.removeRequirementCategory(COMPUTING_FOUNDATION);
+        student.commit();
+        student.undo();
+
+        assertEquals(2, notifications[0]);
+        assertTrue(student.hasRequirementCategory(COMPUTING_FOUNDATION.getName()));
+    }
+
+    @Test
+    public void equals() {
+        StudentState student = template.createStudent();
+
+        // same values -> returns true
+        assertEquals(student, template.createStudent());
+
+        // same object -> returns true
+        assertEquals(student, student);
+
+        // null -> returns false
+        assertNotEquals(null, student);
+
+        // different types -> returns false
+        assertNotEquals(5, student);
+
+        // different degree planners -> returns false
+        StudentState otherStudent = template.createStudent();
+        otherStudent.removeDegreePlanner(YEAR_1_SEMESTER_2);
+        assertNotEquals(student, otherStudent);
+    }
+
+    @Test
+    public void getOrCreateStudent_registry_createdOnceFromTemplate() {
+        StudentRegistry registry = new StudentRegistry(template);
+
+        StudentState student = registry.getOrCreateStudent("A0000001");
+
+        assertSame(student, registry.getOrCreateStudent("A0000001"));
+        assertEquals(template.createStudent(), student);
+        assertFalse(registry.getStudent("A0000002").isPresent());
+        assertEquals(1, registry.size());
+        registry.removeStudent("A0000001");
+        assertEquals(0, registry.size());
+    }
+}
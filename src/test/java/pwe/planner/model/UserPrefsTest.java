@@ -18,4 +18,22 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPrefs.setModuleListFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryInMemoryLimit_nonPositiveLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryInMemoryLimit(0));
+    }
+
+    @Test
+    public void setUndoHistoryLimit_nonPositiveLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryLimit(0));
+    }
+
+    @Test
+    public void setUndoHistorySpillDirectory_nullPath_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(NullPointerException.class, () -> userPrefs.setUndoHistorySpillDirectory(null));
+    }
+
 }
@@ -8,6 +8,7 @@ import static pwe.planner.testutil.TypicalModules.AMY;
 import static pwe.planner.testutil.TypicalModules.BOB;
 import static pwe.planner.testutil.TypicalModules.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -150,6 +151,199 @@ public class VersionedApplicationTest {
                 Arrays.asList(applicationWithAmy, applicationWithBob));
     }
 
+    @Test
+    public void undo_incrementalChanges_previousStatesRestored() {
+        VersionedApplication versionedapplication = new VersionedApplication(applicationWithAmy);
+        versionedapplication.addModule(BOB);
+        versionedapplication.commit();
+        versionedapplication.addModule(CARL);
+        versionedapplication.removeModule(AMY);
+        versionedapplication.commit();
+
+        ReadOnlyApplication applicationWithBobAndCarl = new ApplicationBuilder().withModule(BOB).withModule(CARL)
+                .build();
+        ReadOnlyApplication applicationWithAmyAndBob = new ApplicationBuilder().withModule(AMY).withModule(BOB)
+                .build();
+        assertapplicationListStatus(versionedapplication,
+                Arrays.asList(applicationWithAmy, applicationWithAmyAndBob),
+                applicationWithBobAndCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_inMemoryLimitWithoutSpill_oldestStatesDropped() {
+        VersionedApplication versionedapplication = new VersionedApplication(emptyapplication, 2);
+        for (ReadOnlyApplication state : Arrays.asList(applicationWithAmy, applicationWithBob, applicationWithCarl)) {
+            versionedapplication.resetData(state);
+            versionedapplication.commit();
+        }
+
+        assertEquals(2, versionedapplication.getHistorySize());
+        assertEquals(2, versionedapplication.getInMemoryHistorySize());
+        assertapplicationListStatus(versionedapplication,
+                Arrays.asList(applicationWithAmy, applicationWithBob),
+                applicationWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_inMemoryLimitWithSpill_allStatesKept() {
+        VersionedApplication versionedapplication = new VersionedApplication(emptyapplication, 1,
+                new InMemoryUndoHistorySpill());
+        for (ReadOnlyApplication state : Arrays.asList(applicationWithAmy, applicationWithBob, applicationWithCarl)) {
+            versionedapplication.resetData(state);
+            versionedapplication.commit();
+        }
+
+        assertEquals(3, versionedapplication.getHistorySize());
+        assertEquals(1, versionedapplication.getInMemoryHistorySize());
+        assertapplicationListStatus(versionedapplication,
+                Arrays.asList(emptyapplication, applicationWithAmy, applicationWithBob),
+                applicationWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_spilledStatesAfterPointer_spilledStatesRemoved() {
+        VersionedApplication versionedapplication = new VersionedApplication(emptyapplication, 1,
+                new InMemoryUndoHistorySpill());
+        for (ReadOnlyApplication state : Arrays.asList(applicationWithAmy, applicationWithBob, applicationWithCarl)) {
+            versionedapplication.resetData(state);
+            versionedapplication.commit();
+        }
+        shiftCurrentStatePointerLeftwards(versionedapplication, 3);
+
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+        assertEquals(1, versionedapplication.getHistorySize());
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(emptyapplication),
+                applicationWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_historyLimitWithSpill_oldestSpilledStatesDropped() {
+        VersionedApplication versionedapplication = new VersionedApplication(emptyapplication, 1,
+                new InMemoryUndoHistorySpill(), 2);
+        for (ReadOnlyApplication state : Arrays.asList(applicationWithAmy, applicationWithBob, applicationWithCarl)) {
+            versionedapplication.resetData(state);
+            versionedapplication.commit();
+        }
+
+        assertEquals(2, versionedapplication.getHistorySize());
+        assertEquals(1, versionedapplication.getInMemoryHistorySize());
+        assertapplicationListStatus(versionedapplication,
+                Arrays.asList(applicationWithAmy, applicationWithBob),
+                applicationWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void rollback_oldestStatesDroppedAfterSavepoint_statesStayDropped() {
+        VersionedApplication versionedapplication = new VersionedApplication(emptyapplication, 1,
+                new InMemoryUndoHistorySpill(), 2);
+        for (ReadOnlyApplication state : Arrays.asList(applicationWithAmy, applicationWithBob)) {
+            versionedapplication.resetData(state);
+            versionedapplication.commit();
+        }
+        VersionedApplication.Savepoint savepoint = versionedapplication.savepoint();
+
+        versionedapplication.resetData(applicationWithCarl);
+        versionedapplication.commit();
+        versionedapplication.rollback(savepoint);
+
+        assertEquals(1, versionedapplication.getHistorySize());
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(applicationWithAmy),
+                applicationWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void close_statesSpilled_spilledStatesDiscarded() {
+        VersionedApplication versionedapplication = new VersionedApplication(emptyapplication, 1,
+                new InMemoryUndoHistorySpill());
+        for (ReadOnlyApplication state : Arrays.asList(applicationWithAmy, applicationWithBob)) {
+            versionedapplication.resetData(state);
+            versionedapplication.commit();
+        }
+
+        versionedapplication.close();
+        assertEquals(1, versionedapplication.getHistorySize());
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(applicationWithAmy),
+                applicationWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void rollback_afterUndoAndCommit_stateAndHistoryRestored() {
+        VersionedApplication versionedapplication = prepareapplicationList(
+                emptyapplication, applicationWithAmy, applicationWithBob);
+        shiftCurrentStatePointerLeftwards(versionedapplication, 1);
+        VersionedApplication.Savepoint savepoint = versionedapplication.savepoint();
+
+        versionedapplication.resetData(applicationWithCarl);
+        versionedapplication.commit();
+        versionedapplication.rollback(savepoint);
+
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(emptyapplication),
+                applicationWithAmy,
+                Collections.singletonList(applicationWithBob));
+    }
+
+    @Test
+    public void rollback_statesSpilledAfterSavepoint_statesKeptInMemory() {
+        VersionedApplication versionedapplication = new VersionedApplication(emptyapplication, 1,
+                new InMemoryUndoHistorySpill());
+        versionedapplication.resetData(applicationWithAmy);
+        versionedapplication.commit();
+        VersionedApplication.Savepoint savepoint = versionedapplication.savepoint();
+
+        for (ReadOnlyApplication state : Arrays.asList(applicationWithBob, applicationWithCarl)) {
+            versionedapplication.resetData(state);
+            versionedapplication.commit();
+        }
+        versionedapplication.rollback(savepoint);
+
+        assertEquals(1, versionedapplication.getHistorySize());
+        assertEquals(1, versionedapplication.getInMemoryHistorySize());
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(emptyapplication),
+                applicationWithAmy,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void rollback_spilledStatesRemovedAfterSavepoint_spilledStatesDiscarded() {
+        VersionedApplication versionedapplication = new VersionedApplication(emptyapplication, 1,
+                new InMemoryUndoHistorySpill());
+        for (ReadOnlyApplication state : Arrays.asList(applicationWithAmy, applicationWithBob, applicationWithCarl)) {
+            versionedapplication.resetData(state);
+            versionedapplication.commit();
+        }
+        VersionedApplication.Savepoint savepoint = versionedapplication.savepoint();
+
+        shiftCurrentStatePointerLeftwards(versionedapplication, 3);
+        versionedapplication.resetData(applicationWithBob);
+        versionedapplication.commit();
+        versionedapplication.rollback(savepoint);
+
+        // the spilled states can no longer be restored, but the states that were in memory are
+        assertEquals(1, versionedapplication.getHistorySize());
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(applicationWithBob),
+                applicationWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void constructor_invalidInMemoryLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedApplication(emptyapplication, 0));
+    }
+
     @Test
     public void undo_singleapplication_throwsNoUndoableStateException() {
         VersionedApplication versionedapplication = prepareapplicationList(emptyapplication);
@@ -295,4 +489,36 @@ public class VersionedApplicationTest {
             versionedapplication.undo();
         }
     }
+
+    /**
+     * An {@code UndoHistorySpill} that keeps the spilled entries in memory.
+     */
+    private static class InMemoryUndoHistorySpill implements UndoHistorySpill {
+        private final List<ApplicationDelta> entries = new ArrayList<>();
+
+        @Override
+        public void spill(ApplicationDelta delta) {
+            entries.add(delta);
+        }
+
+        @Override
+        public ApplicationDelta load(int index) {
+            return entries.get(index);
+        }
+
+        @Override
+        public void truncate(int size) {
+            entries.subList(size, entries.size()).clear();
+        }
+
+        @Override
+        public void discardOldest(int count) {
+            entries.subList(0, Math.min(count, entries.size())).clear();
+        }
+
+        @Override
+        public void close() {
+            entries.clear();
+        }
+    }
 }
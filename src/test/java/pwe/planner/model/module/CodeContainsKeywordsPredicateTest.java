@@ -1,5 +1,6 @@
 package pwe.planner.model.module;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -25,6 +26,7 @@ public class CodeContainsKeywordsPredicateTest {
         CodeContainsKeywordsPredicate<Module> firstPredicateCopy =
                 new CodeContainsKeywordsPredicate<>(firstPredicateKeyword);
         assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
 
         // different types -> returns false
         assertFalse(firstPredicate.equals(1));
@@ -0,0 +1,76 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CodeIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void findId_unregisteredCode_returnsMinusOne() {
+        assertEquals(-1, CodeIndex.findId(new Code("ZY9998Z")));
+        assertEquals(-1, CodeIndex.findId("CS1010"));
+        assertEquals(-1, CodeIndex.findId(null));
+    }
+
+    @Test
+    public void register_equalCodes_sameId() {
+        int id = CodeIndex.register(new Code("CS3230"));
+        assertEquals(id, CodeIndex.register(new Code("cs3230")));
+        assertEquals(id, CodeIndex.findId(new Code("CS3230")));
+        assertEquals(new Code("CS3230"), CodeIndex.getCode(id));
+    }
+
+    @Test
+    public void register_manyCodesFromManyThreads_distinctIds() throws Exception {
+        int threads = 4;
+        int codesPerThread = 1500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Integer> ids = new ArrayList<>();
+                    // every thread registers the same codes, in the same order
+                    for (int j = 0; j < codesPerThread; j++) {
+                        ids.add(CodeIndex.register(new Code(String.format("RG%04d", j))));
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            List<Integer> ids = futures.get(0).get();
+            for (Future<List<Integer>> future : futures) {
+                assertEquals(ids, future.get());
+            }
+            for (int j = 0; j < codesPerThread; j++) {
+                Code code = CodeIndex.getCode(ids.get(j));
+                assertEquals(new Code(String.format("RG%04d", j)), code);
+                assertSame(code, CodeIndex.getCode(CodeIndex.findId(code)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getCode_unassignedId_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        CodeIndex.getCode(-1);
+    }
+}
@@ -0,0 +1,206 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CodeSetTest {
+    private static final Code CODE_A = new Code("CS1010");
+    private static final Code CODE_B = new Code("CS1231");
+    private static final Code CODE_C = new Code("CS2040C");
+    private static final Code CODE_D = new Code("CS2100");
+    /** A code that is never registered, as no module of a catalog has it. */
+    private static final Code UNREGISTERED_CODE = new Code("ZZ9999Z");
+
+    static {
+        List.of(CODE_A, CODE_B, CODE_C, CODE_D).forEach(CodeIndex::register);
+    }
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_nullCollection_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new CodeSet(null);
+    }
+
+    @Test
+    public void add_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new CodeSet().add(null);
+    }
+
+    @Test
+    public void addAndRemove() {
+        CodeSet codeSet = new CodeSet();
+        assertTrue(codeSet.add(CODE_A));
+        assertFalse(codeSet.add(new Code("cs1010")));
+        assertTrue(codeSet.contains(new Code("CS1010")));
+        assertFalse(codeSet.contains(CODE_B));
+        assertFalse(codeSet.contains("CS1010"));
+        assertEquals(1, codeSet.size());
+
+        assertTrue(codeSet.remove(CODE_A));
+        assertFalse(codeSet.remove(CODE_A));
+        assertTrue(codeSet.isEmpty());
+    }
+
+    @Test
+    public void iterator_codesInIdOrder() {
+        CodeSet codeSet = new CodeSet(Set.of(CODE_A, CODE_B, CODE_C));
+        List<Code> expectedCodes = new ArrayList<>(List.of(CODE_A, CODE_B, CODE_C));
+        expectedCodes.sort((first, second) -> CodeIndex.findId(first) - CodeIndex.findId(second));
+
+        assertEquals(expectedCodes, new ArrayList<>(codeSet));
+
+        Iterator<Code> iterator = codeSet.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(expectedCodes.subList(1, 3), new ArrayList<>(codeSet));
+    }
+
+    @Test
+    public void setAlgebra_codeSets() {
+        CodeSet first = new CodeSet(Set.of(CODE_A, CODE_B, CODE_C));
+        CodeSet second = new CodeSet(Set.of(CODE_B, CODE_C, CODE_D));
+
+        CodeSet union = new CodeSet(first);
+        assertTrue(union.addAll(second));
+        assertEquals(Set.of(CODE_A, CODE_B, CODE_C, CODE_D), union);
+
+        CodeSet intersection = new CodeSet(first);
+        assertTrue(intersection.retainAll(second));
+        assertEquals(Set.of(CODE_B, CODE_C), intersection);
+
+        CodeSet difference = new CodeSet(first);
+        assertTrue(difference.removeAll(second));
+        assertEquals(Set.of(CODE_A), difference);
+        assertFalse(difference.removeAll(second));
+
+        assertTrue(first.intersects(second));
+        assertFalse(difference.intersects(second));
+        assertTrue(union.containsAll(first));
+        assertFalse(first.containsAll(union));
+    }
+
+    @Test
+    public void setAlgebra_otherCollections_sameResultAsCodeSets() {
+        CodeSet codeSet = new CodeSet(Set.of(CODE_A, CODE_B, CODE_C));
+
+        CodeSet intersection = new CodeSet(codeSet);
+        intersection.retainAll(Set.of(CODE_B, CODE_D));
+        assertEquals(Set.of(CODE_B), intersection);
+
+        CodeSet difference = new CodeSet(codeSet);
+        difference.removeAll(List.of(CODE_B, CODE_D));
+        assertEquals(Set.of(CODE_A, CODE_C), difference);
+
+        assertTrue(codeSet.intersects(Set.of(CODE_C, CODE_D)));
+        assertFalse(codeSet.intersects(Set.of(CODE_D)));
+        assertTrue(codeSet.containsAll(Set.of(CODE_A, CODE_C)));
+    }
+
+    @Test
+    public void addAndRemove_unregisteredCode_notRegistered() {
+        CodeSet codeSet = new CodeSet(Set.of(CODE_A));
+        assertTrue(codeSet.add(UNREGISTERED_CODE));
+        assertFalse(codeSet.add(new Code("zz9999z")));
+        assertEquals(-1, CodeIndex.findId(UNREGISTERED_CODE));
+
+        assertTrue(codeSet.contains(UNREGISTERED_CODE));
+        assertEquals(2, codeSet.size());
+        assertEquals(List.of(CODE_A, UNREGISTERED_CODE), new ArrayList<>(codeSet));
+
+        assertTrue(codeSet.remove(UNREGISTERED_CODE));
+        assertFalse(codeSet.contains(UNREGISTERED_CODE));
+        assertEquals(Set.of(CODE_A), codeSet);
+    }
+
+    @Test
+    public void registeredCopyOf_newCode_registeredAndUnmodifiable() {
+        Code newCode = new Code("ZZ8888Z");
+        CodeSet codeSet = CodeSet.registeredCopyOf(Set.of(CODE_A, newCode));
+        assertNotEquals(-1, CodeIndex.findId(newCode));
+        assertEquals(Set.of(CODE_A, newCode), codeSet);
+
+        thrown.expect(UnsupportedOperationException.class);
+        codeSet.add(CODE_B);
+    }
+
+    @Test
+    public void setAlgebra_unregisteredCodes_sameResultAsRegisteredCodes() {
+        CodeSet first = new CodeSet(Set.of(CODE_A, UNREGISTERED_CODE));
+        CodeSet second = new CodeSet(Set.of(CODE_A, CODE_B));
+
+        CodeSet union = new CodeSet(first);
+        assertTrue(union.addAll(second));
+        assertEquals(Set.of(CODE_A, CODE_B, UNREGISTERED_CODE), union);
+
+        CodeSet intersection = new CodeSet(first);
+        assertTrue(intersection.retainAll(second));
+        assertEquals(Set.of(CODE_A), intersection);
+
+        CodeSet difference = new CodeSet(union);
+        assertTrue(difference.removeAll(second));
+        assertEquals(Set.of(UNREGISTERED_CODE), difference);
+
+        assertTrue(union.containsAll(first));
+        assertFalse(second.containsAll(first));
+        assertTrue(first.intersects(second));
+        assertFalse(difference.intersects(second));
+        assertEquals(new CodeSet(Set.of(UNREGISTERED_CODE, CODE_A)), first);
+        assertNotEquals(second, first);
+    }
+
+    @Test
+    public void iterator_removeUnregisteredCode() {
+        CodeSet codeSet = new CodeSet(Set.of(CODE_A, UNREGISTERED_CODE));
+        Iterator<Code> iterator = codeSet.iterator();
+        assertEquals(CODE_A, iterator.next());
+        assertEquals(UNREGISTERED_CODE, iterator.next());
+        iterator.remove();
+        assertFalse(iterator.hasNext());
+
+        assertEquals(Set.of(CODE_A), codeSet);
+    }
+
+    @Test
+    public void unmodifiableView_modifyView_throwsUnsupportedOperationException() {
+        CodeSet codeSet = new CodeSet(Set.of(CODE_A));
+        CodeSet view = CodeSet.unmodifiableView(codeSet);
+
+        // changes to the backing set are reflected in the view
+        codeSet.add(CODE_B);
+        assertEquals(Set.of(CODE_A, CODE_B), view);
+
+        thrown.expect(UnsupportedOperationException.class);
+        view.remove(CODE_D);
+    }
+
+    @Test
+    public void equals() {
+        CodeSet codeSet = new CodeSet(Set.of(CODE_A, CODE_B));
+
+        // same codes -> returns true
+        assertEquals(new CodeSet(Set.of(CODE_B, CODE_A)), codeSet);
+
+        // same codes in another kind of set -> returns true, with the same hash code
+        assertEquals(Set.of(CODE_A, CODE_B), codeSet);
+        assertEquals(codeSet, Set.of(CODE_A, CODE_B));
+        assertEquals(Set.of(CODE_A, CODE_B).hashCode(), codeSet.hashCode());
+
+        // different codes -> returns false
+        assertNotEquals(new CodeSet(Set.of(CODE_A)), codeSet);
+    }
+}
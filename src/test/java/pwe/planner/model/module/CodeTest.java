@@ -1,6 +1,7 @@
 package pwe.planner.model.module;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -46,4 +47,11 @@ public class CodeTest {
         // case insensitive equals codes -> success
         assertFalse(new Code("DEF5678").equals(new Code("DE5678F")));
     }
+
+    @Test
+    public void intern_equalCodes_returnsSameInstance() {
+        Code code = new Code("ABC1234D").intern();
+        assertSame(code, new Code("abc1234d").intern());
+        assertSame(code, code.intern());
+    }
 }
@@ -0,0 +1,81 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CorequisiteClustersTest {
+    private static final Code CODE_A = new Code("CS1010");
+    private static final Code CODE_B = new Code("CS1231");
+    private static final Code CODE_C = new Code("CS2040C");
+    private static final Code CODE_D = new Code("CS2100");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CorequisiteClusters corequisiteClusters = new CorequisiteClusters();
+
+    @Test
+    public void getCluster_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        corequisiteClusters.getCluster(null);
+    }
+
+    @Test
+    public void getCluster_untrackedCode_returnsCodeOnly() {
+        assertEquals(Set.of(CODE_A), corequisiteClusters.getCluster(CODE_A));
+    }
+
+    @Test
+    public void getCluster_modifyCluster_throwsUnsupportedOperationException() {
+        corequisiteClusters.merge(CODE_A, Set.of(CODE_B));
+        thrown.expect(UnsupportedOperationException.class);
+        corequisiteClusters.getCluster(CODE_A).remove(CODE_B);
+    }
+
+    @Test
+    public void merge_noCorequisites_clusterUnchanged() {
+        assertEquals(Set.of(CODE_A), corequisiteClusters.merge(CODE_A, Set.of()));
+    }
+
+    @Test
+    public void merge_disjointClusters_clustersMerged() {
+        corequisiteClusters.merge(CODE_A, Set.of(CODE_B));
+        corequisiteClusters.merge(CODE_C, Set.of(CODE_D));
+
+        Set<Code> expectedCluster = Set.of(CODE_A, CODE_B, CODE_C, CODE_D);
+        assertEquals(expectedCluster, corequisiteClusters.merge(CODE_B, Set.of(CODE_C)));
+        assertEquals(expectedCluster, corequisiteClusters.getCluster(CODE_A));
+        assertEquals(expectedCluster, corequisiteClusters.getCluster(CODE_D));
+    }
+
+    @Test
+    public void remove_codeFromCluster_remainingCodesStayClustered() {
+        corequisiteClusters.merge(CODE_A, Set.of(CODE_B, CODE_C));
+
+        assertEquals(Set.of(CODE_B, CODE_C), corequisiteClusters.remove(CODE_A));
+        assertEquals(Set.of(CODE_A), corequisiteClusters.getCluster(CODE_A));
+        assertEquals(Set.of(CODE_B, CODE_C), corequisiteClusters.getCluster(CODE_B));
+    }
+
+    @Test
+    public void remove_lastCorequisite_remainingCodeUntracked() {
+        corequisiteClusters.merge(CODE_A, Set.of(CODE_B));
+
+        assertEquals(Set.of(CODE_B), corequisiteClusters.remove(CODE_A));
+        assertEquals(Set.of(CODE_B), corequisiteClusters.getCluster(CODE_B));
+        assertEquals(Set.of(), corequisiteClusters.remove(CODE_B));
+    }
+
+    @Test
+    public void clear_trackedClusters_allCodesUntracked() {
+        corequisiteClusters.merge(CODE_A, Set.of(CODE_B));
+        corequisiteClusters.clear();
+
+        assertEquals(Set.of(CODE_B), corequisiteClusters.getCluster(CODE_B));
+    }
+}
@@ -1,5 +1,6 @@
 package pwe.planner.model.module;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -43,4 +44,11 @@ public class CreditsTest {
         assertTrue(Credits.isValidCredits("50")); // exactly 2 numbers
         assertTrue(Credits.isValidCredits("999")); // exactly 3 numbers
     }
+
+    @Test
+    public void intValue() {
+        assertEquals(0, new Credits("0").intValue());
+        assertEquals(40, new Credits("40").intValue());
+        assertEquals(Credits.MAX_VALUE, new Credits("999").intValue());
+    }
 }
@@ -0,0 +1,144 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import pwe.planner.model.module.ModuleWordIndex.Field;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class ModuleCatalogTest {
+    private static final Module DATA_STRUCTURES = new ModuleBuilder().withCode("CS2040C")
+            .withName("Data Structures and Algorithms").withTags("core").build();
+    private static final Module DATABASE = new ModuleBuilder().withCode("CS2102")
+            .withName("Database Systems").withTags("core").build();
+    private static final Module DATA_SCIENCE = new ModuleBuilder().withCode("DSA1101")
+            .withName("Data Science").withTags("math").build();
+    private static final Module COMPUTER_ORGANISATION = new ModuleBuilder().withCode("CS2100")
+            .withName("Computer Organisation").withTags("core").build();
+
+    private final ModuleCatalog catalog = new ModuleCatalog(List.of(DATA_STRUCTURES, DATABASE, DATA_SCIENCE));
+
+    @Test
+    public void withChanges_noChanges_sameCatalog() {
+        assertSame(catalog, catalog.withChanges(Map.of()));
+        assertSame(catalog, catalog.withChanges(Map.of(DATABASE.getCode(), DATABASE)));
+    }
+
+    @Test
+    public void withChanges_modulesChanged_changesApplied() {
+        Module editedDatabase = new ModuleBuilder(DATABASE).withName("Database Management").build();
+        Map<Code, Module> changes = new HashMap<>();
+        changes.put(DATABASE.getCode(), editedDatabase);
+        changes.put(DATA_STRUCTURES.getCode(), null);
+        changes.put(COMPUTER_ORGANISATION.getCode(), COMPUTER_ORGANISATION);
+        ModuleCatalog derivedCatalog = catalog.withChanges(changes);
+
+        // replaced modules keep their position, and added modules follow the other modules
+        assertEquals(List.of(editedDatabase, DATA_SCIENCE, COMPUTER_ORGANISATION), derivedCatalog.getModuleList());
+        assertSame(editedDatabase, derivedCatalog.getModuleByCode(DATABASE.getCode()));
+        assertFalse(derivedCatalog.hasModuleCode(DATA_STRUCTURES.getCode()));
+        assertTrue(derivedCatalog.hasModuleCode(COMPUTER_ORGANISATION.getCode()));
+        assertEquals(new ModuleCatalog(List.of(editedDatabase, DATA_SCIENCE, COMPUTER_ORGANISATION)), derivedCatalog);
+
+        // the catalog it was derived from is left as it is
+        assertEquals(List.of(DATA_STRUCTURES, DATABASE, DATA_SCIENCE), catalog.getModuleList());
+        assertSame(DATABASE, catalog.getModuleByCode(DATABASE.getCode()));
+    }
+
+    @Test
+    public void withChanges_changesReverted_modulesShared() {
+        Module editedDatabase = new ModuleBuilder(DATABASE).withName("Database Management").build();
+        ModuleCatalog derivedCatalog = catalog.withChanges(Map.of(DATABASE.getCode(), editedDatabase))
+                .withChanges(Map.of(DATABASE.getCode(), DATABASE));
+
+        assertEquals(catalog, derivedCatalog);
+        assertEquals(Set.of(DATABASE.getCode()), derivedCatalog.getWordIndex().getCodesMatching(Field.NAME, "systems"));
+    }
+
+    @Test
+    public void getWordIndex_modulesChanged_changedModulesMatched() {
+        Module editedDatabase = new ModuleBuilder(DATABASE).withName("Database Management").withTags("math").build();
+        Map<Code, Module> changes = new HashMap<>();
+        changes.put(DATABASE.getCode(), editedDatabase);
+        changes.put(DATA_SCIENCE.getCode(), null);
+        changes.put(COMPUTER_ORGANISATION.getCode(), COMPUTER_ORGANISATION);
+        ModuleWordIndex index = catalog.withChanges(changes).getWordIndex();
+
+        assertEquals(3, index.size());
+        assertEquals(Set.of(DATA_STRUCTURES.getCode(), DATABASE.getCode(), COMPUTER_ORGANISATION.getCode()),
+                index.getAllCodes());
+        assertTrue(index.getCodesMatching(Field.NAME, "systems").isEmpty());
+        assertEquals(Set.of(DATABASE.getCode()), index.getCodesMatching(Field.NAME, "management"));
+        assertEquals(Set.of(DATABASE.getCode()), index.getCodesMatching(Field.TAG, "math"));
+        assertEquals(Set.of(DATA_STRUCTURES.getCode(), COMPUTER_ORGANISATION.getCode()),
+                index.getCodesMatching(Field.TAG, "core"));
+        assertEquals(Set.of(DATA_STRUCTURES.getCode(), DATABASE.getCode(), COMPUTER_ORGANISATION.getCode()),
+                index.getCodesMatching(Field.CODE, "CS2*"));
+        assertSame(editedDatabase, index.getModule(DATABASE.getCode()));
+    }
+
+    @Test
+    public void getWordIndex_forEachCodeWithPrefix_codesInNaturalOrder() {
+        Map<Code, Module> changes = new HashMap<>();
+        changes.put(DATABASE.getCode(), null);
+        changes.put(COMPUTER_ORGANISATION.getCode(), COMPUTER_ORGANISATION);
+        ModuleWordIndex index = catalog.withChanges(changes).getWordIndex();
+
+        List<Code> visitedCodes = new ArrayList<>();
+        index.forEachCodeWithPrefix("", visitedCodes::add);
+        assertEquals(List.of(DATA_STRUCTURES.getCode(), COMPUTER_ORGANISATION.getCode(), DATA_SCIENCE.getCode()),
+                visitedCodes);
+
+        // visitor stops -> no more codes visited
+        visitedCodes.clear();
+        index.forEachCodeWithPrefix("cs", code -> {
+            visitedCodes.add(code);
+            return false;
+        });
+        assertEquals(List.of(DATA_STRUCTURES.getCode()), visitedCodes);
+    }
+
+    @Test
+    public void getCorequisiteCluster_corequisitesChanged_clusterOfChangedModules() {
+        Module dataStructures = new ModuleBuilder(DATA_STRUCTURES).withCorequisites("CS2102").build();
+        Module database = new ModuleBuilder(DATABASE).withCorequisites("CS2040C").build();
+        Map<Code, Module> changes = new LinkedHashMap<>();
+        changes.put(DATA_STRUCTURES.getCode(), dataStructures);
+        changes.put(DATABASE.getCode(), database);
+        ModuleCatalog derivedCatalog = catalog.withChanges(changes);
+
+        assertEquals(Set.of(DATA_STRUCTURES.getCode(), DATABASE.getCode()),
+                derivedCatalog.getCorequisiteCluster(DATABASE.getCode()));
+        assertEquals(Set.of(DATA_SCIENCE.getCode()), derivedCatalog.getCorequisiteCluster(DATA_SCIENCE.getCode()));
+        assertEquals(Set.of(DATABASE.getCode()), catalog.getCorequisiteCluster(DATABASE.getCode()));
+    }
+
+    @Test
+    public void withChanges_manyModulesChanged_modulesIndexedAgain() {
+        ModuleCatalog derivedCatalog = catalog;
+        List<Module> modules = new ArrayList<>(catalog.getModuleList());
+        for (int i = 0; i < 100; i++) {
+            Module module = new ModuleBuilder().withCode(String.format("MA%04d", i)).withName("Module " + i).build();
+            modules.add(module);
+            derivedCatalog = derivedCatalog.withChanges(Map.of(module.getCode(), module));
+        }
+
+        assertEquals(new ModuleCatalog(modules), derivedCatalog);
+        assertEquals(modules.size(), derivedCatalog.getWordIndex().size());
+        assertEquals(Set.of(modules.get(modules.size() - 1).getCode()),
+                derivedCatalog.getWordIndex().getCodesMatching(Field.NAME, "99"));
+        assertNull(derivedCatalog.getModuleByCode(new Code("MA0100")));
+    }
+}
@@ -0,0 +1,155 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import pwe.planner.model.module.ModuleWordIndex.Field;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class ModuleWordIndexTest {
+    private static final Module DATA_STRUCTURES = new ModuleBuilder().withCode("CS2040C")
+            .withName("Data Structures and Algorithms").withTags("core", "algorithms").build();
+    private static final Module DATABASE = new ModuleBuilder().withCode("CS2102")
+            .withName("Database Systems").withTags("core").build();
+    private static final Module DATA_SCIENCE = new ModuleBuilder().withCode("DSA1101")
+            .withName("Data Science").withTags("math").build();
+
+    private final UniqueModuleList uniqueModuleList = new UniqueModuleList();
+    private final ModuleWordIndex index = uniqueModuleList.getWordIndex();
+
+    @Test
+    public void getCodesMatching_singleWord_modulesContainingWord() {
+        uniqueModuleList.setModules(List.of(DATA_STRUCTURES, DATABASE, DATA_SCIENCE));
+
+        assertEquals(Set.of(DATA_STRUCTURES.getCode(), DATA_SCIENCE.getCode()),
+                index.getCodesMatching(Field.NAME, "dATA"));
+        assertEquals(Set.of(DATABASE.getCode()), index.getCodesMatching(Field.CODE, "cs2102"));
+        assertEquals(Set.of(DATA_STRUCTURES.getCode(), DATABASE.getCode()), index.getCodesMatching(Field.TAG, "Core"));
+
+        // not a whole word -> no match
+        assertTrue(index.getCodesMatching(Field.NAME, "Dat").isEmpty());
+    }
+
+    @Test
+    public void getCodesMatching_multipleWords_modulesEqualToKeyword() {
+        uniqueModuleList.setModules(List.of(DATA_STRUCTURES, DATABASE, DATA_SCIENCE));
+
+        assertEquals(Set.of(DATA_SCIENCE.getCode()), index.getCodesMatching(Field.NAME, "data science"));
+
+        // every word is contained in the name, but the name is not equal to the keyword -> no match
+        assertTrue(index.getCodesMatching(Field.NAME, "Data Structures").isEmpty());
+    }
+
+    @Test
+    public void getCodesMatching_sameResultAsPredicates() {
+        uniqueModuleList.setModules(List.of(DATA_STRUCTURES, DATABASE, DATA_SCIENCE));
+
+        for (String keyword : List.of("data", "Data Science", " data", "Systems", "algorithms", "CS2040C", "none")) {
+            assertResolvedAsTested(new NameContainsKeywordsPredicate<>(keyword));
+            assertResolvedAsTested(new CodeContainsKeywordsPredicate<>(keyword));
+            assertResolvedAsTested(new TagContainsKeywordsPredicate<>(keyword));
+        }
+        assertResolvedAsTested(new CreditsContainsKeywordsPredicate<>(DATABASE.getCredits().value));
+    }
+
+    @Test
+    public void getCodesMatching_listModified_indexUpdated() {
+        uniqueModuleList.add(DATA_STRUCTURES);
+        uniqueModuleList.add(DATABASE);
+        int modificationCount = index.getModificationCount();
+
+        Module editedDatabase = new ModuleBuilder(DATABASE).withName("Data Systems").withTags("elective").build();
+        uniqueModuleList.setModule(DATABASE, editedDatabase);
+        assertNotEquals(modificationCount, index.getModificationCount());
+        assertEquals(Set.of(DATA_STRUCTURES.getCode(), DATABASE.getCode()), index.getCodesMatching(Field.NAME, "Data"));
+        assertTrue(index.getCodesMatching(Field.NAME, "Database").isEmpty());
+        assertEquals(Set.of(DATABASE.getCode()), index.getCodesMatching(Field.TAG, "elective"));
+
+        uniqueModuleList.remove(DATA_STRUCTURES);
+        assertEquals(Set.of(DATABASE.getCode()), index.getCodesMatching(Field.NAME, "Data"));
+        assertTrue(index.getCodesMatching(Field.TAG, "core").isEmpty());
+    }
+
+    @Test
+    public void estimateMatches_upperBoundOfMatches() {
+        uniqueModuleList.setModules(List.of(DATA_STRUCTURES, DATABASE, DATA_SCIENCE));
+
+        assertEquals(2, index.estimateMatches(Field.NAME, "data"));
+        assertEquals(1, index.estimateMatches(Field.NAME, "Data Science"));
+        assertEquals(0, index.estimateMatches(Field.TAG, "none"));
+
+        // not looked up in the index -> every module
+        assertEquals(3, index.estimateMatches(Field.NAME, " data"));
+    }
+
+    @Test
+    public void getCodesMatching_codePattern_codesMatchingPattern() {
+        uniqueModuleList.setModules(List.of(DATA_STRUCTURES, DATABASE, DATA_SCIENCE));
+
+        assertEquals(Set.of(DATA_STRUCTURES.getCode(), DATABASE.getCode()),
+                index.getCodesMatching(Field.CODE, "cs2***"));
+        assertEquals(Set.of(DATA_SCIENCE.getCode()), index.getCodesMatching(Field.CODE, "*1101"));
+        assertEquals(Set.of(DATABASE.getCode()), index.getCodesMatching(Field.CODE, "CS*2"));
+        assertEquals(2, index.estimateMatches(Field.CODE, "CS2*"));
+
+        for (String pattern : List.of("CS2*", "*", "*0*", "CS2*C", "MA*")) {
+            assertResolvedAsTested(new CodeContainsKeywordsPredicate<>(pattern));
+        }
+
+        uniqueModuleList.remove(DATABASE);
+        assertEquals(Set.of(DATA_STRUCTURES.getCode()), index.getCodesMatching(Field.CODE, "CS2*"));
+    }
+
+    @Test
+    public void getCodesMatching_fuzzyKeyword_modulesWithSimilarWords() {
+        uniqueModuleList.setModules(List.of(DATA_STRUCTURES, DATABASE, DATA_SCIENCE));
+
+        assertEquals(Set.of(DATA_STRUCTURES.getCode()), index.getCodesMatching(Field.NAME, "algoritms~"));
+        assertEquals(Set.of(DATA_STRUCTURES.getCode(), DATABASE.getCode()), index.getCodesMatching(Field.TAG, "cor~"));
+        assertEquals(Set.of(DATA_SCIENCE.getCode()), index.getCodesMatching(Field.NAME, "dta sciense~"));
+        assertTrue(index.getCodesMatching(Field.NAME, "biology~").isEmpty());
+        assertTrue(index.estimateMatches(Field.NAME, "algoritms~") <= 3);
+
+        for (String keyword : List.of("data~", "Databse~", "systms~", "dat~", "scienec data~", "x~", "cor~")) {
+            assertResolvedAsTested(new NameContainsKeywordsPredicate<>(keyword));
+            assertResolvedAsTested(new TagContainsKeywordsPredicate<>(keyword));
+        }
+
+        uniqueModuleList.remove(DATA_STRUCTURES);
+        assertTrue(index.getCodesMatching(Field.NAME, "algoritms~").isEmpty());
+    }
+
+    @Test
+    public void forEachCodeWithPrefix_codesInOrder() {
+        uniqueModuleList.setModules(List.of(DATA_SCIENCE, DATABASE, DATA_STRUCTURES));
+
+        List<Code> codes = new ArrayList<>();
+        index.forEachCodeWithPrefix("cs", codes::add);
+        assertEquals(List.of(DATA_STRUCTURES.getCode(), DATABASE.getCode()), codes);
+
+        // stopped by the visitor -> no more codes visited
+        codes.clear();
+        index.forEachCodeWithPrefix("", code -> codes.add(code) && codes.size() < 1);
+        assertEquals(List.of(DATA_STRUCTURES.getCode()), codes);
+    }
+
+    /**
+     * Asserts that resolving {@code predicate} through the index gives the same modules as testing every module.
+     */
+    private void assertResolvedAsTested(IndexablePredicate<Module> predicate) {
+        CodeSet expectedCodes = new CodeSet();
+        uniqueModuleList.forEach(module -> {
+            if (predicate.test(module)) {
+                expectedCodes.add(module.getCode());
+            }
+        });
+        assertEquals(expectedCodes, index.getCodesMatching(predicate.getField(), predicate.getKeyword()));
+    }
+}
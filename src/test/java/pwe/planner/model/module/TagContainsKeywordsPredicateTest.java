@@ -1,5 +1,6 @@
 package pwe.planner.model.module;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -26,6 +27,7 @@ public class TagContainsKeywordsPredicateTest {
         TagContainsKeywordsPredicate<Module> firstPredicateCopy = new TagContainsKeywordsPredicate<>(
                 firstPredicateKeyword);
         assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
 
         // different types -> returns false
         assertFalse(firstPredicate.equals(1));
@@ -2,15 +2,19 @@ package pwe.planner.model.module;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_CODE_BOB;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
 import static pwe.planner.testutil.TypicalModules.BOB;
+import static pwe.planner.testutil.TypicalModules.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -49,6 +53,19 @@ public class UniqueModuleListTest {
         assertTrue(uniqueModuleList.contains(ALICE));
     }
 
+    @Test
+    public void getModuleByCode_moduleInList_returnsModule() {
+        uniqueModuleList.add(ALICE);
+        assertEquals(ALICE, uniqueModuleList.getModuleByCode(ALICE.getCode()));
+        assertTrue(uniqueModuleList.containsCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_moduleNotInList_returnsNull() {
+        assertNull(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+        assertFalse(uniqueModuleList.containsCode(ALICE.getCode()));
+    }
+
     @Test
     public void add_nullModule_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -109,6 +126,15 @@ public class UniqueModuleListTest {
         assertEquals(expectedUniqueModuleList, uniqueModuleList);
     }
 
+    @Test
+    public void setModule_editedModuleHasDifferentCode_codeIndexUpdated() {
+        uniqueModuleList.add(ALICE);
+        Module editedAlice = new ModuleBuilder(ALICE).withCode(VALID_CODE_BOB).build();
+        uniqueModuleList.setModule(ALICE, editedAlice);
+        assertNull(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+        assertEquals(editedAlice, uniqueModuleList.getModuleByCode(editedAlice.getCode()));
+    }
+
     @Test
     public void setModule_editedModuleHasNonUniqueIdentity_throwsDuplicateModuleException() {
         uniqueModuleList.add(ALICE);
@@ -135,6 +161,29 @@ public class UniqueModuleListTest {
         uniqueModuleList.remove(ALICE);
         UniqueModuleList expectedUniqueModuleList = new UniqueModuleList();
         assertEquals(expectedUniqueModuleList, uniqueModuleList);
+        assertFalse(uniqueModuleList.containsCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void remove_moduleWithSameCodeButDifferentFields_throwsModuleNotFoundException() {
+        uniqueModuleList.add(ALICE);
+        thrown.expect(ModuleNotFoundException.class);
+        uniqueModuleList.remove(new ModuleBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build());
+    }
+
+    @Test
+    public void setModule_afterEarlierModuleRemoved_replacedInPlace() {
+        uniqueModuleList.setModules(Arrays.asList(ALICE, BENSON, CARL));
+        uniqueModuleList.remove(ALICE);
+        Module editedCarl = new ModuleBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+
+        uniqueModuleList.setModule(CARL, editedCarl);
+        uniqueModuleList.remove(BENSON);
+        uniqueModuleList.add(ALICE);
+
+        assertEquals(Arrays.asList(editedCarl, ALICE), uniqueModuleList.asUnmodifiableObservableList());
+        uniqueModuleList.setModule(ALICE, BOB);
+        assertEquals(Arrays.asList(editedCarl, BOB), uniqueModuleList.asUnmodifiableObservableList());
     }
 
     @Test
@@ -166,6 +215,8 @@ public class UniqueModuleListTest {
         UniqueModuleList expectedUniqueModuleList = new UniqueModuleList();
         expectedUniqueModuleList.add(BOB);
         assertEquals(expectedUniqueModuleList, uniqueModuleList);
+        assertFalse(uniqueModuleList.containsCode(ALICE.getCode()));
+        assertEquals(BOB, uniqueModuleList.getModuleByCode(BOB.getCode()));
     }
 
     @Test
@@ -175,6 +226,47 @@ public class UniqueModuleListTest {
         uniqueModuleList.setModules(listWithDuplicateModules);
     }
 
+    @Test
+    public void add_moduleWithCorequisites_mergesCorequisiteClusters() {
+        Module first = new ModuleBuilder().withCode("CS1010").build();
+        Module second = new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build();
+        Module third = new ModuleBuilder().withCode("CS2040C").withCorequisites("CS1231").build();
+        uniqueModuleList.add(first);
+        uniqueModuleList.add(second);
+        uniqueModuleList.add(third);
+
+        Set<Code> expectedCluster = Set.of(first.getCode(), second.getCode(), third.getCode());
+        assertEquals(expectedCluster, uniqueModuleList.getCorequisiteCluster(first.getCode()));
+        assertEquals(Set.of(second.getCode(), third.getCode()),
+                uniqueModuleList.getModuleByCode(first.getCode()).getCorequisites());
+        assertEquals(Set.of(first.getCode(), second.getCode()),
+                uniqueModuleList.getModuleByCode(third.getCode()).getCorequisites());
+    }
+
+    @Test
+    public void setModule_editedModuleHasDifferentCode_corequisitesRenamed() {
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1010").build());
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build());
+        Module target = uniqueModuleList.getModuleByCode(new Code("CS1231"));
+        Module editedModule = new ModuleBuilder(target).withCode("CS2040C").build();
+        uniqueModuleList.setModule(target, editedModule);
+
+        assertEquals(Set.of(new Code("CS2040C")),
+                uniqueModuleList.getModuleByCode(new Code("CS1010")).getCorequisites());
+        assertEquals(Set.of(new Code("CS1010"), new Code("CS2040C")),
+                uniqueModuleList.getCorequisiteCluster(new Code("CS1010")));
+    }
+
+    @Test
+    public void remove_moduleWithCorequisites_removedFromCorequisiteCluster() {
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1010").build());
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build());
+        uniqueModuleList.remove(uniqueModuleList.getModuleByCode(new Code("CS1231")));
+
+        assertEquals(Collections.emptySet(), uniqueModuleList.getModuleByCode(new Code("CS1010")).getCorequisites());
+        assertEquals(Set.of(new Code("CS1010")), uniqueModuleList.getCorequisiteCluster(new Code("CS1010")));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
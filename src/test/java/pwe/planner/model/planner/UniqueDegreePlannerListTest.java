@@ -2,6 +2,7 @@ package pwe.planner.model.planner;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_1;
 import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_2;
@@ -14,6 +15,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import pwe.planner.model.module.Code;
 import pwe.planner.model.planner.exceptions.DegreePlannerNotFoundException;
 import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
 import pwe.planner.testutil.DegreePlannerBuilder;
@@ -47,6 +49,77 @@ public class UniqueDegreePlannerListTest {
         assertTrue(uniqueDegreePlannerList.contains(YEAR_1_SEMESTER_1));
     }
 
+    @Test
+    public void getDegreePlanner_degreePlannerInList_returnsDegreePlanner() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        assertEquals(YEAR_1_SEMESTER_1, uniqueDegreePlannerList.getDegreePlanner(new Year("1"), new Semester("1")));
+        assertNull(uniqueDegreePlannerList.getDegreePlanner(new Year("1"), new Semester("2")));
+    }
+
+    @Test
+    public void getDegreePlannerByCode_codeInList_returnsDegreePlanner() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_2);
+        assertEquals(YEAR_1_SEMESTER_1, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1231")));
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS9999")));
+    }
+
+    @Test
+    public void setDegreePlanner_codesMovedToOtherDegreePlanner_indexesUpdated() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_2);
+        DegreePlanner emptiedDegreePlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_1).withCodes().build();
+        DegreePlanner filledDegreePlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_2).withCodes("CS1231").build();
+        uniqueDegreePlannerList.setDegreePlanner(YEAR_1_SEMESTER_1, emptiedDegreePlanner);
+        uniqueDegreePlannerList.setDegreePlanner(YEAR_1_SEMESTER_2, filledDegreePlanner);
+
+        assertEquals(filledDegreePlanner, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1231")));
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS2100")));
+        assertEquals(emptiedDegreePlanner, uniqueDegreePlannerList.getDegreePlanner(new Year("1"), new Semester("1")));
+    }
+
+    @Test
+    public void replaceCode_codeInList_onlyReferrerReplaced() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_2);
+        uniqueDegreePlannerList.replaceCode(new Code("CS1231"), new Code("CS1231X"));
+
+        DegreePlanner expectedDegreePlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_1)
+                .withCodes("CS1231X", "CS2100", "CS1010", "CS2040C", "CS2102").build();
+        assertEquals(expectedDegreePlanner, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1231X")));
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1231")));
+        assertEquals(YEAR_1_SEMESTER_2, uniqueDegreePlannerList.getDegreePlanner(new Year("1"), new Semester("2")));
+    }
+
+    @Test
+    public void removeCode_codeInList_codeRemovedFromReferrer() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.removeCode(new Code("CS1231"));
+
+        DegreePlanner expectedDegreePlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_1)
+                .withCodes("CS2100", "CS1010", "CS2040C", "CS2102").build();
+        assertEquals(expectedDegreePlanner, uniqueDegreePlannerList.getDegreePlanner(new Year("1"), new Semester("1")));
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1231")));
+    }
+
+    @Test
+    public void removeCode_codeNotInList_listUnchanged() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.removeCode(new Code("CS9999"));
+
+        UniqueDegreePlannerList expectedUniqueDegreePlannerList = new UniqueDegreePlannerList();
+        expectedUniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        assertEquals(expectedUniqueDegreePlannerList, uniqueDegreePlannerList);
+    }
+
+    @Test
+    public void remove_existingDegreePlanner_indexesUpdated() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.remove(YEAR_1_SEMESTER_1);
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1231")));
+        assertNull(uniqueDegreePlannerList.getDegreePlanner(new Year("1"), new Semester("1")));
+    }
+
     @Test
     public void add_nullDegreePlanner_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
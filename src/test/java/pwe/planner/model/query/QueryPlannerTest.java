@@ -0,0 +1,127 @@
+package pwe.planner.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import pwe.planner.model.module.CodeContainsKeywordsPredicate;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleWordIndex;
+import pwe.planner.model.module.NameContainsKeywordsPredicate;
+import pwe.planner.model.module.TagContainsKeywordsPredicate;
+import pwe.planner.model.module.UniqueModuleList;
+import pwe.planner.model.planner.SemesterContainsKeywordPredicate;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class QueryPlannerTest {
+    private static final Module DATA_STRUCTURES = new ModuleBuilder().withCode("CS2040C")
+            .withName("Data Structures and Algorithms").withTags("core", "algorithms").withSemesters("1", "2")
+            .build();
+    private static final Module DATABASE = new ModuleBuilder().withCode("CS2102")
+            .withName("Database Systems").withTags("core").withSemesters("1").build();
+    private static final Module DATA_SCIENCE = new ModuleBuilder().withCode("DSA1101")
+            .withName("Data Science").withTags("math").withSemesters("2").build();
+
+    private final UniqueModuleList uniqueModuleList = new UniqueModuleList();
+    private final ModuleWordIndex index = uniqueModuleList.getWordIndex();
+
+    @Test
+    public void isIndexable() {
+        Predicate<Module> opaquePredicate = module -> true;
+
+        assertTrue(QueryPlanner.isIndexable(new NameContainsKeywordsPredicate<>("data")));
+        assertTrue(QueryPlanner.isIndexable(Conjunction.of(opaquePredicate, new TagContainsKeywordsPredicate<>("a"))));
+        assertFalse(QueryPlanner.isIndexable(opaquePredicate));
+        assertFalse(QueryPlanner.isIndexable(Disjunction.of(opaquePredicate, opaquePredicate)));
+    }
+
+    @Test
+    public void plan_sameResultAsPredicate() {
+        uniqueModuleList.setModules(List.of(DATA_STRUCTURES, DATABASE, DATA_SCIENCE));
+        Predicate<Module> opaquePredicate = module -> module.getCode().value.startsWith("CS");
+
+        assertPlannedAsTested(Conjunction.of(new NameContainsKeywordsPredicate<>("data"),
+                new TagContainsKeywordsPredicate<>("core")));
+        assertPlannedAsTested(Disjunction.of(new CodeContainsKeywordsPredicate<>("CS2102"),
+                new TagContainsKeywordsPredicate<>("math")));
+        assertPlannedAsTested(Conjunction.of(new SemesterContainsKeywordPredicate<>("2"),
+                Disjunction.of(new TagContainsKeywordsPredicate<>("core"), new NameContainsKeywordsPredicate<>("x"))));
+        assertPlannedAsTested(Conjunction.of(opaquePredicate, new TagContainsKeywordsPredicate<>("core")));
+        assertPlannedAsTested(Disjunction.of(opaquePredicate, new TagContainsKeywordsPredicate<>("math")));
+        assertPlannedAsTested(opaquePredicate);
+        assertPlannedAsTested(Disjunction.of(new NameContainsKeywordsPredicate<>("databse~"),
+                new TagContainsKeywordsPredicate<>("mth~")));
+    }
+
+    @Test
+    public void plan_conjunction_mostSelectiveLookupFirst() {
+        uniqueModuleList.setModules(List.of(DATA_STRUCTURES, DATABASE, DATA_SCIENCE));
+        Predicate<Module> opaquePredicate = module -> true;
+
+        QueryPlan plan = QueryPlanner.plan(Conjunction.of(opaquePredicate, Conjunction.of(
+                new TagContainsKeywordsPredicate<>("core"), new CodeContainsKeywordsPredicate<>("CS2102"))), index);
+        plan.execute(index);
+
+        String[] lines = plan.explain().split("\n");
+        assertTrue(lines[0].startsWith("Intersection (estimated 1, actual 1"));
+        assertTrue(lines[1].startsWith("  IndexLookup code \"CS2102\" (estimated 1, actual 1"));
+        assertTrue(lines[2].startsWith("  IndexLookup tag \"core\" (estimated 2, actual 1"));
+        assertTrue(lines[3].startsWith("  Scan "));
+    }
+
+    @Test
+    public void execute_noCandidateLeft_remainingChildrenSkipped() {
+        uniqueModuleList.setModules(List.of(DATA_STRUCTURES, DATABASE, DATA_SCIENCE));
+
+        QueryPlan plan = QueryPlanner.plan(Conjunction.of(new TagContainsKeywordsPredicate<>("core"),
+                new NameContainsKeywordsPredicate<>("none")), index);
+        assertTrue(plan.execute(index).isEmpty());
+
+        String[] lines = plan.explain().split("\n");
+        assertTrue(lines[1].startsWith("  IndexLookup name \"none\" (estimated 0, actual 0"));
+        assertEquals("  IndexLookup tag \"core\" (estimated 2, skipped)", lines[2]);
+    }
+
+    @Test
+    public void bind_listModified_planExecutedAgain() {
+        uniqueModuleList.add(DATA_STRUCTURES);
+        Predicate<Module> boundPredicate = QueryPlanner.bind(new NameContainsKeywordsPredicate<>("Science"), index);
+        assertTrue(uniqueModuleList.asUnmodifiableObservableList().stream().noneMatch(boundPredicate));
+
+        uniqueModuleList.add(DATA_SCIENCE);
+        assertTrue(boundPredicate.test(DATA_SCIENCE));
+    }
+
+    @Test
+    public void bind_matchingCodes_usedUntilListModified() {
+        uniqueModuleList.add(DATA_SCIENCE);
+        Predicate<Module> predicate = new NameContainsKeywordsPredicate<>("Science");
+        // the given codes are trusted to be the result of a plan of the predicate, so it is not planned again
+        BoundPredicate boundPredicate = QueryPlanner.bind(predicate, index, new CodeSet());
+        assertFalse(boundPredicate.test(DATA_SCIENCE));
+        assertSame(predicate, boundPredicate.getPredicate());
+
+        uniqueModuleList.add(DATA_STRUCTURES);
+        assertTrue(boundPredicate.test(DATA_SCIENCE));
+    }
+
+    /**
+     * Asserts that executing a plan of {@code predicate} gives the same modules as testing every module.
+     */
+    private void assertPlannedAsTested(Predicate<Module> predicate) {
+        CodeSet expectedCodes = new CodeSet();
+        uniqueModuleList.forEach(module -> {
+            if (predicate.test(module)) {
+                expectedCodes.add(module.getCode());
+            }
+        });
+        assertEquals(expectedCodes, QueryPlanner.plan(predicate, index).execute(index));
+    }
+}
@@ -5,10 +5,13 @@ import static org.junit.Assert.assertTrue;
 import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_BREADTH;
 import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_FOUNDATION;
 
+import java.util.Set;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import pwe.planner.model.module.Code;
 import pwe.planner.testutil.RequirementCategoryBuilder;
 
 public class RequirementCategoryTest {
@@ -22,6 +25,25 @@ public class RequirementCategoryTest {
         requirementCategory.getCodeSet().remove(0);
     }
 
+    @Test
+    public void hasModuleCode() {
+        RequirementCategory requirementCategory =
+                new RequirementCategoryBuilder().withCodes("CS1010", "CS1231", "CS2040C").build();
+
+        // smaller set to check -> returns true if any code is shared
+        assertTrue(requirementCategory.hasModuleCode(Set.of(new Code("CS1231"))));
+        assertFalse(requirementCategory.hasModuleCode(Set.of(new Code("CS9999"))));
+
+        // larger set to check -> returns true if any code is shared
+        assertTrue(requirementCategory.hasModuleCode(Set.of(new Code("CS9999"), new Code("CS9998"),
+                new Code("CS9997"), new Code("CS2040C"))));
+        assertFalse(requirementCategory.hasModuleCode(Set.of(new Code("CS9999"), new Code("CS9998"),
+                new Code("CS9997"), new Code("CS9996"))));
+
+        // empty set -> returns false
+        assertFalse(requirementCategory.hasModuleCode(Set.of()));
+    }
+
     @Test
     public void isSameRequirementCategory() {
         // same object -> true
@@ -2,13 +2,16 @@ package pwe.planner.model.requirement;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_BREADTH;
 import static pwe.planner.testutil.TypicalRequirementCategories.COMPUTING_FOUNDATION;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.Rule;
@@ -193,6 +196,82 @@ public class UniqueRequirementCategoryListTest {
         uniqueRequirementCategoryList.setRequirementCategories(listWithRequirementCategory);
     }
 
+    @Test
+    public void getRequirementCategoryByCode_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueRequirementCategoryList.getRequirementCategoryByCode(null);
+    }
+
+    @Test
+    public void getRequirementCategoryByCode_codeInList_returnsRequirementCategory() {
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        uniqueRequirementCategoryList.add(COMPUTING_BREADTH);
+        assertEquals(COMPUTING_FOUNDATION,
+                uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS2100")));
+        assertNull(uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS9999")));
+    }
+
+    @Test
+    public void replaceCode_codeInList_onlyReferrerReplaced() {
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        uniqueRequirementCategoryList.add(COMPUTING_BREADTH);
+        uniqueRequirementCategoryList.replaceCode(new Code("CS2100"), new Code("CS2100X"));
+
+        RequirementCategory expectedRequirementCategory = new RequirementCategoryBuilder(COMPUTING_FOUNDATION)
+                .withCodes("CS2100X").build();
+        assertEquals(expectedRequirementCategory,
+                uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS2100X")));
+        assertNull(uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS2100")));
+        assertTrue(uniqueRequirementCategoryList.asUnmodifiableObservableList().contains(COMPUTING_BREADTH));
+    }
+
+    @Test
+    public void removeCode_codeInList_codeRemovedFromReferrer() {
+        uniqueRequirementCategoryList.add(COMPUTING_FOUNDATION);
+        uniqueRequirementCategoryList.removeCode(new Code("CS2100"));
+
+        RequirementCategory expectedRequirementCategory = new RequirementCategoryBuilder(COMPUTING_FOUNDATION)
+                .withCodes().build();
+        assertEquals(Collections.singletonList(expectedRequirementCategory),
+                uniqueRequirementCategoryList.asUnmodifiableObservableList());
+        assertNull(uniqueRequirementCategoryList.getRequirementCategoryByCode(new Code("CS2100")));
+    }
+
+    @Test
+    public void getFulfilledCredits_requirementCategoryNotInList_throwsRequirementCategoryNotFoundException() {
+        thrown.expect(RequirementCategoryNotFoundException.class);
+        uniqueRequirementCategoryList.getFulfilledCredits(COMPUTING_FOUNDATION);
+    }
+
+    @Test
+    public void getFulfilledCredits_mutations_creditsKeptUpToDate() {
+        Map<Code, Integer> credits = new HashMap<>(Map.of(new Code("CS1010"), 4, new Code("CS2100"), 3));
+        UniqueRequirementCategoryList requirementCategoryList = new UniqueRequirementCategoryList(credits::get);
+        requirementCategoryList.add(COMPUTING_FOUNDATION);
+        assertEquals(3, requirementCategoryList.getFulfilledCredits(COMPUTING_FOUNDATION));
+
+        // code moved into the requirement category
+        RequirementCategory editedRequirementCategory = new RequirementCategoryBuilder(COMPUTING_FOUNDATION)
+                .withCodes("CS1010", "CS2100").build();
+        requirementCategoryList.setRequirementCategory(COMPUTING_FOUNDATION, editedRequirementCategory);
+        assertEquals(7, requirementCategoryList.getFulfilledCredits(editedRequirementCategory));
+
+        // credits of a module edited
+        credits.put(new Code("CS1010"), 6);
+        requirementCategoryList.updateFulfilledCredits(new Code("CS1010"), 2);
+        assertEquals(9, requirementCategoryList.getFulfilledCredits(editedRequirementCategory));
+
+        // module replaced
+        credits.put(new Code("CS1010"), 5);
+        requirementCategoryList.refreshFulfilledCredits(new Code("CS1010"));
+        assertEquals(8, requirementCategoryList.getFulfilledCredits(editedRequirementCategory));
+
+        // code removed from the requirement category
+        requirementCategoryList.removeCode(new Code("CS2100"));
+        assertEquals(5, requirementCategoryList.getFulfilledCredits(
+                requirementCategoryList.getRequirementCategoryByCode(new Code("CS1010"))));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,119 @@
+package pwe.planner.model.suggestion;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.UniqueModuleList;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.suggestion.CreditBudgetSuggester.Suggestion;
+import pwe.planner.model.tag.Tag;
+import pwe.planner.testutil.Assert;
+import pwe.planner.testutil.ModuleBuilder;
+import pwe.planner.testutil.SyntheticModules;
+
+public class CreditBudgetSuggesterTest {
+    private static final Semester FIRST_SEMESTER = new Semester("1");
+    private static final Set<Tag> CORE = Set.of(new Tag("core"));
+
+    private final UniqueModuleList uniqueModuleList = new UniqueModuleList();
+    private final CreditBudgetSuggester suggester = new CreditBudgetSuggester(uniqueModuleList.getWordIndex(),
+            uniqueModuleList::getCorequisiteCluster, Long.MAX_VALUE / 2);
+
+    @Test
+    public void constructor_negativeTimeBudget_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, CreditBudgetSuggester.MESSAGE_CONSTRAINTS, () ->
+                new CreditBudgetSuggester(uniqueModuleList.getWordIndex(), uniqueModuleList::getCorequisiteCluster,
+                        -1));
+    }
+
+    @Test
+    public void suggest_typicalModules_wholeClustersOfferedAndNotPlanned() {
+        uniqueModuleList.setModules(List.of(
+                module("CS1010", "4", "1", "core"),
+                module("CS2101", "4", "1", "comm", "CS2113"),
+                module("CS2113", "4", "1", "core", "CS2101"),
+                module("MA1521", "4", "1", "math"),
+                module("CS3230", "6", "1", "core"),
+                module("CS2040", "4", "2", "core"),
+                module("CS2100", "4", "1", "core", "CS2105"),
+                module("CS2105", "4", "2", "core", "CS2100"),
+                module("CS1231", "4", "1", "core")));
+        CodeSet plannedCodes = new CodeSet(List.of(new Code("CS1231")));
+
+        Suggestion suggestion = suggester.suggest(new Credits("12"), CORE, FIRST_SEMESTER, plannedCodes);
+        assertEquals(List.of(new Code("CS1010"), new Code("CS2101"), new Code("CS2113")), suggestion.getCodes());
+        assertEquals(12, suggestion.getCredits());
+        assertEquals(2, suggestion.getNumberOfMatchingTags());
+        assertTrue(suggestion.isOptimal());
+
+        // as many credits as possible first, then the most matching tags
+        suggestion = suggester.suggest(new Credits("10"), CORE, FIRST_SEMESTER, plannedCodes);
+        assertEquals(List.of(new Code("CS1010"), new Code("CS3230")), suggestion.getCodes());
+
+        // nothing fits -> no modules
+        suggestion = suggester.suggest(new Credits("3"), CORE, FIRST_SEMESTER, plannedCodes);
+        assertTrue(suggestion.getCodes().isEmpty());
+        assertEquals(0, suggestion.getCredits());
+    }
+
+    @Test
+    public void suggest_timeBudgetUsedUp_notOptimal() {
+        uniqueModuleList.setModules(SyntheticModules.getModules(50));
+        CreditBudgetSuggester impatientSuggester = new CreditBudgetSuggester(uniqueModuleList.getWordIndex(),
+                uniqueModuleList::getCorequisiteCluster, 0);
+
+        assertFalse(impatientSuggester.suggest(new Credits("20"), CORE, FIRST_SEMESTER, new CodeSet()).isOptimal());
+    }
+
+    @Test
+    public void suggest_sameResultAsTryingEverySet() {
+        List<Module> modules = SyntheticModules.getModules(16);
+        uniqueModuleList.setModules(modules);
+        Set<Tag> tags = Set.of(new Tag("core"), new Tag("theory"), new Tag("lab"));
+
+        for (int budget = 0; budget <= 30; budget++) {
+            Suggestion suggestion = suggester.suggest(new Credits(String.valueOf(budget)), tags, FIRST_SEMESTER,
+                    new CodeSet());
+
+            // every module is its own cluster, so every subset of the modules offered in the semester is a set
+            int bestCredits = 0;
+            int bestMatchingTags = 0;
+            for (int subset = 0; subset < 1 << modules.size(); subset++) {
+                int credits = 0;
+                int matchingTags = 0;
+                for (int i = 0; i < modules.size(); i++) {
+                    if ((subset & (1 << i)) != 0) {
+                        Module module = modules.get(i);
+                        credits += module.getSemesters().contains(FIRST_SEMESTER) ? module.getCredits().intValue()
+                                : Credits.MAX_VALUE + 1;
+                        matchingTags += (int) module.getTags().stream().filter(tags::contains).count();
+                    }
+                }
+                if (credits <= budget && (credits > bestCredits
+                        || credits == bestCredits && matchingTags > bestMatchingTags)) {
+                    bestCredits = credits;
+                    bestMatchingTags = matchingTags;
+                }
+            }
+            assertEquals(bestCredits, suggestion.getCredits());
+            assertEquals(bestMatchingTags, suggestion.getNumberOfMatchingTags());
+            assertEquals(bestCredits, suggestion.getCodes().stream()
+                    .mapToInt(code -> uniqueModuleList.getModuleByCode(code).getCredits().intValue()).sum());
+        }
+    }
+
+    private static Module module(String code, String credits, String semester, String tag, String... corequisites) {
+        return new ModuleBuilder().withCode(code).withCredits(credits).withSemesters(semester).withTags(tag)
+                .withCorequisites(corequisites).build();
+    }
+}
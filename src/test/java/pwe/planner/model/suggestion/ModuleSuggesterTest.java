@@ -0,0 +1,84 @@
+package pwe.planner.model.suggestion;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.UniqueModuleList;
+import pwe.planner.model.tag.Tag;
+import pwe.planner.testutil.ModuleBuilder;
+import pwe.planner.testutil.SyntheticModules;
+
+public class ModuleSuggesterTest {
+    private final UniqueModuleList uniqueModuleList = new UniqueModuleList();
+    private final ModuleSuggester suggester = new ModuleSuggester(uniqueModuleList.getWordIndex());
+
+    @Test
+    public void suggest_typicalModules_bestModulesInOrder() {
+        Module algorithms = new ModuleBuilder().withCode("CS2040").withCredits("4").withTags("core", "algo").build();
+        Module database = new ModuleBuilder().withCode("CS2102").withCredits("4").withTags("core").build();
+        Module statistics = new ModuleBuilder().withCode("ST2131").withCredits("4").withTags("Core").build();
+        Module project = new ModuleBuilder().withCode("CS3203").withCredits("8").withTags("project").build();
+        Module seminar = new ModuleBuilder().withCode("CS1000").withCredits("2").withTags("seminar").build();
+        uniqueModuleList.setModules(List.of(algorithms, database, statistics, project, seminar));
+        Set<Tag> tags = Set.of(new Tag("core"), new Tag("algo"));
+
+        // more matching tags first, then smaller credit differences, then codes; tags match only in the same case
+        assertEquals(List.of(algorithms.getCode(), database.getCode(), seminar.getCode(), statistics.getCode(),
+                project.getCode()), getCodes(suggester.suggest(new Credits("3"), tags, new CodeSet(), 10)));
+        assertEquals(List.of(algorithms.getCode(), database.getCode()),
+                getCodes(suggester.suggest(new Credits("3"), tags, new CodeSet(), 2)));
+
+        // excluded modules are not suggested
+        assertEquals(List.of(database.getCode(), project.getCode()), getCodes(suggester.suggest(new Credits("8"),
+                tags, new CodeSet(List.of(algorithms.getCode(), statistics.getCode(), seminar.getCode())), 10)));
+    }
+
+    @Test
+    public void suggest_sameResultAsSortingAllModules() {
+        List<Module> modules = SyntheticModules.getModules(2000);
+        uniqueModuleList.setModules(modules);
+        CodeSet excludedCodes = new CodeSet(List.of(SyntheticModules.getCode(3), SyntheticModules.getCode(42)));
+
+        for (String credits : List.of("0", "3", "4", "6", "999")) {
+            for (Set<Tag> tags : List.of(Set.<Tag>of(), Set.of(new Tag("core")),
+                    Set.of(new Tag("theory"), new Tag("lab"), new Tag("none")))) {
+                for (int k : new int[] {1, 10, 2000}) {
+                    assertEquals(sortAll(modules, new Credits(credits), tags, excludedCodes, k),
+                            suggester.suggest(new Credits(credits), tags, excludedCodes, k));
+                }
+            }
+        }
+    }
+
+    private static List<Code> getCodes(List<ModuleToSuggest> suggestions) {
+        return suggestions.stream().map(ModuleToSuggest::getModuleCode).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the best {@code k} suggestions, found by scoring and sorting every module.
+     */
+    private static List<ModuleToSuggest> sortAll(List<Module> modules, Credits creditsToFind, Set<Tag> tagsToFind,
+            CodeSet excludedCodes, int k) {
+        return modules.stream()
+                .filter(module -> !excludedCodes.contains(module.getCode()))
+                .map(module -> {
+                    Set<Tag> matchingTags = new HashSet<>(tagsToFind);
+                    matchingTags.retainAll(module.getTags());
+                    int creditDifference = Math.abs(module.getCredits().intValue() - creditsToFind.intValue());
+                    return new ModuleToSuggest(creditDifference, matchingTags.size(), module.getCode());
+                })
+                .sorted()
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+}
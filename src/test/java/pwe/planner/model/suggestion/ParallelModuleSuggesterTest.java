@@ -0,0 +1,62 @@
+package pwe.planner.model.suggestion;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import pwe.planner.model.module.CodeSet;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.UniqueModuleList;
+import pwe.planner.model.tag.Tag;
+import pwe.planner.testutil.Assert;
+import pwe.planner.testutil.SyntheticModules;
+
+public class ParallelModuleSuggesterTest {
+
+    @Test
+    public void constructor_nonPositiveParallelismOrCutoffOrCatalogSize_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, ParallelModuleSuggester.MESSAGE_CONSTRAINTS, () ->
+                new ParallelModuleSuggester(0, 1));
+        Assert.assertThrows(IllegalArgumentException.class, ParallelModuleSuggester.MESSAGE_CONSTRAINTS, () ->
+                new ParallelModuleSuggester(1, 0));
+        Assert.assertThrows(IllegalArgumentException.class, ParallelModuleSuggester.MESSAGE_CONSTRAINTS, () ->
+                new ParallelModuleSuggester(1, 1, 0));
+    }
+
+    @Test
+    public void shouldScore_onlyCatalogsOfMinCatalogSize() {
+        try (ParallelModuleSuggester suggester = new ParallelModuleSuggester(1, 1, 100)) {
+            assertFalse(suggester.shouldScore(99));
+            assertTrue(suggester.shouldScore(100));
+        }
+    }
+
+    @Test
+    public void suggest_sameResultAsSequentialSuggester() {
+        List<Module> modules = SyntheticModules.getModules(3000);
+        UniqueModuleList uniqueModuleList = new UniqueModuleList();
+        uniqueModuleList.setModules(modules);
+        ModuleSuggester sequentialSuggester = new ModuleSuggester(uniqueModuleList.getWordIndex());
+        CodeSet excludedCodes = new CodeSet(List.of(SyntheticModules.getCode(7), SyntheticModules.getCode(2999)));
+
+        // small cutoffs split the catalog into many pieces, and a cutoff larger than the catalog splits nothing
+        for (int sequentialCutoff : new int[] {1, 100, 5000}) {
+            try (ParallelModuleSuggester parallelSuggester = new ParallelModuleSuggester(4, sequentialCutoff)) {
+                for (String credits : List.of("0", "4", "5")) {
+                    for (Set<Tag> tags : List.of(Set.<Tag>of(), Set.of(new Tag("core"), new Tag("lab")))) {
+                        for (int k : new int[] {1, 10, 3000}) {
+                            assertEquals(sequentialSuggester.suggest(new Credits(credits), tags, excludedCodes, k),
+                                    parallelSuggester.suggest(modules, new Credits(credits), tags, excludedCodes, k));
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package pwe.planner.server;
+
+import static org.junit.Assert.assertEquals;
+import static pwe.planner.testutil.Assert.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyRecorderTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    @Test
+    public void getPercentileMillis_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, LatencyRecorder.MESSAGE_CONSTRAINTS, () ->
+                recorder.getPercentileMillis(0));
+        assertThrows(IllegalArgumentException.class, LatencyRecorder.MESSAGE_CONSTRAINTS, () ->
+                recorder.getPercentileMillis(101));
+    }
+
+    @Test
+    public void getPercentileMillis_noRequests_returnsZero() {
+        assertEquals(0, recorder.getPercentileMillis(50), DELTA);
+        assertEquals(0, recorder.getMeanMillis(), DELTA);
+    }
+
+    @Test
+    public void getPercentileMillis_recordedRequests_upperBoundOfBucket() {
+        // 90 requests of 3 ms, which fall into the bucket of [2.048, 4.096) ms, and 10 requests of 100 ms
+        for (int i = 0; i < 90; i++) {
+            recorder.record(TimeUnit.MILLISECONDS.toNanos(3));
+        }
+        for (int i = 0; i < 10; i++) {
+            recorder.record(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+
+        assertEquals(100, recorder.getCount());
+        assertEquals(12.7, recorder.getMeanMillis(), DELTA);
+        assertEquals(100, recorder.getMaxMillis(), DELTA);
+        assertEquals(4.096, recorder.getPercentileMillis(50), DELTA);
+        assertEquals(4.096, recorder.getPercentileMillis(90), DELTA);
+        // the upper bound of the bucket is above the slowest request
+        assertEquals(100, recorder.getPercentileMillis(99), DELTA);
+    }
+
+    @Test
+    public void recordRejection_rejectedRequests_notCountedAsServed() {
+        recorder.recordRejection();
+        recorder.recordRejection();
+
+        assertEquals(2, recorder.getRejectedCount());
+        assertEquals(0, recorder.getCount());
+    }
+}
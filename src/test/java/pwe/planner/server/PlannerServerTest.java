@@ -0,0 +1,266 @@
+package pwe.planner.server;
+
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static pwe.planner.logic.commands.CommandTestUtil.CODE_DESC_AMY;
+import static pwe.planner.logic.commands.CommandTestUtil.CREDITS_DESC_AMY;
+import static pwe.planner.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static pwe.planner.logic.commands.CommandTestUtil.VALID_CODE_AMY;
+import static pwe.planner.testutil.Assert.assertThrows;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlanners;
+import static pwe.planner.testutil.TypicalModules.getTypicalModules;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategories;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.logic.CommandPipeline;
+import pwe.planner.logic.LogicManager;
+import pwe.planner.logic.commands.AddCommand;
+import pwe.planner.logic.commands.ListCommand;
+import pwe.planner.logic.commands.PlannerRemoveCommand;
+import pwe.planner.model.Application;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.StudentModel;
+import pwe.planner.model.StudentRegistry;
+import pwe.planner.storage.JsonApplicationStorage;
+import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.StorageManager;
+
+public class PlannerServerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path moduleListFilePath;
+    private LogicManager logic;
+    private CommandPipeline pipeline;
+    private StudentRegistry students;
+    private PlannerServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        Application application = new Application();
+        application.setModules(getTypicalModules());
+        application.setDegreePlanners(getTypicalDegreePlanners());
+        application.setRequirementCategories(getTypicalRequirementCategories());
+        moduleListFilePath = temporaryFolder.newFile().toPath();
+        JsonApplicationStorage applicationStorage =
+                new JsonApplicationStorage(moduleListFilePath, temporaryFolder.newFile().toPath(),
+                        temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        logic = new LogicManager(new ModelManager(application), new StorageManager(applicationStorage,
+                userPrefsStorage));
+
+        pipeline = new CommandPipeline(logic);
+
+        students = new StudentRegistry(logic.getSnapshot().getState());
+        server = new PlannerServer(logic, pipeline, students, new InetSocketAddress("localhost", 0), 2, 4);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+        pipeline.close();
+    }
+
+    @Test
+    public void constructor_nonPositiveThreads_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, PlannerServer.MESSAGE_CONSTRAINTS, () ->
+                new PlannerServer(logic, pipeline, students, new InetSocketAddress("localhost", 0), 0, 4));
+    }
+
+    @Test
+    public void getModules_typicalModules_everyModuleReturned() throws Exception {
+        Reply reply = request("GET", "/modules", null);
+
+        assertEquals(HTTP_OK, reply.status);
+        assertTrue(reply.body.startsWith("[{\"code\":\"CS1010\""));
+        assertEquals(getTypicalModules().size(), reply.body.split("\"code\"").length - 1);
+    }
+
+    @Test
+    public void getDegreePlanners_typicalDegreePlanners_codesSorted() throws Exception {
+        Reply reply = request("GET", "/planners", null);
+
+        assertEquals(HTTP_OK, reply.status);
+        assertTrue(reply.body.contains("{\"year\":\"1\",\"semester\":\"1\","
+                + "\"codes\":[\"CS1010\",\"CS1231\",\"CS2040C\",\"CS2100\",\"CS2102\"]}"));
+    }
+
+    @Test
+    public void getRequirementCategories_typicalRequirementCategories_fulfilledCreditsReturned() throws Exception {
+        Reply reply = request("GET", "/requirements", null);
+
+        assertEquals(HTTP_OK, reply.status);
+        assertTrue(reply.body.contains(
+                "{\"name\":\"Computing Foundation\",\"credits\":36,\"fulfilledCredits\":3,\"codes\":[\"CS2100\"]}"));
+    }
+
+    @Test
+    public void executeCommand_validCommand_feedbackReturned() throws Exception {
+        Reply reply = request("POST", "/commands", ListCommand.COMMAND_WORD);
+
+        assertEquals(HTTP_OK, reply.status);
+        assertEquals("{\"feedbackToUser\":\"" + ListCommand.MESSAGE_SUCCESS + "\",\"isSuccessful\":true}",
+                reply.body);
+    }
+
+    @Test
+    public void executeCommand_unknownCommand_badRequest() throws Exception {
+        Reply reply = request("POST", "/commands", "uicfhmowqewca");
+
+        assertEquals(HTTP_BAD_REQUEST, reply.status);
+        assertEquals("{\"feedbackToUser\":\"" + MESSAGE_UNKNOWN_COMMAND + "\",\"isSuccessful\":false}",
+                reply.body);
+    }
+
+    @Test
+    public void executeCommand_saveFails_serviceUnavailableAndRolledBack() throws Exception {
+        // the module list cannot be written over a directory
+        Files.delete(moduleListFilePath);
+        Files.createDirectories(moduleListFilePath.resolve("occupied"));
+
+        Reply reply = request("POST", "/commands", AddCommand.COMMAND_WORD + CODE_DESC_AMY + NAME_DESC_AMY
+                + CREDITS_DESC_AMY);
+        assertEquals(HTTP_UNAVAILABLE, reply.status);
+        assertTrue(reply.body.startsWith("{\"feedbackToUser\":\"" + LogicManager.FILE_OPS_ERROR_MESSAGE));
+        assertTrue(reply.body.endsWith(",\"isSuccessful\":false}"));
+
+        assertFalse(request("GET", "/modules", null).body.contains(VALID_CODE_AMY));
+    }
+
+    @Test
+    public void executeCommand_commandModifyingApplication_savedInBatch() throws Exception {
+        Reply reply = request("POST", "/commands", AddCommand.COMMAND_WORD + CODE_DESC_AMY + NAME_DESC_AMY
+                + CREDITS_DESC_AMY);
+        assertEquals(HTTP_OK, reply.status);
+        // the response is only written once the application has been saved
+        assertTrue(Files.readString(moduleListFilePath).contains(VALID_CODE_AMY));
+
+        reply = request("GET", "/pipeline", null);
+        assertEquals(HTTP_OK, reply.status);
+        assertEquals("{\"queueDepth\":0,\"batches\":1,\"batchedCommands\":1,\"meanBatchSize\":1.0,"
+                + "\"largestBatchSize\":1}", reply.body);
+    }
+
+    @Test
+    public void executeStudentCommand_plannerCommand_onlyThatStudentModified() throws Exception {
+        Reply reply = request("POST", "/students/alice/commands", PlannerRemoveCommand.COMMAND_WORD + " code/CS1010");
+        assertEquals(HTTP_OK, reply.status);
+        assertEquals(1, students.getStudent("alice").get().getHistorySize());
+
+        assertTrue(request("GET", "/students/alice/planners", null).body.contains(
+                "{\"year\":\"1\",\"semester\":\"1\",\"codes\":[\"CS1231\",\"CS2040C\",\"CS2100\",\"CS2102\"]}"));
+        // the application and the other students keep the degree plan of the template
+        assertTrue(request("GET", "/students/bob/planners", null).body.contains("\"CS1010\""));
+        assertTrue(request("GET", "/planners", null).body.contains("\"CS1010\""));
+        assertEquals(request("GET", "/requirements", null).body,
+                request("GET", "/students/alice/requirements", null).body);
+    }
+
+    @Test
+    public void executeStudentCommand_commandModifyingCatalog_badRequest() throws Exception {
+        Reply reply = request("POST", "/students/alice/commands", AddCommand.COMMAND_WORD + CODE_DESC_AMY
+                + NAME_DESC_AMY + CREDITS_DESC_AMY);
+
+        assertEquals(HTTP_BAD_REQUEST, reply.status);
+        assertEquals("{\"feedbackToUser\":\"" + StudentModel.MESSAGE_CATALOG_READ_ONLY + "\",\"isSuccessful\":false}",
+                reply.body);
+        assertFalse(request("GET", "/modules", null).body.contains(VALID_CODE_AMY));
+    }
+
+    @Test
+    public void request_unknownStudentResource_notFound() throws Exception {
+        Reply reply = request("GET", "/students/alice/modules", null);
+
+        assertEquals(HTTP_NOT_FOUND, reply.status);
+        assertTrue(reply.body.contains(String.format(PlannerServer.MESSAGE_NOT_FOUND, "/students/alice/modules")));
+        assertEquals(HTTP_BAD_METHOD, request("GET", "/students/alice/commands", null).status);
+    }
+
+    @Test
+    public void request_wrongMethod_methodNotAllowed() throws Exception {
+        Reply reply = request("GET", "/commands", null);
+
+        assertEquals(HTTP_BAD_METHOD, reply.status);
+        assertTrue(reply.body.contains(String.format(PlannerServer.MESSAGE_METHOD_NOT_ALLOWED, "GET", "/commands",
+                "POST")));
+    }
+
+    @Test
+    public void request_unknownPath_notFound() throws Exception {
+        Reply reply = request("GET", "/modules/CS1010", null);
+
+        assertEquals(HTTP_NOT_FOUND, reply.status);
+        assertTrue(reply.body.contains(String.format(PlannerServer.MESSAGE_NOT_FOUND, "/modules/CS1010")));
+    }
+
+    @Test
+    public void getStats_servedRequests_latencyRecorded() throws Exception {
+        request("GET", "/modules", null);
+        request("GET", "/planners", null);
+
+        Reply reply = request("GET", "/stats", null);
+
+        assertEquals(HTTP_OK, reply.status);
+        // a request is recorded after its response is written, so the client may see it before it is recorded
+        assertTrue(reply.body.matches("\\{\"requests\":[12],\"rejectedRequests\":0,.*\"maxMillis\":.*"));
+    }
+
+    /**
+     * Makes a request to the server with {@code method} at {@code path}, with {@code body} if it is not null.
+     */
+    private Reply request(String method, String path, String body) throws IOException {
+        URL url = new URL("http", "localhost", server.getAddress().getPort(), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream requestBody = connection.getOutputStream()) {
+                requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        try (InputStream responseBody = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            return new Reply(status, new String(responseBody.readAllBytes(), StandardCharsets.UTF_8));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * A status code and response body.
+     */
+    private static class Reply {
+        private final int status;
+        private final String body;
+
+        private Reply(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static pwe.planner.testutil.TypicalModules.AMY;
+import static pwe.planner.testutil.TypicalModules.BOB;
+import static pwe.planner.testutil.TypicalModules.CARL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.model.ApplicationDelta;
+import pwe.planner.model.ListEdit;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.testutil.TypicalDegreePlanners;
+import pwe.planner.testutil.TypicalRequirementCategories;
+
+public class JsonUndoHistorySpillTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_nullDirectory_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new JsonUndoHistorySpill(null);
+    }
+
+    @Test
+    public void spillAndLoad_allInOrder_success() throws IOException {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.getRoot().toPath());
+        ApplicationDelta first = new ApplicationDelta(
+                Collections.singletonList(new ListEdit<>(0, Collections.emptyList(), Arrays.asList(AMY, BOB))),
+                Collections.singletonList(new ListEdit<>(0, Collections.emptyList(),
+                        Collections.singletonList(getFirstDegreePlanner()))),
+                Collections.singletonList(new ListEdit<>(0, Collections.emptyList(),
+                        Collections.singletonList(getFirstRequirementCategory()))));
+        ApplicationDelta second = new ApplicationDelta(
+                Collections.singletonList(new ListEdit<>(1, Collections.singletonList(BOB),
+                        Collections.singletonList(CARL))),
+                Collections.emptyList(), Collections.emptyList());
+
+        spill.spill(first);
+        spill.spill(second);
+        assertEquals(second, spill.load(1));
+        assertEquals(first, spill.load(0));
+    }
+
+    @Test
+    public void truncate_thenSpill_overwritesTruncatedEntries() throws IOException {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.getRoot().toPath());
+        ApplicationDelta addAmy = new ApplicationDelta(
+                Collections.singletonList(new ListEdit<>(0, Collections.emptyList(), Collections.singletonList(AMY))),
+                Collections.emptyList(), Collections.emptyList());
+        ApplicationDelta addBob = new ApplicationDelta(
+                Collections.singletonList(new ListEdit<>(1, Collections.emptyList(), Collections.singletonList(BOB))),
+                Collections.emptyList(), Collections.emptyList());
+        ApplicationDelta addCarl = new ApplicationDelta(
+                Collections.singletonList(new ListEdit<>(1, Collections.emptyList(), Collections.singletonList(CARL))),
+                Collections.emptyList(), Collections.emptyList());
+
+        spill.spill(addAmy);
+        spill.spill(addBob);
+        spill.truncate(1);
+        spill.spill(addCarl);
+        assertEquals(addAmy, spill.load(0));
+        assertEquals(addCarl, spill.load(1));
+
+        thrown.expect(IndexOutOfBoundsException.class);
+        spill.load(2);
+    }
+
+    @Test
+    public void spill_twoSpills_separateFiles() throws IOException {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.getRoot().toPath());
+        JsonUndoHistorySpill otherSpill = new JsonUndoHistorySpill(testFolder.getRoot().toPath());
+        ApplicationDelta addAmy = getAddModuleDelta(0, AMY);
+        ApplicationDelta addBob = getAddModuleDelta(0, BOB);
+
+        spill.spill(addAmy);
+        otherSpill.spill(addBob);
+        assertNotEquals(spill.getFilePath(), otherSpill.getFilePath());
+        assertEquals(addAmy, spill.load(0));
+        assertEquals(addBob, otherSpill.load(0));
+    }
+
+    @Test
+    public void discardOldest_entriesRemain_remainingEntriesRenumbered() throws IOException {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.getRoot().toPath());
+        ApplicationDelta addAmy = getAddModuleDelta(0, AMY);
+        ApplicationDelta addBob = getAddModuleDelta(1, BOB);
+        ApplicationDelta addCarl = getAddModuleDelta(2, CARL);
+
+        spill.spill(addAmy);
+        spill.spill(addBob);
+        spill.spill(addCarl);
+        spill.discardOldest(1);
+        assertEquals(2, spill.size());
+        assertEquals(addBob, spill.load(0));
+        assertEquals(addCarl, spill.load(1));
+
+        // the discarded entries now take up more of the file than the remaining entries
+        Path filePathBeforeCompaction = spill.getFilePath();
+        spill.discardOldest(1);
+        assertFalse(Files.exists(filePathBeforeCompaction));
+        assertEquals(Files.size(spill.getFilePath()), Files.size(getFileWith(addCarl)));
+        assertEquals(addCarl, spill.load(0));
+
+        spill.spill(addAmy);
+        assertEquals(addAmy, spill.load(1));
+    }
+
+    @Test
+    public void close_entriesSpilled_fileDeleted() throws IOException {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.getRoot().toPath());
+        spill.spill(getAddModuleDelta(0, AMY));
+        Path filePath = spill.getFilePath();
+
+        spill.close();
+        assertFalse(Files.exists(filePath));
+        assertNull(spill.getFilePath());
+        assertEquals(0, spill.size());
+
+        // the spill can still be used afterwards
+        spill.spill(getAddModuleDelta(0, BOB));
+        assertEquals(getAddModuleDelta(0, BOB), spill.load(0));
+    }
+
+    @Test
+    public void truncate_allEntries_fileDeleted() throws IOException {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.getRoot().toPath());
+        spill.spill(getAddModuleDelta(0, AMY));
+        Path filePath = spill.getFilePath();
+
+        spill.truncate(0);
+        assertFalse(Files.exists(filePath));
+    }
+
+    /**
+     * Returns the file of a new spill with only {@code delta} spilled.
+     */
+    private Path getFileWith(ApplicationDelta delta) throws IOException {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.newFolder("singleEntry").toPath());
+        spill.spill(delta);
+        return spill.getFilePath();
+    }
+
+    private ApplicationDelta getAddModuleDelta(int index, Module module) {
+        return new ApplicationDelta(
+                Collections.singletonList(new ListEdit<>(index, Collections.emptyList(),
+                        Collections.singletonList(module))),
+                Collections.emptyList(), Collections.emptyList());
+    }
+
+    private DegreePlanner getFirstDegreePlanner() {
+        return TypicalDegreePlanners.getTypicalDegreePlanners().get(0);
+    }
+
+    private RequirementCategory getFirstRequirementCategory() {
+        return TypicalRequirementCategories.getTypicalRequirementCategories().get(0);
+    }
+}
@@ -0,0 +1,74 @@
+package pwe.planner.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+
+/**
+ * A utility class that generates large, deterministic catalogs of {@code Module} objects for benchmarks.
+ * Generated modules have no co-requisites.
+ */
+public class SyntheticModules {
+
+    private static final long SEED = 2113L;
+
+    private static final String[] NAME_WORDS = {"Algorithms", "Data", "Structures", "Programming", "Methodology",
+        "Software", "Engineering", "Computer", "Organisation", "Networks", "Systems", "Database", "Discrete",
+        "Mathematics", "Linear", "Algebra", "Calculus", "Statistics", "Probability", "Operating", "Security",
+        "Machine", "Learning", "Artificial", "Intelligence", "Graphics", "Design", "Analysis", "Theory",
+        "Compilers", "Distributed", "Parallel", "Introduction", "Advanced", "Foundations", "Principles"};
+
+    private static final String[] TAG_NAMES = {"core", "elective", "math", "science", "programming", "theory",
+        "systems", "project", "seminar", "breadth", "depth", "lab"};
+
+    private static final String[] CREDITS = {"2", "4", "4", "4", "6", "8"};
+
+    private SyntheticModules() {} // prevents instantiation
+
+    /**
+     * Returns the {@code Code} of the {@code index}-th synthetic module.
+     */
+    public static Code getCode(int index) {
+        int prefix = index / 10000;
+        char first = (char) ('A' + (prefix / 26) % 26);
+        char second = (char) ('A' + prefix % 26);
+        return new Code(String.format("%c%c%04d", first, second, index % 10000));
+    }
+
+    /**
+     * Returns {@code size} unique modules. The same {@code size} always produces the same modules.
+     */
+    public static List<Module> getModules(int size) {
+        Random random = new Random(SEED);
+        List<Module> modules = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            StringBuilder name = new StringBuilder();
+            int nameLength = 2 + random.nextInt(3);
+            for (int j = 0; j < nameLength; j++) {
+                name.append(j == 0 ? "" : " ").append(NAME_WORDS[random.nextInt(NAME_WORDS.length)]);
+            }
+
+            String[] tags = new String[1 + random.nextInt(2)];
+            for (int j = 0; j < tags.length; j++) {
+                tags[j] = TAG_NAMES[random.nextInt(TAG_NAMES.length)];
+            }
+
+            String firstSemester = String.valueOf(1 + random.nextInt(4));
+            String secondSemester = String.valueOf(1 + random.nextInt(4));
+
+            modules.add(new ModuleBuilder()
+                    .withCode(getCode(i).value)
+                    .withName(name.toString())
+                    .withCredits(CREDITS[random.nextInt(CREDITS.length)])
+                    .withSemesters(firstSemester, secondSemester)
+                    .withTags(tags)
+                    .build());
+        }
+
+        return modules;
+    }
+}